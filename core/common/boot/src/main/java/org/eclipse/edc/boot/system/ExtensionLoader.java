@@ -23,6 +23,9 @@ import org.eclipse.edc.boot.system.injection.InjectorImpl;
 import org.eclipse.edc.boot.system.injection.ProviderMethod;
 import org.eclipse.edc.boot.system.injection.ProviderMethodScanner;
 import org.eclipse.edc.boot.system.injection.lifecycle.ExtensionLifecycleManager;
+import org.eclipse.edc.boot.system.injection.lifecycle.StartPhase;
+import org.eclipse.edc.runtime.metamodel.annotation.BaseExtension;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.ConsoleMonitor;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.MonitorExtension;
@@ -31,10 +34,15 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -50,6 +58,20 @@ public class ExtensionLoader {
      * Convenience method for loading service extensions.
      */
     public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context) {
+        bootServiceExtensions(containers, context, false);
+    }
+
+    /**
+     * Loads service extensions. Injection, initialization and preparation always happen sequentially in dependency order.
+     * If {@code parallelStart} is {@code true}, the {@link ServiceExtension#start()} methods of extensions that do not
+     * (transitively) depend on each other are invoked concurrently, one dependency level after the other. Extensions
+     * annotated with {@link BaseExtension} are always started first.
+     *
+     * @param containers    the extensions, sorted by their dependencies
+     * @param context       the service extension context
+     * @param parallelStart whether independent extensions should be started concurrently
+     */
+    public static void bootServiceExtensions(List<InjectionContainer<ServiceExtension>> containers, ServiceExtensionContext context, boolean parallelStart) {
         //construct a list of default providers, which are invoked, if a particular service is not present in the context
         var defaultServices = new HashMap<Class<?>, Supplier<Object>>();
         containers.forEach(se -> {
@@ -70,7 +92,55 @@ public class ExtensionLoader {
         context.freeze();
 
         var preparedExtensions = lifeCycles.stream().map(ExtensionLifecycleManager::prepare).collect(Collectors.toList());
-        preparedExtensions.forEach(ExtensionLifecycleManager::start);
+        if (parallelStart) {
+            startConcurrently(containers, preparedExtensions);
+        } else {
+            preparedExtensions.forEach(ExtensionLifecycleManager::start);
+        }
+    }
+
+    /**
+     * Groups the extensions by their depth in the dependency graph and starts each group concurrently. A group is only
+     * started once all extensions of the previous groups have been started.
+     */
+    private static void startConcurrently(List<InjectionContainer<ServiceExtension>> containers, List<StartPhase> phases) {
+        var levels = new HashMap<ServiceExtension, Integer>();
+        var groups = new TreeMap<Integer, List<StartPhase>>();
+        for (var i = 0; i < containers.size(); i++) {
+            var container = containers.get(i);
+            var extension = container.getInjectionTarget();
+            var minimum = extension.getClass().getAnnotation(BaseExtension.class) != null ? 0 : 1;
+            var level = container.getDependencies().stream()
+                    .filter(dependency -> dependency != extension)
+                    .mapToInt(dependency -> levels.getOrDefault(dependency, 0) + 1)
+                    .reduce(minimum, Math::max);
+            levels.put(extension, level);
+            groups.computeIfAbsent(level, k -> new ArrayList<>()).add(phases.get(i));
+        }
+
+        var parallelism = groups.values().stream().mapToInt(List::size).max().orElse(1);
+        var executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(4, Runtime.getRuntime().availableProcessors())));
+        try {
+            for (var group : groups.values()) {
+                if (group.size() == 1) {
+                    ExtensionLifecycleManager.start(group.get(0));
+                    continue;
+                }
+                var futures = group.stream()
+                        .map(phase -> CompletableFuture.runAsync(() -> ExtensionLifecycleManager.start(phase), executor))
+                        .toArray(CompletableFuture[]::new);
+                try {
+                    CompletableFuture.allOf(futures).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new EdcException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
     }
 
     @NotNull
@@ -31,14 +31,19 @@ import java.util.stream.Stream;
 public class InjectionContainer<T> {
     private final T injectionTarget;
     private final Set<InjectionPoint<T>> injectionPoint;
+    private final Set<T> dependencies;
 
     public InjectionContainer(T target, Set<InjectionPoint<T>> injectionPoint) {
+        this(target, injectionPoint, Set.of());
+    }
+
+    public InjectionContainer(T target, Set<InjectionPoint<T>> injectionPoint, Set<T> dependencies) {
         injectionTarget = target;
         if (injectionPoint.stream().anyMatch(ip -> ip.getInstance() != target)) {
             throw new EdcInjectionException("Injection target must match all InjectionPoints!");
         }
         this.injectionPoint = injectionPoint;
-
+        this.dependencies = dependencies;
     }
 
     public T getInjectionTarget() {
@@ -49,6 +54,14 @@ public class InjectionContainer<T> {
         return injectionPoint;
     }
 
+    /**
+     * The injection targets this container directly depends on, i.e. those that provide a service it injects or a
+     * feature it requires. Empty if the dependencies were not resolved through a dependency graph.
+     */
+    public Set<T> getDependencies() {
+        return dependencies;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{" +
@@ -16,25 +16,33 @@ package org.eclipse.edc.boot.system.injection;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Scans a particular (partly constructed) object for fields that are annotated with {@link Inject} and returns them
  * in a {@link Set}
+ * <p>
+ * The annotated fields of a class are resolved only once and are cached for the lifetime of the class, so repeated scans
+ * of the same extension type (e.g. by the dependency graph and the injector) do not walk the declared fields again.
  */
 public class InjectionPointScanner {
-    public <T> Set<InjectionPoint<T>> getInjectionPoints(T instance) {
-
-        var targetClass = instance.getClass();
+    private static final ClassValue<List<Field>> INJECTED_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            return Arrays.stream(type.getDeclaredFields())
+                    .filter(f -> f.getAnnotation(Inject.class) != null)
+                    .peek(f -> f.setAccessible(true))
+                    .toList();
+        }
+    };
 
-        return Arrays.stream(targetClass.getDeclaredFields())
-                .filter(f -> f.getAnnotation(Inject.class) != null)
-                .map(f -> {
-                    var isRequired = f.getAnnotation(Inject.class).required();
-                    return new FieldInjectionPoint<>(instance, f, isRequired);
-                })
+    public <T> Set<InjectionPoint<T>> getInjectionPoints(T instance) {
+        return INJECTED_FIELDS.get(instance.getClass()).stream()
+                .map(f -> new FieldInjectionPoint<>(instance, f, f.getAnnotation(Inject.class).required()))
                 .collect(Collectors.toSet());
     }
 }
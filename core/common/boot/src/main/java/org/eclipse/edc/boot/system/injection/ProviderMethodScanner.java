@@ -24,9 +24,17 @@ import java.util.stream.Collectors;
 import static java.lang.reflect.Modifier.isPublic;
 
 /**
- * Scans a given object for methods annotated with the {@link Provider} annotation.
+ * Scans a given object for methods annotated with the {@link Provider} annotation. The provider methods of a class are
+ * resolved and validated only once and are cached for the lifetime of the class.
  */
 public class ProviderMethodScanner {
+    private static final ClassValue<Set<ProviderMethod>> PROVIDER_METHODS = new ClassValue<>() {
+        @Override
+        protected Set<ProviderMethod> computeValue(Class<?> type) {
+            return scanProviderMethods(type);
+        }
+    };
+
     private final Object target;
 
     public ProviderMethodScanner(ServiceExtension target) {
@@ -48,8 +56,12 @@ public class ProviderMethodScanner {
         return getProviderMethods(target).stream().filter(ProviderMethod::isDefault).collect(Collectors.toSet());
     }
 
-    private Set<ProviderMethod> getProviderMethods(Object extension) {
-        var methods = Arrays.stream(extension.getClass().getDeclaredMethods())
+    private static Set<ProviderMethod> getProviderMethods(Object extension) {
+        return PROVIDER_METHODS.get(extension.getClass());
+    }
+
+    private static Set<ProviderMethod> scanProviderMethods(Class<?> type) {
+        var methods = Arrays.stream(type.getDeclaredMethods())
                 .filter(m -> m.getAnnotation(Provider.class) != null)
                 .map(ProviderMethod::new)
                 .collect(Collectors.toSet());
@@ -60,7 +72,7 @@ public class ProviderMethodScanner {
         if (methods.stream().anyMatch(m -> !isPublic(m.getMethod().getModifiers()))) {
             throw new EdcInjectionException("Methods annotated with @Provider must be public!");
         }
-        return methods;
+        return Set.copyOf(methods);
     }
 
 }
@@ -24,6 +24,7 @@ import org.eclipse.edc.boot.system.ExtensionLoader;
 import org.eclipse.edc.boot.system.ServiceLocator;
 import org.eclipse.edc.boot.system.ServiceLocatorImpl;
 import org.eclipse.edc.boot.system.injection.InjectionContainer;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.MonitorExtension;
@@ -55,6 +56,9 @@ import static java.lang.String.format;
  */
 public class BaseRuntime {
 
+    @Setting(value = "If true, the start() methods of extensions that do not depend on each other are invoked concurrently", type = "boolean", defaultValue = "false")
+    public static final String PARALLEL_START = "edc.runtime.boot.parallel-start";
+
     private static String[] programArgs = new String[0];
     private final ExtensionLoader extensionLoader;
     private final ConfigurationLoader configurationLoader;
@@ -144,13 +148,14 @@ public class BaseRuntime {
     }
 
     /**
-     * Starts all service extensions by invoking {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext)}
+     * Starts all service extensions by invoking {@link ExtensionLoader#bootServiceExtensions(List, ServiceExtensionContext, boolean)}.
+     * Independent extensions are started concurrently if {@link #PARALLEL_START} is enabled.
      *
      * @param context           The {@code ServiceExtensionContext} that is used in this runtime.
      * @param serviceExtensions a list of extensions
      */
     protected void bootExtensions(ServiceExtensionContext context, List<InjectionContainer<ServiceExtension>> serviceExtensions) {
-        ExtensionLoader.bootServiceExtensions(serviceExtensions, context);
+        ExtensionLoader.bootServiceExtensions(serviceExtensions, context, context.getSetting(PARALLEL_START, false));
     }
 
     /**
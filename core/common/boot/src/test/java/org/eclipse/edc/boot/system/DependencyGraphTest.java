@@ -60,6 +60,19 @@ class DependencyGraphTest {
                 .contains(dependentExtension, Index.atIndex(4));
     }
 
+    @Test
+    void sortExtensions_shouldExposeDirectDependencies() {
+        var providerExtension = TestFunctions.createProviderExtension(false);
+        var dependentExtension = TestFunctions.createDependentExtension(true);
+
+        var list = graph.of(TestFunctions.createList(dependentExtension, providerExtension));
+
+        assertThat(list).filteredOn(c -> c.getInjectionTarget() == dependentExtension).singleElement()
+                .satisfies(c -> assertThat(c.getDependencies()).containsExactly(providerExtension));
+        assertThat(list).filteredOn(c -> c.getInjectionTarget() == providerExtension).singleElement()
+                .satisfies(c -> assertThat(c.getDependencies()).isEmpty());
+    }
+
     @Test
     void sortExtensions_missingDependency() {
 
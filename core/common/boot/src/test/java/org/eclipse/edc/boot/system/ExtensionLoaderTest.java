@@ -41,6 +41,10 @@ import org.mockito.Mockito;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -382,6 +386,61 @@ class ExtensionLoaderTest {
         assertThat(context.getService(TestObject.class)).isNotNull();
     }
 
+    @Test
+    void bootServiceExtensions_parallelStart_shouldStartIndependentExtensionsConcurrently() {
+        var barrier = new CyclicBarrier(2);
+        var first = new BarrierExtension(barrier);
+        var second = new BarrierExtension(barrier);
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), ConfigFactory.empty());
+
+        var list = List.of(
+                new InjectionContainer<>(coreExtension, Set.of()),
+                new InjectionContainer<ServiceExtension>(first, Set.of()),
+                new InjectionContainer<ServiceExtension>(second, Set.of()));
+
+        ExtensionLoader.bootServiceExtensions(list, context, true);
+
+        assertThat(first.started).isTrue();
+        assertThat(second.started).isTrue();
+    }
+
+    @Test
+    void bootServiceExtensions_parallelStart_shouldStartDependenciesFirst() {
+        var started = new CopyOnWriteArrayList<ServiceExtension>();
+        var provider = new RecordingExtension(started);
+        var dependent = new RecordingExtension(started);
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), ConfigFactory.empty());
+
+        var list = List.of(
+                new InjectionContainer<>(coreExtension, Set.of()),
+                new InjectionContainer<ServiceExtension>(provider, Set.of()),
+                new InjectionContainer<ServiceExtension>(dependent, Set.of(), Set.of(provider)));
+
+        ExtensionLoader.bootServiceExtensions(list, context, true);
+
+        assertThat(started).containsExactly(provider, dependent);
+    }
+
+    @Test
+    void bootServiceExtensions_parallelStart_shouldRethrowStartFailure() {
+        var failing = new ServiceExtension() {
+            @Override
+            public void start() {
+                throw new EdcException("start failed");
+            }
+        };
+        var context = new DefaultServiceExtensionContext(mock(Monitor.class), ConfigFactory.empty());
+
+        var list = List.of(
+                new InjectionContainer<>(coreExtension, Set.of()),
+                new InjectionContainer<ServiceExtension>(failing, Set.of()),
+                new InjectionContainer<ServiceExtension>(new SomeExtension(), Set.of()));
+
+        assertThatThrownBy(() -> ExtensionLoader.bootServiceExtensions(list, context, true))
+                .isInstanceOf(EdcException.class)
+                .hasMessage("start failed");
+    }
+
     @SafeVarargs
     private <T> List<T> mutableListOf(T... elements) {
         return new ArrayList<>(List.of(elements));
@@ -440,4 +499,36 @@ class ExtensionLoaderTest {
     private static class TestCoreExtension implements ServiceExtension {
 
     }
+
+    private static class BarrierExtension implements ServiceExtension {
+        private final CyclicBarrier barrier;
+        private volatile boolean started;
+
+        BarrierExtension(CyclicBarrier barrier) {
+            this.barrier = barrier;
+        }
+
+        @Override
+        public void start() {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new EdcException(e);
+            }
+            started = true;
+        }
+    }
+
+    private static class RecordingExtension implements ServiceExtension {
+        private final List<ServiceExtension> started;
+
+        RecordingExtension(List<ServiceExtension> started) {
+            this.started = started;
+        }
+
+        @Override
+        public void start() {
+            started.add(this);
+        }
+    }
 }
@@ -24,6 +24,7 @@ import org.eclipse.edc.connector.core.base.OkHttpClientFactory;
 import org.eclipse.edc.connector.core.base.RetryPolicyConfiguration;
 import org.eclipse.edc.connector.core.base.RetryPolicyFactory;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
+import org.eclipse.edc.connector.core.event.outbox.InMemoryOutboxStore;
 import org.eclipse.edc.http.client.EdcHttpClientImpl;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -31,6 +32,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.agent.ParticipantIdMapper;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
@@ -38,6 +40,7 @@ import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.concurrent.Executors;
 
@@ -96,6 +99,9 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     @Inject(required = false)
     private EventListener okHttpEventListener;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -118,6 +124,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1));
     }
 
+    @Provider(isDefault = true)
+    public OutboxStore outboxStore() {
+        return new InMemoryOutboxStore(clock);
+    }
+
     @Provider
     public EdcHttpClient edcHttpClient(ServiceExtensionContext context) {
         return new EdcHttpClientImpl(
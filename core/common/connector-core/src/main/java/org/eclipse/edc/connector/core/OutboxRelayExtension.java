@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core;
+
+import org.eclipse.edc.connector.core.event.outbox.OutboxRelayImpl;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.outbox.OutboxRelay;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Provides the {@link OutboxRelay}, that will be started only if some delivery handler gets registered.
+ */
+@Extension(value = OutboxRelayExtension.NAME)
+public class OutboxRelayExtension implements ServiceExtension {
+
+    public static final String NAME = "Outbox Relay";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_CONCURRENCY = 4;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final long DEFAULT_ITERATION_WAIT = 1000L;
+    private static final long DEFAULT_BACKOFF_MIN = 1000L;
+    private static final long DEFAULT_BACKOFF_MAX = 60_000L;
+    private static final long DEFAULT_CLAIM_DURATION = 60_000L;
+
+    @Setting(value = "Maximum number of outbox entries delivered in a single batch", defaultValue = DEFAULT_BATCH_SIZE + "", type = "int")
+    public static final String OUTBOX_BATCH_SIZE = "edc.outbox.relay.batch-size";
+    @Setting(value = "Maximum number of outbox batches delivered concurrently", defaultValue = DEFAULT_CONCURRENCY + "", type = "int")
+    public static final String OUTBOX_CONCURRENCY = "edc.outbox.relay.concurrency";
+    @Setting(value = "Number of delivery attempts after which an outbox entry gets discarded", defaultValue = DEFAULT_MAX_ATTEMPTS + "", type = "int")
+    public static final String OUTBOX_MAX_ATTEMPTS = "edc.outbox.relay.max-attempts";
+    @Setting(value = "The iteration wait time in milliseconds of the outbox relay", defaultValue = DEFAULT_ITERATION_WAIT + "", type = "long")
+    public static final String OUTBOX_ITERATION_WAIT_MILLIS = "edc.outbox.relay.iteration-wait-millis";
+    @Setting(value = "Minimum back-off in milliseconds before a failed delivery is retried", defaultValue = DEFAULT_BACKOFF_MIN + "", type = "long")
+    public static final String OUTBOX_BACKOFF_MIN_MILLIS = "edc.outbox.relay.backoff.min";
+    @Setting(value = "Maximum back-off in milliseconds before a failed delivery is retried", defaultValue = DEFAULT_BACKOFF_MAX + "", type = "long")
+    public static final String OUTBOX_BACKOFF_MAX_MILLIS = "edc.outbox.relay.backoff.max";
+    @Setting(value = "Time in milliseconds an entry stays claimed by a relay before it can be picked up again", defaultValue = DEFAULT_CLAIM_DURATION + "", type = "long")
+    public static final String OUTBOX_CLAIM_DURATION_MILLIS = "edc.outbox.relay.claim-millis";
+
+    @Inject
+    private OutboxStore store;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private OutboxRelayImpl relay;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public OutboxRelay outboxRelay(ServiceExtensionContext context) {
+        if (relay == null) {
+            relay = OutboxRelayImpl.Builder.newInstance()
+                    .store(store)
+                    .transactionContext(transactionContext)
+                    .monitor(context.getMonitor().withPrefix("Outbox"))
+                    .clock(clock)
+                    .executorInstrumentation(executorInstrumentation)
+                    .batchSize(context.getSetting(OUTBOX_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                    .concurrency(context.getSetting(OUTBOX_CONCURRENCY, DEFAULT_CONCURRENCY))
+                    .maxAttempts(context.getSetting(OUTBOX_MAX_ATTEMPTS, DEFAULT_MAX_ATTEMPTS))
+                    .iterationWaitMillis(context.getSetting(OUTBOX_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT))
+                    .backoff(context.getSetting(OUTBOX_BACKOFF_MIN_MILLIS, DEFAULT_BACKOFF_MIN), context.getSetting(OUTBOX_BACKOFF_MAX_MILLIS, DEFAULT_BACKOFF_MAX))
+                    .claimDuration(Duration.ofMillis(context.getSetting(OUTBOX_CLAIM_DURATION_MILLIS, DEFAULT_CLAIM_DURATION)))
+                    .build();
+        }
+        return relay;
+    }
+
+    @Override
+    public void start() {
+        if (relay != null) {
+            relay.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (relay != null) {
+            relay.stop();
+        }
+    }
+}
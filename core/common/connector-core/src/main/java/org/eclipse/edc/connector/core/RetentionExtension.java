@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core;
+
+import org.eclipse.edc.connector.core.retention.RetentionManager;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.persistence.ArchivingStoreRegistry;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Provides the {@link ArchivingStoreRegistry}. When retention is enabled, the registered stores periodically move their
+ * old entities in a final state to the archive.
+ */
+@Extension(value = RetentionExtension.NAME)
+public class RetentionExtension implements ServiceExtension {
+
+    public static final String NAME = "Retention";
+
+    private static final long DEFAULT_ARCHIVE_AFTER = Duration.ofDays(30).toMillis();
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final long DEFAULT_ITERATION_WAIT = 60_000L;
+
+    @Setting(value = "If true, entities in a final state are periodically moved to the archive", defaultValue = "false", type = "boolean")
+    public static final String RETENTION_ENABLED = "edc.retention.enabled";
+    @Setting(value = "Time in milliseconds an entity stays in a final state before it gets archived", defaultValue = DEFAULT_ARCHIVE_AFTER + "", type = "long")
+    public static final String RETENTION_ARCHIVE_AFTER_MILLIS = "edc.retention.archive-after-millis";
+    @Setting(value = "Maximum number of entities of every type archived in a single iteration", defaultValue = DEFAULT_BATCH_SIZE + "", type = "int")
+    public static final String RETENTION_BATCH_SIZE = "edc.retention.batch-size";
+    @Setting(value = "The iteration wait time in milliseconds of the retention manager, when there is nothing to archive", defaultValue = DEFAULT_ITERATION_WAIT + "", type = "long")
+    public static final String RETENTION_ITERATION_WAIT_MILLIS = "edc.retention.iteration-wait-millis";
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private RetentionManager manager;
+    private boolean enabled;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public ArchivingStoreRegistry archivingStoreRegistry(ServiceExtensionContext context) {
+        if (manager == null) {
+            enabled = context.getSetting(RETENTION_ENABLED, false);
+            manager = RetentionManager.Builder.newInstance()
+                    .monitor(context.getMonitor().withPrefix("Retention"))
+                    .clock(clock)
+                    .executorInstrumentation(executorInstrumentation)
+                    .archiveAfter(Duration.ofMillis(context.getSetting(RETENTION_ARCHIVE_AFTER_MILLIS, DEFAULT_ARCHIVE_AFTER)))
+                    .batchSize(context.getSetting(RETENTION_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                    .iterationWaitMillis(context.getSetting(RETENTION_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT))
+                    .build();
+        }
+        return manager;
+    }
+
+    @Override
+    public void start() {
+        if (manager != null && enabled) {
+            manager.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+}
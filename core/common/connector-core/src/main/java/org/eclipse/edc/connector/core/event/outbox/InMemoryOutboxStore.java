@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event.outbox;
+
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory implementation of the {@link OutboxStore}, entries will be lost on restart.
+ */
+public class InMemoryOutboxStore implements OutboxStore {
+
+    private final Map<String, OutboxEntry> entries = new LinkedHashMap<>();
+    private final Clock clock;
+
+    public InMemoryOutboxStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void save(OutboxEntry entry) {
+        entries.put(entry.getId(), entry);
+    }
+
+    @Override
+    public synchronized List<OutboxEntry> claimDue(int max, Duration claimDuration) {
+        var now = clock.millis();
+        var claimed = entries.values().stream()
+                .filter(entry -> entry.getNextAttemptAt() <= now)
+                .sorted(Comparator.comparingLong(OutboxEntry::getCreatedAt))
+                .limit(max)
+                .toList();
+
+        var claimUntil = now + claimDuration.toMillis();
+        claimed.forEach(entry -> entries.put(entry.getId(), entry.toBuilder().nextAttemptAt(claimUntil).build()));
+
+        return claimed;
+    }
+
+    @Override
+    public synchronized void extendClaim(List<String> ids, Duration claimDuration) {
+        var claimUntil = clock.millis() + claimDuration.toMillis();
+        ids.forEach(id -> entries.computeIfPresent(id, (key, entry) -> entry.toBuilder().nextAttemptAt(claimUntil).build()));
+    }
+
+    @Override
+    public synchronized void update(OutboxEntry entry) {
+        entries.computeIfPresent(entry.getId(), (id, existing) -> entry);
+    }
+
+    @Override
+    public synchronized void delete(List<String> ids) {
+        ids.forEach(entries::remove);
+    }
+
+}
@@ -0,0 +1,296 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event.outbox;
+
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryHandler;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxRelay;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.statemachine.StateMachineManager;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import static java.lang.String.format;
+
+/**
+ * Default {@link OutboxRelay} implementation. On every iteration it claims the due entries, groups them by channel and
+ * destination and hands over every group, split in batches of at most {@code batchSize} entries, to the
+ * {@link OutboxDeliveryHandler} registered for the channel.
+ * The number of batches that are delivered concurrently is bounded, failed batches are rescheduled with an exponential
+ * back-off and discarded after {@code maxAttempts}, batches that failed with a fatal error are discarded right away.
+ * The relay never blocks waiting for a delivery slot: when all the slots are taken the iteration is skipped. The claim
+ * on entries that are still being delivered gets extended on every iteration before it expires, so a slow delivery
+ * won't be picked up and duplicated by another relay.
+ */
+public class OutboxRelayImpl implements OutboxRelay {
+
+    private final Map<String, OutboxDeliveryHandler> handlers = new ConcurrentHashMap<>();
+    private final Map<String, Long> claims = new ConcurrentHashMap<>();
+    private OutboxStore store;
+    private TransactionContext transactionContext;
+    private Monitor monitor;
+    private Clock clock = Clock.systemUTC();
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private int batchSize = 100;
+    private int maxAttempts = 10;
+    private long iterationWaitMillis = 1000L;
+    private long backoffMinMillis = 1000L;
+    private long backoffMaxMillis = 60_000L;
+    private Duration claimDuration = Duration.ofMinutes(1);
+    private Semaphore inFlight = new Semaphore(4);
+    private StateMachineManager stateMachineManager;
+
+    private OutboxRelayImpl() {
+    }
+
+    @Override
+    public void register(OutboxDeliveryHandler handler) {
+        handlers.put(handler.channel(), handler);
+    }
+
+    public void start() {
+        if (handlers.isEmpty()) {
+            return;
+        }
+
+        stateMachineManager = StateMachineManager.Builder.newInstance("outbox-relay", monitor, executorInstrumentation, new ExponentialWaitStrategy(iterationWaitMillis))
+                .processor(this::relay)
+                .build();
+
+        stateMachineManager.start();
+    }
+
+    public void stop() {
+        if (stateMachineManager != null) {
+            stateMachineManager.stop();
+        }
+    }
+
+    private Long relay() {
+        extendClaims();
+
+        var permits = inFlight.availablePermits();
+        if (permits == 0) {
+            return 0L;
+        }
+
+        var entries = transactionContext.execute(() -> store.claimDue(batchSize * permits, claimDuration));
+        var claimUntil = clock.millis() + claimDuration.toMillis();
+
+        var unassigned = new ArrayList<String>();
+        for (var batch : batches(entries)) {
+            if (inFlight.tryAcquire()) {
+                batch.forEach(entry -> claims.put(entry.getId(), claimUntil));
+                deliver(batch);
+            } else {
+                batch.forEach(entry -> unassigned.add(entry.getId()));
+            }
+        }
+
+        if (!unassigned.isEmpty()) {
+            transactionContext.execute(() -> store.extendClaim(unassigned, Duration.ZERO));
+        }
+
+        return (long) entries.size() - unassigned.size();
+    }
+
+    private void extendClaims() {
+        var now = clock.millis();
+        var threshold = now + claimDuration.toMillis() / 2;
+        var expiring = claims.entrySet().stream()
+                .filter(claim -> claim.getValue() <= threshold)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (!expiring.isEmpty()) {
+            transactionContext.execute(() -> store.extendClaim(expiring, claimDuration));
+            var claimUntil = now + claimDuration.toMillis();
+            expiring.forEach(id -> claims.computeIfPresent(id, (key, previous) -> claimUntil));
+        }
+    }
+
+    private void deliver(List<OutboxEntry> batch) {
+        var first = batch.get(0);
+        var handler = handlers.get(first.getChannel());
+        if (handler == null) {
+            completed(batch);
+            reschedule(batch, format("No delivery handler registered for channel %s", first.getChannel()));
+            return;
+        }
+
+        try {
+            handler.deliver(first.getDestination(), batch)
+                    .whenComplete((result, throwable) -> {
+                        completed(batch);
+                        if (throwable != null) {
+                            reschedule(batch, throwable.getMessage());
+                        } else if (result.fatalError()) {
+                            discard(batch, result.getFailureDetail());
+                        } else if (result.failed()) {
+                            reschedule(batch, result.getFailureDetail());
+                        } else {
+                            transactionContext.execute(() -> store.delete(batch.stream().map(OutboxEntry::getId).toList()));
+                        }
+                    });
+        } catch (Throwable e) {
+            completed(batch);
+            reschedule(batch, e.getMessage());
+        }
+    }
+
+    private void completed(List<OutboxEntry> batch) {
+        batch.forEach(entry -> claims.remove(entry.getId()));
+        inFlight.release();
+    }
+
+    private void reschedule(List<OutboxEntry> batch, String errorDetail) {
+        var now = clock.millis();
+        var discarded = new ArrayList<String>();
+        transactionContext.execute(() -> {
+            for (var entry : batch) {
+                if (entry.getAttempts() + 1 >= maxAttempts) {
+                    discarded.add(entry.getId());
+                } else {
+                    entry.failed(now + backoff(entry.getAttempts()), errorDetail);
+                    store.update(entry);
+                }
+            }
+            if (!discarded.isEmpty()) {
+                store.delete(discarded);
+            }
+        });
+
+        var destination = batch.get(0).getDestination();
+        if (discarded.isEmpty()) {
+            monitor.debug(() -> format("Outbox delivery of %d entries to %s failed, will be retried: %s", batch.size(), destination, errorDetail));
+        } else {
+            monitor.severe(format("Outbox delivery to %s failed %d times, %d entries have been discarded: %s", destination, maxAttempts, discarded.size(), errorDetail));
+        }
+    }
+
+    private void discard(List<OutboxEntry> batch, String errorDetail) {
+        transactionContext.execute(() -> store.delete(batch.stream().map(OutboxEntry::getId).toList()));
+        monitor.severe(format("Outbox delivery to %s failed with a fatal error, %d entries have been discarded: %s", batch.get(0).getDestination(), batch.size(), errorDetail));
+    }
+
+        private long backoff(int attempts) {
+        var exponent = Math.min(attempts, 30);
+        return Math.min(backoffMaxMillis, backoffMinMillis * (1L << exponent));
+    }
+
+    private List<List<OutboxEntry>> batches(List<OutboxEntry> entries) {
+        var groups = new LinkedHashMap<String, List<OutboxEntry>>();
+        for (var entry : entries) {
+            groups.computeIfAbsent(entry.getChannel() + "|" + entry.getDestination(), k -> new ArrayList<>()).add(entry);
+        }
+
+        var batches = new ArrayList<List<OutboxEntry>>();
+        for (var group : groups.values()) {
+            for (var i = 0; i < group.size(); i += batchSize) {
+                batches.add(group.subList(i, Math.min(i + batchSize, group.size())));
+            }
+        }
+        return batches;
+    }
+
+    public static class Builder {
+
+        private final OutboxRelayImpl relay;
+
+        private Builder() {
+            relay = new OutboxRelayImpl();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder store(OutboxStore store) {
+            relay.store = store;
+            return this;
+        }
+
+        public Builder transactionContext(TransactionContext transactionContext) {
+            relay.transactionContext = transactionContext;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            relay.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            relay.clock = clock;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            relay.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            relay.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder concurrency(int concurrency) {
+            relay.inFlight = new Semaphore(concurrency);
+            return this;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            relay.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder iterationWaitMillis(long iterationWaitMillis) {
+            relay.iterationWaitMillis = iterationWaitMillis;
+            return this;
+        }
+
+        public Builder backoff(long minMillis, long maxMillis) {
+            relay.backoffMinMillis = minMillis;
+            relay.backoffMaxMillis = maxMillis;
+            return this;
+        }
+
+        public Builder claimDuration(Duration claimDuration) {
+            relay.claimDuration = claimDuration;
+            return this;
+        }
+
+        public OutboxRelayImpl build() {
+            Objects.requireNonNull(relay.store, "store");
+            Objects.requireNonNull(relay.transactionContext, "transactionContext");
+            Objects.requireNonNull(relay.monitor, "monitor");
+            return relay;
+        }
+    }
+}
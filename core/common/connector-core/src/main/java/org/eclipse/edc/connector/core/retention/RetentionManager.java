@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.retention;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.ArchivingStore;
+import org.eclipse.edc.spi.persistence.ArchivingStoreRegistry;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.statemachine.StateMachineManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ * Default {@link ArchivingStoreRegistry} implementation. On every iteration it asks every registered store to archive
+ * at most {@code batchSize} entities that are in a final state since longer than {@code archiveAfter}.
+ * Iterations follow each other without pause as long as something gets archived, so a backlog is drained in bounded
+ * batches, otherwise the manager waits for {@code iterationWaitMillis}.
+ */
+public class RetentionManager implements ArchivingStoreRegistry {
+
+    private final Map<String, ArchivingStore> stores = new ConcurrentHashMap<>();
+    private Monitor monitor;
+    private Clock clock = Clock.systemUTC();
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private Duration archiveAfter = Duration.ofDays(30);
+    private int batchSize = 100;
+    private long iterationWaitMillis = 60_000L;
+    private StateMachineManager stateMachineManager;
+
+    private RetentionManager() {
+    }
+
+    @Override
+    public void register(String entityType, ArchivingStore store) {
+        stores.put(entityType, store);
+    }
+
+    public void start() {
+        if (stores.isEmpty()) {
+            return;
+        }
+
+        stateMachineManager = StateMachineManager.Builder.newInstance("retention", monitor, executorInstrumentation, new ExponentialWaitStrategy(iterationWaitMillis))
+                .processor(this::archive)
+                .build();
+
+        stateMachineManager.start();
+    }
+
+    public void stop() {
+        if (stateMachineManager != null) {
+            stateMachineManager.stop();
+        }
+    }
+
+    private Long archive() {
+        var stateTimestampBefore = clock.millis() - archiveAfter.toMillis();
+        var archived = 0L;
+        for (var entry : stores.entrySet()) {
+            try {
+                var count = entry.getValue().archive(stateTimestampBefore, batchSize);
+                if (count > 0) {
+                    monitor.debug(() -> format("Archived %d %s entities", count, entry.getKey()));
+                }
+                archived += count;
+            } catch (Exception e) {
+                monitor.warning(format("Archival of %s entities failed", entry.getKey()), e);
+            }
+        }
+        return archived;
+    }
+
+    public static class Builder {
+
+        private final RetentionManager manager;
+
+        private Builder() {
+            manager = new RetentionManager();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder monitor(Monitor monitor) {
+            manager.monitor = monitor;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            manager.clock = clock;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            manager.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder archiveAfter(Duration archiveAfter) {
+            manager.archiveAfter = archiveAfter;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            manager.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder iterationWaitMillis(long iterationWaitMillis) {
+            manager.iterationWaitMillis = iterationWaitMillis;
+            return this;
+        }
+
+        public RetentionManager build() {
+            Objects.requireNonNull(manager.monitor, "monitor");
+            return manager;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event.outbox;
+
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryHandler;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayImplTest {
+
+    private final Clock clock = Clock.systemUTC();
+    private final InMemoryOutboxStore store = new InMemoryOutboxStore(clock);
+    private final OutboxDeliveryHandler handler = mock();
+    private OutboxRelayImpl relay;
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+    }
+
+    @Test
+    void shouldDeliverEntriesInBatchesGroupedByDestination() {
+        when(handler.channel()).thenReturn("channel");
+        when(handler.deliver(any(), any())).thenReturn(completedFuture(StatusResult.success()));
+        store.save(entry("1", "http://a"));
+        store.save(entry("2", "http://b"));
+        store.save(entry("3", "http://a"));
+        store.save(entry("4", "http://a"));
+        relay = relay(2, 10);
+        relay.register(handler);
+
+        relay.start();
+
+        await().untilAsserted(() -> {
+            verify(handler).deliver(eq("http://a"), argThat(batch -> ids(batch).equals(List.of("1", "3"))));
+            verify(handler).deliver(eq("http://a"), argThat(batch -> ids(batch).equals(List.of("4"))));
+            verify(handler).deliver(eq("http://b"), argThat(batch -> ids(batch).equals(List.of("2"))));
+            assertThat(store.claimDue(10, Duration.ZERO)).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldRetryAndThenDiscard_whenDeliveryFails() {
+        when(handler.channel()).thenReturn("channel");
+        when(handler.deliver(any(), any())).thenReturn(completedFuture(StatusResult.failure(ERROR_RETRY, "error")));
+        store.save(entry("1", "http://a"));
+        relay = relay(10, 3);
+        relay.register(handler);
+
+        relay.start();
+
+        await().untilAsserted(() -> {
+            verify(handler, atLeast(3)).deliver(any(), any());
+            assertThat(store.claimDue(10, Duration.ZERO)).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldDiscardWithoutRetrying_whenDeliveryFailsWithFatalError() {
+        when(handler.channel()).thenReturn("channel");
+        when(handler.deliver(any(), any())).thenReturn(completedFuture(StatusResult.failure(FATAL_ERROR, "error")));
+        store.save(entry("1", "http://a"));
+        relay = relay(10, 3);
+        relay.register(handler);
+
+        relay.start();
+
+        await().pollDelay(Duration.ofMillis(200)).untilAsserted(() -> {
+            verify(handler, times(1)).deliver(any(), any());
+            assertThat(store.claimDue(10, Duration.ZERO)).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldExtendClaim_whenDeliveryTakesLongerThanClaim() {
+        when(handler.channel()).thenReturn("channel");
+        when(handler.deliver(any(), any())).thenReturn(new CompletableFuture<>());
+        store.save(entry("1", "http://a"));
+        relay = relayBuilder(10, 3).claimDuration(Duration.ofMillis(100)).build();
+        relay.register(handler);
+
+        relay.start();
+
+        await().pollDelay(Duration.ofMillis(500)).untilAsserted(() -> verify(handler, times(1)).deliver(any(), any()));
+    }
+
+    @Test
+    void shouldSkipBatches_whenNoDeliverySlotIsAvailable() {
+        when(handler.channel()).thenReturn("channel");
+        when(handler.deliver(any(), any())).thenReturn(new CompletableFuture<>());
+        store.save(entry("1", "http://a"));
+        relay = relayBuilder(10, 3).concurrency(1).build();
+        relay.register(handler);
+        relay.start();
+        await().untilAsserted(() -> verify(handler).deliver(eq("http://a"), any()));
+
+        store.save(entry("2", "http://b"));
+
+        await().pollDelay(Duration.ofMillis(200)).untilAsserted(() -> {
+            verify(handler, never()).deliver(eq("http://b"), any());
+            assertThat(store.claimDue(10, Duration.ZERO)).extracting(OutboxEntry::getId).containsExactly("2");
+        });
+    }
+
+    @Test
+    void shouldNotStart_whenNoHandlerIsRegistered() {
+        store.save(entry("1", "http://a"));
+        relay = relay(10, 3);
+
+        relay.start();
+
+        verify(handler, never()).deliver(any(), any());
+    }
+
+    private OutboxRelayImpl relay(int batchSize, int maxAttempts) {
+        return relayBuilder(batchSize, maxAttempts).build();
+    }
+
+    private OutboxRelayImpl.Builder relayBuilder(int batchSize, int maxAttempts) {
+        return OutboxRelayImpl.Builder.newInstance()
+                .store(store)
+                .transactionContext(new NoopTransactionContext())
+                .monitor(mock(Monitor.class))
+                .clock(clock)
+                .batchSize(batchSize)
+                .maxAttempts(maxAttempts)
+                .iterationWaitMillis(10)
+                .backoff(1, 1)
+                .claimDuration(Duration.ofSeconds(10));
+    }
+
+    private List<String> ids(List<OutboxEntry> batch) {
+        return batch.stream().map(OutboxEntry::getId).toList();
+    }
+
+    private OutboxEntry entry(String id, String destination) {
+        return OutboxEntry.Builder.newInstance()
+                .id(id)
+                .channel("channel")
+                .destination(destination)
+                .payload("{}")
+                .createdAt(clock.millis() - 1000 + Long.parseLong(id))
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.retention;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.ArchivingStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RetentionManagerTest {
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(100_000L), ZoneOffset.UTC);
+    private final Monitor monitor = mock();
+    private RetentionManager manager;
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    @Test
+    void shouldArchiveEntitiesOlderThanConfiguredAge() {
+        var store = mock(ArchivingStore.class);
+        manager = manager(Duration.ofMillis(40_000L));
+        manager.register("entity", store);
+
+        manager.start();
+
+        await().untilAsserted(() -> verify(store, atLeastOnce()).archive(60_000L, 10));
+    }
+
+    @Test
+    void shouldArchiveInBatchesOfConfiguredSize() {
+        var store = mock(ArchivingStore.class);
+        when(store.archive(anyLong(), anyInt())).thenReturn(10, 10, 3, 0);
+        manager = manager(Duration.ZERO);
+        manager.register("entity", store);
+
+        manager.start();
+
+        await().untilAsserted(() -> verify(store, atLeast(4)).archive(anyLong(), eq(10)));
+    }
+
+    @Test
+    void shouldContinueWithOtherStores_whenArchivalFails() {
+        var failing = mock(ArchivingStore.class);
+        var store = mock(ArchivingStore.class);
+        when(failing.archive(anyLong(), anyInt())).thenThrow(new IllegalStateException("error"));
+        manager = manager(Duration.ZERO);
+        manager.register("failing", failing);
+        manager.register("entity", store);
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(store, atLeastOnce()).archive(anyLong(), anyInt());
+            verify(monitor, atLeastOnce()).warning(anyString(), any(IllegalStateException.class));
+        });
+    }
+
+    @Test
+    void shouldNotStart_whenNoStoreIsRegistered() {
+        manager = manager(Duration.ZERO);
+
+        manager.start();
+
+        verifyNoInteractions(monitor);
+    }
+
+    private RetentionManager manager(Duration archiveAfter) {
+        return RetentionManager.Builder.newInstance()
+                .monitor(monitor)
+                .clock(clock)
+                .archiveAfter(archiveAfter)
+                .batchSize(10)
+                .iterationWaitMillis(10L)
+                .build();
+    }
+}
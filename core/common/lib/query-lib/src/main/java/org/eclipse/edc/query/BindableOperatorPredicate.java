@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.spi.query.OperatorPredicate;
+
+import java.util.function.Predicate;
+
+/**
+ * An {@link OperatorPredicate} that can prepare its right-hand operand once, e.g. by compiling a pattern, and return
+ * a predicate that is then evaluated against many property values.
+ */
+public interface BindableOperatorPredicate extends OperatorPredicate {
+
+    /**
+     * Binds the right-hand operand.
+     *
+     * @param operandRight the right-hand operand.
+     * @return a predicate that returns the same result as {@link #test(Object, Object)} with the bound operand.
+     */
+    Predicate<Object> bind(Object operandRight);
+
+    @Override
+    default boolean test(Object property, Object operandRight) {
+        return bind(operandRight).test(property);
+    }
+}
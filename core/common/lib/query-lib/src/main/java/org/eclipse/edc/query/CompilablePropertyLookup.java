@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.spi.query.PropertyLookup;
+
+import java.util.function.Function;
+
+/**
+ * A {@link PropertyLookup} that can parse a key once and return a function that extracts the property from many objects.
+ */
+public interface CompilablePropertyLookup extends PropertyLookup {
+
+    /**
+     * Compiles the lookup of a key.
+     *
+     * @param key the key.
+     * @return a function that returns the same value as {@link #getProperty(String, Object)} for the given key.
+     */
+    Function<Object, Object> compile(String key);
+
+    @Override
+    default Object getProperty(String key, Object object) {
+        return compile(key).apply(object);
+    }
+}
@@ -23,13 +23,16 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
 
 /**
- * Implementation for {@link CriterionOperatorRegistry}
+ * Implementation for {@link CriterionOperatorRegistry}. A {@link Criterion} is compiled once when it is converted into a
+ * {@link Predicate}: keys of {@link CompilablePropertyLookup}s are parsed and operands of
+ * {@link BindableOperatorPredicate}s are prepared up front, so evaluating the predicate on many objects does not repeat
+ * that work.
  */
 public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry {
 
@@ -45,6 +48,7 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
         registry.registerOperatorPredicate(ILIKE, new IlikeOperatorPredicate());
         registry.registerOperatorPredicate(CONTAINS, new ContainsOperatorPredicate());
         registry.registerOperatorPredicate(NOT_EQUAL, new NotEqualOperatorPredicate());
+        registry.registerOperatorPredicate(LESS_THAN_OR_EQUAL, new LessThanOrEqualOperatorPredicate());
         return registry;
     }
 
@@ -70,21 +74,18 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
             throw new IllegalArgumentException(format("Operator [%s] is not supported.", criterion.getOperator()));
         }
 
-        return t -> {
-
-            var operandLeft = (String) criterion.getOperandLeft();
-
-            var property = propertyLookups.stream()
-                    .map(it -> it.getProperty(operandLeft, t))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElse(null);
+        var operandLeft = (String) criterion.getOperandLeft();
+        var lookups = propertyLookups.stream().map(it -> compile(it, operandLeft)).toList();
+        var operandPredicate = bind(predicate, criterion.getOperandRight());
 
-            if (property == null) {
-                return false;
+        return t -> {
+            for (var lookup : lookups) {
+                var property = lookup.apply(t);
+                if (property != null) {
+                    return operandPredicate.test(property);
+                }
             }
-
-            return predicate.test(property, criterion.getOperandRight());
+            return false;
         };
 
     }
@@ -94,4 +95,18 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
         return operatorPredicates.containsKey(operator.toLowerCase());
     }
 
+    private Function<Object, Object> compile(PropertyLookup propertyLookup, String key) {
+        if (propertyLookup instanceof CompilablePropertyLookup compilable) {
+            return compilable.compile(key);
+        }
+        return object -> propertyLookup.getProperty(key, object);
+    }
+
+    private Predicate<Object> bind(OperatorPredicate predicate, Object operandRight) {
+        if (predicate instanceof BindableOperatorPredicate bindable) {
+            return bindable.bind(operandRight);
+        }
+        return property -> predicate.test(property, operandRight);
+    }
+
 }
@@ -14,23 +14,23 @@
 
 package org.eclipse.edc.query;
 
-import org.eclipse.edc.spi.query.OperatorPredicate;
-
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
-public class IlikeOperatorPredicate implements OperatorPredicate {
+public class IlikeOperatorPredicate implements BindableOperatorPredicate {
+
     @Override
-    public boolean test(Object property, Object operandRight) {
+    public Predicate<Object> bind(Object operandRight) {
         if (operandRight instanceof String stringOperand) {
             var regexPattern = Pattern.quote(stringOperand.toLowerCase())
                     .replace("%", "\\E.*\\Q")
                     .replace("_", "\\E.\\Q");
 
-            return Pattern.compile("^" + regexPattern + "$")
-                    .matcher(property.toString().toLowerCase())
-                    .matches();
+            var pattern = Pattern.compile("^" + regexPattern + "$");
+
+            return property -> pattern.matcher(property.toString().toLowerCase()).matches();
         }
 
-        return false;
+        return property -> false;
     }
 }
@@ -14,24 +14,23 @@
 
 package org.eclipse.edc.query;
 
-import org.eclipse.edc.spi.query.OperatorPredicate;
-
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
-public class LikeOperatorPredicate implements OperatorPredicate {
+public class LikeOperatorPredicate implements BindableOperatorPredicate {
 
     @Override
-    public boolean test(Object property, Object operandRight) {
+    public Predicate<Object> bind(Object operandRight) {
         if (operandRight instanceof String stringOperand) {
             var regexPattern = Pattern.quote(stringOperand)
                     .replace("%", "\\E.*\\Q")
                     .replace("_", "\\E.\\Q");
 
-            regexPattern = "^" + regexPattern + "$";
+            var pattern = Pattern.compile("^" + regexPattern + "$");
 
-            return Pattern.compile(regexPattern).matcher(property.toString()).matches();
+            return property -> pattern.matcher(property.toString()).matches();
         }
 
-        return false;
+        return property -> false;
     }
 }
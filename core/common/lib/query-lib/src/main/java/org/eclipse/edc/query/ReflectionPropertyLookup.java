@@ -14,17 +14,23 @@
 
 package org.eclipse.edc.query;
 
-import org.eclipse.edc.spi.query.PropertyLookup;
+import org.eclipse.edc.util.reflection.PathItem;
 import org.eclipse.edc.util.reflection.ReflectionException;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
-public class ReflectionPropertyLookup implements PropertyLookup {
+import java.util.function.Function;
+
+public class ReflectionPropertyLookup implements CompilablePropertyLookup {
+
     @Override
-    public Object getProperty(String key, Object object) {
-        try {
-            return ReflectionUtil.getFieldValue(key, object);
-        } catch (ReflectionException e) {
-            return null;
-        }
+    public Function<Object, Object> compile(String key) {
+        var path = PathItem.parse(key);
+        return object -> {
+            try {
+                return ReflectionUtil.getFieldValue(path, object);
+            } catch (ReflectionException e) {
+                return null;
+            }
+        };
     }
 }
@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -106,6 +107,23 @@ class CriterionOperatorRegistryImplTest {
             verify(predicate).test(any(), any());
         }
 
+        @Test
+        void shouldCompileLookupAndBindOperandOnce() {
+            CompilablePropertyLookup lookup = mock();
+            when(lookup.compile("key")).thenReturn(object -> object + "-value");
+            BindableOperatorPredicate operator = mock();
+            when(operator.bind("operandRight")).thenReturn(property -> property.equals("first-value"));
+            registry.registerPropertyLookup(lookup);
+            registry.registerOperatorPredicate("operator", operator);
+
+            var predicate = registry.<String>toPredicate(criterion("key", "operator", "operandRight"));
+
+            assertThat(predicate.test("first")).isTrue();
+            assertThat(predicate.test("second")).isFalse();
+            verify(lookup, times(1)).compile("key");
+            verify(operator, times(1)).bind("operandRight");
+        }
+
         @Test
         void shouldReturnAlwaysFalsePredicate_whenPropertyCannotBeFound() {
             OperatorPredicate predicate = mock();
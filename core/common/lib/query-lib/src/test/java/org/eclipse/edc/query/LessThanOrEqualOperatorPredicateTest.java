@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.query;
+
+import org.eclipse.edc.spi.query.OperatorPredicate;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LessThanOrEqualOperatorPredicateTest {
+    private final OperatorPredicate predicate = new LessThanOrEqualOperatorPredicate();
+
+    @Test
+    void shouldCompareNumbers() {
+        assertThat(predicate.test(41, 42)).isTrue();
+        assertThat(predicate.test(42L, 42)).isTrue();
+        assertThat(predicate.test(43, 42L)).isFalse();
+        assertThat(predicate.test(1.5d, 2)).isTrue();
+    }
+
+    @Test
+    void shouldCompareComparablesOfSameType() {
+        assertThat(predicate.test("a", "b")).isTrue();
+        assertThat(predicate.test("b", "b")).isTrue();
+        assertThat(predicate.test("c", "b")).isFalse();
+    }
+
+    @Test
+    void shouldReturnFalse_whenTypesAreNotComparable() {
+        assertThat(predicate.test(null, 42)).isFalse();
+        assertThat(predicate.test(42, null)).isFalse();
+        assertThat(predicate.test("42", 42)).isFalse();
+    }
+}
@@ -43,4 +43,18 @@ class LikeOperatorPredicateTest {
         assertThat(predicate.test("invalid", "%test%")).isFalse();
     }
 
+    @Test
+    void bind_shouldBeReusable() {
+        var bound = new LikeOperatorPredicate().bind("%test%");
+
+        assertThat(bound.test("this test valid")).isTrue();
+        assertThat(bound.test("invalid")).isFalse();
+    }
+
+    @Test
+    void bind_shouldNeverMatch_whenOperandIsNotString() {
+        var bound = new LikeOperatorPredicate().bind(1);
+
+        assertThat(bound.test("1")).isFalse();
+    }
 }
@@ -24,10 +24,14 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.statemachine.retry.InFlightTracker;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
@@ -41,6 +45,8 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     public static final int DEFAULT_BATCH_SIZE = 20;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
+    public static final int DEFAULT_MAX_IN_FLIGHT = InFlightTracker.UNBOUNDED;
+    public static final long DEFAULT_LEASE_RENEWAL_PERIOD = 20_000L;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
@@ -52,10 +58,24 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected StateMachineManager stateMachineManager;
     protected Clock clock = Clock.systemUTC();
     protected S store;
+    protected int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    protected Duration leaseRenewalPeriod = Duration.ofMillis(DEFAULT_LEASE_RENEWAL_PERIOD);
+    private ScheduledExecutorService leaseRenewalExecutor;
 
     @Override
     public void start() {
-        entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
+        if (leaseRenewalPeriod.isPositive()) {
+            var name = getClass().getSimpleName();
+            leaseRenewalExecutor = executorInstrumentation.instrument(
+                    Executors.newSingleThreadScheduledExecutor(r -> {
+                        var thread = Executors.defaultThreadFactory().newThread(r);
+                        thread.setName("LeaseRenewal-" + name);
+                        thread.setDaemon(true);
+                        return thread;
+                    }), name + "-lease-renewal");
+        }
+        var inFlightTracker = new InFlightTracker(maxInFlight, leaseRenewalPeriod, store::renewLease, leaseRenewalExecutor, monitor);
+        entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration, inFlightTracker);
         var stateMachineManagerBuilder = StateMachineManager.Builder
                 .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
@@ -68,6 +88,9 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         if (stateMachineManager != null) {
             stateMachineManager.stop();
         }
+        if (leaseRenewalExecutor != null) {
+            leaseRenewalExecutor.shutdownNow();
+        }
     }
 
     /**
@@ -139,6 +162,23 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        /**
+         * Maximum number of entities that can have an asynchronous process in flight at the same time.
+         */
+        public B maxInFlight(int maxInFlight) {
+            manager.maxInFlight = maxInFlight;
+            return self();
+        }
+
+        /**
+         * Period after which the leases on entities with an asynchronous process in flight get renewed, a zero
+         * duration disables the renewal.
+         */
+        public B leaseRenewalPeriod(Duration leaseRenewalPeriod) {
+            manager.leaseRenewalPeriod = leaseRenewalPeriod;
+            return self();
+        }
+
         public B store(S store) {
             manager.store = store;
             return self();
@@ -148,7 +188,8 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             Objects.requireNonNull(manager.store, "store");
             Objects.requireNonNull(manager.monitor, "monitor");
 
-            manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration);
+            manager.entityRetryProcessFactory = new EntityRetryProcessFactory(manager.monitor, manager.clock, manager.entityRetryProcessConfiguration,
+                    new InFlightTracker(manager.maxInFlight, manager.monitor));
 
             return manager;
         }
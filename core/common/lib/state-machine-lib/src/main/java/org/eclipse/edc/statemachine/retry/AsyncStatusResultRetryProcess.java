@@ -34,7 +34,12 @@ public class AsyncStatusResultRetryProcess<E extends StatefulEntity<E>, C, SELF
     private BiConsumer<E, ResponseFailure> onFatalError;
 
     public AsyncStatusResultRetryProcess(E entity, Supplier<CompletableFuture<StatusResult<C>>> process, Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration) {
-        super(entity, process, monitor, clock, configuration);
+        this(entity, process, monitor, clock, configuration, new InFlightTracker(InFlightTracker.UNBOUNDED, monitor));
+    }
+
+    public AsyncStatusResultRetryProcess(E entity, Supplier<CompletableFuture<StatusResult<C>>> process, Monitor monitor, Clock clock,
+                                         EntityRetryProcessConfiguration configuration, InFlightTracker inFlightTracker) {
+        super(entity, process, monitor, clock, configuration, inFlightTracker);
         this.monitor = monitor;
     }
 
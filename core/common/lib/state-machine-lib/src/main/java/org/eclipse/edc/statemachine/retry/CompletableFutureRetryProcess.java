@@ -25,6 +25,8 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static java.lang.String.format;
+import static org.eclipse.edc.statemachine.retry.InFlightTracker.Registration.ALREADY_IN_FLIGHT;
+import static org.eclipse.edc.statemachine.retry.InFlightTracker.Registration.LIMIT_REACHED;
 
 /**
  * Provides retry capabilities to an asynchronous process that returns a {@link CompletableFuture} object
@@ -33,52 +35,77 @@ public class CompletableFutureRetryProcess<E extends StatefulEntity<E>, C, SELF
         extends RetryProcess<E, CompletableFutureRetryProcess<E, C, SELF>> {
     private final Supplier<CompletableFuture<C>> process;
     private final Monitor monitor;
+    private final InFlightTracker inFlightTracker;
     private Function<String, E> entityRetrieve;
     protected BiConsumer<E, C> onSuccessHandler;
     protected BiConsumer<E, Throwable> onFailureHandler;
     protected BiConsumer<E, Throwable> onRetryExhausted;
 
     public CompletableFutureRetryProcess(E entity, Supplier<CompletableFuture<C>> process, Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration) {
+        this(entity, process, monitor, clock, configuration, new InFlightTracker(InFlightTracker.UNBOUNDED, monitor));
+    }
+
+    public CompletableFutureRetryProcess(E entity, Supplier<CompletableFuture<C>> process, Monitor monitor, Clock clock,
+                                         EntityRetryProcessConfiguration configuration, InFlightTracker inFlightTracker) {
         super(entity, configuration, monitor, clock);
         this.process = process;
         this.monitor = monitor;
+        this.inFlightTracker = inFlightTracker;
     }
 
     @Override
     boolean process(E entity, String description) {
+        var registration = inFlightTracker.register(entity.getId());
+        if (registration == ALREADY_IN_FLIGHT) {
+            monitor.debug(format("%s: ID %s. Already in flight, skip %s", entity.getClass().getSimpleName(), entity.getId(), description));
+            return true;
+        }
+        if (registration == LIMIT_REACHED) {
+            monitor.debug(format("%s: ID %s. Too many processes in flight, postpone %s", entity.getClass().getSimpleName(), entity.getId(), description));
+            return false;
+        }
+
         monitor.debug(format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
-        process.get()
-                .whenComplete((result, throwable) -> {
-                    var reloadedEntity = Optional.ofNullable(entityRetrieve)
-                            .map(it -> it.apply(entity.getId()))
-                            .orElse(entity);
-
-                    if (throwable == null) {
-                        onSuccessHandler.accept(reloadedEntity, result);
-                    } else {
-                        if (retriesExhausted(reloadedEntity)) {
-                            var message = format("%s: ID %s. Attempt #%d failed to %s. Retry limit exceeded. Cause: %s",
-                                    reloadedEntity.getClass().getSimpleName(),
-                                    reloadedEntity.getId(),
-                                    reloadedEntity.getStateCount(),
-                                    description,
-                                    throwable.getMessage());
-                            monitor.severe(message, throwable);
-
-                            onRetryExhausted.accept(reloadedEntity, throwable);
-                        } else {
-                            var message = format("%s: ID %s. Attempt #%d failed to %s. Cause: %s",
-                                    reloadedEntity.getClass().getSimpleName(),
-                                    reloadedEntity.getId(),
-                                    reloadedEntity.getStateCount(),
-                                    description,
-                                    throwable.getMessage());
-                            monitor.debug(message, throwable);
-
-                            onFailureHandler.accept(reloadedEntity, throwable);
-                        }
-                    }
-                });
+        CompletableFuture<C> future;
+        try {
+            future = process.get();
+        } catch (RuntimeException e) {
+            inFlightTracker.deregister(entity.getId());
+            throw e;
+        }
+
+        future.whenComplete((result, throwable) -> {
+            inFlightTracker.deregister(entity.getId());
+            var reloadedEntity = Optional.ofNullable(entityRetrieve)
+                    .map(it -> it.apply(entity.getId()))
+                    .orElse(entity);
+
+            if (throwable == null) {
+                onSuccessHandler.accept(reloadedEntity, result);
+            } else {
+                if (retriesExhausted(reloadedEntity)) {
+                    var message = format("%s: ID %s. Attempt #%d failed to %s. Retry limit exceeded. Cause: %s",
+                            reloadedEntity.getClass().getSimpleName(),
+                            reloadedEntity.getId(),
+                            reloadedEntity.getStateCount(),
+                            description,
+                            throwable.getMessage());
+                    monitor.severe(message, throwable);
+
+                    onRetryExhausted.accept(reloadedEntity, throwable);
+                } else {
+                    var message = format("%s: ID %s. Attempt #%d failed to %s. Cause: %s",
+                            reloadedEntity.getClass().getSimpleName(),
+                            reloadedEntity.getId(),
+                            reloadedEntity.getStateCount(),
+                            description,
+                            throwable.getMessage());
+                    monitor.debug(message, throwable);
+
+                    onFailureHandler.accept(reloadedEntity, throwable);
+                }
+            }
+        });
 
         return true;
     }
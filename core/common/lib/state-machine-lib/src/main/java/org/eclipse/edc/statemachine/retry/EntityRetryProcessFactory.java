@@ -30,11 +30,17 @@ public class EntityRetryProcessFactory {
     private final Monitor monitor;
     private final EntityRetryProcessConfiguration configuration;
     private final Clock clock;
+    private final InFlightTracker inFlightTracker;
 
     public EntityRetryProcessFactory(Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration) {
+        this(monitor, clock, configuration, new InFlightTracker(InFlightTracker.UNBOUNDED, monitor));
+    }
+
+    public EntityRetryProcessFactory(Monitor monitor, Clock clock, EntityRetryProcessConfiguration configuration, InFlightTracker inFlightTracker) {
         this.monitor = monitor;
         this.clock = clock;
         this.configuration = configuration;
+        this.inFlightTracker = inFlightTracker;
     }
 
     /**
@@ -45,17 +51,18 @@ public class EntityRetryProcessFactory {
     }
 
     /**
-     * Initialize an asynchronous process that needs to be retried if it does not succeed
+     * Initialize an asynchronous process that needs to be retried if it does not succeed. The entity is tracked as in
+     * flight until the process completes.
      */
     public <T extends StatefulEntity<T>, C, SELF extends CompletableFutureRetryProcess<T, C, SELF>> SELF doAsyncProcess(T entity, Supplier<CompletableFuture<C>> process) {
-        return (SELF) new CompletableFutureRetryProcess<T, C, SELF>(entity, process, monitor, clock, configuration);
+        return (SELF) new CompletableFutureRetryProcess<T, C, SELF>(entity, process, monitor, clock, configuration, inFlightTracker);
     }
 
     /**
      * Initialize an asynchronous process that will return a {@link StatusResult} and it will need to be handled
      */
     public <T extends StatefulEntity<T>, C, SELF extends AsyncStatusResultRetryProcess<T, C, SELF>> SELF doAsyncStatusResultProcess(T entity, Supplier<CompletableFuture<StatusResult<C>>> process) {
-        return (SELF) new AsyncStatusResultRetryProcess<T, C, SELF>(entity, process, monitor, clock, configuration);
+        return (SELF) new AsyncStatusResultRetryProcess<T, C, SELF>(entity, process, monitor, clock, configuration, inFlightTracker);
     }
 
 }
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.statemachine.retry;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Keeps track of the entities that have an asynchronous process in flight on behalf of a single state machine manager.
+ * The number of concurrent in-flight processes is capped, and while a process is pending the lease on its entity gets
+ * renewed periodically, so that it does not expire and the entity is not picked up and dispatched again.
+ */
+public class InFlightTracker {
+
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private static final Future<?> NO_RENEWAL = CompletableFuture.completedFuture(null);
+
+    private final Map<String, Future<?>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+    private final int maxInFlight;
+    private final long renewalPeriodMillis;
+    private final Function<String, StoreResult<Void>> leaseRenewal;
+    private final ScheduledExecutorService scheduler;
+    private final Monitor monitor;
+
+    /**
+     * Creates a tracker that caps the in-flight processes and renews leases periodically.
+     *
+     * @param maxInFlight    the maximum number of concurrent in-flight processes.
+     * @param renewalPeriod  the lease renewal period, a zero or negative value disables the renewal.
+     * @param leaseRenewal   the function that renews the lease on the entity with the passed id.
+     * @param scheduler      the scheduler used to run the lease renewals, can be null if renewal is disabled.
+     * @param monitor        the monitor.
+     */
+    public InFlightTracker(int maxInFlight, Duration renewalPeriod, Function<String, StoreResult<Void>> leaseRenewal,
+                           @Nullable ScheduledExecutorService scheduler, Monitor monitor) {
+        this.maxInFlight = maxInFlight;
+        this.renewalPeriodMillis = scheduler == null ? 0 : renewalPeriod.toMillis();
+        this.leaseRenewal = leaseRenewal;
+        this.scheduler = scheduler;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Creates a tracker that caps the in-flight processes without renewing leases.
+     *
+     * @param maxInFlight the maximum number of concurrent in-flight processes.
+     * @param monitor     the monitor.
+     */
+    public InFlightTracker(int maxInFlight, Monitor monitor) {
+        this(maxInFlight, Duration.ZERO, id -> StoreResult.success(), null, monitor);
+    }
+
+    /**
+     * Registers the entity as in flight and starts renewing its lease.
+     *
+     * @param id the entity id.
+     * @return the outcome of the registration.
+     */
+    public Registration register(String id) {
+        if (inFlight.containsKey(id)) {
+            return Registration.ALREADY_IN_FLIGHT;
+        }
+
+        int current;
+        do {
+            current = count.get();
+            if (current >= maxInFlight) {
+                return Registration.LIMIT_REACHED;
+            }
+        } while (!count.compareAndSet(current, current + 1));
+
+        if (inFlight.putIfAbsent(id, NO_RENEWAL) != null) {
+            count.decrementAndGet();
+            return Registration.ALREADY_IN_FLIGHT;
+        }
+
+        if (renewalPeriodMillis > 0) {
+            var renewal = scheduler.scheduleAtFixedRate(() -> renew(id), renewalPeriodMillis, renewalPeriodMillis, MILLISECONDS);
+            if (!inFlight.replace(id, NO_RENEWAL, renewal)) {
+                renewal.cancel(false);
+            }
+        }
+
+        return Registration.REGISTERED;
+    }
+
+    /**
+     * Removes the entity from the in-flight ones and stops renewing its lease.
+     *
+     * @param id the entity id.
+     */
+    public void deregister(String id) {
+        var renewal = inFlight.remove(id);
+        if (renewal != null) {
+            renewal.cancel(false);
+            count.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of entities currently in flight.
+     *
+     * @return the in-flight count.
+     */
+    public int size() {
+        return count.get();
+    }
+
+    private void renew(String id) {
+        try {
+            var result = leaseRenewal.apply(id);
+            if (result.failed()) {
+                monitor.debug("Stop renewing lease on entity %s: %s".formatted(id, result.getFailureDetail()));
+                var renewal = inFlight.get(id);
+                if (renewal != null && inFlight.replace(id, renewal, NO_RENEWAL)) {
+                    renewal.cancel(false);
+                }
+            }
+        } catch (Exception e) {
+            monitor.warning("Error renewing lease on entity %s".formatted(id), e);
+        }
+    }
+
+    public enum Registration {
+        REGISTERED, ALREADY_IN_FLIGHT, LIMIT_REACHED
+    }
+}
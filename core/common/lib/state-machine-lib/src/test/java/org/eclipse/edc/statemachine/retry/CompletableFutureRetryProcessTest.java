@@ -30,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -107,4 +108,47 @@ class CompletableFutureRetryProcessTest {
 
         verify(onFailure).accept(eq(entity), isA(EdcException.class));
     }
+
+    @Test
+    void shouldSkip_whenEntityIsAlreadyInFlight() {
+        when(process.get()).thenReturn(new CompletableFuture<>());
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).clock(clock).build();
+        var tracker = new InFlightTracker(10, mock(Monitor.class));
+        new CompletableFutureRetryProcess<>(entity, process, mock(Monitor.class), clock, configuration, tracker).onSuccess(onSuccess).execute("any");
+
+        var result = new CompletableFutureRetryProcess<>(entity, process, mock(Monitor.class), clock, configuration, tracker).onSuccess(onSuccess).execute("any");
+
+        assertThat(result).isTrue();
+        verify(process, times(1)).get();
+        assertThat(tracker.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotProcess_whenInFlightLimitIsReached() {
+        when(process.get()).thenReturn(new CompletableFuture<>());
+        var tracker = new InFlightTracker(1, mock(Monitor.class));
+        var first = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).clock(clock).build();
+        new CompletableFutureRetryProcess<>(first, process, mock(Monitor.class), clock, configuration, tracker).onSuccess(onSuccess).execute("any");
+        var second = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).clock(clock).build();
+
+        var result = new CompletableFutureRetryProcess<>(second, process, mock(Monitor.class), clock, configuration, tracker).onSuccess(onSuccess).execute("any");
+
+        assertThat(result).isFalse();
+        verify(process, times(1)).get();
+    }
+
+    @Test
+    void shouldReleaseInFlight_whenProcessCompletes() {
+        var future = new CompletableFuture<String>();
+        when(process.get()).thenReturn(future);
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).clock(clock).build();
+        var tracker = new InFlightTracker(1, mock(Monitor.class));
+        new CompletableFutureRetryProcess<>(entity, process, mock(Monitor.class), clock, configuration, tracker).onSuccess(onSuccess).execute("any");
+        assertThat(tracker.size()).isEqualTo(1);
+
+        future.complete("content");
+
+        assertThat(tracker.size()).isZero();
+        verify(onSuccess).accept(entity, "content");
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.statemachine.retry;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.statemachine.retry.InFlightTracker.Registration.ALREADY_IN_FLIGHT;
+import static org.eclipse.edc.statemachine.retry.InFlightTracker.Registration.LIMIT_REACHED;
+import static org.eclipse.edc.statemachine.retry.InFlightTracker.Registration.REGISTERED;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InFlightTrackerTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Function<String, StoreResult<Void>> leaseRenewal = mock();
+    private final Monitor monitor = mock();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void register_shouldCapInFlightEntities() {
+        var tracker = new InFlightTracker(2, monitor);
+
+        assertThat(tracker.register("1")).isEqualTo(REGISTERED);
+        assertThat(tracker.register("1")).isEqualTo(ALREADY_IN_FLIGHT);
+        assertThat(tracker.register("2")).isEqualTo(REGISTERED);
+        assertThat(tracker.register("3")).isEqualTo(LIMIT_REACHED);
+        assertThat(tracker.size()).isEqualTo(2);
+
+        tracker.deregister("1");
+
+        assertThat(tracker.register("3")).isEqualTo(REGISTERED);
+    }
+
+    @Test
+    void deregister_shouldIgnoreUnknownEntities() {
+        var tracker = new InFlightTracker(1, monitor);
+        tracker.register("1");
+
+        tracker.deregister("unknown");
+
+        assertThat(tracker.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRenewLease_whileInFlight() {
+        when(leaseRenewal.apply(any())).thenReturn(StoreResult.success());
+        var tracker = new InFlightTracker(10, Duration.ofMillis(10), leaseRenewal, scheduler, monitor);
+
+        tracker.register("1");
+
+        await().untilAsserted(() -> verify(leaseRenewal, atLeast(2)).apply("1"));
+    }
+
+    @Test
+    void shouldStopRenewingLease_whenDeregistered() {
+        when(leaseRenewal.apply(any())).thenReturn(StoreResult.success());
+        var tracker = new InFlightTracker(10, Duration.ofMinutes(1), leaseRenewal, scheduler, monitor);
+        tracker.register("1");
+
+        tracker.deregister("1");
+
+        assertThat(tracker.size()).isZero();
+        verify(leaseRenewal, never()).apply(any());
+    }
+
+    @Test
+    void shouldStopRenewingLease_whenRenewalFails() throws InterruptedException {
+        when(leaseRenewal.apply(any())).thenReturn(StoreResult.notFound("not leased"));
+        var tracker = new InFlightTracker(10, Duration.ofMillis(10), leaseRenewal, scheduler, monitor);
+        tracker.register("1");
+
+        await().untilAsserted(() -> verify(leaseRenewal).apply("1"));
+        Thread.sleep(50);
+
+        verify(leaseRenewal, times(1)).apply("1");
+        assertThat(tracker.size()).isEqualTo(1);
+    }
+}
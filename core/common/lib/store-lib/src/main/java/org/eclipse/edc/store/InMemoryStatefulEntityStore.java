@@ -22,37 +22,45 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
-import org.eclipse.edc.util.concurrency.LockManager;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.Comparator.comparingLong;
-import static java.util.stream.Collectors.toList;
 
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
  * purposes only.
+ * <p>
+ * Entities are indexed by state, ordered by their state timestamp, so that {@link #nextNotLeased(int, Criterion...)}
+ * with a {@link StateEntityStore#hasState(int)} criterion only visits entities in that state, oldest first. Leases
+ * are acquired atomically per entity, so no store-wide lock is needed and reads never block lease acquisition.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
+    private static final String STATE_PROPERTY = "state";
     private final Map<String, T> entitiesById = new ConcurrentHashMap<>();
+    private final Map<String, StateKey> stateKeysById = new ConcurrentHashMap<>();
+    private final Map<Integer, NavigableSet<StateKey>> stateKeysByState = new ConcurrentHashMap<>();
     private final QueryResolver<T> queryResolver;
-    private final LockManager lockManager = new LockManager(new ReentrantReadWriteLock());
     private final String lockId;
     private final Clock clock;
-    private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -73,48 +81,71 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
-        return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
-                    .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
-                    .limit(max)
-                    .toList();
-            entities.forEach(i -> acquireLease(i.getId()));
-            return entities.stream().map(StatefulEntity::copy).collect(toList());
-        });
+        var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::<T>toPredicate).reduce(x -> true, Predicate::and);
+        var candidates = indexedCandidates(criteria)
+                .orElseGet(() -> entitiesById.values().stream().sorted(comparingLong(StatefulEntity::getStateTimestamp))); //order by state timestamp, oldest first
+
+        var entities = new ArrayList<T>();
+        var iterator = candidates.iterator();
+        while (entities.size() < max && iterator.hasNext()) {
+            var entity = iterator.next();
+            if (filterPredicate.test(entity) && tryAcquireLease(entity.getId(), lockId, DEFAULT_LEASE_TIME, false)) {
+                // the entity could have been saved between the read and the lease, so it needs to be checked again
+                var current = entitiesById.get(entity.getId());
+                if (current == null || !filterPredicate.test(current)) {
+                    freeLease(entity.getId());
+                    continue;
+                }
+                entities.add(current.copy());
+            }
+        }
+        return entities;
     }
 
     @Override
     public StoreResult<T> findByIdAndLease(String id) {
-        return lockManager.writeLock(() -> {
-            var entity = entitiesById.get(id);
-            if (entity == null) {
-                return StoreResult.notFound(format("Entity %s not found", id));
-            }
+        var entity = entitiesById.get(id);
+        if (entity == null) {
+            return StoreResult.notFound(format("Entity %s not found", id));
+        }
 
-            try {
-                acquireLease(id);
-                return StoreResult.success(entity);
-            } catch (IllegalStateException e) {
-                return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
-            }
-        });
+        if (tryAcquireLease(id, lockId, DEFAULT_LEASE_TIME, true)) {
+            return StoreResult.success(entity);
+        }
+        return StoreResult.alreadyLeased(format("Entity %s is already leased: Cannot acquire lease, is already leased by someone else!", id));
+    }
+
+    @Override
+    public StoreResult<Void> renewLease(String id) {
+        var now = clock.millis();
+        var renewed = new Lease(lockId, now, DEFAULT_LEASE_TIME.toMillis());
+        var lease = leases.computeIfPresent(id, (key, current) -> isLeasedBy(current, lockId, now) ? renewed : current);
+        if (lease != renewed) {
+            return StoreResult.notFound(format("Entity %s is not leased by %s", id, lockId));
+        }
+        return StoreResult.success();
     }
 
     @Override
     public void save(T entity) {
-        acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
-        freeLease(entity.getId());
+        var id = entity.getId();
+        acquireLease(id);
+        var copy = entity.copy();
+        entitiesById.compute(id, (key, previous) -> {
+            index(key, copy);
+            return copy;
+        });
+        freeLease(id);
     }
 
     public void delete(String id) {
         if (isLeased(id)) {
             throw new IllegalStateException("Entity is leased and cannot be deleted!");
         }
-        entitiesById.remove(id);
+        entitiesById.computeIfPresent(id, (key, previous) -> {
+            unindex(key);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
@@ -126,15 +157,34 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     public void acquireLease(String id, String lockId, Duration leaseTime) {
-        if (!isLeased(id) || isLeasedBy(id, lockId)) {
-            leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
-        } else {
+        if (!tryAcquireLease(id, lockId, leaseTime, true)) {
             throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
         }
     }
 
     public boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        var lease = leases.get(id);
+        return lease != null && isLeasedBy(lease, lockId, clock.millis());
+    }
+
+    /**
+     * Atomically acquires the lease on an entity if it is not leased, if its lease has expired or, when
+     * {@code reentrant} is true, if it is already leased by the same lock id.
+     */
+    private boolean tryAcquireLease(String id, String lockId, Duration leaseTime, boolean reentrant) {
+        var now = clock.millis();
+        var acquired = new Lease(lockId, now, leaseTime.toMillis());
+        var lease = leases.compute(id, (key, current) -> {
+            if (current == null || current.isExpired(now) || reentrant && current.getLeasedBy().equals(lockId)) {
+                return acquired;
+            }
+            return current;
+        });
+        return lease == acquired;
+    }
+
+    private boolean isLeasedBy(Lease lease, String lockId, long now) {
+        return !lease.isExpired(now) && lease.getLeasedBy().equals(lockId);
     }
 
     private void freeLease(String id) {
@@ -146,7 +196,46 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
+    }
+
+    /**
+     * Returns the entities of the state requested by a {@code state = <code>} criterion, oldest first, or empty if there
+     * is no such criterion. The returned entities still need to be checked against all the criteria, since they may
+     * have been modified in place after they were indexed.
+     */
+    private Optional<Stream<T>> indexedCandidates(Criterion... criteria) {
+        return Arrays.stream(criteria)
+                .filter(c -> STATE_PROPERTY.equals(c.getOperandLeft()) && "=".equals(c.getOperator()) && c.getOperandRight() instanceof Integer)
+                .map(c -> (Integer) c.getOperandRight())
+                .findFirst()
+                .map(state -> stateKeysByState.getOrDefault(state, new ConcurrentSkipListSet<>()).stream()
+                        .map(key -> entitiesById.get(key.id()))
+                        .filter(Objects::nonNull));
+    }
+
+    private void index(String id, T entity) {
+        unindex(id);
+        var key = new StateKey(entity.getState(), entity.getStateTimestamp(), id);
+        stateKeysById.put(id, key);
+        stateKeysByState.computeIfAbsent(key.state(), state -> new ConcurrentSkipListSet<>()).add(key);
+    }
+
+    private void unindex(String id) {
+        var previous = stateKeysById.remove(id);
+        if (previous != null) {
+            stateKeysByState.get(previous.state()).remove(previous);
+        }
+    }
+
+    private record StateKey(int state, long stateTimestamp, String id) implements Comparable<StateKey> {
+        private static final Comparator<StateKey> ORDER = comparingLong(StateKey::stateTimestamp).thenComparing(StateKey::id);
+
+        @Override
+        public int compareTo(@NotNull StateKey other) {
+            return ORDER.compare(this, other);
+        }
     }
 
 }
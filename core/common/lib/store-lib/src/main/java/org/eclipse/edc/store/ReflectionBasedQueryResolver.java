@@ -18,6 +18,7 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.util.reflection.PathItem;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -86,9 +87,10 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
     @NotNull
     private Comparator<T> propertyComparator(boolean isAscending, String property) {
+        var path = PathItem.parse(property);
         return (obj1, obj2) -> {
-            var o1 = ReflectionUtil.getFieldValue(property, obj1);
-            var o2 = ReflectionUtil.getFieldValue(property, obj2);
+            var o1 = ReflectionUtil.getFieldValue(path, obj1);
+            var o2 = ReflectionUtil.getFieldValue(path, obj2);
 
             if (o1 == null || o2 == null) {
                 return 0;
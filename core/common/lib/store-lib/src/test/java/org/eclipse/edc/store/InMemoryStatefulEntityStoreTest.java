@@ -0,0 +1,232 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.store;
+
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.entity.StatefulEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class InMemoryStatefulEntityStoreTest {
+
+    private final HookClock clock = new HookClock();
+    private final InMemoryStatefulEntityStore<TestEntity> store = new InMemoryStatefulEntityStore<>(TestEntity.class,
+            "lock-id", clock, CriterionOperatorRegistryImpl.ofDefaults());
+
+    @Test
+    void nextNotLeased_shouldReturnOldestEntitiesInState() {
+        store.save(entity("newer", 1, 300));
+        store.save(entity("older", 1, 100));
+        store.save(entity("other-state", 2, 50));
+
+        var result = store.nextNotLeased(5, hasState(1));
+
+        assertThat(result).extracting(TestEntity::getId).containsExactly("older", "newer");
+    }
+
+    @Test
+    void nextNotLeased_shouldNotReturnLeasedEntities() {
+        store.save(entity("leased", 1, 100));
+        store.save(entity("free", 1, 200));
+        store.acquireLease("leased", "another-lock", Duration.ofMinutes(1));
+
+        var result = store.nextNotLeased(5, hasState(1));
+
+        assertThat(result).extracting(TestEntity::getId).containsExactly("free");
+        assertThat(store.nextNotLeased(5, hasState(1))).isEmpty();
+    }
+
+    @Test
+    void nextNotLeased_shouldFollowStateTransitions() {
+        store.save(entity("id", 1, 100));
+        store.save(entity("id", 2, 200));
+
+        assertThat(store.nextNotLeased(5, hasState(1))).isEmpty();
+        assertThat(store.nextNotLeased(5, hasState(2))).extracting(TestEntity::getId).containsExactly("id");
+    }
+
+    @Test
+    void nextNotLeased_shouldApplyAdditionalCriteria() {
+        store.save(entity("pending", 1, 100, true));
+        store.save(entity("not-pending", 1, 200, false));
+
+        var result = store.nextNotLeased(5, hasState(1), criterion("pending", "=", false));
+
+        assertThat(result).extracting(TestEntity::getId).containsExactly("not-pending");
+    }
+
+    @Test
+    void nextNotLeased_shouldScanAll_whenNoStateCriterion() {
+        store.save(entity("second", 2, 200));
+        store.save(entity("first", 1, 100));
+
+        var result = store.nextNotLeased(5);
+
+        assertThat(result).extracting(TestEntity::getId).containsExactly("first", "second");
+    }
+
+    @Test
+    void nextNotLeased_shouldLeaseEachEntityOnlyOnce_whenCalledConcurrently() {
+        IntStream.range(0, 1000).forEach(i -> store.save(entity(UUID.randomUUID().toString(), 1, i)));
+        var leased = ConcurrentHashMap.<String>newKeySet();
+
+        var total = IntStream.range(0, 20).parallel()
+                .map(i -> {
+                    var entities = store.nextNotLeased(100, hasState(1));
+                    entities.forEach(e -> leased.add(e.getId()));
+                    return entities.size();
+                })
+                .sum();
+
+        assertThat(total).isEqualTo(1000);
+        assertThat(leased).hasSize(1000);
+    }
+
+    @Test
+    void nextNotLeased_shouldNotReturnStaleEntity_whenSavedBeforeLeaseIsAcquired() {
+        store.save(entity("id", 1, 100));
+        // the clock is read right before the lease is acquired, after the candidate has been read and filtered
+        clock.beforeNextRead(() -> store.save(entity("id", 2, 200)));
+
+        var result = store.nextNotLeased(5, hasState(1));
+
+        assertThat(result).isEmpty();
+        assertThat(store.isLeasedBy("id", "lock-id")).isFalse();
+        assertThat(store.nextNotLeased(5, hasState(2))).extracting(TestEntity::getState).containsExactly(2);
+    }
+
+    @Test
+    void nextNotLeased_shouldReturnCurrentEntity_whenSavedBeforeLeaseIsAcquired() {
+        store.save(entity("id", 1, 100, false));
+        clock.beforeNextRead(() -> store.save(entity("id", 1, 200, false)));
+
+        var result = store.nextNotLeased(5, hasState(1));
+
+        assertThat(result).extracting(TestEntity::getStateTimestamp).containsExactly(200L);
+    }
+
+    @Test
+    void delete_shouldRemoveEntityFromIndex() {
+        store.save(entity("id", 1, 100));
+
+        store.delete("id");
+
+        assertThat(store.nextNotLeased(5, hasState(1))).isEmpty();
+        assertThat(store.findById("id")).isNull();
+    }
+
+    @Test
+    void save_shouldThrow_whenLeasedBySomeoneElse() {
+        store.save(entity("id", 1, 100));
+        store.acquireLease("id", "another-lock", Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> store.save(entity("id", 2, 200))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void renewLease_shouldFail_whenNotLeasedBySelf() {
+        store.save(entity("id", 1, 100));
+
+        assertThat(store.renewLease("id").succeeded()).isFalse();
+
+        assertThat(store.findByIdAndLease("id").succeeded()).isTrue();
+        assertThat(store.renewLease("id").succeeded()).isTrue();
+    }
+
+    private TestEntity entity(String id, int state, long stateTimestamp) {
+        return entity(id, state, stateTimestamp, false);
+    }
+
+    private TestEntity entity(String id, int state, long stateTimestamp, boolean pending) {
+        return TestEntity.Builder.newInstance().id(id).state(state).stateTimestamp(stateTimestamp).pending(pending).build();
+    }
+
+    /**
+     * System clock that runs a hook the next time it is read, used to interleave a write with the lease acquisition.
+     */
+    private static class HookClock extends Clock {
+        private final AtomicReference<Runnable> hook = new AtomicReference<>();
+
+        void beforeNextRead(Runnable runnable) {
+            hook.set(runnable);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            var runnable = hook.getAndSet(null);
+            if (runnable != null) {
+                runnable.run();
+            }
+            return Instant.now();
+        }
+    }
+
+    private static class TestEntity extends StatefulEntity<TestEntity> {
+        @Override
+        public TestEntity copy() {
+            return copy(Builder.newInstance());
+        }
+
+        @Override
+        public String stateAsString() {
+            return String.valueOf(state);
+        }
+
+        private static class Builder extends StatefulEntity.Builder<TestEntity, Builder> {
+
+            private Builder(TestEntity entity) {
+                super(entity);
+            }
+
+            static Builder newInstance() {
+                return new Builder(new TestEntity());
+            }
+
+            @Override
+            public Builder self() {
+                return this;
+            }
+
+            @Override
+            public TestEntity build() {
+                return super.build();
+            }
+        }
+    }
+}
@@ -45,6 +45,10 @@ public class JsonObjectFromQuerySpecTransformer extends AbstractJsonLdTransforme
             builder.add(QuerySpec.EDC_QUERY_SPEC_SORT_FIELD, querySpec.getSortField());
         }
 
+        if (!querySpec.getFields().isEmpty()) {
+            builder.add(QuerySpec.EDC_QUERY_SPEC_FIELDS, jsonFactory.createArrayBuilder(querySpec.getFields()));
+        }
+
         var filterExpressions = querySpec.getFilterExpression().stream()
                 .map(expression -> context.transform(expression, JsonObject.class))
                 .collect(jsonFactory::createArrayBuilder, JsonArrayBuilder::add, JsonArrayBuilder::add)
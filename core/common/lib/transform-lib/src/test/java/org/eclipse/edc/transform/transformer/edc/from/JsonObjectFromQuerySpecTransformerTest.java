@@ -17,6 +17,7 @@ package org.eclipse.edc.transform.transformer.edc.from;
 import jakarta.json.Json;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -49,6 +50,7 @@ class JsonObjectFromQuerySpecTransformerTest {
                 .offset(30)
                 .sortField("field")
                 .sortOrder(SortOrder.DESC)
+                .fields(List.of("id", "state"))
                 .filter(List.of(Criterion.Builder.newInstance().operator("=").operandLeft("test").build()))
                 .build();
 
@@ -66,6 +68,8 @@ class JsonObjectFromQuerySpecTransformerTest {
                 .isNotNull()
                 .isInstanceOf(JsonArray.class)
                 .matches(v -> v.asJsonArray().size() == 1);
+        assertThat(jsonObject.getJsonArray(QuerySpec.EDC_QUERY_SPEC_FIELDS).getValuesAs(JsonString::getString))
+                .containsExactly("id", "state");
 
     }
 
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FIELDS;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -63,6 +64,7 @@ class JsonObjectToQuerySpecTransformerTest {
                 .add(EDC_QUERY_SPEC_FILTER_EXPRESSION, filterExpressionJson)
                 .add(EDC_QUERY_SPEC_SORT_ORDER, "DESC")
                 .add(EDC_QUERY_SPEC_SORT_FIELD, "fieldName")
+                .add(EDC_QUERY_SPEC_FIELDS, Json.createArrayBuilder().add("id").add("state"))
                 .build();
 
         var result = transformer.transform(getExpanded(json), context);
@@ -73,6 +75,7 @@ class JsonObjectToQuerySpecTransformerTest {
         assertThat(result.getFilterExpression()).containsExactly(criterion);
         assertThat(result.getSortOrder()).isEqualTo(DESC);
         assertThat(result.getSortField()).isEqualTo("fieldName");
+        assertThat(result.getFields()).containsExactly("id", "state");
         verify(context).transform(any(), eq(Criterion.class));
     }
 
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.async;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Runs an asynchronous task for every item of an iterator, with at most {@code maxInFlight} tasks running at the same
+ * time. The next item is pulled from the iterator only when a running task completes, so the items don't need to be
+ * held in memory and the iterator can be backed by an unbounded source.
+ * <p>
+ * The execution stops at the first failed result or exceptionally completed task: no further item is pulled and the
+ * tasks still running are cancelled.
+ *
+ * @param <I> the item type.
+ * @param <R> the task result type.
+ */
+public class WindowedExecution<I, R> {
+
+    private final Iterator<I> items;
+    private final int maxInFlight;
+    private final Function<I, CompletableFuture<R>> task;
+    private final Predicate<R> failed;
+    private final Set<CompletableFuture<R>> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private final CompletableFuture<Optional<R>> result = new CompletableFuture<>();
+    private boolean exhausted;
+
+    private WindowedExecution(Iterator<I> items, int maxInFlight, Function<I, CompletableFuture<R>> task, Predicate<R> failed) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Invalid max in flight:" + maxInFlight);
+        }
+        this.items = Objects.requireNonNull(items);
+        this.maxInFlight = maxInFlight;
+        this.task = Objects.requireNonNull(task);
+        this.failed = Objects.requireNonNull(failed);
+    }
+
+    /**
+     * Execute the task on every item.
+     *
+     * @param items the items, pulled lazily.
+     * @param maxInFlight the maximum number of tasks running at the same time.
+     * @param task the task.
+     * @param failed tells if a result is a failure.
+     * @return a future completed with the first failed result, empty if all the results succeeded, or completed
+     *         exceptionally with the exception of the first failed task.
+     */
+    public static <I, R> CompletableFuture<Optional<R>> execute(Iterator<I> items, int maxInFlight, Function<I, CompletableFuture<R>> task, Predicate<R> failed) {
+        var execution = new WindowedExecution<>(items, maxInFlight, task, failed);
+        execution.drain();
+        return execution.result;
+    }
+
+    /**
+     * Fill the window. Only one thread at a time pulls items, a thread calling it while another is draining makes the
+     * latter loop once more.
+     */
+    private void drain() {
+        if (workInProgress.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            try {
+                while (!result.isDone() && !exhausted && inFlight.size() < maxInFlight) {
+                    if (items.hasNext()) {
+                        submit(items.next());
+                    } else {
+                        exhausted = true;
+                    }
+                }
+            } catch (Throwable throwable) {
+                fail(throwable);
+            }
+
+            if (exhausted && inFlight.isEmpty()) {
+                result.complete(Optional.empty());
+            }
+        } while (workInProgress.decrementAndGet() != 0);
+    }
+
+    private void submit(I item) {
+        var future = task.apply(item);
+        inFlight.add(future);
+        future.whenComplete((r, throwable) -> {
+            if (throwable != null) {
+                fail(throwable);
+            } else if (failed.test(r) && result.complete(Optional.of(r))) {
+                cancelInFlight();
+            }
+            inFlight.remove(future);
+            drain();
+        });
+    }
+
+    private void fail(Throwable throwable) {
+        if (result.completeExceptionally(throwable)) {
+            cancelInFlight();
+        }
+    }
+
+    private void cancelInFlight() {
+        inFlight.forEach(future -> future.cancel(true));
+    }
+}
@@ -20,15 +20,32 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 public class ReflectionUtil {
 
-    private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
-    private static final String OPENING_BRACKET = "[";
-    private static final String CLOSING_BRACKET = "]";
+    private static final Pattern ARRAY_INDEXER = Pattern.compile("(.*)\\[([0-9]+)\\]");
+
+    private static final ClassValue<Map<String, Field>> FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            var fields = new HashMap<String, Field>();
+            getAllFieldsRecursive(type).forEach(field -> fields.putIfAbsent(field.getName(), field));
+            return Map.copyOf(fields);
+        }
+    };
+
+    private static final ClassValue<Map<String, Field>> ACCESSIBLE_FIELDS = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     /**
      * Utility function to get value of a field from an object. For field names currently the dot notation and array
@@ -51,32 +68,26 @@ public class ReflectionUtil {
         return getFieldValue(path, object);
     }
 
-    private static <T> T getFieldValue(List<PathItem> path, Object object) {
-        var first = path.get(0);
+    /**
+     * Same as {@link #getFieldValue(String, Object)}, but with a property path that has already been parsed with
+     * {@link PathItem#parse(String)}. Callers that evaluate the same property on many objects should parse it once.
+     *
+     * @param path   The parsed property path, must not be empty
+     * @param object The object
+     * @return The field's value.
+     * @throws ReflectionException if the field does not exist or is not accessible
+     */
+    public static <T> T getFieldValue(List<PathItem> path, Object object) {
+        Objects.requireNonNull(object, "object");
 
-        if (path.size() > 1) {
-            var nested = getFieldValue(List.of(first), object);
-            if (nested == null) {
+        var current = object;
+        for (var item : path) {
+            if (current == null) {
                 return null;
             }
-            var rest = path.stream().skip(1).toList();
-            return getFieldValue(rest, nested);
-        } else if (first.toString().matches(ARRAY_INDEXER_REGEX)) { //array indexer
-            var openingBracketIx = first.toString().indexOf(OPENING_BRACKET);
-            var closingBracketIx = first.toString().indexOf(CLOSING_BRACKET);
-            var propName = first.toString().substring(0, openingBracketIx);
-            var arrayIndex = Integer.parseInt(first.toString().substring(openingBracketIx + 1, closingBracketIx));
-            var iterableObject = (List) getFieldValue("'%s'".formatted(propName), object);
-            return (T) iterableObject.get(arrayIndex);
-        } else {
-            if (object instanceof Map<?, ?> map) {
-                return (T) map.get(first.toString());
-            } else if (object instanceof List<?> list) {
-                return (T) list.stream().filter(Objects::nonNull).map(it -> getRecursiveValue(first.toString(), it)).toList();
-            } else {
-                return getRecursiveValue(first.toString(), object);
-            }
+            current = getPathItemValue(item.toString(), current);
         }
+        return (T) current;
     }
 
     /**
@@ -88,7 +99,7 @@ public class ReflectionUtil {
      * @return A field with the given name, null if the field does not exist
      */
     public static Field getFieldRecursive(Class<?> clazz, String fieldName) {
-        return getAllFieldsRecursive(clazz).stream().filter(f -> f.getName().equals(fieldName)).findFirst().orElse(null);
+        return FIELDS.get(clazz).get(fieldName);
     }
 
     /**
@@ -108,12 +119,36 @@ public class ReflectionUtil {
         return result;
     }
 
+    private static Object getPathItemValue(String item, Object object) {
+        var arrayIndexer = ARRAY_INDEXER.matcher(item);
+        if (arrayIndexer.matches()) {
+            var iterableObject = (List<?>) getSingleValue(arrayIndexer.group(1), object);
+            return iterableObject.get(Integer.parseInt(arrayIndexer.group(2)));
+        }
+        return getSingleValue(item, object);
+    }
+
+    private static Object getSingleValue(String propertyName, Object object) {
+        if (object instanceof Map<?, ?> map) {
+            return map.get(propertyName);
+        } else if (object instanceof List<?> list) {
+            return list.stream().filter(Objects::nonNull).map(it -> getRecursiveValue(propertyName, it)).toList();
+        } else {
+            return getRecursiveValue(propertyName, object);
+        }
+    }
+
     private static <T> T getRecursiveValue(String propertyName, Object object) {
-        var field = getFieldRecursive(object.getClass(), propertyName);
+        var field = ACCESSIBLE_FIELDS.get(object.getClass()).computeIfAbsent(propertyName, name -> {
+            var f = getFieldRecursive(object.getClass(), name);
+            if (f != null) {
+                f.setAccessible(true);
+            }
+            return f;
+        });
         if (field == null) {
             throw new ReflectionException(propertyName);
         }
-        field.setAccessible(true);
         try {
             return (T) field.get(object);
         } catch (IllegalAccessException e) {
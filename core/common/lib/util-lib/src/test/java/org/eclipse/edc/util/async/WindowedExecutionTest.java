@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WindowedExecutionTest {
+
+    private final List<CompletableFuture<Integer>> started = new ArrayList<>();
+
+    @Test
+    void execute_shouldBoundTasksInFlight() {
+        var result = WindowedExecution.execute(items(5), 2, this::start, i -> i < 0);
+
+        assertThat(started).hasSize(2);
+
+        started.get(0).complete(0);
+        assertThat(started).hasSize(3);
+
+        started.get(2).complete(2);
+        started.get(1).complete(1);
+        assertThat(started).hasSize(5);
+        assertThat(result).isNotDone();
+
+        started.get(3).complete(3);
+        started.get(4).complete(4);
+        assertThat(result).isCompletedWithValue(Optional.empty());
+    }
+
+    @Test
+    void execute_shouldComplete_whenNoItems() {
+        var result = WindowedExecution.execute(items(0), 2, this::start, i -> i < 0);
+
+        assertThat(result).isCompletedWithValue(Optional.empty());
+        assertThat(started).isEmpty();
+    }
+
+    @Test
+    void execute_shouldCompleteWithSynchronousTasks() {
+        var result = WindowedExecution.execute(items(1000), 2, i -> completedFuture(i), i -> i < 0);
+
+        assertThat(result).isCompletedWithValue(Optional.empty());
+    }
+
+    @Test
+    void execute_shouldStopAndCancel_whenTaskFails() {
+        var result = WindowedExecution.execute(items(5), 2, this::start, i -> i < 0);
+
+        started.get(0).complete(-1);
+
+        assertThat(result).isCompletedWithValue(Optional.of(-1));
+        assertThat(started).hasSize(2);
+        assertThat(started.get(1)).isCancelled();
+    }
+
+    @Test
+    void execute_shouldStopAndCancel_whenTaskCompletesExceptionally() {
+        var result = WindowedExecution.execute(items(5), 2, this::start, i -> i < 0);
+
+        var exception = new RuntimeException("test");
+        started.get(1).completeExceptionally(exception);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(started).hasSize(2);
+        assertThat(started.get(0)).isCancelled();
+    }
+
+    @Test
+    void execute_shouldFail_whenTaskThrows() {
+        var result = WindowedExecution.<Integer, Integer>execute(items(5), 2, i -> {
+            throw new IllegalStateException("test");
+        }, i -> i < 0);
+
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    void execute_shouldThrow_whenInvalidMaxInFlight() {
+        assertThatThrownBy(() -> WindowedExecution.execute(items(5), 0, this::start, i -> i < 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CompletableFuture<Integer> start(Integer item) {
+        var future = new CompletableFuture<Integer>();
+        started.add(future);
+        return future;
+    }
+
+    private Iterator<Integer> items(int count) {
+        return IntStream.range(0, count).iterator();
+    }
+}
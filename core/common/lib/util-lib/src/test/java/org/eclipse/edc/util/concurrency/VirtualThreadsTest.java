@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadsTest {
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void newVirtualThreadPerTaskExecutor() throws Exception {
+        assertThat(VirtualThreads.isSupported()).isTrue();
+
+        var executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        var future = executor.submit(() -> Thread.currentThread().toString());
+
+        assertThat(future.get(1, TimeUnit.SECONDS)).contains("VirtualThread");
+        executor.shutdown();
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void newVirtualThreadPerTaskExecutor_notSupported() {
+        assertThat(VirtualThreads.isSupported()).isFalse();
+
+        assertThatThrownBy(VirtualThreads::newVirtualThreadPerTaskExecutor).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -135,6 +135,16 @@ class ReflectionUtilTest {
             assertThat(value).isInstanceOf(String.class).isEqualTo("value");
         }
 
+        @Test
+        void getFieldValue_withParsedPath() {
+            var path = PathItem.parse("nestedObjects[1].description");
+            var first = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to1", 420), new TestObject("to2", 69)));
+            var second = new TestObjectWithList("test-desc", 0, List.of(new TestObject("to3", 1), new TestObject("to4", 2)));
+
+            assertThat((String) ReflectionUtil.getFieldValue(path, first)).isEqualTo("to2");
+            assertThat((String) ReflectionUtil.getFieldValue(path, second)).isEqualTo("to4");
+        }
+
         @Test
         void shouldMapValueFromList() {
             var object = Map.of("http://namespace.domain/property", List.of(Map.of("@value", "value")));
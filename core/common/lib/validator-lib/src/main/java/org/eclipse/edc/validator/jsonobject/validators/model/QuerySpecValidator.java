@@ -28,6 +28,7 @@ import java.util.Optional;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FIELDS;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -47,6 +48,7 @@ public class QuerySpecValidator {
                 .verify(EDC_QUERY_SPEC_LIMIT, OptionalValueGreaterZero::new)
                 .verify(EDC_QUERY_SPEC_SORT_ORDER, OptionalValueSortField::new)
                 .verify(EDC_QUERY_SPEC_SORT_FIELD, OptionalValueNotBlank::new)
+                .verify(EDC_QUERY_SPEC_FIELDS, OptionalValuesNotBlank::new)
                 .verifyArrayItem(EDC_QUERY_SPEC_FILTER_EXPRESSION, path -> CriterionValidator.instance(path, criterionOperatorRegistry));
     }
 
@@ -101,6 +103,22 @@ public class QuerySpecValidator {
         }
     }
 
+    private record OptionalValuesNotBlank(JsonLdPath path) implements Validator<JsonObject> {
+
+        @Override
+        public ValidationResult validate(JsonObject input) {
+            var blank = Optional.ofNullable(input.getJsonArray(path.last()))
+                    .map(array -> array.stream().anyMatch(it -> it.asJsonObject().getString(VALUE, "").isBlank()))
+                    .orElse(false);
+
+            if (blank) {
+                return ValidationResult.failure(violation(format("optional values '%s' must not be blank", path), path.toString()));
+            }
+
+            return ValidationResult.success();
+        }
+    }
+
     private record OptionalValueNotBlank(JsonLdPath path) implements Validator<JsonObject> {
 
         @Override
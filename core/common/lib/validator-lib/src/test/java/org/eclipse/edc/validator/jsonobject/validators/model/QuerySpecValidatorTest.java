@@ -28,6 +28,7 @@ import static jakarta.json.Json.createObjectBuilder;
 import static org.assertj.core.api.InstanceOfAssertFactories.list;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FIELDS;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_FILTER_EXPRESSION;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_LIMIT;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_OFFSET;
@@ -113,6 +114,24 @@ class QuerySpecValidatorTest {
                 .asString().contains("blank");
     }
 
+    @Test
+    void shouldFail_whenFieldIsBlank() {
+        var input = Json.createObjectBuilder()
+                .add(EDC_QUERY_SPEC_FIELDS, createArrayBuilder()
+                        .add(createObjectBuilder().add(VALUE, "state"))
+                        .add(createObjectBuilder().add(VALUE, " ")))
+                .build();
+
+        var result = validator.validate(input);
+
+        assertThat(result).isFailed().extracting(ValidationFailure::getViolations).asInstanceOf(list(Violation.class))
+                .filteredOn(v -> v.path().equals(EDC_QUERY_SPEC_FIELDS))
+                .hasSize(1)
+                .first()
+                .extracting(Violation::message)
+                .asString().contains("blank");
+    }
+
     @Test
     void shouldFail_whenFilterExpressionEntryNotValid() {
         var input = Json.createObjectBuilder()
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.definition.observe.ContractDefinitionObservableImpl;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.observe.ContractNegotiationObservable;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ConsumerOfferResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.store.ContractDefinitionStore;
@@ -91,6 +92,9 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject(required = false)
+    private ContractAgreementCache contractAgreementCache;
+
     @Inject
     private Monitor monitor;
 
@@ -205,7 +209,8 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
 
     @Provider
     public ContractAgreementService contractAgreementService() {
-        return new ContractAgreementServiceImpl(contractNegotiationStore, transactionContext);
+        ContractAgreementCache agreementCache = contractAgreementCache != null ? contractAgreementCache : contractNegotiationStore::findContractAgreement;
+        return new ContractAgreementServiceImpl(contractNegotiationStore, transactionContext, agreementCache);
     }
 
     @Provider
@@ -242,7 +247,8 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
 
     @Provider
     public TransferProcessProtocolService transferProcessProtocolService() {
-        return new TransferProcessProtocolServiceImpl(transferProcessStore, transactionContext, contractNegotiationStore,
+        ContractAgreementCache agreementCache = contractAgreementCache != null ? contractAgreementCache : contractNegotiationStore::findContractAgreement;
+        return new TransferProcessProtocolServiceImpl(transferProcessStore, transactionContext, agreementCache,
                 contractValidationService, protocolTokenValidator(), dataAddressValidator, transferProcessObservable, clock,
                 monitor, telemetry, dataFlowManager);
     }
@@ -26,7 +26,9 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 
@@ -68,13 +70,9 @@ public class AssetServiceImpl implements AssetService {
 
     @Override
     public ServiceResult<Asset> create(Asset asset) {
-        if (asset.hasDuplicatePropertyKeys()) {
-            return ServiceResult.badRequest(DUPLICATED_KEYS_MESSAGE);
-        }
-
-        var validDataAddress = dataAddressValidator.validateSource(asset.getDataAddress());
-        if (validDataAddress.failed()) {
-            return ServiceResult.badRequest(validDataAddress.getFailureMessages());
+        var validation = validate(asset);
+        if (validation.failed()) {
+            return validation.mapFailure();
         }
 
         return transactionContext.execute(() -> {
@@ -90,15 +88,9 @@ public class AssetServiceImpl implements AssetService {
     @Override
     public ServiceResult<Asset> delete(String assetId) {
         return transactionContext.execute(() -> {
-
-            var query = QuerySpec.Builder.newInstance()
-                    .filter(List.of(new Criterion(ASSET_ID_QUERY, "=", assetId)))
-                    .build();
-
-            try (var negotiationsOnAsset = contractNegotiationStore.queryNegotiations(query)) {
-                if (negotiationsOnAsset.findAny().isPresent()) {
-                    return ServiceResult.conflict(format("Asset %s cannot be deleted as it is referenced by at least one contract agreement", assetId));
-                }
+            var referenced = checkNotReferenced(assetId);
+            if (referenced.failed()) {
+                return referenced.mapFailure();
             }
 
             var deleted = index.deleteById(assetId);
@@ -109,6 +101,98 @@ public class AssetServiceImpl implements AssetService {
 
     @Override
     public ServiceResult<Asset> update(Asset asset) {
+        var validation = validate(asset);
+        if (validation.failed()) {
+            return validation.mapFailure();
+        }
+
+        return transactionContext.execute(() -> {
+            var updatedAsset = index.updateAsset(asset);
+            updatedAsset.onSuccess(a -> observable.invokeForEach(l -> l.updated(a)));
+            return ServiceResult.from(updatedAsset);
+        });
+    }
+
+    @Override
+    public List<ServiceResult<Asset>> createAll(List<Asset> assets) {
+        var validations = assets.stream().map(this::validate).toList();
+        var validAssets = IntStream.range(0, assets.size()).filter(i -> validations.get(i).succeeded()).mapToObj(assets::get).toList();
+
+        return transactionContext.execute(() -> {
+            var stored = index.createAll(validAssets).iterator();
+            var results = new ArrayList<ServiceResult<Asset>>(assets.size());
+            for (var i = 0; i < assets.size(); i++) {
+                var validation = validations.get(i);
+                if (validation.failed()) {
+                    results.add(validation.mapFailure());
+                    continue;
+                }
+                var asset = assets.get(i);
+                var createResult = stored.next();
+                if (createResult.succeeded()) {
+                    observable.invokeForEach(l -> l.created(asset));
+                    results.add(ServiceResult.success(asset));
+                } else {
+                    results.add(ServiceResult.fromFailure(createResult));
+                }
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<ServiceResult<Asset>> upsertAll(List<Asset> assets) {
+        var validations = assets.stream().map(this::validate).toList();
+        var validAssets = IntStream.range(0, assets.size()).filter(i -> validations.get(i).succeeded()).mapToObj(assets::get).toList();
+
+        return transactionContext.execute(() -> {
+            var stored = index.upsertAll(validAssets).iterator();
+            var results = new ArrayList<ServiceResult<Asset>>(assets.size());
+            for (var i = 0; i < assets.size(); i++) {
+                var validation = validations.get(i);
+                if (validation.failed()) {
+                    results.add(validation.mapFailure());
+                    continue;
+                }
+                var asset = assets.get(i);
+                var upsertResult = stored.next();
+                if (upsertResult.succeeded()) {
+                    if (upsertResult.getContent()) {
+                        observable.invokeForEach(l -> l.created(asset));
+                    } else {
+                        observable.invokeForEach(l -> l.updated(asset));
+                    }
+                    results.add(ServiceResult.success(asset));
+                } else {
+                    results.add(ServiceResult.fromFailure(upsertResult));
+                }
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<ServiceResult<Asset>> deleteAll(List<String> assetIds) {
+        return transactionContext.execute(() -> {
+            var checks = assetIds.stream().map(this::checkNotReferenced).toList();
+            var deletable = IntStream.range(0, assetIds.size()).filter(i -> checks.get(i).succeeded()).mapToObj(assetIds::get).toList();
+
+            var deleted = index.deleteAll(deletable).iterator();
+            var results = new ArrayList<ServiceResult<Asset>>(assetIds.size());
+            for (var check : checks) {
+                if (check.failed()) {
+                    results.add(check.mapFailure());
+                    continue;
+                }
+                var deleteResult = deleted.next();
+                deleteResult.onSuccess(a -> observable.invokeForEach(l -> l.deleted(a)));
+                results.add(ServiceResult.from(deleteResult));
+            }
+            return results;
+        });
+    }
+
+    private ServiceResult<Void> validate(Asset asset) {
         if (asset.hasDuplicatePropertyKeys()) {
             return ServiceResult.badRequest(DUPLICATED_KEYS_MESSAGE);
         }
@@ -117,16 +201,24 @@ public class AssetServiceImpl implements AssetService {
         if (validDataAddress.failed()) {
             return ServiceResult.badRequest(validDataAddress.getFailureMessages());
         }
+        return ServiceResult.success();
+    }
 
-        return transactionContext.execute(() -> {
-            var updatedAsset = index.updateAsset(asset);
-            updatedAsset.onSuccess(a -> observable.invokeForEach(l -> l.updated(a)));
-            return ServiceResult.from(updatedAsset);
-        });
+    private ServiceResult<Void> checkNotReferenced(String assetId) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion(ASSET_ID_QUERY, "=", assetId)))
+                .build();
+
+        try (var negotiationsOnAsset = contractNegotiationStore.queryNegotiations(query)) {
+            if (negotiationsOnAsset.findAny().isPresent()) {
+                return ServiceResult.conflict(format("Asset %s cannot be deleted as it is referenced by at least one contract agreement", assetId));
+            }
+        }
+        return ServiceResult.success();
     }
 
     private List<Asset> queryAssets(QuerySpec query) {
-        return transactionContext.execute(() -> {
+        return transactionContext.executeReadOnly(() -> {
             try (var stream = index.queryAssets(query)) {
                 return stream.toList();
             }
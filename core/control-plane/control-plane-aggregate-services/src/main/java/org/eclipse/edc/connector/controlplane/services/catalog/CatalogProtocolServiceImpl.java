@@ -30,6 +30,10 @@ import org.jetbrains.annotations.NotNull;
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 
+/**
+ * Serves the catalog to the counter-parties. The protocol token is verified before the transaction is opened, so that
+ * no database connection is held while the identity service validates the token.
+ */
 public class CatalogProtocolServiceImpl implements CatalogProtocolService {
 
     @PolicyScope
@@ -60,8 +64,8 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     @Override
     @NotNull
     public ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE, message)
-                .map(agent -> {
+        return protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE, message)
+                .map(agent -> transactionContext.executeReadOnly(() -> {
                     try (var datasets = datasetResolver.query(agent, message.getQuerySpec())) {
                         var dataServices = dataServiceRegistry.getDataServices();
 
@@ -72,21 +76,20 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
                                 .property(EDC_PROPERTY_PARTICIPANT_ID, participantId)
                                 .build();
                     }
-                })
-        );
+                }));
     }
 
     @Override
     public @NotNull ServiceResult<Dataset> getDataset(String datasetId, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE)
-                .map(agent -> datasetResolver.getById(agent, datasetId))
+        return protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE)
+                .map(agent -> transactionContext.executeReadOnly(() -> datasetResolver.getById(agent, datasetId)))
                 .compose(dataset -> {
                     if (dataset == null) {
                         return ServiceResult.notFound(format("Dataset %s does not exist", datasetId));
                     }
 
                     return ServiceResult.success(dataset);
-                }));
+                });
     }
 
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.controlplane.services.contractagreement;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
@@ -32,16 +33,22 @@ public class ContractAgreementServiceImpl implements ContractAgreementService {
     private final ContractNegotiationStore store;
     private final TransactionContext transactionContext;
     private final QueryValidator queryValidator;
+    private final ContractAgreementCache agreementCache;
 
     public ContractAgreementServiceImpl(ContractNegotiationStore store, TransactionContext transactionContext) {
+        this(store, transactionContext, store::findContractAgreement);
+    }
+
+    public ContractAgreementServiceImpl(ContractNegotiationStore store, TransactionContext transactionContext, ContractAgreementCache agreementCache) {
         this.store = store;
         this.transactionContext = transactionContext;
+        this.agreementCache = agreementCache;
         queryValidator = new QueryValidator(ContractAgreement.class);
     }
 
     @Override
     public ContractAgreement findById(String contractAgreementId) {
-        return transactionContext.execute(() -> store.findContractAgreement(contractAgreementId));
+        return transactionContext.execute(() -> agreementCache.findContractAgreement(contractAgreementId));
     }
 
     @Override
@@ -61,7 +68,7 @@ public class ContractAgreementServiceImpl implements ContractAgreementService {
     }
 
     private List<ContractAgreement> queryAgreements(QuerySpec query) {
-        return transactionContext.execute(() -> {
+        return transactionContext.executeReadOnly(() -> {
             try (var stream = store.queryAgreements(query)) {
                 return stream.toList();
             }
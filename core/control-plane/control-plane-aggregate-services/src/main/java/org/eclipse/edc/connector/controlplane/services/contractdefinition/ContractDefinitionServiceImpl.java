@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.lang.String.format;
@@ -88,8 +89,61 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
         });
     }
 
-    private List<ContractDefinition> queryContractDefinitions(QuerySpec query) {
+    @Override
+    public List<ServiceResult<ContractDefinition>> createAll(List<ContractDefinition> contractDefinitions) {
+        return transactionContext.execute(() -> {
+            var stored = store.saveAll(contractDefinitions);
+            var results = new ArrayList<ServiceResult<ContractDefinition>>(contractDefinitions.size());
+            for (var i = 0; i < contractDefinitions.size(); i++) {
+                var contractDefinition = contractDefinitions.get(i);
+                var saveResult = stored.get(i);
+                if (saveResult.succeeded()) {
+                    observable.invokeForEach(l -> l.created(contractDefinition));
+                    results.add(ServiceResult.success(contractDefinition));
+                } else {
+                    results.add(ServiceResult.fromFailure(saveResult));
+                }
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<ServiceResult<ContractDefinition>> upsertAll(List<ContractDefinition> contractDefinitions) {
         return transactionContext.execute(() -> {
+            var stored = store.upsertAll(contractDefinitions);
+            var results = new ArrayList<ServiceResult<ContractDefinition>>(contractDefinitions.size());
+            for (var i = 0; i < contractDefinitions.size(); i++) {
+                var contractDefinition = contractDefinitions.get(i);
+                var upsertResult = stored.get(i);
+                if (upsertResult.succeeded()) {
+                    if (upsertResult.getContent()) {
+                        observable.invokeForEach(l -> l.created(contractDefinition));
+                    } else {
+                        observable.invokeForEach(l -> l.updated(contractDefinition));
+                    }
+                    results.add(ServiceResult.success(contractDefinition));
+                } else {
+                    results.add(ServiceResult.fromFailure(upsertResult));
+                }
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<ServiceResult<ContractDefinition>> deleteAll(List<String> contractDefinitionIds) {
+        return transactionContext.execute(() -> store.deleteAll(contractDefinitionIds).stream()
+                .map(deleteResult -> {
+                    var serviceResult = ServiceResult.from(deleteResult);
+                    serviceResult.onSuccess(deleted -> observable.invokeForEach(l -> l.deleted(deleted)));
+                    return serviceResult;
+                })
+                .toList());
+    }
+
+    private List<ContractDefinition> queryContractDefinitions(QuerySpec query) {
+        return transactionContext.executeReadOnly(() -> {
             try (var stream = store.findAll(query)) {
                 return stream.toList();
             }
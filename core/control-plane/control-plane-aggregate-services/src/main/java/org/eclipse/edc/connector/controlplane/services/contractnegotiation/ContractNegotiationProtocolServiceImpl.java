@@ -50,6 +50,11 @@ import java.util.function.Function;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation.Type.CONSUMER;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation.Type.PROVIDER;
 
+/**
+ * Handles the contract negotiation protocol messages. The protocol token is verified with no transaction open, so that
+ * no database connection is held while the identity service validates the token: the negotiation is read in a first
+ * transaction and the state changes are applied in a second one.
+ */
 public class ContractNegotiationProtocolServiceImpl implements ContractNegotiationProtocolService {
 
     @PolicyScope
@@ -85,34 +90,33 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyRequested(ContractRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchValidatableOffer(message)
+        return transactionContext.execute(() -> fetchValidatableOffer(message))
                 .compose(validatableOffer -> verifyRequest(tokenRepresentation, validatableOffer.getContractPolicy(), message)
-                        .compose(agent -> validateOffer(agent, validatableOffer))
-                        .compose(validatedOffer -> {
-                            var result = message.getProviderPid() == null
-                                    ? createNegotiation(message, validatedOffer.getConsumerIdentity(), PROVIDER, message.getCallbackAddress())
-                                    : getAndLeaseNegotiation(message.getProviderPid());
-
-                            return result.onSuccess(negotiation -> {
-                                if (negotiation.shouldIgnoreIncomingMessage(message.getId())) {
-                                    return;
-                                }
-                                negotiation.protocolMessageReceived(message.getId());
-                                negotiation.addContractOffer(validatedOffer.getOffer());
-                                negotiation.transitionRequested();
-                                update(negotiation);
-                                observable.invokeForEach(l -> l.requested(negotiation));
-                            });
-                        })
-                ));
+                        .compose(agent -> validateOffer(agent, validatableOffer)))
+                .compose(validatedOffer -> transactionContext.execute(() -> {
+                    var result = message.getProviderPid() == null
+                            ? createNegotiation(message, validatedOffer.getConsumerIdentity(), PROVIDER, message.getCallbackAddress())
+                            : getAndLeaseNegotiation(message.getProviderPid());
+
+                    return result.onSuccess(negotiation -> {
+                        if (negotiation.shouldIgnoreIncomingMessage(message.getId())) {
+                            return;
+                        }
+                        negotiation.protocolMessageReceived(message.getId());
+                        negotiation.addContractOffer(validatedOffer.getOffer());
+                        negotiation.transitionRequested();
+                        update(negotiation);
+                        observable.invokeForEach(l -> l.requested(negotiation));
+                    });
+                }));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyOffered(ContractOfferMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> verifyRequest(tokenRepresentation, message.getContractOffer().getPolicy(), message)
-                .compose(agent -> {
+        return verifyRequest(tokenRepresentation, message.getContractOffer().getPolicy(), message)
+                .compose(agent -> transactionContext.execute(() -> {
                     ServiceResult<ContractNegotiation> result = message.getConsumerPid() == null
                             ? createNegotiation(message, agent.getIdentity(), CONSUMER, message.getCallbackAddress())
                             : getAndLeaseNegotiation(message.getProviderPid())
@@ -135,10 +139,10 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAccepted(ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> acceptedAction(message, contractNegotiation))));
+                .compose(cn -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> acceptedAction(message, contractNegotiation))));
 
     }
 
@@ -146,50 +150,50 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyAgreed(ContractAgreementMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> validateAgreed(message, agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> agreedAction(message, contractNegotiation))));
+                .compose(cn -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> agreedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyVerified(ContractAgreementVerificationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> verifiedAction(message, contractNegotiation))));
+                .compose(cn -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> verifiedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyFinalized(ContractNegotiationEventMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> finalizedAction(message, contractNegotiation))));
+                .compose(cn -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> finalizedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> notifyTerminated(ContractNegotiationTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(message.getProcessId())
+        return transactionContext.execute(() -> getNegotiation(message.getProcessId()))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), message)
                         .compose(agent -> validateRequest(agent, contractNegotiation)))
-                .compose(cn -> onMessageDo(message, contractNegotiation -> terminatedAction(message, contractNegotiation))));
+                .compose(cn -> transactionContext.execute(() -> onMessageDo(message, contractNegotiation -> terminatedAction(message, contractNegotiation))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<ContractNegotiation> findById(String id, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> getNegotiation(id)
+        return transactionContext.execute(() -> getNegotiation(id))
                 .compose(contractNegotiation -> verifyRequest(tokenRepresentation, contractNegotiation.getLastContractOffer().getPolicy(), null)
                         .compose(agent -> validateRequest(agent, contractNegotiation)
-                                .map(it -> contractNegotiation))));
+                                .map(it -> contractNegotiation)));
     }
 
     @NotNull
@@ -30,6 +30,7 @@ import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -65,6 +66,33 @@ public class ContractNegotiationServiceImpl implements ContractNegotiationServic
                 );
     }
 
+    @Override
+    public ServiceResult<List<ContractNegotiation>> searchArchived(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : ServiceResult.success(queryArchivedNegotiations(query))
+                );
+    }
+
+    @Override
+    public ServiceResult<Long> count(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : ServiceResult.success(transactionContext.executeReadOnly(() -> store.countNegotiations(query)))
+                );
+    }
+
+    @Override
+    public ServiceResult<Void> forEach(QuerySpec query, Consumer<ContractNegotiation> consumer) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : forEachNegotiation(query, consumer)
+                );
+    }
+
     @Override
     public String getState(String negotiationId) {
         return Optional.of(negotiationId)
@@ -92,11 +120,28 @@ public class ContractNegotiationServiceImpl implements ContractNegotiationServic
     }
 
     private List<ContractNegotiation> queryNegotiations(QuerySpec query) {
-        return transactionContext.execute(() -> {
+        return transactionContext.executeReadOnly(() -> {
             try (var stream = store.queryNegotiations(query)) {
                 return stream.toList();
             }
         });
     }
 
+    private ServiceResult<Void> forEachNegotiation(QuerySpec query, Consumer<ContractNegotiation> consumer) {
+        transactionContext.executeReadOnly(() -> {
+            try (var stream = store.queryNegotiations(query)) {
+                stream.forEach(consumer);
+            }
+        });
+        return ServiceResult.success();
+    }
+
+    private List<ContractNegotiation> queryArchivedNegotiations(QuerySpec query) {
+        return transactionContext.executeReadOnly(() -> {
+            try (var stream = store.queryArchivedNegotiations(query)) {
+                return stream.toList();
+            }
+        });
+    }
+
 }
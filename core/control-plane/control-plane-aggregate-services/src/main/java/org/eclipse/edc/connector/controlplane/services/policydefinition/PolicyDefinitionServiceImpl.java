@@ -33,8 +33,10 @@ import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
@@ -74,22 +76,9 @@ public class PolicyDefinitionServiceImpl implements PolicyDefinitionService {
     @Override
     public @NotNull ServiceResult<PolicyDefinition> deleteById(String policyId) {
         return transactionContext.execute(() -> {
-
-            var contractFilter = criterion("contractPolicyId", "=", policyId);
-            var accessFilter = criterion("accessPolicyId", "=", policyId);
-
-            var queryContractPolicyFilter = QuerySpec.Builder.newInstance().filter(contractFilter).build();
-            try (var contractDefinitionOnPolicy = contractDefinitionStore.findAll(queryContractPolicyFilter)) {
-                if (contractDefinitionOnPolicy.findAny().isPresent()) {
-                    return ServiceResult.conflict(format("PolicyDefinition %s cannot be deleted as it is referenced by at least one contract definition", policyId));
-                }
-            }
-
-            var queryAccessPolicyFilter = QuerySpec.Builder.newInstance().filter(accessFilter).build();
-            try (var accessDefinitionOnPolicy = contractDefinitionStore.findAll(queryAccessPolicyFilter)) {
-                if (accessDefinitionOnPolicy.findAny().isPresent()) {
-                    return ServiceResult.conflict(format("PolicyDefinition %s cannot be deleted as it is referenced by at least one contract definition", policyId));
-                }
+            var referenced = checkNotReferenced(policyId);
+            if (referenced.failed()) {
+                return referenced.mapFailure();
             }
 
             var deleted = policyStore.delete(policyId);
@@ -117,8 +106,91 @@ public class PolicyDefinitionServiceImpl implements PolicyDefinitionService {
         });
     }
 
-    private List<PolicyDefinition> queryPolicyDefinitions(QuerySpec query) {
+    @Override
+    public List<ServiceResult<PolicyDefinition>> createAll(List<PolicyDefinition> policyDefinitions) {
+        return transactionContext.execute(() -> {
+            var stored = policyStore.createAll(policyDefinitions);
+            var results = new ArrayList<ServiceResult<PolicyDefinition>>(policyDefinitions.size());
+            for (var i = 0; i < policyDefinitions.size(); i++) {
+                var policyDefinition = policyDefinitions.get(i);
+                var createResult = stored.get(i);
+                if (createResult.succeeded()) {
+                    observable.invokeForEach(l -> l.created(policyDefinition));
+                    results.add(ServiceResult.success(policyDefinition));
+                } else {
+                    results.add(ServiceResult.fromFailure(createResult));
+                }
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<ServiceResult<PolicyDefinition>> upsertAll(List<PolicyDefinition> policyDefinitions) {
+        return transactionContext.execute(() -> {
+            var stored = policyStore.upsertAll(policyDefinitions);
+            var results = new ArrayList<ServiceResult<PolicyDefinition>>(policyDefinitions.size());
+            for (var i = 0; i < policyDefinitions.size(); i++) {
+                var policyDefinition = policyDefinitions.get(i);
+                var upsertResult = stored.get(i);
+                if (upsertResult.succeeded()) {
+                    if (upsertResult.getContent()) {
+                        observable.invokeForEach(l -> l.created(policyDefinition));
+                    } else {
+                        observable.invokeForEach(l -> l.updated(policyDefinition));
+                    }
+                    results.add(ServiceResult.success(policyDefinition));
+                } else {
+                    results.add(ServiceResult.fromFailure(upsertResult));
+                }
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public List<ServiceResult<PolicyDefinition>> deleteAll(List<String> policyIds) {
         return transactionContext.execute(() -> {
+            var checks = policyIds.stream().map(this::checkNotReferenced).toList();
+            var deletable = IntStream.range(0, policyIds.size()).filter(i -> checks.get(i).succeeded()).mapToObj(policyIds::get).toList();
+
+            var deleted = policyStore.deleteAll(deletable).iterator();
+            var results = new ArrayList<ServiceResult<PolicyDefinition>>(policyIds.size());
+            for (var check : checks) {
+                if (check.failed()) {
+                    results.add(check.mapFailure());
+                    continue;
+                }
+                var deleteResult = deleted.next();
+                deleteResult.onSuccess(pd -> observable.invokeForEach(l -> l.deleted(pd)));
+                results.add(ServiceResult.from(deleteResult));
+            }
+            return results;
+        });
+    }
+
+    private ServiceResult<Void> checkNotReferenced(String policyId) {
+        var contractFilter = criterion("contractPolicyId", "=", policyId);
+        var accessFilter = criterion("accessPolicyId", "=", policyId);
+
+        var queryContractPolicyFilter = QuerySpec.Builder.newInstance().filter(contractFilter).build();
+        try (var contractDefinitionOnPolicy = contractDefinitionStore.findAll(queryContractPolicyFilter)) {
+            if (contractDefinitionOnPolicy.findAny().isPresent()) {
+                return ServiceResult.conflict(format("PolicyDefinition %s cannot be deleted as it is referenced by at least one contract definition", policyId));
+            }
+        }
+
+        var queryAccessPolicyFilter = QuerySpec.Builder.newInstance().filter(accessFilter).build();
+        try (var accessDefinitionOnPolicy = contractDefinitionStore.findAll(queryAccessPolicyFilter)) {
+            if (accessDefinitionOnPolicy.findAny().isPresent()) {
+                return ServiceResult.conflict(format("PolicyDefinition %s cannot be deleted as it is referenced by at least one contract definition", policyId));
+            }
+        }
+        return ServiceResult.success();
+    }
+
+    private List<PolicyDefinition> queryPolicyDefinitions(QuerySpec query) {
+        return transactionContext.executeReadOnly(() -> {
             try (var stream = policyStore.findAll(query)) {
                 return stream.toList();
             }
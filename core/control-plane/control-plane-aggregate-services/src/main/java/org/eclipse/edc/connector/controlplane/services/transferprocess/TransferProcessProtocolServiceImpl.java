@@ -16,6 +16,7 @@
 package org.eclipse.edc.connector.controlplane.services.transferprocess;
 
 import io.opentelemetry.instrumentation.annotations.WithSpan;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.validation.ContractValidationService;
@@ -55,6 +56,11 @@ import static org.eclipse.edc.connector.controlplane.transfer.spi.types.Transfer
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess.Type.PROVIDER;
 import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.SUSPENDED;
 
+/**
+ * Handles the transfer process protocol messages. The transfer process and the agreement are read in a first
+ * transaction, the protocol token is then verified with no transaction open, and the state changes are applied in a
+ * second transaction, so that no database connection is held while the identity service validates the token.
+ */
 public class TransferProcessProtocolServiceImpl implements TransferProcessProtocolService {
 
     @PolicyScope
@@ -62,7 +68,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
 
     private final TransferProcessStore transferProcessStore;
     private final TransactionContext transactionContext;
-    private final ContractNegotiationStore negotiationStore;
+    private final ContractAgreementCache agreementCache;
     private final ContractValidationService contractValidationService;
     private final DataAddressValidatorRegistry dataAddressValidator;
     private final TransferProcessObservable observable;
@@ -78,9 +84,19 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
                                               ProtocolTokenValidator protocolTokenValidator,
                                               DataAddressValidatorRegistry dataAddressValidator, TransferProcessObservable observable,
                                               Clock clock, Monitor monitor, Telemetry telemetry, DataFlowManager dataFlowManager) {
+        this(transferProcessStore, transactionContext, (ContractAgreementCache) negotiationStore::findContractAgreement, contractValidationService,
+                protocolTokenValidator, dataAddressValidator, observable, clock, monitor, telemetry, dataFlowManager);
+    }
+
+    public TransferProcessProtocolServiceImpl(TransferProcessStore transferProcessStore,
+                                              TransactionContext transactionContext, ContractAgreementCache agreementCache,
+                                              ContractValidationService contractValidationService,
+                                              ProtocolTokenValidator protocolTokenValidator,
+                                              DataAddressValidatorRegistry dataAddressValidator, TransferProcessObservable observable,
+                                              Clock clock, Monitor monitor, Telemetry telemetry, DataFlowManager dataFlowManager) {
         this.transferProcessStore = transferProcessStore;
         this.transactionContext = transactionContext;
-        this.negotiationStore = negotiationStore;
+        this.agreementCache = agreementCache;
         this.contractValidationService = contractValidationService;
         this.protocolTokenValidator = protocolTokenValidator;
         this.dataAddressValidator = dataAddressValidator;
@@ -95,58 +111,54 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyRequested(TransferRequestMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchNotifyRequestContext(message)
+        return transactionContext.execute(() -> fetchNotifyRequestContext(message))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
                 .compose(context -> validateDestination(message, context))
                 .compose(context -> validateAgreement(message, context))
-                .compose(context -> requestedAction(message, context.agreement().getAssetId())));
+                .compose(context -> transactionContext.execute(() -> requestedAction(message, context.agreement().getAssetId())));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyStarted(TransferStartMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
-                .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> startedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> startedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyCompleted(TransferCompletionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
-                .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> completedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> completedAction(message, transferProcess))));
     }
 
     @Override
     public @NotNull ServiceResult<TransferProcess> notifySuspended(TransferSuspensionMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
-                .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> suspendedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> suspendedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> notifyTerminated(TransferTerminationMessage message, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess)
+        return transactionContext.execute(() -> fetchRequestContext(message, this::findTransferProcess))
                 .compose(context -> verifyRequest(tokenRepresentation, context, message))
-                .compose(context -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> terminatedAction(message, transferProcess)))
-        );
+                .compose(context -> transactionContext.execute(() -> onMessageDo(message, context.participantAgent(), context.agreement(), transferProcess -> terminatedAction(message, transferProcess))));
     }
 
     @Override
     @WithSpan
     @NotNull
     public ServiceResult<TransferProcess> findById(String id, TokenRepresentation tokenRepresentation) {
-        return transactionContext.execute(() -> fetchRequestContext(id, this::findTransferProcessById)
+        return transactionContext.execute(() -> fetchRequestContext(id, this::findTransferProcessById))
                 .compose(context -> verifyRequest(tokenRepresentation, context, null))
-                .compose(context -> validateCounterParty(context.participantAgent(), context.agreement(), context.transferProcess())));
+                .compose(context -> validateCounterParty(context.participantAgent(), context.agreement(), context.transferProcess()));
     }
 
     @NotNull
@@ -267,7 +279,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     }
 
     private ServiceResult<TransferRequestMessageContext> fetchNotifyRequestContext(TransferRequestMessage message) {
-        return Optional.ofNullable(negotiationStore.findContractAgreement(message.getContractId()))
+        return Optional.ofNullable(agreementCache.findContractAgreement(message.getContractId()))
                 .map(contractAgreement -> new TransferRequestMessageContext(contractAgreement, null))
                 .map(ServiceResult::success)
                 .orElseGet(() -> ServiceResult.notFound(format("Cannot process %s because %s", message.getClass().getSimpleName(), "agreement not found or not valid")));
@@ -288,7 +300,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     }
 
     private ServiceResult<ContractAgreement> findContractByTransferProcess(TransferProcess transferProcess) {
-        var agreement = negotiationStore.findContractAgreement(transferProcess.getContractId());
+        var agreement = agreementCache.findContractAgreement(transferProcess.getContractId());
         if (agreement == null) {
             return ServiceResult.notFound(format("No transfer process with id %s found", transferProcess.getId()));
         }
@@ -51,6 +51,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static java.lang.String.format;
 
@@ -92,6 +93,33 @@ public class TransferProcessServiceImpl implements TransferProcessService {
                 );
     }
 
+    @Override
+    public ServiceResult<List<TransferProcess>> searchArchived(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : ServiceResult.success(queryArchivedTransferProcesses(query))
+                );
+    }
+
+    @Override
+    public ServiceResult<Long> count(QuerySpec query) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : ServiceResult.success(transactionContext.executeReadOnly(() -> transferProcessStore.count(query)))
+                );
+    }
+
+    @Override
+    public ServiceResult<Void> forEach(QuerySpec query, Consumer<TransferProcess> consumer) {
+        return queryValidator.validate(query)
+                .flatMap(validation -> validation.failed()
+                        ? ServiceResult.badRequest(format("Error validating schema: %s", validation.getFailureDetail()))
+                        : forEachTransferProcess(query, consumer)
+                );
+    }
+
     @Override
     public @Nullable String getState(String transferProcessId) {
         return transactionContext.execute(() -> {
@@ -166,8 +194,25 @@ public class TransferProcessServiceImpl implements TransferProcessService {
     }
 
     private List<TransferProcess> queryTransferProcesses(QuerySpec query) {
-        return transactionContext.execute(() -> {
+        return transactionContext.executeReadOnly(() -> {
+            try (var stream = transferProcessStore.findAll(query)) {
+                return stream.toList();
+            }
+        });
+    }
+
+    private ServiceResult<Void> forEachTransferProcess(QuerySpec query, Consumer<TransferProcess> consumer) {
+        transactionContext.executeReadOnly(() -> {
             try (var stream = transferProcessStore.findAll(query)) {
+                stream.forEach(consumer);
+            }
+        });
+        return ServiceResult.success();
+    }
+
+    private List<TransferProcess> queryArchivedTransferProcesses(QuerySpec query) {
+        return transactionContext.executeReadOnly(() -> {
+            try (var stream = transferProcessStore.findAllArchived(query)) {
                 return stream.toList();
             }
         });
@@ -44,6 +44,7 @@ import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -266,6 +267,71 @@ class AssetServiceImplTest {
         verifyNoInteractions(index);
     }
 
+    @Test
+    void createAll_shouldStoreValidAssetsInOneCall_andReportInvalidOnesPerItem() {
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success());
+        var valid = createAsset("valid");
+        var duplicated = createAssetBuilder("duplicated").property("property", "value").privateProperty("property", "other-value").build();
+        var existing = createAsset("existing");
+        when(index.createAll(List.of(valid, existing))).thenReturn(List.of(StoreResult.success(), StoreResult.alreadyExists("exists")));
+
+        var results = service.createAll(List.of(valid, duplicated, existing));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isSucceeded().matches(hasId("valid"));
+        assertThat(results.get(1)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        assertThat(results.get(2)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        verify(index).createAll(List.of(valid, existing));
+        verify(observable, times(1)).invokeForEach(any());
+    }
+
+    @Test
+    void upsertAll_shouldNotifyCreatedOrUpdated() {
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.success());
+        var created = createAsset("created");
+        var updated = createAsset("updated");
+        when(index.upsertAll(List.of(created, updated))).thenReturn(List.of(StoreResult.success(true), StoreResult.success(false)));
+
+        var results = service.upsertAll(List.of(created, updated));
+
+        assertThat(results).hasSize(2).allSatisfy(result -> assertThat(result).isSucceeded());
+        verify(observable, times(2)).invokeForEach(any());
+    }
+
+    @Test
+    void upsertAll_shouldNotStoreAsset_whenDataAddressInvalid() {
+        var asset = createAsset("assetId");
+        when(dataAddressValidator.validateSource(any())).thenReturn(ValidationResult.failure(violation("invalid data address", "path")));
+        when(index.upsertAll(List.of())).thenReturn(List.of());
+
+        var results = service.upsertAll(List.of(asset));
+
+        assertThat(results).hasSize(1).first().satisfies(result -> assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST));
+        verify(index).upsertAll(List.of());
+        verifyNoInteractions(observable);
+    }
+
+    @Test
+    void deleteAll_shouldNotDeleteAssetsReferencedByAnAgreement() {
+        var referencedQuery = QuerySpec.Builder.newInstance().filter(List.of(new Criterion("contractAgreement.assetId", "=", "referenced"))).build();
+        when(contractNegotiationStore.queryNegotiations(any())).thenReturn(Stream.empty());
+        when(contractNegotiationStore.queryNegotiations(referencedQuery)).thenReturn(Stream.of(ContractNegotiation.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .counterPartyId(UUID.randomUUID().toString())
+                .counterPartyAddress("address")
+                .protocol("protocol")
+                .build()));
+        when(index.deleteAll(List.of("free"))).thenReturn(List.of(StoreResult.success(createAsset("free"))));
+
+        var results = service.deleteAll(List.of("referenced", "free"));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        assertThat(results.get(1)).isSucceeded().matches(hasId("free"));
+        verify(index).deleteAll(List.of("free"));
+        verify(observable, times(1)).invokeForEach(any());
+    }
+
     private static class InvalidFilters implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
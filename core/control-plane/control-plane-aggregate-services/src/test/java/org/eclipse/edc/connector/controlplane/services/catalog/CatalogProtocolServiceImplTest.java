@@ -45,6 +45,7 @@ import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNAUTHORIZED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -99,7 +100,7 @@ class CatalogProtocolServiceImplTest {
                 assertThat(catalog.getParticipantId()).isEqualTo("participantId");
             });
             verify(datasetResolver).query(eq(participantAgent), eq(querySpec));
-            verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+            verify(transactionContext).executeReadOnly(any(TransactionContext.ResultTransactionBlock.class));
         }
 
         @Test
@@ -113,6 +114,7 @@ class CatalogProtocolServiceImplTest {
             var result = service.getCatalog(message, tokenRepresentation);
 
             assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNAUTHORIZED);
+            verify(transactionContext, never()).executeReadOnly(any(TransactionContext.ResultTransactionBlock.class));
         }
     }
 
@@ -132,7 +134,7 @@ class CatalogProtocolServiceImplTest {
 
             assertThat(result).isSucceeded().isEqualTo(dataset);
             verify(datasetResolver).getById(participantAgent, "datasetId");
-            verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+            verify(transactionContext).executeReadOnly(any(TransactionContext.ResultTransactionBlock.class));
         }
 
         @Test
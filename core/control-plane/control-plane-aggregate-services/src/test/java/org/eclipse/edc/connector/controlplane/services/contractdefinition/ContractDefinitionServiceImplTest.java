@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractD
 import org.eclipse.edc.connector.controlplane.services.spi.contractdefinition.ContractDefinitionService;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -34,6 +35,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -210,6 +212,47 @@ class ContractDefinitionServiceImplTest {
         verify(listener, never()).updated(any());
     }
 
+    @Test
+    void createAll_shouldReturnOneResultPerDefinition() {
+        var created = createContractDefinition();
+        var existing = createContractDefinition();
+        when(store.saveAll(List.of(created, existing))).thenReturn(List.of(StoreResult.success(), StoreResult.alreadyExists("exists")));
+
+        var results = service.createAll(List.of(created, existing));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).succeeded()).isTrue();
+        assertThat(results.get(1).getFailure().getReason()).isEqualTo(CONFLICT);
+        verify(listener).created(created);
+        verify(listener, never()).created(existing);
+    }
+
+    @Test
+    void upsertAll_shouldNotifyCreatedOrUpdated() {
+        var created = createContractDefinition();
+        var updated = createContractDefinition();
+        when(store.upsertAll(List.of(created, updated))).thenReturn(List.of(StoreResult.success(true), StoreResult.success(false)));
+
+        var results = service.upsertAll(List.of(created, updated));
+
+        assertThat(results).hasSize(2).allMatch(ServiceResult::succeeded);
+        verify(listener).created(created);
+        verify(listener).updated(updated);
+    }
+
+    @Test
+    void deleteAll_shouldReturnOneResultPerId() {
+        var definition = createContractDefinition();
+        when(store.deleteAll(List.of(definition.getId(), "missing"))).thenReturn(List.of(StoreResult.success(definition), StoreResult.notFound("not found")));
+
+        var results = service.deleteAll(List.of(definition.getId(), "missing"));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getContent()).matches(hasId(definition.getId()));
+        assertThat(results.get(1).getFailure().getReason()).isEqualTo(NOT_FOUND);
+        verify(listener).deleted(definition);
+    }
+
     private static class InvalidFilters implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
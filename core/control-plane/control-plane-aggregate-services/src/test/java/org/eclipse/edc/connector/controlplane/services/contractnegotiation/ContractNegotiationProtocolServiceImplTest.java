@@ -87,9 +87,11 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -244,6 +246,60 @@ class ContractNegotiationProtocolServiceImplTest {
         verify(transactionContext, atLeastOnce()).execute(any(TransactionContext.ResultTransactionBlock.class));
     }
 
+    @Test
+    void notifyFinalized_shouldVerifyTokenBetweenReadAndWriteTransactions() {
+        var negotiation = contractNegotiationBuilder().id("negotiationId").type(PROVIDER).contractOffer(contractOffer()).state(VERIFIED.code()).build();
+        var message = ContractNegotiationEventMessage.Builder.newInstance()
+                .type(ContractNegotiationEventMessage.Type.FINALIZED)
+                .protocol("protocol")
+                .counterPartyAddress("http://any")
+                .processId("processId")
+                .consumerPid("consumerPid")
+                .providerPid("providerPid")
+                .build();
+        var tokenRepresentation = tokenRepresentation();
+
+        when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CONTRACT_NEGOTIATION_REQUEST_SCOPE), any(), eq(message)))
+                .thenReturn(ServiceResult.success(participantAgent()));
+        when(store.findById(any())).thenReturn(negotiation);
+        when(store.findByIdAndLease(any())).thenReturn(StoreResult.success(negotiation));
+        when(validationService.validateRequest(any(ParticipantAgent.class), any(ContractNegotiation.class))).thenReturn(Result.success());
+
+        var result = service.notifyFinalized(message, tokenRepresentation);
+
+        assertThat(result).isSucceeded();
+        var inOrder = inOrder(transactionContext, store, protocolTokenValidator);
+        inOrder.verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        inOrder.verify(store).findById("processId");
+        inOrder.verify(protocolTokenValidator).verify(any(), any(), any(), any());
+        inOrder.verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        inOrder.verify(store).findByIdAndLease("processId");
+    }
+
+    @Test
+    void notifyFinalized_shouldNotOpenWriteTransaction_whenTokenIsNotValid() {
+        var negotiation = contractNegotiationBuilder().id("negotiationId").type(PROVIDER).contractOffer(contractOffer()).state(VERIFIED.code()).build();
+        var message = ContractNegotiationEventMessage.Builder.newInstance()
+                .type(ContractNegotiationEventMessage.Type.FINALIZED)
+                .protocol("protocol")
+                .counterPartyAddress("http://any")
+                .processId("processId")
+                .consumerPid("consumerPid")
+                .providerPid("providerPid")
+                .build();
+        var tokenRepresentation = tokenRepresentation();
+
+        when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CONTRACT_NEGOTIATION_REQUEST_SCOPE), any(), eq(message)))
+                .thenReturn(ServiceResult.unauthorized("unauthorized"));
+        when(store.findById(any())).thenReturn(negotiation);
+
+        var result = service.notifyFinalized(message, tokenRepresentation);
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNAUTHORIZED);
+        verify(transactionContext, times(1)).execute(any(TransactionContext.ResultTransactionBlock.class));
+        verify(store, never()).findByIdAndLease(any());
+    }
+
     @Test
     void notifyTerminated_shouldTransitionToTerminated() {
         var contractOffer = contractOffer();
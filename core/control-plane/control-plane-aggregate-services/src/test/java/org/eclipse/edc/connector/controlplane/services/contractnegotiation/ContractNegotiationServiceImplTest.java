@@ -38,6 +38,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.util.ArrayList;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -45,11 +46,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -93,6 +96,59 @@ class ContractNegotiationServiceImplTest {
         assertThat(result.getContent()).hasSize(1).first().matches(it -> it.getId().equals("negotiationId"));
     }
 
+    @Test
+    void searchArchived_queriesArchivedNegotiations() {
+        var negotiation = createContractNegotiation("negotiationId");
+        when(store.queryArchivedNegotiations(isA(QuerySpec.class))).thenReturn(Stream.of(negotiation));
+
+        var result = service.searchArchived(QuerySpec.none());
+
+        assertThat(result).isSucceeded();
+        assertThat(result.getContent()).hasSize(1).first().matches(it -> it.getId().equals("negotiationId"));
+        verify(store, never()).queryNegotiations(any());
+    }
+
+    @Test
+    void count_shouldReturnTheNumberOfMatchingNegotiations() {
+        when(store.countNegotiations(isA(QuerySpec.class))).thenReturn(3L);
+
+        var result = service.count(QuerySpec.none());
+
+        assertThat(result).isSucceeded().isEqualTo(3L);
+    }
+
+    @Test
+    void count_shouldFail_whenFilterIsInvalid() {
+        var query = QuerySpec.Builder.newInstance().filter(criterion("contractOffers.policy.unexistent", "=", "123455")).build();
+
+        var result = service.count(query);
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verify(store, never()).countNegotiations(any());
+    }
+
+    @Test
+    void forEach_shouldPassEveryNegotiationToTheConsumer() {
+        var negotiation = createContractNegotiation("negotiationId");
+        when(store.queryNegotiations(isA(QuerySpec.class))).thenReturn(Stream.of(negotiation));
+        var consumed = new ArrayList<ContractNegotiation>();
+
+        var result = service.forEach(QuerySpec.none(), consumed::add);
+
+        assertThat(result).isSucceeded();
+        assertThat(consumed).containsExactly(negotiation);
+    }
+
+    @Test
+    void forEach_shouldFail_whenFilterIsInvalid() {
+        var query = QuerySpec.Builder.newInstance().filter(criterion("contractOffers.policy.unexistent", "=", "123455")).build();
+
+        var result = service.forEach(query, it -> { });
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verify(store, never()).queryNegotiations(any());
+    }
+
     @ParameterizedTest
     @ArgumentsSource(InvalidFilters.class)
     void search_invalidFilter(Criterion invalidFilter) {
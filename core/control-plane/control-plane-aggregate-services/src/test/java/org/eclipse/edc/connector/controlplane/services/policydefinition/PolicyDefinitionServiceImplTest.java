@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyDefinitionS
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
@@ -33,6 +34,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -46,6 +48,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -240,6 +243,48 @@ class PolicyDefinitionServiceImplTest {
         verify(observable, never()).invokeForEach(any());
     }
 
+    @Test
+    void createAll_shouldReturnOneResultPerPolicy() {
+        var created = createPolicy("created");
+        var existing = createPolicy("existing");
+        when(policyStore.createAll(List.of(created, existing))).thenReturn(List.of(StoreResult.success(), StoreResult.alreadyExists("exists")));
+
+        var results = policyServiceImpl.createAll(List.of(created, existing));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isSucceeded().matches(hasId("created"));
+        assertThat(results.get(1)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        verify(observable, times(1)).invokeForEach(any());
+    }
+
+    @Test
+    void upsertAll_shouldNotifyCreatedOrUpdated() {
+        var created = createPolicy("created");
+        var updated = createPolicy("updated");
+        when(policyStore.upsertAll(List.of(created, updated))).thenReturn(List.of(StoreResult.success(true), StoreResult.success(false)));
+
+        var results = policyServiceImpl.upsertAll(List.of(created, updated));
+
+        assertThat(results).hasSize(2).allSatisfy(result -> assertThat(result).isSucceeded());
+        verify(observable, times(2)).invokeForEach(any());
+    }
+
+    @Test
+    void deleteAll_shouldNotDeletePoliciesReferencedByContractDefinitions() {
+        var contractDefinition = ContractDefinition.Builder.newInstance().id("definitionId").accessPolicyId("referenced").contractPolicyId("other").build();
+        when(contractDefinitionStore.findAll(any())).thenAnswer(invocation -> Stream.empty());
+        when(contractDefinitionStore.findAll(QuerySpec.Builder.newInstance().filter(criterion("accessPolicyId", "=", "referenced")).build()))
+                .thenAnswer(invocation -> Stream.of(contractDefinition));
+        when(policyStore.deleteAll(List.of("free"))).thenReturn(List.of(StoreResult.success(createPolicy("free"))));
+
+        var results = policyServiceImpl.deleteAll(List.of("referenced", "free"));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
+        assertThat(results.get(1)).isSucceeded().matches(hasId("free"));
+        verify(policyStore).deleteAll(List.of("free"));
+    }
+
     private static class InvalidFilters implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -49,6 +49,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 
+import java.util.ArrayList;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Stream;
@@ -63,6 +64,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -105,7 +107,59 @@ class TransferProcessServiceImplTest {
         var result = service.search(query);
 
         assertThat(result.getContent()).containsExactly(process1, process2);
-        verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        verify(transactionContext).executeReadOnly(any(TransactionContext.ResultTransactionBlock.class));
+    }
+
+    @Test
+    void searchArchived() {
+        when(store.findAllArchived(query)).thenReturn(Stream.of(process1));
+
+        var result = service.searchArchived(query);
+
+        assertThat(result.getContent()).containsExactly(process1);
+        verify(store, never()).findAll(any());
+    }
+
+    @Test
+    void count() {
+        when(store.count(query)).thenReturn(42L);
+
+        var result = service.count(query);
+
+        assertThat(result).isSucceeded().isEqualTo(42L);
+        verify(transactionContext).executeReadOnly(any(TransactionContext.ResultTransactionBlock.class));
+    }
+
+    @Test
+    void count_shouldFail_whenFilterIsInvalid() {
+        var spec = QuerySpec.Builder.newInstance().filter(criterion("resourceManifest.definitions.notexist", "=", "foobar")).build();
+
+        var result = service.count(spec);
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void forEach_shouldPassEveryProcessToTheConsumer() {
+        when(store.findAll(query)).thenReturn(Stream.of(process1, process2));
+        var consumed = new ArrayList<TransferProcess>();
+
+        var result = service.forEach(query, consumed::add);
+
+        assertThat(result).isSucceeded();
+        assertThat(consumed).containsExactly(process1, process2);
+        verify(transactionContext).executeReadOnly(any(TransactionContext.TransactionBlock.class));
+    }
+
+    @Test
+    void forEach_shouldFail_whenFilterIsInvalid() {
+        var spec = QuerySpec.Builder.newInstance().filter(criterion("resourceManifest.definitions.notexist", "=", "foobar")).build();
+
+        var result = service.forEach(spec, it -> { });
+
+        assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+        verifyNoInteractions(store);
     }
 
     @ParameterizedTest
@@ -126,7 +180,7 @@ class TransferProcessServiceImplTest {
         service.search(spec);
 
         verify(store).findAll(spec);
-        verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
+        verify(transactionContext).executeReadOnly(any(TransactionContext.ResultTransactionBlock.class));
     }
 
     @Test
@@ -55,12 +55,15 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.eclipse.edc.connector.controlplane.contract.spi.validation.ContractValidationService.TRANSFER_SCOPE;
 import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_LEASE_RENEWAL_PERIOD;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_MAX_IN_FLIGHT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
@@ -83,6 +86,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the maximum number of asynchronous operations in flight in the negotiation state machine", type = "int", defaultValue = DEFAULT_MAX_IN_FLIGHT + "")
+    private static final String NEGOTIATION_STATE_MACHINE_MAX_IN_FLIGHT = "edc.negotiation.state-machine.max-in-flight";
+
+    @Setting(value = "the period in milliseconds after which the lease on an entity with an asynchronous operation in flight gets renewed in the negotiation state machine, 0 to disable", type = "long", defaultValue = DEFAULT_LEASE_RENEWAL_PERIOD + "")
+    private static final String NEGOTIATION_STATE_MACHINE_LEASE_RENEWAL_PERIOD_MILLIS = "edc.negotiation.state-machine.lease-renewal-period-millis";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -202,6 +211,8 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .maxInFlight(context.getSetting(NEGOTIATION_STATE_MACHINE_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT))
+                .leaseRenewalPeriod(Duration.ofMillis(context.getSetting(NEGOTIATION_STATE_MACHINE_LEASE_RENEWAL_PERIOD_MILLIS, DEFAULT_LEASE_RENEWAL_PERIOD)))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -219,6 +230,8 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .maxInFlight(context.getSetting(NEGOTIATION_STATE_MACHINE_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT))
+                .leaseRenewalPeriod(Duration.ofMillis(context.getSetting(NEGOTIATION_STATE_MACHINE_LEASE_RENEWAL_PERIOD_MILLIS, DEFAULT_LEASE_RENEWAL_PERIOD)))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.controlplane.contract.offer.ContractDefinitionR
 import org.eclipse.edc.connector.controlplane.contract.policy.PolicyArchiveImpl;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.ContractNegotiationPendingGuard;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.observe.ContractNegotiationObservable;
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ConsumerOfferResolver;
 import org.eclipse.edc.connector.controlplane.contract.spi.offer.ContractDefinitionResolver;
@@ -30,6 +31,7 @@ import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
@@ -41,6 +43,10 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    @Setting(value = "Maximum total weight of the cached contract agreements and their policies, where each entry weighs one plus the number of its policy rules. 0 disables the cache",
+            type = "int", defaultValue = PolicyArchiveImpl.DEFAULT_MAX_WEIGHT + "")
+    public static final String AGREEMENT_CACHE_MAX_WEIGHT = "edc.contract.agreement.cache.max-weight";
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -53,6 +59,13 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     @Inject
     private ContractNegotiationStore store;
 
+    private PolicyArchiveImpl policyArchive;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        policyArchive = new PolicyArchiveImpl(store, context.getSetting(AGREEMENT_CACHE_MAX_WEIGHT, PolicyArchiveImpl.DEFAULT_MAX_WEIGHT));
+    }
+
     @Provider
     public ContractDefinitionResolver contractDefinitionResolver(ServiceExtensionContext context) {
         return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore);
@@ -70,7 +83,12 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     @Provider
     public PolicyArchive policyArchive() {
-        return new PolicyArchiveImpl(store);
+        return policyArchive;
+    }
+
+    @Provider
+    public ContractAgreementCache contractAgreementCache() {
+        return policyArchive;
     }
 
     @Provider(isDefault = true)
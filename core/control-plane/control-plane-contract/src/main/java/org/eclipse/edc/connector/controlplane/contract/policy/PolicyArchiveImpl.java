@@ -14,28 +14,97 @@
 
 package org.eclipse.edc.connector.controlplane.contract.policy;
 
+import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractAgreementCache;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.policy.model.Policy;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.LinkedHashMap;
 import java.util.Optional;
 
-public class PolicyArchiveImpl implements PolicyArchive {
+/**
+ * Resolves agreement policies from the {@link ContractNegotiationStore}. Since agreements are immutable, the loaded
+ * agreements and their resolved policies are kept in a bounded LRU cache. The bound is a total weight: every entry
+ * weighs one plus the number of rules of its policy, so a few large policies cannot crowd out the memory budget.
+ */
+public class PolicyArchiveImpl implements PolicyArchive, ContractAgreementCache {
+    public static final int DEFAULT_MAX_WEIGHT = 10_000;
+
     private final ContractNegotiationStore contractNegotiationStore;
+    private final int maxWeight;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int totalWeight;
 
     public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore) {
+        this(contractNegotiationStore, DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * Creates a policy archive.
+     *
+     * @param contractNegotiationStore the store agreements are loaded from.
+     * @param maxWeight                the maximum total weight of the cached entries, 0 disables caching.
+     */
+    public PolicyArchiveImpl(ContractNegotiationStore contractNegotiationStore, int maxWeight) {
         this.contractNegotiationStore = contractNegotiationStore;
+        this.maxWeight = maxWeight;
     }
 
     @Override
     public Policy findPolicyForContract(String contractId) {
         return Optional.ofNullable(contractId)
-                .map(contractNegotiationStore::findContractAgreement)
-                .map(this::mapAgreementPolicy)
+                .map(this::resolve)
+                .map(Entry::policy)
+                .orElse(null);
+    }
+
+    @Override
+    public @Nullable ContractAgreement findContractAgreement(String contractId) {
+        return Optional.ofNullable(contractId)
+                .map(this::resolve)
+                .map(Entry::agreement)
                 .orElse(null);
     }
 
+    private @Nullable Entry resolve(String contractId) {
+        synchronized (entries) {
+            var cached = entries.get(contractId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        var agreement = contractNegotiationStore.findContractAgreement(contractId);
+        if (agreement == null) {
+            return null;
+        }
+
+        var policy = mapAgreementPolicy(agreement);
+        var entry = new Entry(agreement, policy, 1 + policy.getPermissions().size() + policy.getProhibitions().size() + policy.getObligations().size());
+        if (entry.weight() <= maxWeight) {
+            cache(contractId, entry);
+        }
+        return entry;
+    }
+
+    private void cache(String contractId, Entry entry) {
+        synchronized (entries) {
+            var previous = entries.put(contractId, entry);
+            if (previous != null) {
+                totalWeight -= previous.weight();
+            }
+            totalWeight += entry.weight();
+
+            var iterator = entries.values().iterator();
+            while (totalWeight > maxWeight && iterator.hasNext()) {
+                totalWeight -= iterator.next().weight();
+                iterator.remove();
+            }
+        }
+    }
+
     // TODO assignee and assigner should end up stored in the Agreement's policy as outlined here
     //  https://github.com/International-Data-Spaces-Association/ids-specification/issues/195
     //  As fallback we fill the assignee and the assigner from the consumer and provider id in
@@ -55,4 +124,7 @@ public class PolicyArchiveImpl implements PolicyArchive {
                 .build();
     }
 
+    private record Entry(ContractAgreement agreement, Policy policy, int weight) {
+    }
+
 }
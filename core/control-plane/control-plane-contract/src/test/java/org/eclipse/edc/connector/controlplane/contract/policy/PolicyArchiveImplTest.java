@@ -20,7 +20,10 @@ import org.eclipse.edc.policy.model.Policy;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PolicyArchiveImplTest {
@@ -66,6 +69,54 @@ class PolicyArchiveImplTest {
         assertThat(result).isNull();
     }
 
+    @Test
+    void shouldCacheResolvedAgreement() {
+        var contractAgreement = createContractAgreement(Policy.Builder.newInstance().build());
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(contractAgreement);
+
+        var policy = policyArchive.findPolicyForContract("contractId");
+        var agreement = policyArchive.findContractAgreement("contractId");
+
+        assertThat(policyArchive.findPolicyForContract("contractId")).isSameAs(policy);
+        assertThat(agreement).isSameAs(contractAgreement);
+        verify(contractNegotiationStore, times(1)).findContractAgreement("contractId");
+    }
+
+    @Test
+    void shouldNotCacheMissingAgreement() {
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(null, createContractAgreement(Policy.Builder.newInstance().build()));
+
+        assertThat(policyArchive.findPolicyForContract("contractId")).isNull();
+        assertThat(policyArchive.findPolicyForContract("contractId")).isNotNull();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsed_whenMaxWeightExceeded() {
+        var archive = new PolicyArchiveImpl(contractNegotiationStore, 2);
+        when(contractNegotiationStore.findContractAgreement(any())).thenAnswer(i -> createContractAgreement(Policy.Builder.newInstance().build()));
+
+        archive.findPolicyForContract("first");
+        archive.findPolicyForContract("second");
+        archive.findPolicyForContract("first");
+        archive.findPolicyForContract("third");
+        archive.findPolicyForContract("first");
+        archive.findPolicyForContract("second");
+
+        verify(contractNegotiationStore, times(1)).findContractAgreement("first");
+        verify(contractNegotiationStore, times(2)).findContractAgreement("second");
+    }
+
+    @Test
+    void shouldNotCache_whenDisabled() {
+        var archive = new PolicyArchiveImpl(contractNegotiationStore, 0);
+        when(contractNegotiationStore.findContractAgreement("contractId")).thenReturn(createContractAgreement(Policy.Builder.newInstance().build()));
+
+        archive.findPolicyForContract("contractId");
+        archive.findPolicyForContract("contractId");
+
+        verify(contractNegotiationStore, times(2)).findContractAgreement("contractId");
+    }
+
     private ContractAgreement createContractAgreement(Policy policyId) {
         return ContractAgreement.Builder.newInstance()
                 .id("any")
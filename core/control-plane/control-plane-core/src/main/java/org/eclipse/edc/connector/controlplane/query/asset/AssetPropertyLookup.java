@@ -15,36 +15,41 @@
 package org.eclipse.edc.connector.controlplane.query.asset;
 
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
+import org.eclipse.edc.query.CompilablePropertyLookup;
 import org.eclipse.edc.query.ReflectionPropertyLookup;
-import org.eclipse.edc.spi.query.PropertyLookup;
 
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 import static java.util.Map.entry;
 
-public class AssetPropertyLookup implements PropertyLookup {
+public class AssetPropertyLookup implements CompilablePropertyLookup {
 
-    private final PropertyLookup fallbackPropertyLookup = new ReflectionPropertyLookup();
+    private final ReflectionPropertyLookup fallbackPropertyLookup = new ReflectionPropertyLookup();
 
     @Override
-    public Object getProperty(String key, Object object) {
-        if (object instanceof Asset asset) {
-            Stream<Map.Entry<String, Function<Asset, Map<String, Object>>>> mappings = Stream.of(
-                    entry("%s", Asset::getProperties),
-                    entry("'%s'", Asset::getProperties),
-                    entry("%s", Asset::getPrivateProperties),
-                    entry("'%s'", Asset::getPrivateProperties));
-
-            return mappings
-                    .map(entry -> fallbackPropertyLookup.getProperty(entry.getKey().formatted(key), entry.getValue().apply(asset)))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElseGet(() -> fallbackPropertyLookup.getProperty(key, asset));
-        }
-
-        return null;
+    public Function<Object, Object> compile(String key) {
+        var plainLookup = fallbackPropertyLookup.compile(key);
+        var quotedLookup = fallbackPropertyLookup.compile("'%s'".formatted(key));
+        List<Map.Entry<Function<Object, Object>, Function<Asset, Map<String, Object>>>> mappings = List.of(
+                entry(plainLookup, Asset::getProperties),
+                entry(quotedLookup, Asset::getProperties),
+                entry(plainLookup, Asset::getPrivateProperties),
+                entry(quotedLookup, Asset::getPrivateProperties));
+
+        return object -> {
+            if (object instanceof Asset asset) {
+                for (var mapping : mappings) {
+                    var value = mapping.getKey().apply(mapping.getValue().apply(asset));
+                    if (value != null) {
+                        return value;
+                    }
+                }
+                return plainLookup.apply(asset);
+            }
+
+            return null;
+        };
     }
 }
@@ -70,6 +70,17 @@ class AssetPropertyLookupTest {
         assertThat(property).isNull();
     }
 
+    @Test
+    void compile_shouldBeReusableAcrossAssets() {
+        var lookup = new AssetPropertyLookup().compile("test-property");
+        var first = Asset.Builder.newInstance().property("test-property", "first").build();
+        var second = Asset.Builder.newInstance().privateProperty("test-property", "second").build();
+
+        assertThat(lookup.apply(first)).isEqualTo("first");
+        assertThat(lookup.apply(second)).isEqualTo("second");
+        assertThat(lookup.apply("not-an-asset")).isNull();
+    }
+
     @Test
     void shouldReturnNull_whenObjectIsNotAnAsset() {
         var property = propertyLookup.getProperty("not-existent", "not-an-asset");
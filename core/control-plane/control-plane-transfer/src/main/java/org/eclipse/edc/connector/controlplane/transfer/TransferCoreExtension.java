@@ -58,9 +58,12 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_LEASE_RENEWAL_PERIOD;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_MAX_IN_FLIGHT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
@@ -80,6 +83,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the maximum number of asynchronous operations in flight in the transfer process state machine", type = "int", defaultValue = DEFAULT_MAX_IN_FLIGHT + "")
+    private static final String TRANSFER_STATE_MACHINE_MAX_IN_FLIGHT = "edc.transfer.state-machine.max-in-flight";
+
+    @Setting(value = "the period in milliseconds after which the lease on an entity with an asynchronous operation in flight gets renewed in the transfer process state machine, 0 to disable", type = "long", defaultValue = DEFAULT_LEASE_RENEWAL_PERIOD + "")
+    private static final String TRANSFER_STATE_MACHINE_LEASE_RENEWAL_PERIOD_MILLIS = "edc.transfer.state-machine.lease-renewal-period-millis";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -184,6 +193,8 @@ public class TransferCoreExtension implements ServiceExtension {
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .maxInFlight(context.getSetting(TRANSFER_STATE_MACHINE_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT))
+                .leaseRenewalPeriod(Duration.ofMillis(context.getSetting(TRANSFER_STATE_MACHINE_LEASE_RENEWAL_PERIOD_MILLIS, DEFAULT_LEASE_RENEWAL_PERIOD)))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
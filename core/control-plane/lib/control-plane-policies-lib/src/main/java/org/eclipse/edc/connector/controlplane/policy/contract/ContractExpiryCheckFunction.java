@@ -20,6 +20,7 @@ import org.eclipse.edc.policy.engine.spi.PolicyContext;
 import org.eclipse.edc.policy.model.Operator;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -102,6 +103,33 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
         return false;
     }
 
+    /**
+     * Resolves the right-value of an "inForceDate" constraint into the point in time it refers to, either the fixed time
+     * or the signing date of the contract agreement shifted by the duration expression.
+     *
+     * @param rightValue the right-value of the constraint.
+     * @param agreement  the contract agreement.
+     * @return the point in time, null if the right-value is not supported.
+     */
+    @Nullable
+    public static Instant resolveBound(Object rightValue, ContractAgreement agreement) {
+        if (!(rightValue instanceof String rightValueStr)) {
+            return null;
+        }
+
+        var bound = asInstant(rightValueStr);
+        if (bound != null) {
+            return bound;
+        }
+
+        var duration = asDuration(rightValueStr);
+        if (duration != null) {
+            return Instant.ofEpochSecond(agreement.getContractSigningDate()).plus(duration);
+        }
+
+        return null;
+    }
+
     /**
      * Checks whether an input string fits the regex {@link ContractExpiryCheckFunction#EXPRESSION_REGEX}, e.g. "contractAgreement+50m"
      * and parses that string into a {@link Duration} if successful.
@@ -109,7 +137,7 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
      * @param rightValueStr A string potentially containing a duration expression.
      * @return A {@link Duration} or null if input doesn't match
      */
-    private Duration asDuration(String rightValueStr) {
+    private static Duration asDuration(String rightValueStr) {
         var matcher = Pattern.compile(EXPRESSION_REGEX).matcher(rightValueStr);
         if (matcher.matches()) {
             var number = Integer.parseInt(matcher.group(REGEX_GROUP_NUMERIC));
@@ -126,7 +154,7 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
      * @return the {@link TemporalUnit}
      * @throws EdcException if the string was not recognized
      */
-    private TemporalUnit asChrono(String unit) {
+    private static TemporalUnit asChrono(String unit) {
         return switch (unit) {
             case "s" -> ChronoUnit.SECONDS;
             case "m" -> ChronoUnit.MINUTES;
@@ -150,7 +178,7 @@ public class ContractExpiryCheckFunction implements AtomicConstraintFunction<Per
         };
     }
 
-    private Instant asInstant(String isoString) {
+    private static Instant asInstant(String isoString) {
         try {
             return Instant.parse(isoString);
         } catch (DateTimeParseException e) {
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.framework;
 
+import org.eclipse.edc.connector.dataplane.framework.iam.AccessTokenDataCache;
 import org.eclipse.edc.connector.dataplane.framework.iam.DefaultDataPlaneAccessTokenServiceImpl;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
@@ -32,6 +33,8 @@ import org.eclipse.edc.token.spi.TokenValidationService;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 
@@ -45,6 +48,13 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     @Setting(value = "Alias of public key used for verifying the tokens, retrieved from the vault")
     public static final String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.transfer.proxy.token.verifier.publickey.alias";
 
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1000;
+    private static final long DEFAULT_TOKEN_CACHE_TTL_MILLIS = 30_000L;
+    @Setting(value = "Maximum number of resolved access tokens kept in memory. Set to 0 to disable the cache.", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    public static final String TOKEN_CACHE_SIZE = "edc.dataplane.token.cache.size";
+    @Setting(value = "Time-to-live in milliseconds of a resolved access token in the cache. Bounds how long a token that was revoked on another data plane instance keeps being accepted.", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_TTL_MILLIS + "")
+    public static final String TOKEN_CACHE_TTL_MILLIS = "edc.dataplane.token.cache.ttl-millis";
+
     @Inject
     private AccessTokenDataStore accessTokenDataStore;
     @Inject
@@ -53,6 +63,8 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     private PrivateKeyResolver privateKeyResolver;
     @Inject
     private LocalPublicKeyService localPublicKeyService;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -70,7 +82,14 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     public DataPlaneAccessTokenService defaultAccessTokenService(ServiceExtensionContext context) {
         return new DefaultDataPlaneAccessTokenServiceImpl(new JwtGenerationService(),
                 accessTokenDataStore, context.getMonitor().withPrefix("DataPlane IAM"),
-                getPrivateKeySupplier(context), publicKeyIdSupplier(context), tokenValidationService, localPublicKeyService);
+                getPrivateKeySupplier(context), publicKeyIdSupplier(context), tokenValidationService, localPublicKeyService,
+                accessTokenDataCache(context));
+    }
+
+    private AccessTokenDataCache accessTokenDataCache(ServiceExtensionContext context) {
+        var size = context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE);
+        var timeToLive = Duration.ofMillis(context.getSetting(TOKEN_CACHE_TTL_MILLIS, DEFAULT_TOKEN_CACHE_TTL_MILLIS));
+        return new AccessTokenDataCache(size, timeToLive, clock);
     }
 
     private Supplier<String> publicKeyIdSupplier(ServiceExtensionContext context) {
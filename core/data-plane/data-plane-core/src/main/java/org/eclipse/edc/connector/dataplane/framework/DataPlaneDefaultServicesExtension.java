@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.framework;
 
+import org.eclipse.edc.connector.dataplane.framework.pipeline.LoggingTransferProgressListenerFactory;
 import org.eclipse.edc.connector.dataplane.framework.pipeline.PipelineServiceImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.framework.store.InMemoryAccessTokenDataStore;
@@ -22,6 +23,7 @@ import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorServic
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
@@ -65,6 +67,11 @@ public class DataPlaneDefaultServicesExtension implements ServiceExtension {
         return new PipelineServiceImpl(context.getMonitor());
     }
 
+    @Provider(isDefault = true)
+    public TransferProgressListenerFactory transferProgressListenerFactory(ServiceExtensionContext context) {
+        return new LoggingTransferProgressListenerFactory(context.getMonitor().withPrefix("DataFlow progress"));
+    }
+
     // todo: should this be a default service?
     @Provider(isDefault = true)
     public PublicEndpointGeneratorService publicEndpointGenerator() {
@@ -39,13 +39,18 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_LEASE_RENEWAL_PERIOD;
+import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_MAX_IN_FLIGHT;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
 
@@ -63,15 +68,27 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting(value = "the batch size in the data plane state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String DATAPLANE_MACHINE_BATCH_SIZE = "edc.dataplane.state-machine.batch-size";
 
+    @Setting(value = "the maximum number of asynchronous operations in flight in the data plane state machine", type = "int", defaultValue = DEFAULT_MAX_IN_FLIGHT + "")
+    private static final String DATAPLANE_MACHINE_MAX_IN_FLIGHT = "edc.dataplane.state-machine.max-in-flight";
+
+    @Setting(value = "the period in milliseconds after which the lease on an entity with an asynchronous operation in flight gets renewed in the data plane state machine, 0 to disable", type = "long", defaultValue = DEFAULT_LEASE_RENEWAL_PERIOD + "")
+    private static final String DATAPLANE_MACHINE_LEASE_RENEWAL_PERIOD_MILLIS = "edc.dataplane.state-machine.lease-renewal-period-millis";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the dataplane with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String DATAPLANE_SEND_RETRY_LIMIT = "edc.dataplane.send.retry.limit";
 
     @Setting(value = "The base delay for the dataplane retry mechanism in millisecond", type = "long", defaultValue = DEFAULT_SEND_RETRY_BASE_DELAY + "")
     private static final String DATAPLANE_SEND_RETRY_BASE_DELAY_MS = "edc.dataplane.send.retry.base-delay.ms";
 
-    @Setting
+    @Setting(value = "Size of the thread pool used for data transfers, ignored when virtual threads are enabled", type = "int", defaultValue = DEFAULT_TRANSFER_THREADS + "")
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
+
+    @Setting(value = "Run every data transfer task on its own virtual thread instead of a fixed thread pool. Requires Java 21 or later", type = "boolean", defaultValue = "false")
+    private static final String TRANSFER_VIRTUAL_THREADS = "edc.dataplane.transfer.virtual-threads";
+
+    @Setting(value = "Maximum number of tasks a single data flow runs concurrently, defaults to half of the transfer thread pool size", type = "int", defaultValue = DataTransferExecutorServiceContainer.DEFAULT_MAX_FLOW_CONCURRENCY + "", min = 1)
+    private static final String TRANSFER_FLOW_MAX_CONCURRENCY = "edc.dataplane.transfer.flow.max-concurrency";
     private DataPlaneManagerImpl dataPlaneManager;
 
     @Inject
@@ -112,10 +129,10 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
 
-        var numThreads = context.getSetting(TRANSFER_THREADS, DEFAULT_TRANSFER_THREADS);
-        var executorService = Executors.newFixedThreadPool(numThreads);
+        var executorService = transferExecutorService(context);
+        var maxFlowConcurrency = context.getSetting(TRANSFER_FLOW_MAX_CONCURRENCY, defaultMaxFlowConcurrency(context));
         var executorContainer = new DataTransferExecutorServiceContainer(
-                executorInstrumentation.instrument(executorService, "Data plane transfers"));
+                executorInstrumentation.instrument(executorService, "Data plane transfers"), maxFlowConcurrency);
         context.registerService(DataTransferExecutorServiceContainer.class, executorContainer);
 
         var transferServiceRegistry = new TransferServiceRegistryImpl(transferServiceSelectionStrategy);
@@ -128,6 +145,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
                 .batchSize(context.getSetting(DATAPLANE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .maxInFlight(context.getSetting(DATAPLANE_MACHINE_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT))
+                .leaseRenewalPeriod(Duration.ofMillis(context.getSetting(DATAPLANE_MACHINE_LEASE_RENEWAL_PERIOD_MILLIS, DEFAULT_LEASE_RENEWAL_PERIOD)))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
@@ -162,6 +181,23 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         return authorizationService;
     }
 
+    private ExecutorService transferExecutorService(ServiceExtensionContext context) {
+        if (context.getSetting(TRANSFER_VIRTUAL_THREADS, false)) {
+            if (VirtualThreads.isSupported()) {
+                return VirtualThreads.newVirtualThreadPerTaskExecutor();
+            }
+            context.getMonitor().warning("Virtual threads are not supported by the Java runtime, falling back to a fixed thread pool for data transfers");
+        }
+        return Executors.newFixedThreadPool(context.getSetting(TRANSFER_THREADS, DEFAULT_TRANSFER_THREADS));
+    }
+
+    private int defaultMaxFlowConcurrency(ServiceExtensionContext context) {
+        if (context.getSetting(TRANSFER_VIRTUAL_THREADS, false) && VirtualThreads.isSupported()) {
+            return DataTransferExecutorServiceContainer.DEFAULT_MAX_FLOW_CONCURRENCY;
+        }
+        return Math.max(1, context.getSetting(TRANSFER_THREADS, DEFAULT_TRANSFER_THREADS) / 2);
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration getEntityRetryProcessConfiguration(ServiceExtensionContext context) {
         var retryLimit = context.getSetting(DATAPLANE_SEND_RETRY_LIMIT, DEFAULT_SEND_RETRY_LIMIT);
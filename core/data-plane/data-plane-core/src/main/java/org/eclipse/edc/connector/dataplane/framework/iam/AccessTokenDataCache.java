@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.framework.iam;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, access-ordered cache that maps already validated tokens onto their {@link AccessTokenData}. Entries expire
+ * after a fixed time-to-live, or earlier if the token itself expires, and can be invalidated by token ID when the token
+ * gets revoked. A cache with a capacity of zero never holds any entries.
+ * <p>
+ * Every invalidation starts a new generation. Callers read the {@link #generation()} before looking up the data to be
+ * cached, and {@link #put(String, AccessTokenData, Instant, long)} drops the entry if an invalidation happened in the
+ * meantime, so data read before a revocation cannot be cached after it.
+ * <p>
+ * This cache is thread-safe.
+ */
+public class AccessTokenDataCache {
+
+    private final int capacity;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+    private long generation;
+
+    public AccessTokenDataCache(int capacity, Duration timeToLive, Clock clock) {
+        this.capacity = capacity;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > AccessTokenDataCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a cache that never holds any entries.
+     */
+    public static AccessTokenDataCache disabled() {
+        return new AccessTokenDataCache(0, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the {@link AccessTokenData} cached for the given token, or null if there is none or if it has expired.
+     *
+     * @param token the serialized token
+     * @return the cached access token data, null otherwise.
+     */
+    public @Nullable AccessTokenData get(String token) {
+        if (capacity <= 0) {
+            return null;
+        }
+        synchronized (entries) {
+            var entry = entries.get(token);
+            if (entry == null) {
+                return null;
+            }
+            if (!clock.instant().isBefore(entry.expiresAt())) {
+                entries.remove(token);
+                return null;
+            }
+            return entry.data();
+        }
+    }
+
+    /**
+     * Returns the current generation, which changes on every invalidation.
+     *
+     * @return the current generation.
+     */
+    public long generation() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    /**
+     * Caches the {@link AccessTokenData} of a validated token, unless the cache has been invalidated since the given
+     * generation.
+     *
+     * @param token          the serialized token
+     * @param data           the access token data
+     * @param tokenExpiresAt the expiry of the token itself, null if it does not expire
+     * @param generation     the {@link #generation()} read before the access token data was looked up
+     */
+    public void put(String token, AccessTokenData data, @Nullable Instant tokenExpiresAt, long generation) {
+        if (capacity <= 0) {
+            return;
+        }
+        var expiresAt = clock.instant().plus(timeToLive);
+        if (tokenExpiresAt != null && tokenExpiresAt.isBefore(expiresAt)) {
+            expiresAt = tokenExpiresAt;
+        }
+        synchronized (entries) {
+            if (generation == this.generation) {
+                entries.put(token, new Entry(data, expiresAt));
+            }
+        }
+    }
+
+    /**
+     * Removes all entries that belong to one of the given token IDs.
+     *
+     * @param tokenIds the IDs of the tokens to be removed
+     */
+    public void invalidate(Collection<String> tokenIds) {
+        if (capacity <= 0 || tokenIds.isEmpty()) {
+            return;
+        }
+        synchronized (entries) {
+            generation++;
+            entries.values().removeIf(entry -> tokenIds.contains(entry.data().id()));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(AccessTokenData data, Instant expiresAt) {
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.framework.iam;
 
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
 import org.eclipse.edc.connector.dataplane.spi.Endpoint;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
@@ -37,7 +38,7 @@ import static org.eclipse.edc.spi.result.Result.success;
 public class DataPlaneAuthorizationServiceImpl implements DataPlaneAuthorizationService {
     public static final String PROPERTY_AGREEMENT_ID = "agreement_id";
     public static final String PROPERTY_ASSET_ID = "asset_id";
-    public static final String PROPERTY_PROCESS_ID = "process_id";
+    public static final String PROPERTY_PROCESS_ID = AccessTokenData.PROCESS_ID;
     public static final String PROPERTY_FLOW_TYPE = "flow_type";
     private static final String PROPERTY_PARTICIPANT_ID = "participant_id";
     private final DataPlaneAccessTokenService accessTokenService;
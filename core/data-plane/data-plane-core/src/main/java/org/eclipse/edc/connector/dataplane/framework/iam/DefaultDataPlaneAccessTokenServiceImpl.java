@@ -31,9 +31,12 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.PrivateKey;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,9 +49,14 @@ import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 /**
  * This implementation of the {@link DataPlaneAccessTokenService} uses a backing storage ({@link AccessTokenDataStore}) to keep a record of all
  * tokens it has issued. Tokens are in JWT format.
+ * <p>
+ * Resolved tokens are kept in an {@link AccessTokenDataCache}, so that repeated requests with the same token skip both the
+ * signature verification and the lookup in the {@link AccessTokenDataStore}. Cached entries are invalidated when the token
+ * is revoked or expires.
  */
 public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTokenService {
     public static final String TOKEN_ID = "jti";
+    private static final String EXPIRATION_TIME = "exp";
     private static final List<TokenValidationRule> DATAPLANE_ACCESS_TOKEN_RULES = List.of(
             (claimtoken, additional) -> Objects.equals(claimtoken.getStringClaim("sub"), claimtoken.getStringClaim("iss")) ? Result.success() : Result.failure("'sub' and 'iss' claim must be equal and non-null"),
             (toVerify, additional) -> toVerify.getStringClaim(TOKEN_ID) != null ? Result.success() : Result.failure("%s claim must be present on token".formatted(TOKEN_ID))
@@ -60,6 +68,7 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
     private final Supplier<String> publicKeyIdSupplier;
     private final TokenValidationService tokenValidationService;
     private final PublicKeyResolver publicKeyResolver;
+    private final AccessTokenDataCache cache;
 
     public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
                                                   AccessTokenDataStore accessTokenDataStore,
@@ -68,6 +77,18 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
                                                   Supplier<String> publicKeyIdSupplier,
                                                   TokenValidationService tokenValidationService,
                                                   PublicKeyResolver publicKeyResolver) {
+        this(tokenGenerationService, accessTokenDataStore, monitor, privateKeySupplier, publicKeyIdSupplier,
+                tokenValidationService, publicKeyResolver, AccessTokenDataCache.disabled());
+    }
+
+    public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
+                                                  AccessTokenDataStore accessTokenDataStore,
+                                                  Monitor monitor,
+                                                  Supplier<PrivateKey> privateKeySupplier,
+                                                  Supplier<String> publicKeyIdSupplier,
+                                                  TokenValidationService tokenValidationService,
+                                                  PublicKeyResolver publicKeyResolver,
+                                                  AccessTokenDataCache cache) {
         this.tokenGenerationService = tokenGenerationService;
         this.accessTokenDataStore = accessTokenDataStore;
         this.monitor = monitor;
@@ -75,6 +96,7 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
         this.publicKeyIdSupplier = publicKeyIdSupplier;
         this.tokenValidationService = tokenValidationService;
         this.publicKeyResolver = publicKeyResolver;
+        this.cache = cache;
     }
 
     /**
@@ -124,30 +146,42 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
 
     @Override
     public Result<AccessTokenData> resolve(String token) {
+        var cached = cache.get(token);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
+        // read before the lookup, so that a concurrent revocation prevents the stale data from being cached
+        var generation = cache.generation();
         var validationResult = tokenValidationService.validate(token, publicKeyResolver, DATAPLANE_ACCESS_TOKEN_RULES);
         if (validationResult.failed()) {
             return validationResult.mapTo();
         }
-        var tokenId = validationResult.getContent().getStringClaim(TOKEN_ID);
+        var claimToken = validationResult.getContent();
+        var tokenId = claimToken.getStringClaim(TOKEN_ID);
         var existingAccessToken = accessTokenDataStore.getById(tokenId);
 
-        return existingAccessToken == null ?
-                Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId)) :
-                Result.success(existingAccessToken);
+        if (existingAccessToken == null) {
+            return Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId));
+        }
+        cache.put(token, existingAccessToken, expiresAt(claimToken), generation);
+        return Result.success(existingAccessToken);
     }
 
     @Override
     public Result<Void> revoke(String transferProcessId, String reason) {
 
         var query = QuerySpec.Builder.newInstance()
-                .filter(new Criterion("additionalProperties.process_id", "=", transferProcessId))
+                .filter(new Criterion("additionalProperties." + AccessTokenData.PROCESS_ID, "=", transferProcessId))
                 .build();
 
         var tokens = accessTokenDataStore.query(query);
-        return tokens.stream().map(this::deleteTokenData)
+        var result = tokens.stream().map(this::deleteTokenData)
                 .reduce(Result::merge)
                 .orElseGet(() -> Result.failure("AccessTokenData associated to the transfer with ID '%s' does not exist.".formatted(transferProcessId)));
 
+        cache.invalidate(tokens.stream().map(AccessTokenData::id).toList());
+        return result;
     }
 
     private Result<Void> deleteTokenData(AccessTokenData tokenData) {
@@ -158,4 +192,15 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
             return Result.success();
         }
     }
+
+    private @Nullable Instant expiresAt(ClaimToken claimToken) {
+        var expiration = claimToken.getClaim(EXPIRATION_TIME);
+        if (expiration instanceof Date date) {
+            return date.toInstant();
+        }
+        if (expiration instanceof Number epochSeconds) {
+            return Instant.ofEpochSecond(epochSeconds.longValue());
+        }
+        return null;
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListener;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+
+import static java.lang.String.format;
+
+/**
+ * Default {@link TransferProgressListenerFactory}, reports the progress of every data flow as debug log.
+ */
+public class LoggingTransferProgressListenerFactory implements TransferProgressListenerFactory {
+
+    private final Monitor monitor;
+
+    public LoggingTransferProgressListenerFactory(Monitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public TransferProgressListener create(DataFlowStartMessage message) {
+        var processId = message.getProcessId();
+        return (parts, bytes) -> monitor.debug(() -> format("DataFlow %s: %d parts and %d bytes transferred", processId, parts, bytes));
+    }
+}
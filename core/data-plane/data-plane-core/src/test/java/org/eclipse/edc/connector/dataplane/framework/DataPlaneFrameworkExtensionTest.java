@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceRegistryImpl;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -24,6 +25,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer.DEFAULT_MAX_FLOW_CONCURRENCY;
+import static org.mockito.Mockito.doReturn;
 
 @ExtendWith(DependencyInjectionExtension.class)
 class DataPlaneFrameworkExtensionTest {
@@ -40,4 +43,25 @@ class DataPlaneFrameworkExtensionTest {
         assertThat(context.getService(TransferServiceRegistry.class)).isInstanceOf(TransferServiceRegistryImpl.class);
     }
 
+    @Test
+    void initialize_registers_executorContainerWithFlowConcurrency(ServiceExtensionContext context, DataPlaneFrameworkExtension extension) {
+        doReturn(3).when(context).getSetting("edc.dataplane.transfer.flow.max-concurrency", DEFAULT_MAX_FLOW_CONCURRENCY);
+
+        extension.initialize(context);
+
+        var container = context.getService(DataTransferExecutorServiceContainer.class);
+        assertThat(container.getMaxFlowConcurrency()).isEqualTo(3);
+        assertThat(container.getExecutorService()).isNotNull();
+    }
+
+    @Test
+    void initialize_defaultsFlowConcurrencyToHalfOfThePoolSize(ServiceExtensionContext context, DataPlaneFrameworkExtension extension) {
+        doReturn(4).when(context).getSetting("edc.dataplane.transfer.threads", 10);
+
+        extension.initialize(context);
+
+        var container = context.getService(DataTransferExecutorServiceContainer.class);
+        assertThat(container.getMaxFlowConcurrency()).isEqualTo(2);
+    }
+
 }
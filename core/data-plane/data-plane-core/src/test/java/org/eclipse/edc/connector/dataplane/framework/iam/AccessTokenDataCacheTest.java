@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.framework.iam;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessTokenDataCacheTest {
+
+    private final Instant now = Instant.parse("2024-01-01T00:00:00Z");
+    private final Clock clock = mock();
+    private final AccessTokenDataCache cache = new AccessTokenDataCache(2, Duration.ofMinutes(1), clock);
+
+    @Test
+    void get_shouldReturnCachedData() {
+        when(clock.instant()).thenReturn(now);
+        var data = accessTokenData("id");
+
+        cache.put("token", data, null, cache.generation());
+
+        assertThat(cache.get("token")).isSameAs(data);
+        assertThat(cache.get("unknown")).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenTimeToLiveElapsed() {
+        when(clock.instant()).thenReturn(now, now.plus(Duration.ofMinutes(1)));
+
+        cache.put("token", accessTokenData("id"), null, cache.generation());
+
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenTokenExpiredBeforeTimeToLive() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(10));
+
+        cache.put("token", accessTokenData("id"), now.plusSeconds(5), cache.generation());
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void put_shouldEvictLeastRecentlyUsed_whenCapacityExceeded() {
+        when(clock.instant()).thenReturn(now);
+
+        cache.put("token1", accessTokenData("id1"), null, cache.generation());
+        cache.put("token2", accessTokenData("id2"), null, cache.generation());
+        cache.get("token1");
+        cache.put("token3", accessTokenData("id3"), null, cache.generation());
+
+        assertThat(cache.get("token1")).isNotNull();
+        assertThat(cache.get("token2")).isNull();
+        assertThat(cache.get("token3")).isNotNull();
+    }
+
+    @Test
+    void invalidate_shouldRemoveEntriesOfTokenIds() {
+        when(clock.instant()).thenReturn(now);
+
+        cache.put("token1", accessTokenData("id1"), null, cache.generation());
+        cache.put("token2", accessTokenData("id2"), null, cache.generation());
+        cache.invalidate(List.of("id1"));
+
+        assertThat(cache.get("token1")).isNull();
+        assertThat(cache.get("token2")).isNotNull();
+    }
+
+    @Test
+    void put_shouldNotCache_whenInvalidatedSinceGeneration() {
+        when(clock.instant()).thenReturn(now);
+        var generation = cache.generation();
+
+        cache.invalidate(List.of("id"));
+        cache.put("token", accessTokenData("id"), null, generation);
+
+        assertThat(cache.get("token")).isNull();
+        cache.put("token", accessTokenData("id"), null, cache.generation());
+        assertThat(cache.get("token")).isNotNull();
+    }
+
+    @Test
+    void disabled_shouldNotCache() {
+        var disabled = AccessTokenDataCache.disabled();
+
+        disabled.put("token", accessTokenData("id"), null, disabled.generation());
+
+        assertThat(disabled.get("token")).isNull();
+        assertThat(disabled.size()).isZero();
+    }
+
+    private AccessTokenData accessTokenData(String id) {
+        return new AccessTokenData(id, ClaimToken.Builder.newInstance().build(), DataAddress.Builder.newInstance().type("test-type").build());
+    }
+}
@@ -30,6 +30,8 @@ import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationService;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -43,6 +45,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -56,6 +59,8 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
     private final TokenValidationService tokenValidationService = mock();
     private final DefaultDataPlaneAccessTokenServiceImpl accessTokenService = new DefaultDataPlaneAccessTokenServiceImpl(tokenGenService,
             store, mock(), mock(), mock(), tokenValidationService, mock());
+    private final DefaultDataPlaneAccessTokenServiceImpl cachingAccessTokenService = new DefaultDataPlaneAccessTokenServiceImpl(tokenGenService,
+            store, mock(), mock(), mock(), tokenValidationService, mock(), new AccessTokenDataCache(10, Duration.ofMinutes(1), Clock.systemUTC()));
 
     @Test
     void obtainToken() {
@@ -185,6 +190,83 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
         verify(store).getById(eq(tokenId));
     }
 
+    @Test
+    void resolve_shouldUseCache_whenTokenAlreadyResolved() {
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()));
+
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+        var result = cachingAccessTokenService.resolve("some-jwt");
+
+        assertThat(result).isSucceeded()
+                .satisfies(atd -> Assertions.assertThat(atd.id()).isEqualTo(tokenId));
+        verify(tokenValidationService, times(1)).validate(eq("some-jwt"), any(), anyList());
+        verify(store, times(1)).getById(eq(tokenId));
+    }
+
+    @Test
+    void resolve_shouldNotCache_whenTokenIdNotFound() {
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(null);
+
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isFailed();
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isFailed();
+
+        verify(tokenValidationService, times(2)).validate(eq("some-jwt"), any(), anyList());
+    }
+
+    @Test
+    void revoke_shouldInvalidateCache() {
+        var tokenId = "test-id";
+        var processId = "tp-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        var tokenData = new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build());
+        var querySpec = QuerySpec.Builder.newInstance().filter(new Criterion("additionalProperties.process_id", "=", processId)).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(tokenData);
+        when(store.query(querySpec)).thenReturn(List.of(tokenData));
+        when(store.deleteById(tokenId)).thenReturn(StoreResult.success());
+
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+        assertThat(cachingAccessTokenService.revoke(processId, "reason")).isSucceeded();
+        when(store.getById(eq(tokenId))).thenReturn(null);
+
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isFailed();
+        verify(tokenValidationService, times(2)).validate(eq("some-jwt"), any(), anyList());
+    }
+
+    @Test
+    void revoke_shouldPreventCaching_whenRevokedWhileResolving() {
+        var tokenId = "test-id";
+        var processId = "tp-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        var tokenData = new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build());
+        var querySpec = QuerySpec.Builder.newInstance().filter(new Criterion("additionalProperties.process_id", "=", processId)).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList()))
+                .thenReturn(Result.success(claimToken));
+        when(store.query(querySpec)).thenReturn(List.of(tokenData));
+        when(store.deleteById(tokenId)).thenReturn(StoreResult.success());
+        // the token gets revoked after the resolution has read it from the store, but before it is cached
+        when(store.getById(eq(tokenId))).thenAnswer(invocation -> {
+            assertThat(cachingAccessTokenService.revoke(processId, "reason")).isSucceeded();
+            return tokenData;
+        }).thenReturn(null);
+
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isSucceeded();
+
+        assertThat(cachingAccessTokenService.resolve("some-jwt")).isFailed();
+        verify(store, times(2)).getById(eq(tokenId));
+    }
 
     @Test
     void revoke() {
@@ -19,12 +19,12 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.response.StatusResult;
-import org.eclipse.edc.spi.result.AbstractResult;
+import org.eclipse.edc.util.async.WindowedExecution;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
@@ -36,10 +36,9 @@ import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.fail
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.eclipse.edc.spi.response.StatusResult.failure;
-import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
- * Asynchronously streams data to a response client.
+ * Asynchronously streams data to a response client, writing at most {@code maxInFlight} parts at the same time.
  */
 public class AsyncStreamingDataSink implements DataSink {
 
@@ -47,10 +46,26 @@ public class AsyncStreamingDataSink implements DataSink {
 
     private final AsyncResponseContext asyncContext;
     private final ExecutorService executorService;
+    private final int maxInFlight;
+    private final TransferProgressListener progressListener;
 
     public AsyncStreamingDataSink(AsyncResponseContext asyncContext, ExecutorService executorService) {
+        this(asyncContext, executorService, ParallelSink.DEFAULT_MAX_IN_FLIGHT, TransferProgressListener.NOOP);
+    }
+
+    /**
+     * Create the sink.
+     *
+     * @param asyncContext the response context.
+     * @param executorService the executor service used to write the parts.
+     * @param maxInFlight the maximum number of parts written at the same time.
+     * @param progressListener notified every time a part has been written.
+     */
+    public AsyncStreamingDataSink(AsyncResponseContext asyncContext, ExecutorService executorService, int maxInFlight, TransferProgressListener progressListener) {
         this.asyncContext = asyncContext;
         this.executorService = executorService;
+        this.maxInFlight = maxInFlight;
+        this.progressListener = progressListener;
     }
 
     @Override
@@ -60,22 +75,31 @@ public class AsyncStreamingDataSink implements DataSink {
             return completedFuture(failure(streamResult.getFailure()));
         }
 
-        try (var partStream = streamResult.getContent()) {
-            return partStream
-                    .map(part -> supplyAsync(() -> transferPart(part), executorService))
-                    .collect(asyncAllOf())
-                    .thenApply(this::processResults);
-        }
+        var partStream = streamResult.getContent();
+        var progress = new TransferProgress(progressListener);
+        return WindowedExecution.execute(partStream.map(progress::track).iterator(), maxInFlight, part -> transferPartAsync(part, progress), StatusResult::failed)
+                .whenComplete((r, throwable) -> partStream.close())
+                .thenApply(this::processResult);
     }
 
     @NotNull
-    private StreamResult<Object> processResults(List<? extends StatusResult<?>> results) {
-        if (results.stream().anyMatch(AbstractResult::failed)) {
+    private StreamResult<Object> processResult(Optional<StatusResult<?>> failed) {
+        if (failed.isPresent()) {
             return error("Error transferring data");
         }
         return success();
     }
 
+    private CompletableFuture<StatusResult<?>> transferPartAsync(DataSource.Part part, TransferProgress progress) {
+        return supplyAsync(() -> transferPart(part), executorService)
+                .thenApply(result -> {
+                    if (result.succeeded()) {
+                        progress.completed(1);
+                    }
+                    return result;
+                });
+    }
+
     @NotNull
     private StatusResult<?> transferPart(DataSource.Part part) {
         var result = asyncContext.register(new AsyncResponseCallback((outputStream) -> {
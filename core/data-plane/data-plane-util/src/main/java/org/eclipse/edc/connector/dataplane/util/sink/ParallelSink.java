@@ -17,10 +17,11 @@ package org.eclipse.edc.connector.dataplane.util.sink;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.monitor.Monitor;
-import org.eclipse.edc.spi.result.AbstractResult;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.util.async.WindowedExecution;
 import org.eclipse.edc.util.stream.PartitionIterator;
 import org.jetbrains.annotations.NotNull;
 
@@ -34,14 +35,19 @@ import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
-import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
- * Writes data in parallel.
+ * Transfers the parts of the source in partitions of {@code partitionSize} parts, each partition being transferred
+ * asynchronously. At most {@code maxInFlight} partitions are transferred at the same time, so the parts are pulled
+ * from the source as the transfer progresses, and the first failed partition stops the transfer.
  */
 public abstract class ParallelSink implements DataSink {
+    public static final int DEFAULT_MAX_IN_FLIGHT = DataTransferExecutorServiceContainer.DEFAULT_MAX_FLOW_CONCURRENCY;
+
     protected String requestId;
     protected int partitionSize = 5;
+    protected int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    protected TransferProgressListener progressListener = TransferProgressListener.NOOP;
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
@@ -55,17 +61,15 @@ public abstract class ParallelSink implements DataSink {
                 return completedFuture(failure(streamResult.getFailure()));
             }
 
-            try (var partStream = streamResult.getContent()) {
-                return PartitionIterator.streamOf(partStream, partitionSize)
-                        .map(this::processPartsAsync)
-                        .collect(asyncAllOf())
-                        .thenApply(results -> results.stream()
-                                .filter(AbstractResult::failed)
-                                .findFirst()
-                                .map(r -> StreamResult.<Object>error(String.join(",", r.getFailureMessages())))
-                                .orElseGet(this::complete))
-                        .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
-            }
+            var partStream = streamResult.getContent();
+            var progress = new TransferProgress(progressListener);
+            var partitions = new PartitionIterator<>(partStream.map(progress::track).iterator(), partitionSize);
+            return WindowedExecution.execute(partitions, maxInFlight, parts -> processPartsAsync(parts, progress), StreamResult::failed)
+                    .whenComplete((r, throwable) -> partStream.close())
+                    .thenApply(failed -> failed
+                            .map(r -> StreamResult.<Object>error(String.join(",", r.getFailureMessages())))
+                            .orElseGet(this::complete))
+                    .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
         } catch (Exception e) {
             var errorMessage = format("Error processing data transfer request - Request ID: %s", requestId);
             monitor.severe(errorMessage, e);
@@ -74,8 +78,14 @@ public abstract class ParallelSink implements DataSink {
     }
 
     @NotNull
-    private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
-        return supplyAsync(transfer(parts), executorService);
+    private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts, TransferProgress progress) {
+        return supplyAsync(transfer(parts), executorService)
+                .thenApply(result -> {
+                    if (result.succeeded()) {
+                        progress.completed(parts.size());
+                    }
+                    return result;
+                });
     }
 
     private Supplier<StreamResult<Object>> transfer(List<DataSource.Part> parts) {
@@ -113,11 +123,31 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        public B maxInFlight(int maxInFlight) {
+            sink.maxInFlight = maxInFlight;
+            return self();
+        }
+
+        public B progressListener(TransferProgressListener progressListener) {
+            sink.progressListener = progressListener;
+            return self();
+        }
+
         public B executorService(ExecutorService executorService) {
             sink.executorService = executorService;
             return self();
         }
 
+        /**
+         * Runs the partitions on the shared data transfer executor, limiting the partitions in flight to the maximum
+         * concurrency of a single data flow.
+         */
+        public B executorContainer(DataTransferExecutorServiceContainer executorContainer) {
+            sink.executorService = executorContainer.getExecutorService();
+            sink.maxInFlight = executorContainer.getMaxFlowConcurrency();
+            return self();
+        }
+
         public B monitor(Monitor monitor) {
             sink.monitor = monitor;
             return self();
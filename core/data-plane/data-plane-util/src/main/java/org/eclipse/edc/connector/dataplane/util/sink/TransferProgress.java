@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.sink;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the parts transferred and the bytes read from them, and reports them to a {@link TransferProgressListener}.
+ */
+class TransferProgress {
+
+    private final TransferProgressListener listener;
+    private final AtomicLong parts = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    TransferProgress(TransferProgressListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Wrap the part so that the bytes read from it are counted.
+     */
+    DataSource.Part track(DataSource.Part part) {
+        return listener == TransferProgressListener.NOOP ? part : new CountingPart(part);
+    }
+
+    void completed(int count) {
+        if (listener != TransferProgressListener.NOOP) {
+            listener.onProgress(parts.addAndGet(count), bytes.get());
+        }
+    }
+
+    private class CountingPart implements DataSource.Part {
+        private final DataSource.Part delegate;
+
+        CountingPart(DataSource.Part delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String name() {
+            return delegate.name();
+        }
+
+        @Override
+        public long size() {
+            return delegate.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new CountingInputStream(delegate.openStream());
+        }
+
+        @Override
+        public String mediaType() {
+            return delegate.mediaType();
+        }
+
+        @Override
+        public void close() throws Exception {
+            delegate.close();
+        }
+    }
+
+    private class CountingInputStream extends FilterInputStream {
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var read = super.read();
+            if (read != -1) {
+                bytes.incrementAndGet();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var read = super.read(b, off, len);
+            if (read > 0) {
+                bytes.addAndGet(read);
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.sink;
+
+/**
+ * Notified by a sink about the progress of the data flow it is transferring.
+ */
+@FunctionalInterface
+public interface TransferProgressListener {
+
+    TransferProgressListener NOOP = (parts, bytes) -> { };
+
+    /**
+     * Called every time some parts have been transferred.
+     *
+     * @param parts the total number of parts transferred so far.
+     * @param bytes the total number of bytes read from the transferred parts so far.
+     */
+    void onProgress(long parts, long bytes);
+}
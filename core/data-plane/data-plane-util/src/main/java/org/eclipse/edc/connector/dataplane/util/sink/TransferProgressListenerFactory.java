@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.sink;
+
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+
+/**
+ * Creates the {@link TransferProgressListener} for a data flow, used by sink factories to attach it to the sinks they
+ * create.
+ */
+@FunctionalInterface
+public interface TransferProgressListenerFactory {
+
+    TransferProgressListenerFactory NOOP = message -> TransferProgressListener.NOOP;
+
+    /**
+     * Create the listener for the data flow.
+     *
+     * @param message the data flow start message.
+     * @return the listener, never null.
+     */
+    TransferProgressListener create(DataFlowStartMessage message);
+}
@@ -25,11 +25,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
@@ -116,6 +120,54 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    @Test
+    void transfer_shouldReportProgress() {
+        var progress = new ArrayList<long[]>();
+        fakeSink.partitionSize = 1;
+        fakeSink.maxInFlight = 1;
+        fakeSink.progressListener = (parts, bytes) -> progress.add(new long[]{ parts, bytes });
+        fakeSink.transferResultSupplier = () -> {
+            fakeSink.parts.forEach(this::readFully);
+            return StreamResult.success();
+        };
+
+        assertThat(fakeSink.transfer(dataSourceOf(Stream.of("a", "bb", "ccc")))).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(progress).extracting(p -> p[0]).containsExactly(1L, 2L, 3L);
+        assertThat(progress).last().satisfies(p -> assertThat(p[1]).isEqualTo(6L));
+    }
+
+    @Test
+    void transfer_whenFailureDuringTransfer_shouldStopPullingParts() {
+        var pulled = new AtomicInteger();
+        fakeSink.partitionSize = 1;
+        fakeSink.maxInFlight = 2;
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        var endless = Stream.generate(() -> "part-" + pulled.incrementAndGet());
+
+        assertThat(fakeSink.transfer(dataSourceOf(endless))).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.failed()).isTrue());
+        assertThat(pulled.get()).isLessThanOrEqualTo(5);
+        assertThat(fakeSink.complete).isEqualTo(0);
+    }
+
+    private DataSource dataSourceOf(Stream<String> contents) {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(contents
+                .map(content -> (DataSource.Part) new InputStreamDataSource(content, new ByteArrayInputStream(content.getBytes())))));
+        return source;
+    }
+
+    private void readFully(DataSource.Part part) {
+        try (var stream = part.openStream()) {
+            stream.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
@@ -38,9 +38,11 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.NAME;
+import static org.eclipse.edc.connector.policy.monitor.manager.PolicyMonitorManagerImpl.DEFAULT_EVALUATION_INTERVAL;
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.statemachine.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
@@ -57,6 +59,9 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "the maximum time in milliseconds between two evaluations of the policy of a monitored transfer", type = "long", defaultValue = DEFAULT_EVALUATION_INTERVAL + "")
+    private static final String POLICY_MONITOR_EVALUATION_INTERVAL_MILLIS = "edc.policy.monitor.evaluation-interval-millis";
+
     @PolicyScope
     public static final String POLICY_MONITOR_SCOPE = "policy.monitor";
 
@@ -101,6 +106,7 @@ public class PolicyMonitorExtension implements ServiceExtension {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .clock(clock)
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .evaluationInterval(Duration.ofMillis(context.getSetting(POLICY_MONITOR_EVALUATION_INTERVAL_MILLIS, DEFAULT_EVALUATION_INTERVAL)))
                 .waitStrategy(waitStrategy)
                 .executorInstrumentation(executorInstrumentation)
                 .monitor(context.getMonitor())
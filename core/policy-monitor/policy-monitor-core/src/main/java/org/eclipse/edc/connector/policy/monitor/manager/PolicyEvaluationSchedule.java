@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.MultiplicityConstraint;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Rule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static java.util.Comparator.naturalOrder;
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.resolveBound;
+
+/**
+ * Computes when the policy of a monitored transfer needs to be evaluated again: the earliest upcoming bound of its
+ * "inForceDate" constraints, but never later than the configured interval, because other constraints could depend on
+ * data that changes over time as well.
+ */
+class PolicyEvaluationSchedule {
+
+    private final Duration interval;
+
+    PolicyEvaluationSchedule(Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Returns the next evaluation time for the policy.
+     *
+     * @param policy    the policy.
+     * @param agreement the contract agreement the policy belongs to.
+     * @param now       the current time.
+     * @return the next evaluation time, in epoch millis.
+     */
+    long nextEvaluation(Policy policy, ContractAgreement agreement, Instant now) {
+        var latest = now.plus(interval);
+        return Stream.of(policy.getPermissions(), policy.getProhibitions(), policy.getObligations())
+                .flatMap(rules -> rules.stream().map(Rule::getConstraints))
+                .flatMap(constraints -> constraints.stream().flatMap(this::atomicConstraints))
+                .filter(this::isInForceDate)
+                .map(constraint -> boundaryOf(constraint, agreement))
+                .filter(Objects::nonNull)
+                .filter(boundary -> boundary.isAfter(now))
+                .min(naturalOrder())
+                .filter(boundary -> boundary.isBefore(latest))
+                .orElse(latest)
+                .toEpochMilli();
+    }
+
+    private Stream<AtomicConstraint> atomicConstraints(Constraint constraint) {
+        if (constraint instanceof AtomicConstraint atomicConstraint) {
+            return Stream.of(atomicConstraint);
+        }
+        if (constraint instanceof MultiplicityConstraint multiplicityConstraint) {
+            return multiplicityConstraint.getConstraints().stream().flatMap(this::atomicConstraints);
+        }
+        return Stream.empty();
+    }
+
+    private boolean isInForceDate(AtomicConstraint constraint) {
+        return constraint.getLeftExpression() instanceof LiteralExpression left &&
+                CONTRACT_EXPIRY_EVALUATION_KEY.equals(left.getValue()) &&
+                constraint.getRightExpression() instanceof LiteralExpression;
+    }
+
+    /**
+     * The instant from which the evaluation of the constraint could change: the bound itself for inclusive operators,
+     * just after it for the exclusive ones.
+     */
+    private Instant boundaryOf(AtomicConstraint constraint, ContractAgreement agreement) {
+        var bound = resolveBound(((LiteralExpression) constraint.getRightExpression()).getValue(), agreement);
+        if (bound == null) {
+            return null;
+        }
+        var operator = constraint.getOperator();
+        return operator == Operator.GT || operator == Operator.LEQ ? bound.plusMillis(1) : bound;
+    }
+}
@@ -25,17 +25,18 @@ import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorManager;
 import org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
-import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.statemachine.AbstractStateEntityManager;
 import org.eclipse.edc.statemachine.Processor;
 import org.eclipse.edc.statemachine.ProcessorImpl;
 import org.eclipse.edc.statemachine.StateMachineManager;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.function.Function;
 
 import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.POLICY_MONITOR_SCOPE;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore.isEvaluationDue;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 
 /**
@@ -44,6 +45,9 @@ import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyMonitorEntry, PolicyMonitorStore>
         implements PolicyMonitorManager {
 
+    public static final long DEFAULT_EVALUATION_INTERVAL = 60_000L;
+
+    private PolicyEvaluationSchedule evaluationSchedule = new PolicyEvaluationSchedule(Duration.ofMillis(DEFAULT_EVALUATION_INTERVAL));
     private PolicyEngine policyEngine;
     private TransferProcessService transferProcessService;
     private ContractAgreementService contractAgreementService;
@@ -93,8 +97,9 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
         }
 
         var policy = contractAgreement.getPolicy();
+        var now = Instant.now(clock);
         var policyContext = PolicyContextImpl.Builder.newInstance()
-                .additional(Instant.class, Instant.now(clock))
+                .additional(Instant.class, now)
                 .additional(ContractAgreement.class, contractAgreement)
                 .build();
 
@@ -108,6 +113,8 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
                 update(entry);
                 return true;
             }
+        } else {
+            entry.scheduleNextEvaluation(evaluationSchedule.nextEvaluation(policy, contractAgreement, now));
         }
 
         breakLease(entry);
@@ -115,8 +122,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
     }
 
     private Processor processEntriesInState(PolicyMonitorEntryStates state, Function<PolicyMonitorEntry, Boolean> function) {
-        var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, hasState(state.code()), isEvaluationDue(clock.millis())))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
                 .build();
@@ -143,6 +149,15 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
             return this;
         }
 
+        /**
+         * Maximum time between two evaluations of the policy of a monitored transfer. Evaluations happen earlier when
+         * a temporal constraint of the policy is about to change its outcome.
+         */
+        public Builder evaluationInterval(Duration evaluationInterval) {
+            manager.evaluationSchedule = new PolicyEvaluationSchedule(evaluationInterval);
+            return this;
+        }
+
         public Builder transferProcessService(TransferProcessService transferProcessService) {
             manager.transferProcessService = transferProcessService;
             return this;
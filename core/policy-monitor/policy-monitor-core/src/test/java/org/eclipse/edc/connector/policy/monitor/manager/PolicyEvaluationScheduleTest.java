@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.policy.monitor.manager;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.policy.model.AndConstraint;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.Constraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.policy.contract.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
+
+class PolicyEvaluationScheduleTest {
+
+    private final Instant now = Instant.parse("2024-01-01T00:00:00Z");
+    private final PolicyEvaluationSchedule schedule = new PolicyEvaluationSchedule(Duration.ofHours(1));
+
+    @Test
+    void shouldReturnInterval_whenNoTemporalConstraint() {
+        var policy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().build()).build();
+
+        var next = schedule.nextEvaluation(policy, agreement(policy), now);
+
+        assertThat(next).isEqualTo(now.plus(Duration.ofHours(1)).toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnUpcomingBound_whenBeforeInterval() {
+        var policy = policy(inForceDate(Operator.GEQ, "2024-01-01T00:10:00Z"));
+
+        var next = schedule.nextEvaluation(policy, agreement(policy), now);
+
+        assertThat(next).isEqualTo(Instant.parse("2024-01-01T00:10:00Z").toEpochMilli());
+    }
+
+    @Test
+    void shouldReturnJustAfterBound_whenOperatorIsExclusive() {
+        var policy = policy(inForceDate(Operator.LEQ, "contractAgreement+30m"));
+
+        var next = schedule.nextEvaluation(policy, agreement(policy), now);
+
+        assertThat(next).isEqualTo(now.plus(Duration.ofMinutes(30)).plusMillis(1).toEpochMilli());
+    }
+
+    @Test
+    void shouldIgnorePastAndFarBounds() {
+        var policy = policy(AndConstraint.Builder.newInstance()
+                .constraint(inForceDate(Operator.GEQ, "2023-01-01T00:00:00Z"))
+                .constraint(inForceDate(Operator.LEQ, "2025-01-01T00:00:00Z"))
+                .build());
+
+        var next = schedule.nextEvaluation(policy, agreement(policy), now);
+
+        assertThat(next).isEqualTo(now.plus(Duration.ofHours(1)).toEpochMilli());
+    }
+
+    private Policy policy(Constraint constraint) {
+        return Policy.Builder.newInstance().permission(Permission.Builder.newInstance().constraint(constraint).build()).build();
+    }
+
+    private AtomicConstraint inForceDate(Operator operator, String value) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(CONTRACT_EXPIRY_EVALUATION_KEY))
+                .operator(operator)
+                .rightExpression(new LiteralExpression(value))
+                .build();
+    }
+
+    private ContractAgreement agreement(Policy policy) {
+        return ContractAgreement.Builder.newInstance()
+                .providerId("providerId")
+                .consumerId("consumerId")
+                .assetId("assetId")
+                .contractSigningDate(now.getEpochSecond())
+                .policy(policy)
+                .build();
+    }
+}
@@ -34,8 +34,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
+import static java.time.ZoneOffset.UTC;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -43,6 +47,7 @@ import static org.eclipse.edc.connector.policy.monitor.PolicyMonitorExtension.PO
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.COMPLETED;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.FAILED;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore.isEvaluationDue;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
@@ -63,6 +68,7 @@ class PolicyMonitorManagerImplTest {
     private final ContractAgreementService contractAgreementService = mock();
     private final TransferProcessService transferProcessService = mock();
     private final PolicyEngine policyEngine = mock();
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), UTC);
     private PolicyMonitorManager manager;
 
     @BeforeEach
@@ -70,7 +76,8 @@ class PolicyMonitorManagerImplTest {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .executorInstrumentation(ExecutorInstrumentation.noop())
                 .monitor(mock())
-                .clock(mock())
+                .clock(clock)
+                .evaluationInterval(Duration.ofMinutes(1))
                 .contractAgreementService(contractAgreementService)
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
@@ -137,7 +144,7 @@ class PolicyMonitorManagerImplTest {
         manager.start();
 
         await().untilAsserted(() -> {
-            verify(store).save(argThat(it -> it.getState() == STARTED.code()));
+            verify(store).save(argThat(it -> it.getState() == STARTED.code() && it.getNextEvaluation() == 0L));
         });
     }
 
@@ -159,7 +166,8 @@ class PolicyMonitorManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(transferProcessService, never()).terminate(any());
-            verify(store).save(argThat(it -> it.getState() == STARTED.code()));
+            verify(store).save(argThat(it -> it.getState() == STARTED.code() &&
+                    it.getNextEvaluation() == clock.millis() + Duration.ofMinutes(1).toMillis()));
         });
     }
 
@@ -228,6 +236,6 @@ class PolicyMonitorManagerImplTest {
     }
 
     private Criterion[] stateIs(int state) {
-        return aryEq(new Criterion[]{ hasState(state) });
+        return aryEq(new Criterion[]{ hasState(state), isEvaluationDue(clock.millis()) });
     }
 }
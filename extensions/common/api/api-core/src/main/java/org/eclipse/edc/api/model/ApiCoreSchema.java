@@ -58,7 +58,9 @@ public interface ApiCoreSchema {
             int limit,
             SortOrder sortOrder,
             String sortField,
-            List<CriterionSchema> filterExpression
+            List<CriterionSchema> filterExpression,
+            @Schema(description = "Fields to be returned for every result, all of them if empty")
+            List<String> fields
     ) {
         public static final String QUERY_SPEC_EXAMPLE = """
                 {
@@ -68,7 +70,8 @@ public interface ApiCoreSchema {
                     "limit": 10,
                     "sortOrder": "DESC",
                     "sortField": "fieldName",
-                    "filterExpression": []
+                    "filterExpression": [],
+                    "fields": ["state", "stateTimestamp"]
                 }
                 """;
     }
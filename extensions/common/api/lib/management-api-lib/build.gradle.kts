@@ -18,8 +18,10 @@ plugins {
 
 dependencies {
     api(project(":spi:common:json-ld-spi"))
+    api(project(":spi:common:validator-spi"))
     api(project(":spi:common:web-spi"))
     api(project(":spi:control-plane:contract-spi"))
+    api(project(":extensions:common:http:lib:jersey-providers-lib"))
 
     implementation(libs.swagger.annotations.jakarta)
 
@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.management.bulk;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonParser;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.ServiceFailure;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Processes bulk management requests, whose body is a JSON array of entities (or of ids, for deletions).
+ * <p>
+ * The array is read one element at a time, every element is expanded, validated and transformed on its own, and the
+ * valid ones are handed over to the service in chunks of {@code chunkSize} elements. The service is expected to run
+ * every chunk in its own transaction, so a failing chunk does not roll back the ones that were already persisted.
+ * The response contains one {@link #BULK_ITEM_RESULT_TYPE} per element of the request, in the same order.
+ *
+ * @param <T> the entity type.
+ */
+public class BulkRequestProcessor<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    public static final String BULK_ITEM_RESULT_TYPE = EDC_NAMESPACE + "BulkItemResult";
+    public static final String BULK_ITEM_RESULT_INDEX = EDC_NAMESPACE + "index";
+    public static final String BULK_ITEM_RESULT_SUCCEEDED = EDC_NAMESPACE + "succeeded";
+    public static final String BULK_ITEM_RESULT_REASON = EDC_NAMESPACE + "reason";
+    public static final String BULK_ITEM_RESULT_ERRORS = EDC_NAMESPACE + "errors";
+
+    private final JsonLd jsonLd;
+    private final JsonObjectValidatorRegistry validator;
+    private final TypeTransformerRegistry transformerRegistry;
+    private final String type;
+    private final Class<T> typeClass;
+    private final Function<T, String> idFunction;
+    private final int chunkSize;
+
+    public BulkRequestProcessor(JsonLd jsonLd, JsonObjectValidatorRegistry validator, TypeTransformerRegistry transformerRegistry,
+                                String type, Class<T> typeClass, Function<T, String> idFunction) {
+        this(jsonLd, validator, transformerRegistry, type, typeClass, idFunction, DEFAULT_CHUNK_SIZE);
+    }
+
+    public BulkRequestProcessor(JsonLd jsonLd, JsonObjectValidatorRegistry validator, TypeTransformerRegistry transformerRegistry,
+                                String type, Class<T> typeClass, Function<T, String> idFunction, int chunkSize) {
+        this.jsonLd = jsonLd;
+        this.validator = validator;
+        this.transformerRegistry = transformerRegistry;
+        this.type = type;
+        this.typeClass = typeClass;
+        this.idFunction = idFunction;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reads a JSON array of entities and passes them to the operation chunk by chunk.
+     *
+     * @param body      the request body.
+     * @param operation the service operation, that must return one result per entity, in the same order.
+     * @return one result object per element of the array.
+     */
+    public JsonArray process(InputStream body, Function<List<T>, List<ServiceResult<T>>> operation) {
+        return process(body, this::toEntity, operation);
+    }
+
+    /**
+     * Reads a JSON array of ids and passes them to the operation chunk by chunk.
+     *
+     * @param body      the request body.
+     * @param operation the service operation, that must return one result per id, in the same order.
+     * @return one result object per element of the array.
+     */
+    public JsonArray processIds(InputStream body, Function<List<String>, List<ServiceResult<T>>> operation) {
+        return process(body, this::toId, operation);
+    }
+
+    private <I> JsonArray process(InputStream body, Function<JsonValue, ServiceResult<I>> mapper, Function<List<I>, List<ServiceResult<T>>> operation) {
+        var results = new ArrayList<JsonObject>();
+        var chunk = new Chunk<I>();
+        try (var parser = Json.createParser(body)) {
+            if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+                throw new InvalidRequestException("The request body must be a JSON array");
+            }
+
+            while (parser.hasNext()) {
+                var event = parser.next();
+                if (event == JsonParser.Event.END_ARRAY) {
+                    break;
+                }
+
+                var index = results.size();
+                var element = parser.getValue();
+                var id = idOf(element);
+                var mapped = mapper.apply(element);
+                results.add(null);
+                if (mapped.failed()) {
+                    results.set(index, itemResult(index, id, mapped.getFailure()));
+                } else {
+                    chunk.add(index, id, mapped.getContent());
+                    if (chunk.size() >= chunkSize) {
+                        flush(chunk, operation, results);
+                    }
+                }
+            }
+        } catch (JsonException e) {
+            if (results.isEmpty()) {
+                throw new InvalidRequestException(format("The request body is not a valid JSON array: %s", e.getMessage()));
+            }
+            // elements that were already persisted are kept, the pending ones are not processed
+            var failure = ServiceResult.badRequest(format("Not processed, the request body is not a valid JSON array: %s", e.getMessage())).getFailure();
+            for (var i = 0; i < chunk.size(); i++) {
+                results.set(chunk.indexes.get(i), itemResult(chunk.indexes.get(i), chunk.ids.get(i), failure));
+            }
+            chunk.clear();
+        }
+
+        flush(chunk, operation, results);
+        return Json.createArrayBuilder(results).build();
+    }
+
+    private <I> void flush(Chunk<I> chunk, Function<List<I>, List<ServiceResult<T>>> operation, List<JsonObject> results) {
+        if (chunk.size() == 0) {
+            return;
+        }
+
+        try {
+            var outcomes = operation.apply(List.copyOf(chunk.items));
+            for (var i = 0; i < chunk.size(); i++) {
+                var index = chunk.indexes.get(i);
+                var outcome = outcomes.get(i);
+                if (outcome.succeeded()) {
+                    var id = outcome.getContent() != null ? idFunction.apply(outcome.getContent()) : chunk.ids.get(i);
+                    results.set(index, itemResult(index, id, null));
+                } else {
+                    results.set(index, itemResult(index, chunk.ids.get(i), outcome.getFailure()));
+                }
+            }
+        } catch (Exception e) {
+            var failure = ServiceResult.unexpected(format("Chunk could not be processed: %s", e.getMessage())).getFailure();
+            for (var i = 0; i < chunk.size(); i++) {
+                results.set(chunk.indexes.get(i), itemResult(chunk.indexes.get(i), chunk.ids.get(i), failure));
+            }
+        }
+
+        chunk.clear();
+    }
+
+    private ServiceResult<T> toEntity(JsonValue element) {
+        if (!(element instanceof JsonObject jsonObject)) {
+            return ServiceResult.badRequest("The element must be a JSON object");
+        }
+
+        var expanded = jsonLd.expand(jsonObject);
+        if (expanded.failed()) {
+            return ServiceResult.badRequest(expanded.getFailureMessages());
+        }
+
+        var validation = validator.validate(type, expanded.getContent());
+        if (validation.failed()) {
+            return ServiceResult.badRequest(validation.getFailureMessages());
+        }
+
+        var transformed = transformerRegistry.transform(expanded.getContent(), typeClass);
+        if (transformed.failed()) {
+            return ServiceResult.badRequest(transformed.getFailureMessages());
+        }
+
+        return ServiceResult.success(transformed.getContent());
+    }
+
+    private ServiceResult<String> toId(JsonValue element) {
+        if (element instanceof JsonString id) {
+            return ServiceResult.success(id.getString());
+        }
+        return ServiceResult.badRequest("The element must be a JSON string");
+    }
+
+    private @Nullable String idOf(JsonValue element) {
+        if (element instanceof JsonString id) {
+            return id.getString();
+        }
+        if (element instanceof JsonObject jsonObject && jsonObject.get(ID) instanceof JsonString id) {
+            return id.getString();
+        }
+        return null;
+    }
+
+    private JsonObject itemResult(int index, @Nullable String id, @Nullable ServiceFailure failure) {
+        var builder = Json.createObjectBuilder()
+                .add(TYPE, BULK_ITEM_RESULT_TYPE)
+                .add(BULK_ITEM_RESULT_INDEX, index);
+
+        if (id != null) {
+            builder.add(ID, id);
+        }
+
+        builder.add(BULK_ITEM_RESULT_SUCCEEDED, failure == null);
+        if (failure != null) {
+            builder.add(BULK_ITEM_RESULT_REASON, failure.getReason().name())
+                    .add(BULK_ITEM_RESULT_ERRORS, Json.createArrayBuilder(failure.getMessages()));
+        }
+
+        return builder.build();
+    }
+
+    private static class Chunk<I> {
+        private final List<Integer> indexes = new ArrayList<>();
+        private final List<String> ids = new ArrayList<>();
+        private final List<I> items = new ArrayList<>();
+
+        void add(int index, String id, I item) {
+            indexes.add(index);
+            ids.add(id);
+            items.add(item);
+        }
+
+        int size() {
+            return items.size();
+        }
+
+        void clear() {
+            indexes.clear();
+            ids.clear();
+            items.clear();
+        }
+    }
+}
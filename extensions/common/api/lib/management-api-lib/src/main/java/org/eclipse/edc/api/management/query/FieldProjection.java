@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.management.query;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.QuerySpec;
+
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Narrows a transformed entity down to the fields selected by {@link QuerySpec#getFields()}. Properties are matched
+ * by their local name in the EDC namespace, the JSON-LD {@code @id}, {@code @type} and {@code @context} are always
+ * kept.
+ */
+public class FieldProjection implements UnaryOperator<JsonObject> {
+
+    private static final Set<String> ALWAYS_SELECTED = Set.of(ID, TYPE, CONTEXT);
+
+    private final QuerySpec querySpec;
+
+    public FieldProjection(QuerySpec querySpec) {
+        this.querySpec = querySpec;
+    }
+
+    @Override
+    public JsonObject apply(JsonObject object) {
+        if (querySpec.getFields().isEmpty()) {
+            return object;
+        }
+
+        var builder = Json.createObjectBuilder();
+        object.forEach((key, value) -> {
+            if (ALWAYS_SELECTED.contains(key) || querySpec.isFieldSelected(localName(key))) {
+                builder.add(key, value);
+            }
+        });
+        return builder.build();
+    }
+
+    private String localName(String key) {
+        return key.startsWith(EDC_NAMESPACE) ? key.substring(EDC_NAMESPACE.length()) : key;
+    }
+}
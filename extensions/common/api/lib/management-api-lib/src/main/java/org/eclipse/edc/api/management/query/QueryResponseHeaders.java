@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.management.query;
+
+/**
+ * Headers returned by the management API query endpoints.
+ */
+public interface QueryResponseHeaders {
+
+    /**
+     * Number of entities that match the filter of the query, regardless of offset and limit.
+     */
+    String TOTAL_COUNT = "X-Total-Count";
+
+}
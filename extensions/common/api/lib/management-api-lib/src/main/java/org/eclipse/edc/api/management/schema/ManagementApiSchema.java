@@ -15,6 +15,7 @@
 package org.eclipse.edc.api.management.schema;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.eclipse.edc.api.management.bulk.BulkRequestProcessor;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.jsonld.spi.JsonLdKeywords;
@@ -142,4 +143,28 @@ public interface ManagementApiSchema {
                 }
                 """;
     }
+
+    @Schema(name = "BulkItemResult", example = BulkItemResultSchema.BULK_ITEM_RESULT_EXAMPLE)
+    record BulkItemResultSchema(
+            @Schema(name = JsonLdKeywords.TYPE, example = BulkRequestProcessor.BULK_ITEM_RESULT_TYPE)
+            String ldType,
+            @Schema(name = JsonLdKeywords.ID)
+            String id,
+            int index,
+            boolean succeeded,
+            String reason,
+            List<String> errors
+    ) {
+        public static final String BULK_ITEM_RESULT_EXAMPLE = """
+                {
+                    "@context": { "@vocab": "https://w3id.org/edc/v0.0.1/ns/" },
+                    "@type": "https://w3id.org/edc/v0.0.1/ns/BulkItemResult",
+                    "@id": "entity-id",
+                    "index": 3,
+                    "succeeded": false,
+                    "reason": "CONFLICT",
+                    "errors": ["Entity with ID entity-id already exists"]
+                }
+                """;
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.management.bulk;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.web.spi.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_ERRORS;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_INDEX;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_REASON;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_SUCCEEDED;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.validator.spi.Violation.violation;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BulkRequestProcessorTest {
+
+    private static final String TYPE = "test:Entity";
+
+    private final JsonLd jsonLd = mock();
+    private final JsonObjectValidatorRegistry validator = mock();
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final BulkRequestProcessor<String> processor = new BulkRequestProcessor<>(jsonLd, validator, transformerRegistry,
+            TYPE, String.class, Function.identity(), 2);
+
+    @BeforeEach
+    void setUp() {
+        when(jsonLd.expand(any())).thenAnswer(i -> Result.success(i.getArgument(0)));
+        when(validator.validate(eq(TYPE), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(JsonObject.class), eq(String.class)))
+                .thenAnswer(i -> Result.success(i.getArgument(0, JsonObject.class).getString(ID)));
+    }
+
+    @Test
+    void process_shouldPassValidElementsInChunks_andReturnResultsInInputOrder() {
+        when(validator.validate(eq(TYPE), argThat(json -> "invalid".equals(json.getString(ID)))))
+                .thenReturn(ValidationResult.failure(violation("invalid entity", "path")));
+        var chunks = new ArrayList<List<String>>();
+
+        var result = processor.process(body("[{\"@id\": \"a\"}, {\"@id\": \"invalid\"}, {\"@id\": \"b\"}, {\"@id\": \"c\"}]"), ids -> {
+            chunks.add(ids);
+            return ids.stream().map(ServiceResult::success).toList();
+        });
+
+        assertThat(chunks).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(result).hasSize(4);
+        assertThat(result.getJsonObject(0).getString(ID)).isEqualTo("a");
+        assertThat(result.getJsonObject(0).getBoolean(BULK_ITEM_RESULT_SUCCEEDED)).isTrue();
+        assertThat(result.getJsonObject(1).getString(ID)).isEqualTo("invalid");
+        assertThat(result.getJsonObject(1).getBoolean(BULK_ITEM_RESULT_SUCCEEDED)).isFalse();
+        assertThat(result.getJsonObject(1).getString(BULK_ITEM_RESULT_REASON)).isEqualTo("BAD_REQUEST");
+        assertThat(result.getJsonObject(1).getJsonArray(BULK_ITEM_RESULT_ERRORS)).isNotEmpty();
+        assertThat(result.getJsonObject(2).getInt(BULK_ITEM_RESULT_INDEX)).isEqualTo(2);
+        assertThat(result.getJsonObject(3).getString(ID)).isEqualTo("c");
+    }
+
+    @Test
+    void process_shouldReportServiceFailuresPerElement() {
+        var result = processor.process(body("[{\"@id\": \"a\"}, {\"@id\": \"b\"}]"),
+                ids -> List.of(ServiceResult.success("a"), ServiceResult.conflict("already exists")));
+
+        assertThat(result.getJsonObject(0).getBoolean(BULK_ITEM_RESULT_SUCCEEDED)).isTrue();
+        assertThat(result.getJsonObject(1).getBoolean(BULK_ITEM_RESULT_SUCCEEDED)).isFalse();
+        assertThat(result.getJsonObject(1).getString(BULK_ITEM_RESULT_REASON)).isEqualTo("CONFLICT");
+    }
+
+    @Test
+    void process_shouldFailOnlyTheChunk_whenServiceThrows() {
+        var result = processor.process(body("[{\"@id\": \"a\"}, {\"@id\": \"b\"}, {\"@id\": \"c\"}]"), ids -> {
+            if (ids.contains("a")) {
+                throw new EdcPersistenceException("connection lost");
+            }
+            return ids.stream().map(ServiceResult::success).toList();
+        });
+
+        assertThat(result.getJsonObject(0).getString(BULK_ITEM_RESULT_REASON)).isEqualTo("UNEXPECTED");
+        assertThat(result.getJsonObject(1).getString(BULK_ITEM_RESULT_REASON)).isEqualTo("UNEXPECTED");
+        assertThat(result.getJsonObject(2).getBoolean(BULK_ITEM_RESULT_SUCCEEDED)).isTrue();
+    }
+
+    @Test
+    void process_shouldThrow_whenBodyIsNotAnArray() {
+        assertThatThrownBy(() -> processor.process(body("{\"@id\": \"a\"}"), ids -> List.of()))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(jsonLd);
+    }
+
+    @Test
+    void processIds_shouldRejectElementsThatAreNotStrings() {
+        var result = processor.processIds(body("[\"a\", {\"@id\": \"b\"}]"), ids -> ids.stream().map(ServiceResult::success).toList());
+
+        assertThat(result.getJsonObject(0).getBoolean(BULK_ITEM_RESULT_SUCCEEDED)).isTrue();
+        assertThat(result.getJsonObject(1).getString(BULK_ITEM_RESULT_REASON)).isEqualTo("BAD_REQUEST");
+        verifyNoInteractions(jsonLd);
+    }
+
+    private InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(UTF_8));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.management.query;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+class FieldProjectionTest {
+
+    private final JsonObject object = Json.createObjectBuilder()
+            .add(ID, "id")
+            .add(TYPE, EDC_NAMESPACE + "TransferProcess")
+            .add(EDC_NAMESPACE + "state", "STARTED")
+            .add(EDC_NAMESPACE + "stateTimestamp", 1234L)
+            .add(EDC_NAMESPACE + "dataDestination", Json.createObjectBuilder().add(EDC_NAMESPACE + "type", "HttpData"))
+            .add(EDC_NAMESPACE + "callbackAddresses", Json.createArrayBuilder())
+            .build();
+
+    @Test
+    void shouldReturnObjectUnchanged_whenNoFieldsSelected() {
+        var result = new FieldProjection(QuerySpec.none()).apply(object);
+
+        assertThat(result).isSameAs(object);
+    }
+
+    @Test
+    void shouldKeepSelectedFieldsAndKeywords() {
+        var querySpec = QuerySpec.Builder.newInstance().field("state").field("dataDestination.type").build();
+
+        var result = new FieldProjection(querySpec).apply(object);
+
+        assertThat(result.keySet()).containsExactlyInAnyOrder(ID, TYPE, EDC_NAMESPACE + "state", EDC_NAMESPACE + "dataDestination");
+    }
+}
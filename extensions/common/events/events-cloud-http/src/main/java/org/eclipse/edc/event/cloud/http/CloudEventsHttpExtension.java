@@ -20,6 +20,8 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.outbox.OutboxRelay;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -33,6 +35,12 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Setting(required = true)
     static final String EDC_EVENTS_CLOUDEVENTS_ENDPOINT = "edc.events.cloudevents.endpoint";
 
+    @Setting(value = "If true, events are written to the outbox in the same transaction of the event and delivered asynchronously", defaultValue = "false", type = "boolean")
+    static final String EDC_EVENTS_CLOUDEVENTS_OUTBOX_ENABLED = "edc.events.cloudevents.outbox.enabled";
+
+    @Setting(value = "If true, and the outbox is enabled, events are delivered in batches using the cloud events JSON batch format", defaultValue = "false", type = "boolean")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED = "edc.events.cloudevents.batch.enabled";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -48,11 +56,23 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Inject
     private Hostname hostname;
 
+    @Inject
+    private OutboxStore outboxStore;
+
+    @Inject
+    private OutboxRelay outboxRelay;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var endpoint = context.getConfig().getString(EDC_EVENTS_CLOUDEVENTS_ENDPOINT);
 
-        eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname));
+        if (context.getSetting(EDC_EVENTS_CLOUDEVENTS_OUTBOX_ENABLED, false)) {
+            var batch = context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED, false);
+            eventRouter.registerSync(Event.class, new CloudEventsOutboxPublisher(endpoint, outboxStore, typeManager, clock, hostname));
+            outboxRelay.register(new CloudEventsOutboxDeliveryHandler(httpClient, typeManager, batch));
+        } else {
+            eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname));
+        }
     }
 
 }
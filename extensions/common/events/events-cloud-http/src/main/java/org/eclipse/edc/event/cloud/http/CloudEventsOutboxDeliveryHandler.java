@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.v1.CloudEventBuilder;
+import io.cloudevents.http.HttpMessageFactory;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.eclipse.edc.http.spi.EdcHttpClient;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryHandler;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.joining;
+import static org.eclipse.edc.event.cloud.http.CloudEventsOutboxPublisher.CLOUD_EVENTS_CHANNEL;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+
+/**
+ * Delivers the cloud events stored in the outbox. By default, every event is sent in binary mode through the cloud
+ * events SDK, exactly like the {@link CloudEventsPublisher} does. If batching is enabled all the events of a batch are
+ * sent in a single request using the cloud events JSON batch format, which is structured by definition.
+ */
+class CloudEventsOutboxDeliveryHandler implements OutboxDeliveryHandler {
+
+    private static final MediaType APPLICATION_JSON = MediaType.get("application/json");
+    private static final MediaType CLOUD_EVENTS_BATCH_JSON = MediaType.get("application/cloudevents-batch+json");
+
+    private final EdcHttpClient httpClient;
+    private final TypeManager typeManager;
+    private final boolean batch;
+
+    CloudEventsOutboxDeliveryHandler(EdcHttpClient httpClient, TypeManager typeManager, boolean batch) {
+        this.httpClient = httpClient;
+        this.typeManager = typeManager;
+        this.batch = batch;
+    }
+
+    @Override
+    public String channel() {
+        return CLOUD_EVENTS_CHANNEL;
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> deliver(String destination, List<OutboxEntry> entries) {
+        if (batch) {
+            var body = entries.stream().map(OutboxEntry::getPayload).collect(joining(",", "[", "]"));
+            var request = new Request.Builder()
+                    .url(destination)
+                    .post(RequestBody.create(body, CLOUD_EVENTS_BATCH_JSON))
+                    .build();
+            return execute(destination, request);
+        }
+
+        CompletableFuture<StatusResult<Void>> result = completedFuture(StatusResult.success());
+        for (var entry : entries) {
+            result = result.thenCompose(previous -> previous.succeeded() ? sendBinary(destination, entry) : completedFuture(previous));
+        }
+        return result;
+    }
+
+    private CompletableFuture<StatusResult<Void>> sendBinary(String destination, OutboxEntry entry) {
+        CloudEvent cloudEvent;
+        try {
+            cloudEvent = toCloudEvent(entry.getPayload());
+        } catch (Exception e) {
+            return completedFuture(StatusResult.failure(FATAL_ERROR, format("Outbox entry %s is not a valid cloud event: %s", entry.getId(), e.getMessage())));
+        }
+
+        var request = new AtomicReference<Request>();
+        var requestBuilder = new Request.Builder();
+        HttpMessageFactory.createWriter(requestBuilder::addHeader, body -> request.set(requestBuilder
+                        .url(destination)
+                        .post(RequestBody.create(body, APPLICATION_JSON))
+                        .build()))
+                .writeBinary(cloudEvent);
+
+        return execute(destination, request.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CloudEvent toCloudEvent(String payload) {
+        var structured = typeManager.readValue(payload, Map.class);
+        return new CloudEventBuilder()
+                .withId((String) structured.get("id"))
+                .withSource(URI.create((String) structured.get("source")))
+                .withType((String) structured.get("type"))
+                .withTime(OffsetDateTime.parse((String) structured.get("time")))
+                .withDataContentType((String) structured.get("datacontenttype"))
+                .withData(typeManager.writeValueAsBytes(structured.get("data")))
+                .build();
+    }
+
+    private CompletableFuture<StatusResult<Void>> execute(String destination, Request request) {
+        return httpClient.executeAsync(request, List.of())
+                .thenApply(this::toResult)
+                .exceptionally(throwable -> StatusResult.failure(ERROR_RETRY, format("Error sending cloud events to endpoint %s: %s", destination, throwable.getMessage())));
+    }
+
+    private StatusResult<Void> toResult(Response response) {
+        try (response) {
+            if (response.isSuccessful()) {
+                return StatusResult.success();
+            }
+            return StatusResult.failure(ERROR_RETRY, format("Error sending cloud events to endpoint %s, response status: %d", response.request().url(), response.code()));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.system.Hostname;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+
+/**
+ * Writes events to the {@link OutboxStore}, from where they get delivered by the {@link CloudEventsOutboxDeliveryHandler}.
+ * The entries are stored using the cloud events JSON format, so that they can be either delivered in binary mode, as
+ * the {@link CloudEventsPublisher} does, or grouped in a JSON batch.
+ */
+class CloudEventsOutboxPublisher implements EventSubscriber {
+
+    static final String CLOUD_EVENTS_CHANNEL = "cloudevents";
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String SPEC_VERSION = "1.0";
+
+    private final String endpoint;
+    private final OutboxStore outboxStore;
+    private final TypeManager typeManager;
+    private final Clock clock;
+    private final Hostname hostname;
+
+    CloudEventsOutboxPublisher(String endpoint, OutboxStore outboxStore, TypeManager typeManager, Clock clock, Hostname hostname) {
+        this.endpoint = endpoint;
+        this.outboxStore = outboxStore;
+        this.typeManager = typeManager;
+        this.clock = clock;
+        this.hostname = hostname;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var cloudEvent = new LinkedHashMap<String, Object>();
+        cloudEvent.put("specversion", SPEC_VERSION);
+        cloudEvent.put("id", event.getId());
+        cloudEvent.put("source", hostname.get());
+        cloudEvent.put("type", event.getPayload().getClass().getName());
+        cloudEvent.put("time", Instant.ofEpochMilli(event.getAt()).toString());
+        cloudEvent.put("datacontenttype", APPLICATION_JSON);
+        cloudEvent.put("data", event.getPayload());
+
+        var entry = OutboxEntry.Builder.newInstance()
+                .channel(CLOUD_EVENTS_CHANNEL)
+                .destination(endpoint)
+                .type(event.getPayload().getClass().getName())
+                .payload(typeManager.writeValueAsString(cloudEvent))
+                .createdAt(clock.millis())
+                .build();
+
+        outboxStore.save(entry);
+    }
+
+}
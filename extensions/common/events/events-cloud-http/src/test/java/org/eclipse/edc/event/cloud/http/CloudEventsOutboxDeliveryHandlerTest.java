@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.model.JsonBody;
+import org.mockserver.verify.VerificationTimes;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.event.cloud.http.CloudEventsOutboxPublisher.CLOUD_EVENTS_CHANNEL;
+import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
+import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+
+class CloudEventsOutboxDeliveryHandlerTest {
+
+    private final int port = getFreePort();
+    private final ClientAndServer server = startClientAndServer(port);
+    private final String endpoint = "http://localhost:" + port;
+    private final TypeManager typeManager = new JacksonTypeManager();
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void deliver_shouldSendSingleBatchRequest_whenBatchEnabled() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(200));
+        var handler = new CloudEventsOutboxDeliveryHandler(testHttpClient(), typeManager, true);
+
+        var result = handler.deliver(endpoint, List.of(entry("{\"id\":\"1\"}"), entry("{\"id\":\"2\"}")));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).matches(StatusResult::succeeded);
+        server.verify(HttpRequest.request()
+                .withHeader("Content-Type", "application/cloudevents-batch\\+json.*")
+                .withBody(new JsonBody("[{\"id\":\"1\"},{\"id\":\"2\"}]")), VerificationTimes.once());
+    }
+
+    @Test
+    void deliver_shouldSendOneBinaryModeRequestPerEvent_whenBatchDisabled() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(200));
+        var handler = new CloudEventsOutboxDeliveryHandler(testHttpClient(), typeManager, false);
+
+        var result = handler.deliver(endpoint, List.of(entry(cloudEvent("1")), entry(cloudEvent("2"))));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).matches(StatusResult::succeeded);
+        server.verify(HttpRequest.request()
+                .withHeader("ce-specversion", "1.0")
+                .withHeader("ce-type", "type")
+                .withHeader("ce-source", "http://source")
+                .withHeader("Content-Type", "application/json.*")
+                .withBody(new JsonBody("{\"key\":\"value\"}")), VerificationTimes.exactly(2));
+        server.verify(HttpRequest.request().withHeader("ce-id", "1"), VerificationTimes.once());
+        server.verify(HttpRequest.request().withHeader("ce-id", "2"), VerificationTimes.once());
+    }
+
+    @Test
+    void deliver_shouldFail_whenEntryIsNotACloudEvent() {
+        var handler = new CloudEventsOutboxDeliveryHandler(testHttpClient(), typeManager, false);
+
+        var result = handler.deliver(endpoint, List.of(entry("{\"id\":\"1\"}")));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).matches(StatusResult::failed);
+        server.verifyZeroInteractions();
+    }
+
+    @Test
+    void deliver_shouldFail_whenEndpointRespondsWithError() {
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withStatusCode(500));
+        var handler = new CloudEventsOutboxDeliveryHandler(testHttpClient(), typeManager, true);
+
+        var result = handler.deliver(endpoint, List.of(entry("{\"id\":\"1\"}")));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).matches(StatusResult::failed);
+    }
+
+    private String cloudEvent(String id) {
+        return "{\"specversion\":\"1.0\",\"id\":\"%s\",\"source\":\"http://source\",\"type\":\"type\",\"time\":\"2024-01-01T00:00:00Z\",\"datacontenttype\":\"application/json\",\"data\":{\"key\":\"value\"}}"
+                .formatted(id);
+    }
+
+    private OutboxEntry entry(String payload) {
+        return OutboxEntry.Builder.newInstance()
+                .channel(CLOUD_EVENTS_CHANNEL)
+                .destination(endpoint)
+                .payload(payload)
+                .build();
+    }
+}
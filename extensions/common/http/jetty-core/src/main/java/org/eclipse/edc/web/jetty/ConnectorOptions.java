@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jetty;
+
+/**
+ * Tuning options of the connector created for a {@link PortMapping}, configured with
+ * {@code web.http.<alias>.<option>}. Negative values stand for the Jetty defaults.
+ */
+public class ConnectorOptions {
+
+    public static final String HTTP2 = "http2";
+    public static final String VIRTUAL_THREADS = "virtual-threads";
+    public static final String MAX_CONNECTIONS = "max-connections";
+    public static final String MAX_CONCURRENT_STREAMS = "max-concurrent-streams";
+    public static final String ACCEPTORS = "acceptors";
+    public static final String SELECTORS = "selectors";
+
+    private boolean http2 = false;
+    private boolean virtualThreads = false;
+    private int maxConnections = -1;
+    private int maxConcurrentStreams = -1;
+    private int acceptors = -1;
+    private int selectors = -1;
+
+    private ConnectorOptions() {
+    }
+
+    public static ConnectorOptions defaults() {
+        return new ConnectorOptions();
+    }
+
+    /**
+     * Whether HTTP/2 is served next to HTTP/1.1: negotiated through ALPN over TLS, or in clear text (h2c) otherwise.
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Whether the requests are handled on virtual threads. Requires Java 21 or later.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * The maximum number of connections accepted, further connections wait until others are closed.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * The maximum number of concurrent HTTP/2 streams for a single connection.
+     */
+    public int getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+    public int getSelectors() {
+        return selectors;
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "http2=" + http2 +
+                ", virtualThreads=" + virtualThreads +
+                ", maxConnections=" + maxConnections +
+                ", maxConcurrentStreams=" + maxConcurrentStreams +
+                ", acceptors=" + acceptors +
+                ", selectors=" + selectors +
+                '}';
+    }
+
+    public static class Builder {
+        private final ConnectorOptions options;
+
+        private Builder() {
+            options = new ConnectorOptions();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder http2(boolean http2) {
+            options.http2 = http2;
+            return this;
+        }
+
+        public Builder virtualThreads(boolean virtualThreads) {
+            options.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        public Builder maxConnections(int maxConnections) {
+            options.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+            options.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+
+        public Builder acceptors(int acceptors) {
+            options.acceptors = acceptors;
+            return this;
+        }
+
+        public Builder selectors(int selectors) {
+            options.selectors = selectors;
+            return this;
+        }
+
+        public ConnectorOptions build() {
+            return options;
+        }
+    }
+}
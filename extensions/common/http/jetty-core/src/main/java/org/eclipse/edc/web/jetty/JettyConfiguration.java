@@ -50,7 +50,7 @@ public class JettyConfiguration {
                 .forEach(e -> split(tempMappings, e));
 
         var portMappings = tempMappings.entrySet().stream()
-                .map(e -> new PortMapping(e.getKey(), Integer.parseInt(e.getValue().getOrDefault("port", "" + DEFAULT_PORT)), e.getValue().getOrDefault("path", DEFAULT_PATH)))
+                .map(e -> new PortMapping(e.getKey(), Integer.parseInt(e.getValue().getOrDefault("port", "" + DEFAULT_PORT)), e.getValue().getOrDefault("path", DEFAULT_PATH), connectorOptions(e.getValue())))
                 .collect(Collectors.toSet());
 
         jettyConfig.portMappings.addAll(portMappings);
@@ -63,6 +63,17 @@ public class JettyConfiguration {
         return jettyConfig;
     }
 
+    private static ConnectorOptions connectorOptions(Map<String, String> mapping) {
+        return ConnectorOptions.Builder.newInstance()
+                .http2(Boolean.parseBoolean(mapping.getOrDefault(ConnectorOptions.HTTP2, "false")))
+                .virtualThreads(Boolean.parseBoolean(mapping.getOrDefault(ConnectorOptions.VIRTUAL_THREADS, "false")))
+                .maxConnections(Integer.parseInt(mapping.getOrDefault(ConnectorOptions.MAX_CONNECTIONS, "-1")))
+                .maxConcurrentStreams(Integer.parseInt(mapping.getOrDefault(ConnectorOptions.MAX_CONCURRENT_STREAMS, "-1")))
+                .acceptors(Integer.parseInt(mapping.getOrDefault(ConnectorOptions.ACCEPTORS, "-1")))
+                .selectors(Integer.parseInt(mapping.getOrDefault(ConnectorOptions.SELECTORS, "-1")))
+                .build();
+    }
+
     /**
      * converts a map entry, that looks like "something.port" -> 1234, into a map entry, that looks like
      * "something" -> ("port" -> "1234") and adds it to an existing map
@@ -72,7 +83,7 @@ public class JettyConfiguration {
         var key = entry.getKey();
         var value = entry.getValue();
 
-        // only <alias>.[port|path] is accepted
+        // only <alias>.<component> is accepted, e.g. <alias>.port, <alias>.path or a connector option
         if (key.split("\\.").length != 2) {
             return;
         }
@@ -21,7 +21,14 @@ import jakarta.servlet.Servlet;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.web.spi.WebServer;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.ConnectionLimit;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
@@ -32,8 +39,11 @@ import org.eclipse.jetty.server.handler.ContextHandlerCollection;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.Source;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.security.KeyStore;
 import java.util.ArrayList;
@@ -42,6 +52,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -87,17 +98,22 @@ public class JettyService implements WebServer {
                     throw new IllegalArgumentException("A binding for port " + mapping.getPort() + " already exists");
                 }
 
+                var options = mapping.getConnectorOptions();
                 if (keyStore != null) {
-                    connector = httpsServerConnector(mapping.getPort());
+                    connector = httpsServerConnector(mapping);
                     monitor.info("HTTPS context '" + mapping.getName() + "' listening on port " + mapping.getPort());
                 } else {
-                    connector = httpServerConnector();
+                    connector = httpServerConnector(mapping);
                     monitor.info("HTTP context '" + mapping.getName() + "' listening on port " + mapping.getPort());
                 }
 
                 connector.setName(mapping.getName());
                 connector.setPort(mapping.getPort());
 
+                if (options.getMaxConnections() > 0) {
+                    server.addBean(new ConnectionLimit(options.getMaxConnections(), connector));
+                }
+
                 configure(connector);
                 server.addConnector(connector);
 
@@ -172,7 +188,8 @@ public class JettyService implements WebServer {
     }
 
     @NotNull
-    private ServerConnector httpsServerConnector(int port) {
+    private ServerConnector httpsServerConnector(PortMapping mapping) {
+        var options = mapping.getConnectorOptions();
         var storePassword = configuration.getKeystorePassword();
         var managerPassword = configuration.getKeymanagerPassword();
 
@@ -185,17 +202,67 @@ public class JettyService implements WebServer {
 
         var httpsConfiguration = new HttpConfiguration();
         httpsConfiguration.setSecureScheme("https");
-        httpsConfiguration.setSecurePort(port);
+        httpsConfiguration.setSecurePort(mapping.getPort());
         httpsConfiguration.addCustomizer(new SecureRequestCustomizer());
 
         var httpConnectionFactory = new HttpConnectionFactory(httpsConfiguration);
-        var sslConnectionFactory = new SslConnectionFactory(contextFactory, HttpVersion.HTTP_1_1.asString());
-        return new ServerConnector(server, sslConnectionFactory, httpConnectionFactory);
+        if (!options.isHttp2()) {
+            var sslConnectionFactory = new SslConnectionFactory(contextFactory, HttpVersion.HTTP_1_1.asString());
+            return serverConnector(mapping, sslConnectionFactory, httpConnectionFactory);
+        }
+
+        // HTTP/2 over TLS is negotiated through ALPN, falling back to HTTP/1.1
+        contextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+        var http2ConnectionFactory = new HTTP2ServerConnectionFactory(httpsConfiguration);
+        limitStreams(http2ConnectionFactory, options);
+        var alpnConnectionFactory = new ALPNServerConnectionFactory();
+        alpnConnectionFactory.setDefaultProtocol(httpConnectionFactory.getProtocol());
+        var sslConnectionFactory = new SslConnectionFactory(contextFactory, alpnConnectionFactory.getProtocol());
+        return serverConnector(mapping, sslConnectionFactory, alpnConnectionFactory, http2ConnectionFactory, httpConnectionFactory);
+    }
+
+    @NotNull
+    private ServerConnector httpServerConnector(PortMapping mapping) {
+        var httpConfiguration = httpConfiguration();
+        var httpConnectionFactory = new HttpConnectionFactory(httpConfiguration);
+        if (!mapping.getConnectorOptions().isHttp2()) {
+            return serverConnector(mapping, httpConnectionFactory);
+        }
+
+        // clear text HTTP/2, either through prior knowledge or through an upgrade from HTTP/1.1
+        var http2ConnectionFactory = new HTTP2CServerConnectionFactory(httpConfiguration);
+        limitStreams(http2ConnectionFactory, mapping.getConnectorOptions());
+        return serverConnector(mapping, httpConnectionFactory, http2ConnectionFactory);
     }
 
     @NotNull
-    private ServerConnector httpServerConnector() {
-        return new ServerConnector(server, httpConnectionFactory());
+    private ServerConnector serverConnector(PortMapping mapping, ConnectionFactory... connectionFactories) {
+        var options = mapping.getConnectorOptions();
+        return new ServerConnector(server, executor(mapping), null, null, options.getAcceptors(), options.getSelectors(), connectionFactories);
+    }
+
+    /**
+     * Executor of the connector, null to use the server thread pool.
+     */
+    @Nullable
+    private Executor executor(PortMapping mapping) {
+        if (!mapping.getConnectorOptions().isVirtualThreads()) {
+            return null;
+        }
+        if (!VirtualThreads.areSupported()) {
+            monitor.warning("Virtual threads are not supported by the Java runtime, context '" + mapping.getName() + "' will use the default thread pool");
+            return null;
+        }
+        var threadPool = new QueuedThreadPool();
+        threadPool.setName("jetty-" + mapping.getName());
+        threadPool.setUseVirtualThreads(true);
+        return threadPool;
+    }
+
+    private void limitStreams(AbstractHTTP2ServerConnectionFactory connectionFactory, ConnectorOptions options) {
+        if (options.getMaxConcurrentStreams() > 0) {
+            connectionFactory.setMaxConcurrentStreams(options.getMaxConcurrentStreams());
+        }
     }
 
     private void configure(ServerConnector connector) {
@@ -203,10 +270,10 @@ public class JettyService implements WebServer {
     }
 
     @NotNull
-    private HttpConnectionFactory httpConnectionFactory() {
-        HttpConfiguration https = new HttpConfiguration();
-        https.setSendServerVersion(false);
-        return new HttpConnectionFactory(https);
+    private HttpConfiguration httpConfiguration() {
+        var httpConfiguration = new HttpConfiguration();
+        httpConfiguration.setSendServerVersion(false);
+        return httpConfiguration;
     }
 
     private ServletContextHandler getOrCreate(String contextPath) {
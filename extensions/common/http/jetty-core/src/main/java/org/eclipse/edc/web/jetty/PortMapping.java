@@ -24,6 +24,7 @@ public class PortMapping {
     private final String alias;
     private final int port;
     private final String path;
+    private final ConnectorOptions connectorOptions;
 
     public static PortMapping getDefault() {
         return getDefault(JettyConfiguration.DEFAULT_PORT);
@@ -34,9 +35,14 @@ public class PortMapping {
     }
 
     public PortMapping(String name, int port, String path) {
+        this(name, port, path, ConnectorOptions.defaults());
+    }
+
+    public PortMapping(String name, int port, String path, ConnectorOptions connectorOptions) {
         alias = name;
         this.port = port;
         this.path = path;
+        this.connectorOptions = connectorOptions;
     }
 
     public String getName() {
@@ -51,12 +57,17 @@ public class PortMapping {
         return path;
     }
 
+    public ConnectorOptions getConnectorOptions() {
+        return connectorOptions;
+    }
+
     @Override
     public String toString() {
         return "{" +
                 "alias='" + alias + '\'' +
                 ", port=" + port +
                 ", path='" + path + '\'' +
+                ", connector=" + connectorOptions +
                 '}';
     }
 }
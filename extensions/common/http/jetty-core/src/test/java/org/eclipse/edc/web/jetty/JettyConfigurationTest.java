@@ -132,4 +132,34 @@ class JettyConfigurationTest {
         assertThat(result.getPortMappings()).hasSize(2).allMatch(pm -> pm.getPort() == 8888);
 
     }
+
+    @Test
+    void createFromConfig_connectorOptions() {
+        var res = JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of(
+                "web.http.port", "1234",
+                "web.http.control.port", "8888",
+                "web.http.control.path", "/control",
+                "web.http.control.http2", "true",
+                "web.http.control.virtual-threads", "true",
+                "web.http.control.max-connections", "100",
+                "web.http.control.max-concurrent-streams", "50",
+                "web.http.control.acceptors", "1",
+                "web.http.control.selectors", "2"
+        )));
+
+        assertThat(res.getPortMappings()).hasSize(2).anySatisfy(pm -> {
+            assertThat(pm.getName()).isEqualTo("default");
+            assertThat(pm.getConnectorOptions().isHttp2()).isFalse();
+            assertThat(pm.getConnectorOptions().getMaxConnections()).isEqualTo(-1);
+        }).anySatisfy(pm -> {
+            assertThat(pm.getName()).isEqualTo("control");
+            var options = pm.getConnectorOptions();
+            assertThat(options.isHttp2()).isTrue();
+            assertThat(options.isVirtualThreads()).isTrue();
+            assertThat(options.getMaxConnections()).isEqualTo(100);
+            assertThat(options.getMaxConcurrentStreams()).isEqualTo(50);
+            assertThat(options.getAcceptors()).isEqualTo(1);
+            assertThat(options.getSelectors()).isEqualTo(2);
+        });
+    }
 }
@@ -28,6 +28,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -169,6 +173,28 @@ class JettyServiceTest {
                 .hasRootCauseMessage("A binding for port 7171 already exists");
     }
 
+    @Test
+    void verifyClearTextHttp2() throws Exception {
+        var config = ConfigFactory.fromMap(Map.of(
+                "web.http.port", "7171",
+                "web.http.http2", "true",
+                "web.http.virtual-threads", "true",
+                "web.http.max-connections", "10"));
+        jettyService = new JettyService(JettyConfiguration.createFromConfig(null, null, config), monitor);
+
+        jettyService.start();
+
+        jettyService.registerServlet("default", new TestServlet());
+
+        var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build();
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:7171/api/test/resource")).GET().build();
+
+        var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    }
+
     @AfterEach
     void teardown() {
         jettyService.shutdown();
@@ -77,6 +77,8 @@ public class JerseyJsonLdInterceptor implements ReaderInterceptor, WriterInterce
             context.setEntity(compacted);
         } else if (context.getEntity() instanceof JsonObject jsonObject) {
             context.setEntity(compact(jsonObject));
+        } else if (context.getEntity() instanceof JsonArrayStreamingOutput streamingOutput) {
+            context.setEntity(streamingOutput.map(this::compact));
         }
 
         context.proceed();
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jersey.providers.jsonld;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Writes a JSON array whose items are pushed one at a time by a producer, so that the whole array never needs to be
+ * held in memory. The producer runs when the response gets written, its items are compacted by the
+ * {@link JerseyJsonLdInterceptor} registered on the same context.
+ * <p>
+ * The opening bracket is only written together with the first item: as long as the producer did not push anything,
+ * an exception thrown by it can still be mapped to a proper error response.
+ */
+public class JsonArrayStreamingOutput implements StreamingOutput {
+
+    private final Consumer<Consumer<JsonObject>> producer;
+    private final UnaryOperator<JsonObject> mapper;
+
+    public JsonArrayStreamingOutput(Consumer<Consumer<JsonObject>> producer) {
+        this(producer, UnaryOperator.identity());
+    }
+
+    private JsonArrayStreamingOutput(Consumer<Consumer<JsonObject>> producer, UnaryOperator<JsonObject> mapper) {
+        this.producer = producer;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Returns a new output that applies the function to every item, after the functions already registered.
+     */
+    public JsonArrayStreamingOutput map(UnaryOperator<JsonObject> function) {
+        return new JsonArrayStreamingOutput(producer, item -> function.apply(mapper.apply(item)));
+    }
+
+    @Override
+    public void write(OutputStream output) throws WebApplicationException {
+        var generator = Json.createGenerator(output);
+        var started = new AtomicBoolean(false);
+
+        producer.accept(item -> {
+            if (!started.getAndSet(true)) {
+                generator.writeStartArray();
+            }
+            generator.write(mapper.apply(item));
+        });
+
+        if (!started.get()) {
+            generator.writeStartArray();
+        }
+        generator.writeEnd();
+        generator.flush();
+    }
+}
@@ -20,6 +20,7 @@ import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
@@ -35,6 +36,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -168,6 +170,36 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
                 .statusCode(500);
     }
 
+    @Test
+    void compaction_streaming_shouldCompactEveryItem() {
+        when(jsonLd.compact(any(), eq(SCOPE))).thenReturn(Result.success(compactedJson()));
+
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/streaming/json-object")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .body("[0].compacted-key", is("compacted-value"))
+                .body("[1].compacted-key", is("compacted-value"));
+
+        verify(jsonLd, times(2)).compact(expandedJson(), SCOPE);
+    }
+
+    @Test
+    void compaction_streaming_shouldWriteEmptyArray_whenNothingIsProduced() {
+        given()
+                .port(port)
+                .accept(JSON)
+                .get("/get/streaming/empty")
+                .then()
+                .statusCode(200)
+                .body("size()", is(0));
+
+        verifyNoInteractions(jsonLd);
+    }
+
     @Test
     void compaction_multiple_shouldNotHappen_whenOutputIsNotJsonObject() {
         given()
@@ -237,6 +269,21 @@ class JerseyJsonLdInterceptorTest extends RestControllerTestBase {
             return Json.createArrayBuilder().add(expandedJson()).build();
         }
 
+        @GET
+        @Path("/get/streaming/json-object")
+        public StreamingOutput getStreamingJsonObject() {
+            return new JsonArrayStreamingOutput(sink -> {
+                sink.accept(expandedJson());
+                sink.accept(expandedJson());
+            });
+        }
+
+        @GET
+        @Path("/get/streaming/empty")
+        public StreamingOutput getStreamingEmpty() {
+            return new JsonArrayStreamingOutput(sink -> { });
+        }
+
         @GET
         @Path("/get/multiple/not-json-object")
         public List<Map<String, String>> getMultipleNotJsonObject() {
@@ -14,23 +14,22 @@
 
 package org.eclipse.edc.sql;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Optional;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code int} argument into its corresponding position of a statement
      */
-    INT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Integer;
-        }
-
+    INT(Integer.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setInt(position, (int) argument);
@@ -39,12 +38,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code long} argument into its corresponding position of a statement
      */
-    LONG {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Long;
-        }
-
+    LONG(Long.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setLong(position, (long) argument);
@@ -53,12 +47,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code double} argument into its corresponding position of a statement
      */
-    DOUBLE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Double;
-        }
-
+    DOUBLE(Double.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setDouble(position, (double) argument);
@@ -67,12 +56,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code float} argument into its corresponding position of a statement
      */
-    FLOAT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Float;
-        }
-
+    FLOAT(Float.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setFloat(position, (float) argument);
@@ -81,12 +65,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code short} argument into its corresponding position of a statement
      */
-    SHORT {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Short;
-        }
-
+    SHORT(Short.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setShort(position, (short) argument);
@@ -95,12 +74,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.math.BigDecimal} argument into its corresponding position of a statement
      */
-    BIG_DECIMAL {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof BigDecimal;
-        }
-
+    BIG_DECIMAL(BigDecimal.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBigDecimal(position, (BigDecimal) argument);
@@ -109,12 +83,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.lang.String} argument into its corresponding position of a statement
      */
-    STRING {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof String;
-        }
-
+    STRING(String.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setString(position, (String) argument);
@@ -123,12 +92,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code boolean} argument into its corresponding position of a statement
      */
-    BOOLEAN {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Boolean;
-        }
-
+    BOOLEAN(Boolean.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBoolean(position, (Boolean) argument);
@@ -137,12 +101,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.util.Date} argument into its corresponding position of a statement
      */
-    DATE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Date;
-        }
-
+    DATE(Date.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setTimestamp(position, new Timestamp(((Date) argument).getTime()));
@@ -151,12 +110,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code byte} argument into its corresponding position of a statement
      */
-    BYTE {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof Byte;
-        }
-
+    BYTE(Byte.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setByte(position, (Byte) argument);
@@ -165,12 +119,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code byte[]} array argument into its corresponding position of a statement
      */
-    BYTES {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof byte[];
-        }
-
+    BYTES(byte[].class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBytes(position, (byte[]) argument);
@@ -179,12 +128,7 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code java.io.InputStream} argument into its corresponding position of a statement
      */
-    INPUT_STREAM {
-        @Override
-        public boolean accepts(Object value) {
-            return value instanceof InputStream;
-        }
-
+    INPUT_STREAM(InputStream.class) {
         @Override
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setBlob(position, (InputStream) argument);
@@ -193,15 +137,48 @@ enum ArgumentHandlers implements ArgumentHandler {
     /**
      * Sets an {@code null} argument into its corresponding position of a statement
      */
-    NULL {
+    NULL(null) {
         @Override
-        public boolean accepts(Object value) {
-            return value == null;
+        public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
+            statement.setNull(position, java.sql.Types.NULL);
         }
+    };
 
+    /**
+     * Dispatch table from argument type to the first handler that accepts it, so that the handlers do not have to be
+     * probed one by one for every bound argument.
+     */
+    private static final ClassValue<Optional<ArgumentHandler>> HANDLERS_BY_TYPE = new ClassValue<>() {
         @Override
-        public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
-            statement.setNull(position, java.sql.Types.NULL);
+        protected Optional<ArgumentHandler> computeValue(Class<?> type) {
+            return Arrays.stream(values())
+                    .filter(handler -> handler.type != null && handler.type.isAssignableFrom(type))
+                    .map(ArgumentHandler.class::cast)
+                    .findFirst();
         }
+    };
+
+    private final Class<?> type;
+
+    ArgumentHandlers(Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns the handler for the given argument.
+     *
+     * @param argument the argument to be bound, may be null
+     * @return the handler, or null if no dedicated handler exists for the type of the argument
+     */
+    static @Nullable ArgumentHandler forArgument(@Nullable Object argument) {
+        if (argument == null) {
+            return NULL;
+        }
+        return HANDLERS_BY_TYPE.get(argument.getClass()).orElse(null);
+    }
+
+    @Override
+    public boolean accepts(Object value) {
+        return type == null ? value == null : type.isInstance(value);
     }
 }
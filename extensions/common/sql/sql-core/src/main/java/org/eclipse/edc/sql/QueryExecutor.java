@@ -15,6 +15,7 @@
 package org.eclipse.edc.sql;
 
 import java.sql.Connection;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -31,6 +32,18 @@ public interface QueryExecutor {
      */
     int execute(Connection connection, String sql, Object... arguments);
 
+    /**
+     * Intended for executing the same mutating query for many sets of parameters, e.g. bulk inserts. Implementations
+     * should send the statements to the database in as few round trips as possible.
+     *
+     * @param sql the parametrized sql query
+     * @param arguments one parameter set per execution of the query
+     * @return the rows changed by each execution, in the order of the parameter sets
+     */
+    default int[] executeBatch(Connection connection, String sql, List<Object[]> arguments) {
+        return arguments.stream().mapToInt(it -> execute(connection, sql, it)).toArray();
+    }
+
     /**
      * Intended for reading queries.
      * The resulting {@link Stream} must be closed with the "close()" when a terminal operation is used on the stream
@@ -40,4 +40,11 @@ public class PostgresDialect {
         return "::json";
     }
 
+    /**
+     * Returns the Postgres operator to cast a varchar to jsonb ({@code "::jsonb"})
+     */
+    public static String getJsonbCastOperator() {
+        return "::jsonb";
+    }
+
 }
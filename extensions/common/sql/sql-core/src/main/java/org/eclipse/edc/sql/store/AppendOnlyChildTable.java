@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.store;
+
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.statement.SqlExecuteStatement;
+import org.eclipse.edc.util.stream.PartitionIterator;
+
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.util.Collections.nCopies;
+
+/**
+ * Child table that stores the elements of an ever-growing list owned by an entity, one row per element, keyed by the
+ * owner id and the element position.
+ * <p>
+ * Saving only inserts the elements that were appended since the last save, so the cost of persisting a state
+ * transition does not depend on the length of the history. Lists are assumed to be append-only: elements already
+ * stored are never rewritten nor deleted, a list shorter than the stored one (e.g. saved from a stale copy of the
+ * owner) does not change the stored elements.
+ * <p>
+ * Loading is done in batches of owners, so that reading a page of entities runs one query per batch instead of one
+ * per entity.
+ */
+public class AppendOnlyChildTable {
+
+    private static final int LOAD_BATCH_SIZE = 100;
+
+    private final String tableName;
+    private final String ownerIdColumn;
+    private final String positionColumn;
+    private final String valueColumn;
+    private final String sizeTemplate;
+    private final String insertTemplate;
+
+    /**
+     * Creates the child table statements.
+     *
+     * @param tableName the child table name.
+     * @param ownerIdColumn the column that references the owner entity.
+     * @param positionColumn the column that stores the position of the element in the list.
+     * @param valueColumn the column that stores the serialized element.
+     * @param jsonCastOperator the operator used to cast the element as JSON, empty if the value column is not JSON.
+     */
+    public AppendOnlyChildTable(String tableName, String ownerIdColumn, String positionColumn, String valueColumn, String jsonCastOperator) {
+        this.tableName = tableName;
+        this.ownerIdColumn = ownerIdColumn;
+        this.positionColumn = positionColumn;
+        this.valueColumn = valueColumn;
+        sizeTemplate = format("SELECT COALESCE(MAX(%s) + 1, 0) FROM %s WHERE %s = ?;", positionColumn, tableName, ownerIdColumn);
+        insertTemplate = SqlExecuteStatement.newInstance(jsonCastOperator)
+                .column(ownerIdColumn)
+                .column(positionColumn)
+                .jsonColumn(valueColumn)
+                .insertInto(tableName);
+    }
+
+    /**
+     * Loads the stored elements of the owners of a stream, lazily, one batch of owners at a time.
+     *
+     * @param queryExecutor the query executor.
+     * @param connection the connection, it won't be closed.
+     * @param owners the owner entities.
+     * @param ownerId provides the id of an owner.
+     * @param consumer receives every owner with its serialized elements, in the order they were appended, empty if none
+     *                 was stored.
+     * @param <T> the owner type.
+     * @return the owners, closing the returned stream closes the passed one.
+     */
+    public <T> Stream<T> loadAll(QueryExecutor queryExecutor, Connection connection, Stream<T> owners,
+                                 Function<T, String> ownerId, BiConsumer<T, List<String>> consumer) {
+        return PartitionIterator.streamOf(owners, LOAD_BATCH_SIZE)
+                .flatMap(batch -> {
+                    var elements = load(queryExecutor, connection, batch.stream().map(ownerId).toList());
+                    batch.forEach(owner -> consumer.accept(owner, elements.getOrDefault(ownerId.apply(owner), List.of())));
+                    return batch.stream();
+                })
+                .onClose(owners::close);
+    }
+
+    /**
+     * Loads the stored elements of a set of owners with a single query.
+     *
+     * @param queryExecutor the query executor.
+     * @param connection the connection, it won't be closed.
+     * @param ownerIds the ids of the entities that own the lists.
+     * @return the serialized elements by owner id, in the order they were appended. Owners without stored elements are
+     *         not contained.
+     */
+    public Map<String, List<String>> load(QueryExecutor queryExecutor, Connection connection, Collection<String> ownerIds) {
+        if (ownerIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var selectTemplate = format("SELECT %s, %s FROM %s WHERE %s IN (%s) ORDER BY %s, %s;",
+                ownerIdColumn, valueColumn, tableName, ownerIdColumn, String.join(", ", nCopies(ownerIds.size(), "?")),
+                ownerIdColumn, positionColumn);
+        try (var stream = queryExecutor.query(connection, false, rs -> Map.entry(rs.getString(1), rs.getString(2)), selectTemplate, ownerIds.toArray())) {
+            return stream.collect(Collectors.groupingBy(Map.Entry::getKey, LinkedHashMap::new,
+                    Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+        }
+    }
+
+    /**
+     * Stores the elements that are not stored yet. Elements already stored are left untouched, also when the passed
+     * list is shorter than the stored one.
+     *
+     * @param queryExecutor the query executor.
+     * @param connection the connection, it won't be closed.
+     * @param ownerId the id of the entity that owns the list.
+     * @param elements the whole list of serialized elements.
+     * @return the number of elements inserted.
+     */
+    public int append(QueryExecutor queryExecutor, Connection connection, String ownerId, List<String> elements) {
+        Integer stored = queryExecutor.single(connection, false, rs -> rs.getInt(1), sizeTemplate, ownerId);
+        var storedSize = stored == null ? 0 : stored;
+
+        for (var position = storedSize; position < elements.size(); position++) {
+            queryExecutor.execute(connection, insertTemplate, ownerId, position, elements.get(position));
+        }
+        return Math.max(0, elements.size() - storedSize);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.translation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link JsonFieldTranslator} for columns of type {@code jsonb}. Containment on string values is translated into the
+ * containment operator {@code @>}, which can be served by a GIN index on the column, e.g.
+ * {@code properties -> 'key' ?? ?} becomes {@code properties @> ?::jsonb} with {@code {"key": ["value"]}} as parameter.
+ * <p>
+ * Equality on string values is translated into the containment operator as well, but since a string right operand
+ * also has to match numeric and boolean properties by their text representation, the {@code ->>} comparison is kept
+ * as an alternative, e.g. {@code (properties @> ?::jsonb OR properties ->> 'key' = ?)}.
+ * All other criteria are translated like in the {@link JsonFieldTranslator}.
+ */
+public class JsonbFieldTranslator extends JsonFieldTranslator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String EQUAL = "=";
+    private static final String CONTAINS = "??";
+
+    public JsonbFieldTranslator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        if (criterion.getOperandRight() instanceof String value) {
+            var representation = operator.representation();
+            if (EQUAL.equals(representation)) {
+                var containment = containment(path, value);
+                var comparison = super.toWhereClause(path, criterion, operator);
+                var parameters = new ArrayList<>(containment.parameters());
+                parameters.addAll(comparison.parameters());
+                return new WhereClause("(%s OR %s)".formatted(containment.sql(), comparison.sql()), parameters);
+            }
+            if (CONTAINS.equals(representation)) {
+                return containment(path, List.of(value));
+            }
+        }
+        return super.toWhereClause(path, criterion, operator);
+    }
+
+    private WhereClause containment(List<PathItem> path, Object value) {
+        Object document = value;
+        for (var i = path.size() - 1; i >= 0; i--) {
+            document = Map.of(path.get(i).toString(), document);
+        }
+        try {
+            return new WhereClause("%s @> ?::jsonb".formatted(columnName), MAPPER.writeValueAsString(document));
+        } catch (JsonProcessingException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+}
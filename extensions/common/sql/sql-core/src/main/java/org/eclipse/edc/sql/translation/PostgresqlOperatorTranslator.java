@@ -20,6 +20,7 @@ import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.CONTAINS;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.EQUAL;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.ILIKE;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.IN;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.LESS_THAN_OR_EQUAL;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.LIKE;
 import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.NOT_EQUAL;
 
@@ -37,6 +38,7 @@ public class PostgresqlOperatorTranslator implements SqlOperatorTranslator {
             case ILIKE -> new SqlOperator("ilike", String.class);
             case IN -> new SqlOperator("in", Collection.class);
             case CONTAINS -> new SqlOperator("??", Object.class);
+            case LESS_THAN_OR_EQUAL -> new SqlOperator("<=", Object.class);
             default -> null;
         };
     }
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -100,6 +101,24 @@ public class SqlQueryExecutorIntegrationTest {
         assertThat(kvs).hasSize(1).first().isEqualTo(keyValue);
     }
 
+    @Test
+    void executeBatch(Connection connection) {
+        var arguments = List.of(new Object[]{ "k1", "v1" }, new Object[]{ "k2", "v2" }, new Object[]{ "k3", "v3" });
+
+        var updateCounts = executor.executeBatch(connection, format("INSERT INTO %s (k, v) values (?, ?)", table), arguments);
+
+        assertThat(updateCounts).containsExactly(1, 1, 1);
+        var count = executor.single(connection, false, rs -> rs.getInt(1), format("SELECT COUNT(*) FROM %s", table));
+        assertThat(count).isEqualTo(3);
+    }
+
+    @Test
+    void executeBatch_shouldNotHitDatabase_whenNoArguments(Connection connection) {
+        var updateCounts = executor.executeBatch(connection, "Lorem ipsum dolor sit amet", List.of());
+
+        assertThat(updateCounts).isEmpty();
+    }
+
     @Test
     void testInvalidSql(Connection connection) {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
@@ -69,6 +69,7 @@ class SqlQueryExecutorTest {
                     Arguments.of((byte) 1, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setByte(1, (byte) 1)),
                     Arguments.of(BigDecimal.valueOf(1L), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBigDecimal(1, BigDecimal.valueOf(1L))),
                     Arguments.of(new Date(), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setTimestamp(Mockito.eq(1), Mockito.any(Timestamp.class))),
+                    Arguments.of(new Timestamp(0L), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setTimestamp(1, new Timestamp(0L))),
                     Arguments.of("bytes".getBytes(), (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBytes(1, "bytes".getBytes())),
                     Arguments.of(inputStream, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setBlob(1, inputStream)),
                     Arguments.of(object, (MockitoPreparedStatementVerification) (statement) -> verify(statement).setObject(1, object))
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.util.reflection.PathItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class JsonbFieldTranslatorTest {
+
+    private final JsonbFieldTranslator translator = new JsonbFieldTranslator("column_name");
+
+    @Test
+    void shouldUseContainmentOrTextComparison_whenEqualsOnString() {
+        var result = translator.toWhereClause(PathItem.parse("nested.'https://some.key'"), criterion("json.nested", "=", "value"), new SqlOperator("=", Object.class));
+
+        assertThat(result.sql()).isEqualTo("(column_name @> ?::jsonb OR column_name -> 'nested' ->> 'https://some.key' = ?)");
+        assertThat(result.parameters()).containsExactly("{\"nested\":{\"https://some.key\":\"value\"}}", "value");
+    }
+
+    @Test
+    void shouldUseArrayContainment_whenContainsOnString() {
+        var result = translator.toWhereClause(PathItem.parse("list"), criterion("json.list", "contains", "value"), new SqlOperator("??", Object.class));
+
+        assertThat(result.sql()).isEqualTo("column_name @> ?::jsonb");
+        assertThat(result.parameters()).containsExactly("{\"list\":[\"value\"]}");
+    }
+
+    @Test
+    void shouldFallBackToJsonOperators_whenOperatorIsNotIndexable() {
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion("json.field", "like", "val%"), new SqlOperator("like", String.class));
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' like ?");
+        assertThat(result.parameters()).containsExactly("val%");
+    }
+
+    @Test
+    void shouldFallBackToJsonOperators_whenRightOperandIsNotString() {
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion("json.field", "in", List.of("a", "b")), new SqlOperator("in", Object.class));
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' in (?,?)");
+        assertThat(result.parameters()).containsExactly("a", "b");
+    }
+}
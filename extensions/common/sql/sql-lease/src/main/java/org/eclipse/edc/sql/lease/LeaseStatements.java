@@ -36,6 +36,11 @@ public interface LeaseStatements extends SqlStatements {
                 getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
     }
 
+    default String getRenewLeaseTemplate() {
+        return format("UPDATE %s SET %s = ? WHERE %s = ? AND %s = ?",
+                getLeaseTableName(), getLeasedAtColumn(), getLeaseIdColumn(), getLeasedByColumn());
+    }
+
     default String getLeaseTableName() {
         return "edc_lease";
     }
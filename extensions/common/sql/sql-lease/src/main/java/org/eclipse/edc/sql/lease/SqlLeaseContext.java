@@ -43,10 +43,12 @@ public class SqlLeaseContext implements LeaseContext {
     private final Clock clock;
     private final Duration leaseDuration;
     private final QueryExecutor queryExecutor;
+    private final Templates templates;
 
-    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor) {
+    SqlLeaseContext(TransactionContext trxContext, LeaseStatements statements, Templates templates, String leaseHolder, Clock clock, Duration leaseDuration, Connection connection, QueryExecutor queryExecutor) {
         this.trxContext = trxContext;
         this.statements = statements;
+        this.templates = templates;
         this.leaseHolder = leaseHolder;
         this.clock = clock;
         this.leaseDuration = leaseDuration;
@@ -65,7 +67,7 @@ public class SqlLeaseContext implements LeaseContext {
                     throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot break lease!");
                 }
 
-                var stmt = statements.getDeleteLeaseTemplate();
+                var stmt = templates.deleteLease();
                 queryExecutor.execute(connection, stmt, l.getLeaseId());
             }
         });
@@ -84,23 +86,37 @@ public class SqlLeaseContext implements LeaseContext {
 
             //clean out old lease if present
             if (lease != null) {
-                var deleteStmt = statements.getDeleteLeaseTemplate();
+                var deleteStmt = templates.deleteLease();
                 queryExecutor.execute(connection, deleteStmt, lease.getLeaseId());
             }
 
             // create new lease in DB
             var id = UUID.randomUUID().toString();
             var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
-            var stmt = statements.getInsertLeaseTemplate();
+            var stmt = templates.insertLease();
             queryExecutor.execute(connection, stmt, id, leaseHolder, now, duration);
 
             //update entity with lease -> effectively lease entity
-            var updStmt = statements.getUpdateLeaseTemplate();
+            var updStmt = templates.updateLease();
             queryExecutor.execute(connection, updStmt, id, entityId);
 
         });
     }
 
+    @Override
+    public void renewLease(String entityId) {
+        trxContext.execute(() -> {
+            var lease = getLease(entityId);
+
+            if (lease == null || lease.isExpired(clock) || !Objects.equals(leaseHolder, lease.getLeasedBy())) {
+                throw new IllegalStateException("Current runtime does not hold the lease for Object (id [" + entityId + "]), cannot renew lease!");
+            }
+
+            var stmt = templates.renewLease();
+            queryExecutor.execute(connection, stmt, clock.millis(), lease.getLeaseId(), leaseHolder);
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
@@ -108,7 +124,7 @@ public class SqlLeaseContext implements LeaseContext {
      * @return The respective lease, or null of entity is not leased.
      */
     public @Nullable SqlLease getLease(String entityId) {
-        var stmt = statements.getFindLeaseByEntityTemplate();
+        var stmt = templates.findLeaseByEntity();
         return queryExecutor.single(connection, false, this::mapLease, stmt, entityId);
     }
 
@@ -119,4 +135,16 @@ public class SqlLeaseContext implements LeaseContext {
         lease.setLeaseId(resultSet.getString(statements.getLeaseIdColumn()));
         return lease;
     }
+
+    /**
+     * The lease statement templates, rendered once per {@link SqlLeaseContextBuilder} instead of once per call. Keeping
+     * the SQL text identical across calls also lets the JDBC driver reuse its server-side prepared statements.
+     */
+    record Templates(String deleteLease, String insertLease, String updateLease, String findLeaseByEntity, String renewLease) {
+
+        static Templates of(LeaseStatements statements) {
+            return new Templates(statements.getDeleteLeaseTemplate(), statements.getInsertLeaseTemplate(),
+                    statements.getUpdateLeaseTemplate(), statements.getFindLeaseByEntityTemplate(), statements.getRenewLeaseTemplate());
+        }
+    }
 }
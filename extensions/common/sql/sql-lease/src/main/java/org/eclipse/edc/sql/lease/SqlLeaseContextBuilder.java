@@ -43,6 +43,7 @@ import java.util.Objects;
 public class SqlLeaseContextBuilder {
     private final TransactionContext trxContext;
     private final LeaseStatements statements;
+    private final SqlLeaseContext.Templates templates;
     private final Clock clock;
     private final QueryExecutor queryExecutor;
     private String leaseHolder;
@@ -51,6 +52,7 @@ public class SqlLeaseContextBuilder {
     private SqlLeaseContextBuilder(TransactionContext trxContext, LeaseStatements statements, String leaseHolder, Clock clock, QueryExecutor queryExecutor) {
         this.trxContext = trxContext;
         this.statements = statements;
+        this.templates = SqlLeaseContext.Templates.of(statements);
         this.leaseHolder = leaseHolder;
         this.clock = clock;
         this.queryExecutor = queryExecutor;
@@ -86,6 +88,6 @@ public class SqlLeaseContextBuilder {
      */
     public SqlLeaseContext withConnection(Connection connection) {
         Objects.requireNonNull(connection, "connection");
-        return new SqlLeaseContext(trxContext, statements, leaseHolder, clock, leaseDuration, connection, queryExecutor);
+        return new SqlLeaseContext(trxContext, statements, templates, leaseHolder, clock, leaseDuration, connection, queryExecutor);
     }
 }
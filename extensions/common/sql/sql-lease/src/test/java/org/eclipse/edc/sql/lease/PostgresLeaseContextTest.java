@@ -175,6 +175,42 @@ class PostgresLeaseContextTest {
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
     }
 
+    @Test
+    void renewLease_shouldExtendLeaseFromNow(Connection connection) {
+        var entityId = "test-entity";
+        insertTestEntity(entityId, connection);
+        leaseContext.acquireLease(entityId);
+        var leaseId = leaseContext.getLease(entityId).getLeaseId();
+
+        var fiftySecondsAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(50, ChronoUnit.SECONDS));
+        var fiftySecondsAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, fiftySecondsAheadClock, queryExecutor)
+                .withConnection(connection);
+        fiftySecondsAheadContext.renewLease(entityId);
+
+        var renewed = leaseContext.getLease(entityId);
+        assertThat(renewed).isNotNull();
+        assertThat(renewed.getLeaseId()).isEqualTo(leaseId);
+        assertThat(renewed.getLeasedAt()).isEqualTo(fiftySecondsAheadClock.millis());
+    }
+
+    @Test
+    void renewLease_whenLeasedByOther_throwsException(Connection connection) {
+        var entityId = "test-entity";
+        insertTestEntity(entityId, connection);
+        leaseContext.acquireLease(entityId);
+
+        var leaseContext = builder.by("someone-else").withConnection(connection);
+        assertThatThrownBy(() -> leaseContext.renewLease(entityId)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void renewLease_whenNotLeased_throwsException(Connection connection) {
+        var entityId = "test-entity";
+        insertTestEntity(entityId, connection);
+
+        assertThatThrownBy(() -> leaseContext.renewLease(entityId)).isInstanceOf(IllegalStateException.class);
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -24,6 +24,7 @@ dependencies {
     api(project(":extensions:common:sql:sql-core"))
 
     implementation(libs.apache.commons.pool)
+    implementation(libs.micrometer)
 
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":extensions:common:transaction:transaction-local"))
@@ -28,21 +28,32 @@ import org.jetbrains.annotations.NotNull;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import javax.sql.DataSource;
 
+import static java.lang.String.format;
+
 public final class CommonsConnectionPool implements ConnectionPool, AutoCloseable {
     private final GenericObjectPool<Connection> connectionObjectPool;
     private final CommonsConnectionPoolConfig poolConfig;
+    private final CommonsConnectionPoolMetrics metrics;
 
     public CommonsConnectionPool(DataSource dataSource, CommonsConnectionPoolConfig commonsConnectionPoolConfig, Monitor monitor) {
+        this(dataSource, commonsConnectionPoolConfig, monitor, CommonsConnectionPoolMetrics.noop());
+    }
+
+    public CommonsConnectionPool(DataSource dataSource, CommonsConnectionPoolConfig commonsConnectionPoolConfig, Monitor monitor, CommonsConnectionPoolMetrics metrics) {
         this.poolConfig = commonsConnectionPoolConfig;
         Objects.requireNonNull(dataSource, "connectionFactory");
         Objects.requireNonNull(commonsConnectionPoolConfig, "commonsConnectionPoolConfig");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
 
         this.connectionObjectPool = new GenericObjectPool<>(
-                new PooledConnectionObjectFactory(dataSource, commonsConnectionPoolConfig.getTestQuery(), monitor),
+                new PooledConnectionObjectFactory(dataSource, commonsConnectionPoolConfig, metrics, monitor),
                 getGenericObjectPoolConfig(commonsConnectionPoolConfig));
+        metrics.bind(this);
     }
 
     private static GenericObjectPoolConfig<Connection> getGenericObjectPoolConfig(CommonsConnectionPoolConfig commonsConnectionPoolConfig) {
@@ -60,13 +71,27 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         genericObjectPoolConfig.setTestOnReturn(commonsConnectionPoolConfig.getTestConnectionOnReturn());
         genericObjectPoolConfig.setTestWhileIdle(commonsConnectionPoolConfig.getTestConnectionWhileIdle());
 
+        genericObjectPoolConfig.setMaxWait(Duration.ofMillis(commonsConnectionPoolConfig.getMaxWaitMillis()));
+
         return genericObjectPoolConfig;
     }
 
     @Override
     public Connection getConnection() {
+        var start = System.nanoTime();
         try {
-            return connectionObjectPool.borrowObject();
+            var connection = connectionObjectPool.borrowObject();
+            metrics.borrowed(System.nanoTime() - start);
+            return connection;
+        } catch (NoSuchElementException e) {
+            // the pool also throws this when a newly created connection cannot be validated or activated
+            var maxWaitMillis = poolConfig.getMaxWaitMillis();
+            if (maxWaitMillis < 0 || Duration.ofNanos(System.nanoTime() - start).toMillis() < maxWaitMillis) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+            metrics.timedOut();
+            throw new EdcPersistenceException(format("Timed out after %d ms waiting for a database connection: %d of %d connections in use, %d threads waiting",
+                    maxWaitMillis, getActiveConnections(), poolConfig.getMaxTotalConnections(), getWaitingThreads()), e);
         } catch (Exception e) {
             throw new EdcPersistenceException(e.getMessage(), e);
         }
@@ -88,15 +113,33 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
         return poolConfig;
     }
 
+    public int getActiveConnections() {
+        return connectionObjectPool.getNumActive();
+    }
+
+    public int getIdleConnections() {
+        return connectionObjectPool.getNumIdle();
+    }
+
+    public int getWaitingThreads() {
+        return connectionObjectPool.getNumWaiters();
+    }
+
     private static class PooledConnectionObjectFactory extends BasePooledObjectFactory<Connection> {
         private final String testQuery;
+        private final int validationTimeoutSeconds;
+        private final Duration validationIdleThreshold;
         private final DataSource dataSource;
+        private final CommonsConnectionPoolMetrics metrics;
 
         private final Monitor monitor;
 
-        PooledConnectionObjectFactory(@NotNull DataSource dataSource, @NotNull String testQuery, Monitor monitor) {
+        PooledConnectionObjectFactory(@NotNull DataSource dataSource, CommonsConnectionPoolConfig config, CommonsConnectionPoolMetrics metrics, Monitor monitor) {
             this.dataSource = Objects.requireNonNull(dataSource);
-            this.testQuery = Objects.requireNonNull(testQuery);
+            this.testQuery = config.getTestQuery();
+            this.validationTimeoutSeconds = config.getValidationTimeoutSeconds();
+            this.validationIdleThreshold = Duration.ofMillis(config.getValidationIdleThresholdMillis());
+            this.metrics = metrics;
             this.monitor = monitor;
         }
 
@@ -116,7 +159,16 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
                 return false;
             }
 
-            return isConnectionValid(connection);
+            // a connection that was in use a moment ago is assumed to be alive, saving a round trip to the database
+            if (pooledObject.getIdleDuration().compareTo(validationIdleThreshold) < 0) {
+                return true;
+            }
+
+            var valid = isConnectionValid(connection);
+            if (!valid) {
+                metrics.validationFailed();
+            }
+            return valid;
         }
 
         @Override
@@ -145,6 +197,10 @@ public final class CommonsConnectionPool implements ConnectionPool, AutoCloseabl
                     return false;
                 }
 
+                if (testQuery == null) {
+                    return connection.isValid(validationTimeoutSeconds);
+                }
+
                 try (PreparedStatement preparedStatement = connection.prepareStatement(testQuery)) {
                     preparedStatement.execute();
                     return rollbackIfNeeded(connection);
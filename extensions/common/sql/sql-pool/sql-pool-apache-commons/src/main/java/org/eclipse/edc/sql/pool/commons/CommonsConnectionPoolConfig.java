@@ -14,9 +14,7 @@
 
 package org.eclipse.edc.sql.pool.commons;
 
-import org.jetbrains.annotations.NotNull;
-
-import java.util.Objects;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A CommonsConnectionPoolConfig is a container object containing a set of pool configuration
@@ -32,6 +30,9 @@ public class CommonsConnectionPoolConfig {
     private final boolean testConnectionOnReturn;
     private final boolean testConnectionWhileIdle;
     private final String testQuery;
+    private final int validationTimeoutSeconds;
+    private final long validationIdleThresholdMillis;
+    private final long maxWaitMillis;
 
     private CommonsConnectionPoolConfig(
             int maxIdleConnections,
@@ -41,7 +42,10 @@ public class CommonsConnectionPoolConfig {
             boolean testConnectionOnCreate,
             boolean testConnectionOnReturn,
             boolean testConnectionWhileIdle,
-            @NotNull String testQuery) {
+            @Nullable String testQuery,
+            int validationTimeoutSeconds,
+            long validationIdleThresholdMillis,
+            long maxWaitMillis) {
         this.maxIdleConnections = maxIdleConnections;
         this.maxTotalConnections = maxTotalConnections;
         this.minIdleConnections = minIdleConnections;
@@ -49,7 +53,10 @@ public class CommonsConnectionPoolConfig {
         this.testConnectionOnCreate = testConnectionOnCreate;
         this.testConnectionOnReturn = testConnectionOnReturn;
         this.testConnectionWhileIdle = testConnectionWhileIdle;
-        this.testQuery = Objects.requireNonNull(testQuery);
+        this.testQuery = testQuery;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.validationIdleThresholdMillis = validationIdleThresholdMillis;
+        this.maxWaitMillis = maxWaitMillis;
     }
 
     public int getMaxIdleConnections() {
@@ -80,10 +87,33 @@ public class CommonsConnectionPoolConfig {
         return testConnectionWhileIdle;
     }
 
+    /**
+     * The query used to validate connections. If null, connections are validated with {@link java.sql.Connection#isValid(int)}, which lets the driver use its cheapest
+     * liveness check.
+     */
+    @Nullable
     public String getTestQuery() {
         return testQuery;
     }
 
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    /**
+     * Connections that were returned to the pool more recently than this are considered valid without being tested.
+     */
+    public long getValidationIdleThresholdMillis() {
+        return validationIdleThresholdMillis;
+    }
+
+    /**
+     * The maximum time to wait for a connection when the pool is exhausted. A negative value waits indefinitely.
+     */
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
     public static final class Builder {
         private int maxIdleConnections = 4;
         private int maxTotalConnections = 8;
@@ -92,7 +122,10 @@ public class CommonsConnectionPoolConfig {
         private boolean testConnectionOnCreate = true;
         private boolean testConnectionOnReturn = false;
         private boolean testConnectionWhileIdle = false;
-        private String testQuery = "SELECT 1;";
+        private String testQuery;
+        private int validationTimeoutSeconds = 5;
+        private long validationIdleThresholdMillis = 1000;
+        private long maxWaitMillis = 30_000;
 
         private Builder() {
         }
@@ -141,6 +174,21 @@ public class CommonsConnectionPoolConfig {
             return this;
         }
 
+        public Builder validationTimeoutSeconds(int validationTimeoutSeconds) {
+            this.validationTimeoutSeconds = validationTimeoutSeconds;
+            return this;
+        }
+
+        public Builder validationIdleThresholdMillis(long validationIdleThresholdMillis) {
+            this.validationIdleThresholdMillis = validationIdleThresholdMillis;
+            return this;
+        }
+
+        public Builder maxWaitMillis(long maxWaitMillis) {
+            this.maxWaitMillis = maxWaitMillis;
+            return this;
+        }
+
         public CommonsConnectionPoolConfig build() {
             return new CommonsConnectionPoolConfig(
                     maxIdleConnections,
@@ -150,7 +198,10 @@ public class CommonsConnectionPoolConfig {
                     testConnectionOnCreate,
                     testConnectionOnReturn,
                     testConnectionWhileIdle,
-                    testQuery
+                    testQuery,
+                    validationTimeoutSeconds,
+                    validationIdleThresholdMillis,
+                    maxWaitMillis
             );
         }
     }
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.pool.commons;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects metrics of a {@link CommonsConnectionPool}: active, idle and waiting connections, the time spent waiting for a
+ * connection and the number of borrow timeouts and validation failures, all tagged by data source name. If no
+ * {@link MeterRegistry} is available, nothing is collected.
+ */
+public class CommonsConnectionPoolMetrics {
+
+    private static final String ACTIVE = "edc.datasource.pool.connections.active";
+    private static final String IDLE = "edc.datasource.pool.connections.idle";
+    private static final String PENDING = "edc.datasource.pool.connections.pending";
+    private static final String MAX = "edc.datasource.pool.connections.max";
+    private static final String BORROW = "edc.datasource.pool.borrow";
+    private static final String TIMEOUTS = "edc.datasource.pool.borrow.timeouts";
+    private static final String VALIDATION_FAILURES = "edc.datasource.pool.validation.failures";
+    private static final String DATASOURCE_TAG = "datasource";
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final Timer borrow;
+    private final Counter timeouts;
+    private final Counter validationFailures;
+
+    public CommonsConnectionPoolMetrics(@Nullable MeterRegistry registry, String dataSourceName) {
+        this.registry = registry;
+        this.tags = Tags.of(DATASOURCE_TAG, dataSourceName);
+        if (registry != null) {
+            borrow = registry.timer(BORROW, tags);
+            timeouts = registry.counter(TIMEOUTS, tags);
+            validationFailures = registry.counter(VALIDATION_FAILURES, tags);
+        } else {
+            borrow = null;
+            timeouts = null;
+            validationFailures = null;
+        }
+    }
+
+    public static CommonsConnectionPoolMetrics noop() {
+        return new CommonsConnectionPoolMetrics(null, "");
+    }
+
+    void bind(CommonsConnectionPool pool) {
+        if (registry == null) {
+            return;
+        }
+        Gauge.builder(ACTIVE, pool, CommonsConnectionPool::getActiveConnections).tags(tags).register(registry);
+        Gauge.builder(IDLE, pool, CommonsConnectionPool::getIdleConnections).tags(tags).register(registry);
+        Gauge.builder(PENDING, pool, CommonsConnectionPool::getWaitingThreads).tags(tags).register(registry);
+        Gauge.builder(MAX, pool, p -> p.getPoolConfig().getMaxTotalConnections()).tags(tags).register(registry);
+    }
+
+    void borrowed(long waitNanos) {
+        if (borrow != null) {
+            borrow.record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void timedOut() {
+        if (timeouts != null) {
+            timeouts.increment();
+        }
+    }
+
+    void validationFailed() {
+        if (validationFailures != null) {
+            validationFailures.increment();
+        }
+    }
+}
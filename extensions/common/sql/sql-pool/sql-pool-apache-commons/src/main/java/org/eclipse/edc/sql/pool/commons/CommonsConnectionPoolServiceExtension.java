@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.pool.commons;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
@@ -56,6 +57,9 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
     public static final String POOL_CONNECTION_TEST_ON_RETURN = "pool.connection.test.on-return";
     public static final String POOL_CONNECTION_TEST_WHILE_IDLE = "pool.connection.test.while-idle";
     public static final String POOL_CONNECTION_TEST_QUERY = "pool.connection.test.query";
+    public static final String POOL_CONNECTION_VALIDATION_TIMEOUT_SECONDS = "pool.connection.validation.timeout-seconds";
+    public static final String POOL_CONNECTION_VALIDATION_IDLE_THRESHOLD_MILLIS = "pool.connection.validation.idle-threshold-millis";
+    public static final String POOL_CONNECTION_MAX_WAIT_MILLIS = "pool.connection.max-wait-millis";
 
     @Setting(required = true)
     public static final String URL = "url";
@@ -78,6 +82,9 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
     @Inject
     private Vault vault;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -127,6 +134,10 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
         setIfProvided(key, setter, config::getInteger);
     }
 
+    private void setIfProvidedLong(String key, Consumer<Long> setter, Config config) {
+        setIfProvided(key, setter, config::getLong);
+    }
+
     private <T> void setIfProvided(String key, Consumer<T> setter, BiFunction<String, T, T> getter) {
         var value = getter.apply(key, null);
         if (value != null) {
@@ -141,7 +152,7 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
 
             var dataSource = createDataSource(config);
 
-            var commonsConnectionPool = createConnectionPool(dataSource, config);
+            var commonsConnectionPool = createConnectionPool(dataSourceName, dataSource, config);
             commonsConnectionPools.put(dataSourceName, commonsConnectionPool);
         }
         return commonsConnectionPools;
@@ -173,7 +184,7 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
         return new ConnectionFactoryDataSource(connectionFactory, jdbcUrl, properties);
     }
 
-    private CommonsConnectionPool createConnectionPool(DataSource unPooledDataSource, Config config) {
+    private CommonsConnectionPool createConnectionPool(String dataSourceName, DataSource unPooledDataSource, Config config) {
         var builder = CommonsConnectionPoolConfig.Builder.newInstance();
 
         setIfProvidedInt(POOL_CONNECTIONS_MAX_IDLE, builder::maxIdleConnections, config);
@@ -184,7 +195,11 @@ public class CommonsConnectionPoolServiceExtension implements ServiceExtension {
         setIfProvidedBoolean(POOL_CONNECTION_TEST_ON_RETURN, builder::testConnectionOnReturn, config);
         setIfProvidedBoolean(POOL_CONNECTION_TEST_WHILE_IDLE, builder::testConnectionWhileIdle, config);
         setIfProvidedString(POOL_CONNECTION_TEST_QUERY, builder::testQuery, config);
+        setIfProvidedInt(POOL_CONNECTION_VALIDATION_TIMEOUT_SECONDS, builder::validationTimeoutSeconds, config);
+        setIfProvidedLong(POOL_CONNECTION_VALIDATION_IDLE_THRESHOLD_MILLIS, builder::validationIdleThresholdMillis, config);
+        setIfProvidedLong(POOL_CONNECTION_MAX_WAIT_MILLIS, builder::maxWaitMillis, config);
 
-        return new CommonsConnectionPool(unPooledDataSource, builder.build(), monitor);
+        var metrics = new CommonsConnectionPoolMetrics(meterRegistry, dataSourceName);
+        return new CommonsConnectionPool(unPooledDataSource, builder.build(), monitor, metrics);
     }
 }
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CommonsConnectionPoolConfigTest {
@@ -33,7 +34,10 @@ class CommonsConnectionPoolConfigTest {
         assertTrue(commonsConnectionPoolConfig.getTestConnectionOnCreate());
         assertFalse(commonsConnectionPoolConfig.getTestConnectionOnReturn());
         assertFalse(commonsConnectionPoolConfig.getTestConnectionWhileIdle());
-        assertEquals("SELECT 1;", commonsConnectionPoolConfig.getTestQuery());
+        assertNull(commonsConnectionPoolConfig.getTestQuery());
+        assertEquals(5, commonsConnectionPoolConfig.getValidationTimeoutSeconds());
+        assertEquals(1000, commonsConnectionPoolConfig.getValidationIdleThresholdMillis());
+        assertEquals(30_000, commonsConnectionPoolConfig.getMaxWaitMillis());
     }
 
     @Test
@@ -46,6 +50,9 @@ class CommonsConnectionPoolConfigTest {
         var testConnectionWhileIdle = true;
         var testConnectionOnReturn = false;
         var testQuery = "testquery";
+        var validationTimeoutSeconds = 2;
+        var validationIdleThresholdMillis = 100L;
+        var maxWaitMillis = 500L;
 
         var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
                 .maxIdleConnections(maxIdleConnections)
@@ -56,6 +63,9 @@ class CommonsConnectionPoolConfigTest {
                 .testConnectionOnReturn(testConnectionOnReturn)
                 .testConnectionWhileIdle(testConnectionWhileIdle)
                 .testQuery(testQuery)
+                .validationTimeoutSeconds(validationTimeoutSeconds)
+                .validationIdleThresholdMillis(validationIdleThresholdMillis)
+                .maxWaitMillis(maxWaitMillis)
                 .build();
 
         assertEquals(maxIdleConnections, commonsConnectionPoolConfig.getMaxIdleConnections());
@@ -66,5 +76,8 @@ class CommonsConnectionPoolConfigTest {
         assertEquals(testConnectionOnReturn, commonsConnectionPoolConfig.getTestConnectionOnReturn());
         assertEquals(testConnectionWhileIdle, commonsConnectionPoolConfig.getTestConnectionWhileIdle());
         assertEquals(testQuery, commonsConnectionPoolConfig.getTestQuery());
+        assertEquals(validationTimeoutSeconds, commonsConnectionPoolConfig.getValidationTimeoutSeconds());
+        assertEquals(validationIdleThresholdMillis, commonsConnectionPoolConfig.getValidationIdleThresholdMillis());
+        assertEquals(maxWaitMillis, commonsConnectionPoolConfig.getMaxWaitMillis());
     }
 }
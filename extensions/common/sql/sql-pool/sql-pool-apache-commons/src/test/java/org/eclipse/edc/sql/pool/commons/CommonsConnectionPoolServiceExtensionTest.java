@@ -37,17 +37,21 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.EDC_DATASOURCE_PREFIX;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTIONS_MAX_IDLE;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTIONS_MAX_TOTAL;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTIONS_MIN_IDLE;
+import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTION_MAX_WAIT_MILLIS;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTION_TEST_ON_BORROW;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTION_TEST_ON_CREATE;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTION_TEST_ON_RETURN;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTION_TEST_QUERY;
 import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTION_TEST_WHILE_IDLE;
+import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTION_VALIDATION_IDLE_THRESHOLD_MILLIS;
+import static org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolServiceExtension.POOL_CONNECTION_VALIDATION_TIMEOUT_SECONDS;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -145,16 +149,19 @@ class CommonsConnectionPoolServiceExtensionTest {
 
         private final Map<String, String> defaultConfig = Map.of(DS_1_NAME + ".url", DS_1_NAME);
 
-        private final Map<String, String> configuration = Map.of(
-                DS_1_NAME + ".url", DS_1_NAME,
-                DS_1_NAME + "." + POOL_CONNECTION_TEST_ON_CREATE, "false",
-                DS_1_NAME + "." + POOL_CONNECTION_TEST_ON_BORROW, "false",
-                DS_1_NAME + "." + POOL_CONNECTION_TEST_ON_RETURN, "true",
-                DS_1_NAME + "." + POOL_CONNECTION_TEST_WHILE_IDLE, "true",
-                DS_1_NAME + "." + POOL_CONNECTION_TEST_QUERY, "SELECT foo FROM bar;",
-                DS_1_NAME + "." + POOL_CONNECTIONS_MIN_IDLE, "10",
-                DS_1_NAME + "." + POOL_CONNECTIONS_MAX_IDLE, "10",
-                DS_1_NAME + "." + POOL_CONNECTIONS_MAX_TOTAL, "10");
+        private final Map<String, String> configuration = Map.ofEntries(
+                entry(DS_1_NAME + ".url", DS_1_NAME),
+                entry(DS_1_NAME + "." + POOL_CONNECTION_TEST_ON_CREATE, "false"),
+                entry(DS_1_NAME + "." + POOL_CONNECTION_TEST_ON_BORROW, "false"),
+                entry(DS_1_NAME + "." + POOL_CONNECTION_TEST_ON_RETURN, "true"),
+                entry(DS_1_NAME + "." + POOL_CONNECTION_TEST_WHILE_IDLE, "true"),
+                entry(DS_1_NAME + "." + POOL_CONNECTION_TEST_QUERY, "SELECT foo FROM bar;"),
+                entry(DS_1_NAME + "." + POOL_CONNECTION_VALIDATION_TIMEOUT_SECONDS, "3"),
+                entry(DS_1_NAME + "." + POOL_CONNECTION_VALIDATION_IDLE_THRESHOLD_MILLIS, "200"),
+                entry(DS_1_NAME + "." + POOL_CONNECTION_MAX_WAIT_MILLIS, "700"),
+                entry(DS_1_NAME + "." + POOL_CONNECTIONS_MIN_IDLE, "10"),
+                entry(DS_1_NAME + "." + POOL_CONNECTIONS_MAX_IDLE, "10"),
+                entry(DS_1_NAME + "." + POOL_CONNECTIONS_MAX_TOTAL, "10"));
 
 
         @Override
@@ -177,7 +184,10 @@ class CommonsConnectionPoolServiceExtensionTest {
             assertThat(cfg.getTestConnectionOnBorrow()).isTrue();
             assertThat(cfg.getTestConnectionOnReturn()).isFalse();
             assertThat(cfg.getTestConnectionWhileIdle()).isFalse();
-            assertThat(cfg.getTestQuery()).isEqualTo("SELECT 1;");
+            assertThat(cfg.getTestQuery()).isNull();
+            assertThat(cfg.getValidationTimeoutSeconds()).isEqualTo(5);
+            assertThat(cfg.getValidationIdleThresholdMillis()).isEqualTo(1000);
+            assertThat(cfg.getMaxWaitMillis()).isEqualTo(30_000);
             assertThat(cfg.getMinIdleConnections()).isEqualTo(1);
             assertThat(cfg.getMaxIdleConnections()).isEqualTo(4);
             assertThat(cfg.getMaxTotalConnections()).isEqualTo(8);
@@ -189,6 +199,9 @@ class CommonsConnectionPoolServiceExtensionTest {
             assertThat(cfg.getTestConnectionOnReturn()).isTrue();
             assertThat(cfg.getTestConnectionWhileIdle()).isTrue();
             assertThat(cfg.getTestQuery()).isEqualTo("SELECT foo FROM bar;");
+            assertThat(cfg.getValidationTimeoutSeconds()).isEqualTo(3);
+            assertThat(cfg.getValidationIdleThresholdMillis()).isEqualTo(200);
+            assertThat(cfg.getMaxWaitMillis()).isEqualTo(700);
             assertThat(cfg.getMinIdleConnections()).isEqualTo(10);
             assertThat(cfg.getMaxIdleConnections()).isEqualTo(10);
             assertThat(cfg.getMaxTotalConnections()).isEqualTo(10);
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.pool.commons;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.junit.jupiter.api.Test;
@@ -21,15 +22,20 @@ import org.junit.jupiter.api.Test;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.NoSuchElementException;
 import javax.sql.DataSource;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,13 +46,13 @@ class CommonsConnectionPoolTest {
     @Test
     void getConnection() throws SQLException {
         var connection = mock(Connection.class);
-        var testQueryPreparedStatement = mock(PreparedStatement.class);
         var dataSource = mock(DataSource.class);
-        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance().build();
+        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
+                .validationIdleThresholdMillis(0)
+                .build();
         var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor);
 
-        when(testQueryPreparedStatement.execute()).thenReturn(true);
-        when(connection.prepareStatement(anyString())).thenReturn(testQueryPreparedStatement);
+        when(connection.isValid(anyInt())).thenReturn(true);
         when(dataSource.getConnection()).thenReturn(connection);
 
         var result = connectionPool.getConnection();
@@ -56,8 +62,83 @@ class CommonsConnectionPoolTest {
 
         verify(dataSource, atLeastOnce()).getConnection();
         verify(connection, atLeastOnce()).isClosed();
-        verify(connection, atLeastOnce()).prepareStatement(anyString());
-        verify(testQueryPreparedStatement, atLeastOnce()).execute();
+        verify(connection, atLeastOnce()).isValid(5);
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void getConnection_shouldSkipValidation_whenConnectionWasRecentlyUsed() throws SQLException {
+        var connection = mock(Connection.class);
+        var dataSource = mock(DataSource.class);
+        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
+                .validationIdleThresholdMillis(60_000)
+                .build();
+        var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        connectionPool.returnConnection(connectionPool.getConnection());
+        var result = connectionPool.getConnection();
+
+        assertEquals(connection, result);
+        verify(connection, never()).isValid(anyInt());
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void getConnection_shouldFail_whenPoolIsExhausted() throws SQLException {
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
+                .maxTotalConnections(1)
+                .maxWaitMillis(10)
+                .build();
+        var meterRegistry = new SimpleMeterRegistry();
+        var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor, new CommonsConnectionPoolMetrics(meterRegistry, "ds"));
+
+        connectionPool.getConnection();
+
+        assertThatThrownBy(connectionPool::getConnection)
+                .isInstanceOf(EdcPersistenceException.class)
+                .hasMessageContaining("Timed out after 10 ms")
+                .hasMessageContaining("1 of 1 connections in use");
+        assertThat(meterRegistry.get("edc.datasource.pool.borrow.timeouts").tag("datasource", "ds").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_shouldPassOnPoolFailure_whenNotTimedOut() throws SQLException {
+        var dataSource = mock(DataSource.class);
+        var connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(false);
+        when(dataSource.getConnection()).thenReturn(connection);
+        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
+                .testConnectionOnCreate(true)
+                .validationIdleThresholdMillis(0)
+                .maxWaitMillis(60_000)
+                .build();
+        var meterRegistry = new SimpleMeterRegistry();
+        var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor, new CommonsConnectionPoolMetrics(meterRegistry, "ds"));
+
+        assertThatThrownBy(connectionPool::getConnection)
+                .isInstanceOf(EdcPersistenceException.class)
+                .hasMessageContaining("Unable to validate object")
+                .hasMessageNotContaining("Timed out")
+                .hasCauseInstanceOf(NoSuchElementException.class);
+        assertThat(meterRegistry.get("edc.datasource.pool.borrow.timeouts").tag("datasource", "ds").counter().count()).isZero();
+    }
+
+    @Test
+    void getConnection_shouldRecordMetrics() throws SQLException {
+        var dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance().build();
+        var meterRegistry = new SimpleMeterRegistry();
+        var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor, new CommonsConnectionPoolMetrics(meterRegistry, "ds"));
+
+        connectionPool.getConnection();
+
+        assertThat(meterRegistry.get("edc.datasource.pool.borrow").tag("datasource", "ds").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.datasource.pool.connections.active").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("edc.datasource.pool.connections.max").gauge().value()).isEqualTo(commonsConnectionPoolConfig.getMaxTotalConnections());
     }
 
     @Test
@@ -120,7 +201,10 @@ class CommonsConnectionPoolTest {
         var connection = mock(Connection.class);
         PreparedStatement testQueryPreparedStatement = mock(PreparedStatement.class);
         var dataSource = mock(DataSource.class);
-        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance().build();
+        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
+                .testQuery("SELECT 1;")
+                .validationIdleThresholdMillis(0)
+                .build();
         var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor);
 
         when(testQueryPreparedStatement.execute()).thenReturn(true);
@@ -154,6 +238,8 @@ class CommonsConnectionPoolTest {
                 .testConnectionOnCreate(false)
                 .testConnectionOnBorrow(false)
                 .testConnectionOnReturn(true)
+                .testQuery("SELECT 1;")
+                .validationIdleThresholdMillis(0)
                 .build();
         var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor);
 
@@ -186,7 +272,10 @@ class CommonsConnectionPoolTest {
         when(connection.prepareStatement(anyString())).thenReturn(testQueryPreparedStatement);
         var dataSource = mock(DataSource.class);
         when(dataSource.getConnection()).thenReturn(connection);
-        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance().build();
+        var commonsConnectionPoolConfig = CommonsConnectionPoolConfig.Builder.newInstance()
+                .testQuery("SELECT 1;")
+                .validationIdleThresholdMillis(0)
+                .build();
         var connectionPool = new CommonsConnectionPool(dataSource, commonsConnectionPoolConfig, monitor);
 
         var result = connectionPool.getConnection();
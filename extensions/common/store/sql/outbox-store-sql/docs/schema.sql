@@ -0,0 +1,16 @@
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_outbox
+(
+    id              VARCHAR NOT NULL PRIMARY KEY,
+    channel         VARCHAR NOT NULL,
+    destination     VARCHAR NOT NULL,
+    type            VARCHAR,
+    payload         TEXT    NOT NULL,
+    created_at      BIGINT  NOT NULL,
+    next_attempt_at BIGINT  NOT NULL,
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    error_detail    VARCHAR
+);
+
+CREATE INDEX IF NOT EXISTS outbox_next_attempt_at_index ON edc_outbox (next_attempt_at);
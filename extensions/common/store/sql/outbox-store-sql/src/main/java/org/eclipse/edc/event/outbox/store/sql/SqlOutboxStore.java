@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.event.outbox.store.sql.schema.OutboxStatements;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SQL implementation of the {@link OutboxStore}. Due entries are claimed with {@code SELECT ... FOR UPDATE SKIP LOCKED},
+ * so relays running on different replicas never pick up the same entries.
+ */
+public class SqlOutboxStore extends AbstractSqlStore implements OutboxStore {
+
+    private final OutboxStatements statements;
+    private final Clock clock;
+
+    public SqlOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                          ObjectMapper objectMapper, OutboxStatements statements, QueryExecutor queryExecutor, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.clock = clock;
+    }
+
+    @Override
+    public void save(OutboxEntry entry) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getInsertTemplate(),
+                        entry.getId(),
+                        entry.getChannel(),
+                        entry.getDestination(),
+                        entry.getType(),
+                        entry.getPayload(),
+                        entry.getCreatedAt(),
+                        entry.getNextAttemptAt(),
+                        entry.getAttempts(),
+                        entry.getErrorDetail());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<OutboxEntry> claimDue(int max, Duration claimDuration) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                List<OutboxEntry> entries;
+                try (var stream = queryExecutor.query(connection, false, this::mapResultSet, statements.getClaimDueTemplate(), now, max)) {
+                    entries = stream.toList();
+                }
+
+                var claimUntil = now + claimDuration.toMillis();
+                entries.forEach(entry -> queryExecutor.execute(connection, statements.getRescheduleTemplate(),
+                        claimUntil, entry.getAttempts(), entry.getErrorDetail(), entry.getId()));
+
+                return entries;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void extendClaim(List<String> ids, Duration claimDuration) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var claimUntil = clock.millis() + claimDuration.toMillis();
+                ids.forEach(id -> queryExecutor.execute(connection, statements.getExtendClaimTemplate(), claimUntil, id));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void update(OutboxEntry entry) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getRescheduleTemplate(),
+                        entry.getNextAttemptAt(), entry.getAttempts(), entry.getErrorDetail(), entry.getId());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(List<String> ids) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                ids.forEach(id -> queryExecutor.execute(connection, statements.getDeleteByIdTemplate(), id));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private OutboxEntry mapResultSet(ResultSet resultSet) throws SQLException {
+        return OutboxEntry.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .channel(resultSet.getString(statements.getChannelColumn()))
+                .destination(resultSet.getString(statements.getDestinationColumn()))
+                .type(resultSet.getString(statements.getTypeColumn()))
+                .payload(resultSet.getString(statements.getPayloadColumn()))
+                .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql;
+
+import org.eclipse.edc.event.outbox.store.sql.schema.OutboxStatements;
+import org.eclipse.edc.event.outbox.store.sql.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+@Provides({ OutboxStore.class })
+@Extension(value = "SQL outbox store")
+public class SqlOutboxStoreExtension implements ServiceExtension {
+
+    /**
+     * Name of the datasource to use for accessing outbox entries.
+     */
+    @Setting(required = true)
+    public static final String DATASOURCE_SETTING_NAME = "edc.datasource.outbox.name";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject(required = false)
+    private OutboxStatements statements;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
+
+        var sqlStore = new SqlOutboxStore(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(),
+                getStatementImpl(), queryExecutor, clock);
+
+        context.registerService(OutboxStore.class, sqlStore);
+    }
+
+    private OutboxStatements getStatementImpl() {
+        return statements == null ? new PostgresDialectStatements() : statements;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlDialectStatements implements OutboxStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getChannelColumn())
+                .column(getDestinationColumn())
+                .column(getTypeColumn())
+                .column(getPayloadColumn())
+                .column(getCreatedAtColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getAttemptsColumn())
+                .column(getErrorDetailColumn())
+                .insertInto(getOutboxTable());
+    }
+
+    @Override
+    public String getClaimDueTemplate() {
+        return format("SELECT * FROM %s WHERE %s <= ? ORDER BY %s ASC LIMIT ? FOR UPDATE SKIP LOCKED",
+                getOutboxTable(), getNextAttemptAtColumn(), getCreatedAtColumn());
+    }
+
+    @Override
+    public String getRescheduleTemplate() {
+        return executeStatement()
+                .column(getNextAttemptAtColumn())
+                .column(getAttemptsColumn())
+                .column(getErrorDetailColumn())
+                .update(getOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getExtendClaimTemplate() {
+        return executeStatement()
+                .column(getNextAttemptAtColumn())
+                .update(getOutboxTable(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteByIdTemplate() {
+        return executeStatement().delete(getOutboxTable(), getIdColumn());
+    }
+
+}
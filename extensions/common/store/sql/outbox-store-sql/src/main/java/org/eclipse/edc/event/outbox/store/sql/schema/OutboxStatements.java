@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql.schema;
+
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Defines all statements that are needed for the {@link OutboxEntry} store
+ */
+public interface OutboxStatements extends SqlStatements {
+
+    default String getOutboxTable() {
+        return "edc_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getChannelColumn() {
+        return "channel";
+    }
+
+    default String getDestinationColumn() {
+        return "destination";
+    }
+
+    default String getTypeColumn() {
+        return "type";
+    }
+
+    default String getPayloadColumn() {
+        return "payload";
+    }
+
+    default String getCreatedAtColumn() {
+        return "created_at";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getErrorDetailColumn() {
+        return "error_detail";
+    }
+
+    String getInsertTemplate();
+
+    String getClaimDueTemplate();
+
+    String getRescheduleTemplate();
+
+    String getExtendClaimTemplate();
+
+    String getDeleteByIdTemplate();
+
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.outbox.store.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.event.outbox.store.sql.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.event.outbox.store.sql.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class SqlOutboxStoreTest {
+
+    private final BaseSqlDialectStatements statements = new PostgresDialectStatements();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000L), ZoneOffset.UTC);
+
+    private SqlOutboxStore store;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        store = new SqlOutboxStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), new ObjectMapper(), statements, queryExecutor, clock);
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getOutboxTable() + " CASCADE");
+    }
+
+    @Test
+    void claimDue_shouldReturnDueEntriesOrderedByCreation() {
+        store.save(entry("second", 200L, 200L));
+        store.save(entry("first", 100L, 100L));
+        store.save(entry("future", 50L, 5000L));
+
+        var claimed = store.claimDue(10, Duration.ofSeconds(1));
+
+        assertThat(claimed).extracting(OutboxEntry::getId).containsExactly("first", "second");
+        assertThat(claimed.get(0)).usingRecursiveComparison().ignoringFields("nextAttemptAt").isEqualTo(entry("first", 100L, 100L));
+    }
+
+    @Test
+    void claimDue_shouldNotReturnClaimedEntries() {
+        store.save(entry("id", 100L, 100L));
+
+        assertThat(store.claimDue(10, Duration.ofSeconds(1))).hasSize(1);
+        assertThat(store.claimDue(10, Duration.ofSeconds(1))).isEmpty();
+    }
+
+    @Test
+    void update_shouldRescheduleEntry() {
+        var entry = entry("id", 100L, 100L);
+        store.save(entry);
+        store.claimDue(10, Duration.ofSeconds(10));
+
+        entry.failed(500L, "error");
+        store.update(entry);
+
+        assertThat(store.claimDue(10, Duration.ofSeconds(1))).hasSize(1).first().satisfies(e -> {
+            assertThat(e.getAttempts()).isEqualTo(1);
+            assertThat(e.getErrorDetail()).isEqualTo("error");
+        });
+    }
+
+    @Test
+    void extendClaim_shouldReleaseClaim_whenDurationIsZero() {
+        store.save(entry("id", 100L, 100L));
+        store.claimDue(10, Duration.ofSeconds(10));
+
+        store.extendClaim(List.of("id"), Duration.ZERO);
+
+        assertThat(store.claimDue(10, Duration.ofSeconds(1))).hasSize(1).first().satisfies(e -> {
+            assertThat(e.getId()).isEqualTo("id");
+            assertThat(e.getAttempts()).isZero();
+        });
+    }
+
+    @Test
+    void delete_shouldRemoveEntries() {
+        store.save(entry("id1", 100L, 100L));
+        store.save(entry("id2", 100L, 100L));
+
+        store.delete(List.of("id1", "id2"));
+
+        assertThat(store.claimDue(10, Duration.ofSeconds(1))).isEmpty();
+    }
+
+    private OutboxEntry entry(String id, long createdAt, long nextAttemptAt) {
+        return OutboxEntry.Builder.newInstance()
+                .id(id)
+                .channel("channel")
+                .destination("http://destination")
+                .type("type")
+                .payload("{\"key\":\"value\"}")
+                .createdAt(createdAt)
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -25,6 +25,7 @@ dependencies {
     testImplementation(project(":tests:junit-base"));
 
     testImplementation(testFixtures(project(":extensions:common:sql:sql-core")))
+    testImplementation(libs.h2)
 }
 
 
@@ -16,6 +16,7 @@ package org.eclipse.edc.transaction.local;
 
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.transaction.spi.local.LocalTransactionResource;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.PrintWriter;
 import java.sql.Connection;
@@ -26,19 +27,41 @@ import javax.sql.DataSource;
 
 /**
  * Wraps a DataSource so that it can be enlisted in a local transaction context.
+ * <p>
+ * Connections enlisted in a read-only transaction are marked read-only and are rolled back instead of committed when the transaction completes, since there is nothing
+ * to commit. If a read replica is set, read-only transactions obtain their connection from it, offloading query traffic from the primary data source.
  */
 public class DataSourceResource implements LocalTransactionResource, DataSource {
     private ThreadLocal<ConnectionWrapper> enlistedConnections = new ThreadLocal<>();
+    private final ThreadLocal<Boolean> readOnlyTransactions = new ThreadLocal<>();
 
     private DataSource delegate;
+    private volatile DataSource readReplica;
 
     public DataSourceResource(DataSource delegate) {
+        this(delegate, null);
+    }
+
+    public DataSourceResource(DataSource delegate, @Nullable DataSource readReplica) {
         this.delegate = delegate;
+        this.readReplica = readReplica;
+    }
+
+    /**
+     * Sets the data source read-only transactions are routed to.
+     */
+    public void setReadReplica(@Nullable DataSource readReplica) {
+        this.readReplica = readReplica;
     }
 
     @Override
     public void start() {
-        // no-op
+        readOnlyTransactions.remove();
+    }
+
+    @Override
+    public void startReadOnly() {
+        readOnlyTransactions.set(true);
     }
 
     @Override
@@ -49,15 +72,22 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
                 // no resource used, ignore
                 return;
             }
+            var readOnly = isReadOnly();
             try {
-                connection.getWrappedConnection().commit();
+                if (readOnly) {
+                    // nothing was written, ending the transaction is enough
+                    connection.getWrappedConnection().rollback();
+                } else {
+                    connection.getWrappedConnection().commit();
+                }
             } finally {
-                connection.getWrappedConnection().close();
+                release(connection.getWrappedConnection(), readOnly);
             }
         } catch (SQLException e) {
             throw new EdcException(e);
         } finally {
             enlistedConnections.remove();
+            readOnlyTransactions.remove();
         }
     }
 
@@ -72,12 +102,13 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
             try {
                 connection.getWrappedConnection().rollback();
             } finally {
-                connection.getWrappedConnection().close();
+                release(connection.getWrappedConnection(), isReadOnly());
             }
         } catch (SQLException e) {
             throw new EdcException(e);
         } finally {
             enlistedConnections.remove();
+            readOnlyTransactions.remove();
         }
     }
 
@@ -86,8 +117,12 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
         try {
             var connection = enlistedConnections.get();
             if (connection == null) {
-                var delegate = this.delegate.getConnection();
+                var readOnly = isReadOnly();
+                var delegate = dataSource(readOnly).getConnection();
                 delegate.setAutoCommit(false);
+                if (readOnly) {
+                    delegate.setReadOnly(true);
+                }
                 connection = new ConnectionWrapper(delegate);
                 enlistedConnections.set(connection);
             }
@@ -102,7 +137,12 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
         try {
             var connection = enlistedConnections.get();
             if (connection == null) {
-                connection = new ConnectionWrapper(delegate.getConnection(username, password));
+                var readOnly = isReadOnly();
+                var delegate = dataSource(readOnly).getConnection(username, password);
+                if (readOnly) {
+                    delegate.setReadOnly(true);
+                }
+                connection = new ConnectionWrapper(delegate);
                 enlistedConnections.set(connection);
             }
             return connection;
@@ -146,5 +186,25 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
         return delegate.isWrapperFor(iface);
     }
 
+    private boolean isReadOnly() {
+        return readOnlyTransactions.get() != null;
+    }
+
+    private DataSource dataSource(boolean readOnly) {
+        var replica = readReplica;
+        return readOnly && replica != null ? replica : delegate;
+    }
 
+    /**
+     * Closes the connection, resetting the read-only flag first so that pooled connections are handed out in their default state.
+     */
+    private void release(Connection connection, boolean readOnly) throws SQLException {
+        try {
+            if (readOnly) {
+                connection.setReadOnly(false);
+            }
+        } finally {
+            connection.close();
+        }
+    }
 }
@@ -24,11 +24,15 @@ import javax.sql.DataSource;
 
 /**
  * Default {@link DataSourceRegistry} implementation. This implementation is used to register both local and XA data sources so that they can be resolved by extensions.
+ * <p>
+ * A data source registered under a name ending with {@link #READ_REPLICA_SUFFIX} is used as read replica of the data source registered under the name without suffix:
+ * read-only transactions on the latter obtain their connections from the replica. The registration order does not matter.
  */
 public class LocalDataSourceRegistry implements DataSourceRegistry {
     private final LocalTransactionContextManager manager;
 
-    private final Map<String, DataSource> dataSources = new HashMap<>();
+    private final Map<String, DataSourceResource> dataSources = new HashMap<>();
+    private final Map<String, DataSource> replicas = new HashMap<>();
 
     public LocalDataSourceRegistry(LocalTransactionContextManager manager) {
         this.manager = manager;
@@ -38,9 +42,17 @@ public class LocalDataSourceRegistry implements DataSourceRegistry {
     public void register(String name, DataSource dataSource) {
         Objects.requireNonNull(name, "name");
         Objects.requireNonNull(dataSource, "dataSource");
-        var wrapper = new DataSourceResource(dataSource);
+        var wrapper = new DataSourceResource(dataSource, replicas.get(name + READ_REPLICA_SUFFIX));
         dataSources.put(name, wrapper);
         manager.registerResource(wrapper);
+
+        if (name.endsWith(READ_REPLICA_SUFFIX)) {
+            replicas.put(name, dataSource);
+            var primary = dataSources.get(name.substring(0, name.length() - READ_REPLICA_SUFFIX.length()));
+            if (primary != null) {
+                primary.setReadReplica(dataSource);
+            }
+        }
     }
 
     @Override
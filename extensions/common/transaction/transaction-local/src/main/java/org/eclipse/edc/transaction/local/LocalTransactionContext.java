@@ -61,13 +61,35 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
 
     @Override
     public <T> T execute(ResultTransactionBlock<T> block) {
+        return execute(block, false);
+    }
+
+    @Override
+    public void executeReadOnly(TransactionBlock block) {
+        executeReadOnly((ResultTransactionBlock<Void>) () -> {
+            block.execute();
+            return null;
+        });
+    }
+
+    @Override
+    public <T> T executeReadOnly(ResultTransactionBlock<T> block) {
+        return execute(block, true);
+    }
+
+    @Override
+    public void registerResource(LocalTransactionResource resource) {
+        resources.add(resource);
+    }
+
+    private <T> T execute(ResultTransactionBlock<T> block, boolean readOnly) {
         var startedTransaction = false;
         var transaction = transactions.get();
 
         try {
             if (transaction == null) {
                 transaction = new Transaction();
-                resources.forEach(LocalTransactionResource::start);
+                resources.forEach(readOnly ? LocalTransactionResource::startReadOnly : LocalTransactionResource::start);
                 startedTransaction = true;
                 transactions.set(transaction);
             }
@@ -105,12 +127,6 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
         }
     }
 
-    @Override
-    public void registerResource(LocalTransactionResource resource) {
-        resources.add(resource);
-    }
-
-
     private static class Transaction {
         private boolean rollbackOnly = false;
         private List<TransactionSynchronization> synchronizations;  // lazy instantiate the collection to avoid object creation if not needed
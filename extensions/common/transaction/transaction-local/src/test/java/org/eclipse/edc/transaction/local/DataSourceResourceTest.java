@@ -151,6 +151,45 @@ class DataSourceResourceTest {
         assertThat(connection1).isNotSameAs(connection2);
     }
 
+    @Test
+    void verifyReadOnlyTransaction() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        resource.startReadOnly();
+        resource.getConnection();
+        resource.commit();
+
+        verify(connection).setReadOnly(true);
+        verify(connection, never()).commit();
+        verify(connection, times(1)).rollback();
+        verify(connection).setReadOnly(false);
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void verifyReadOnlyTransactionUsesReadReplica() throws SQLException {
+        var replica = mock(DataSource.class);
+        var replicaConnection = mock(Connection.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(dataSource.getConnection()).thenReturn(connection);
+        resource.setReadReplica(replica);
+
+        resource.startReadOnly();
+        resource.getConnection();
+        resource.commit();
+
+        resource.start();
+        resource.getConnection();
+        resource.commit();
+
+        verify(replica, times(1)).getConnection();
+        verify(replicaConnection).setReadOnly(true);
+        verify(replicaConnection, times(1)).close();
+        verify(dataSource, times(1)).getConnection();
+        verify(connection, never()).setReadOnly(true);
+        verify(connection, times(1)).commit();
+    }
+
     @Test
     void verifyNoEnlistedResourcesCommit() throws SQLException {
         when(dataSource.getConnection()).thenReturn(connection);
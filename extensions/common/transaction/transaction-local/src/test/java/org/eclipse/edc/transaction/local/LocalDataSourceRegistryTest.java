@@ -19,10 +19,15 @@ import org.eclipse.edc.transaction.spi.local.LocalTransactionContextManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import javax.sql.DataSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class LocalDataSourceRegistryTest {
     private LocalDataSourceRegistry registry;
@@ -34,6 +39,25 @@ class LocalDataSourceRegistryTest {
         assertThat(registry.resolve("foo")).isNull();
     }
 
+    @Test
+    void verifyReplicaIsUsedForReadOnlyTransactions() throws SQLException {
+        var primary = mock(DataSource.class);
+        var replica = mock(DataSource.class);
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+
+        // the replica may be registered before the primary
+        registry.register(DataSourceRegistry.DEFAULT_DATASOURCE + DataSourceRegistry.READ_REPLICA_SUFFIX, replica);
+        registry.register(DataSourceRegistry.DEFAULT_DATASOURCE, primary);
+
+        var resource = (DataSourceResource) registry.resolve(DataSourceRegistry.DEFAULT_DATASOURCE);
+        resource.startReadOnly();
+        resource.getConnection();
+        resource.commit();
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
     @BeforeEach
     void setUp() {
         registry = new LocalDataSourceRegistry(mock(LocalTransactionContextManager.class));
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -54,6 +55,26 @@ class LocalTransactionContextTest {
         verify(dsResource, times(1)).commit();
     }
 
+    @Test
+    void verifyReadOnlyTransaction() {
+        transactionContext.executeReadOnly(() -> {
+        });
+
+        verify(dsResource, times(1)).startReadOnly();
+        verify(dsResource, never()).start();
+        verify(dsResource, times(1)).commit();
+    }
+
+    @Test
+    void verifyNestedTransactionJoinsReadOnlyParent() {
+        transactionContext.executeReadOnly(() -> transactionContext.execute(() -> {
+        }));
+
+        verify(dsResource, times(1)).startReadOnly();
+        verify(dsResource, never()).start();
+        verify(dsResource, times(1)).commit();
+    }
+
     @Test
     void verifyRollbackTransaction() {
         // executed a transaction block
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.transaction.local;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry.DEFAULT_DATASOURCE;
+import static org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry.READ_REPLICA_SUFFIX;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifies read-only transaction routing against two embedded databases, one acting as primary and one as read replica.
+ */
+class LocalTransactionReadReplicaTest {
+
+    private LocalTransactionContext transactionContext;
+    private LocalDataSourceRegistry registry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        transactionContext = new LocalTransactionContext(mock(Monitor.class));
+        registry = new LocalDataSourceRegistry(transactionContext);
+
+        registry.register(DEFAULT_DATASOURCE, createDatabase("primary"));
+        registry.register(DEFAULT_DATASOURCE + READ_REPLICA_SUFFIX, createDatabase("replica"));
+    }
+
+    @Test
+    void readWriteTransaction_shouldUsePrimary() {
+        var origin = transactionContext.execute(this::queryOrigin);
+
+        assertThat(origin).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplica() {
+        var origin = transactionContext.executeReadOnly(this::queryOrigin);
+
+        assertThat(origin).isEqualTo("replica");
+    }
+
+    @Test
+    void nestedTransaction_shouldJoinReadOnlyParent() {
+        var origin = transactionContext.executeReadOnly(() -> transactionContext.execute(this::queryOrigin));
+
+        assertThat(origin).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransaction_shouldNotLeakIntoNextTransaction() {
+        transactionContext.executeReadOnly(this::queryOrigin);
+
+        var origin = transactionContext.execute(this::queryOrigin);
+
+        assertThat(origin).isEqualTo("primary");
+    }
+
+    private String queryOrigin() {
+        try (var statement = registry.resolve(DEFAULT_DATASOURCE).getConnection().prepareStatement("SELECT origin FROM test_origin");
+             var resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DataSource createDatabase(String origin) throws SQLException {
+        var dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:%s-%s;DB_CLOSE_DELAY=-1".formatted(origin, UUID.randomUUID()));
+        try (var connection = dataSource.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE test_origin (origin VARCHAR(32))");
+            statement.execute("INSERT INTO test_origin VALUES ('%s')".formatted(origin));
+        }
+        return dataSource;
+    }
+}
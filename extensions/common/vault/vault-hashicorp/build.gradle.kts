@@ -27,6 +27,8 @@ dependencies {
     testImplementation(libs.jakarta.json.api)
     testImplementation(libs.testcontainers.junit)
     testImplementation(libs.testcontainers.vault)
+    testImplementation(libs.mockserver.netty)
+    testImplementation(libs.mockserver.client)
     implementation(libs.bouncyCastle.bcpkixJdk18on)
 
 }
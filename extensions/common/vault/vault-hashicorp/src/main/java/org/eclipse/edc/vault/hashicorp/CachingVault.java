@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through cache in front of another {@link Vault}.
+ * <p>
+ * Resolved secrets are kept for {@code timeToLive}, missing secrets for {@code negativeTimeToLive}, each alias
+ * expiring individually. Concurrent lookups of the same alias are collapsed into a single call to the delegate.
+ * {@link #storeSecret(String, String)} and {@link #deleteSecret(String)} invalidate the alias, and a lookup that is
+ * still in flight while the alias gets invalidated does not populate the cache.
+ */
+public class CachingVault implements Vault {
+
+    private final Vault delegate;
+    private final Duration timeToLive;
+    private final Duration negativeTimeToLive;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> loading = new ConcurrentHashMap<>();
+
+    public CachingVault(Vault delegate, Duration timeToLive, Duration negativeTimeToLive, Clock clock) {
+        this.delegate = delegate;
+        this.timeToLive = timeToLive;
+        this.negativeTimeToLive = negativeTimeToLive;
+        this.clock = clock;
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        var entry = entries.get(key);
+        if (entry != null && clock.instant().isBefore(entry.expiresAt())) {
+            return entry.value();
+        }
+
+        var future = new CompletableFuture<Entry>();
+        var inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return awaitLoading(inFlight).value();
+        }
+
+        try {
+            var loaded = load(key);
+            // only cache the value if the alias was not invalidated in the meantime
+            entries.compute(key, (k, existing) -> loading.remove(k, future) ? loaded : existing);
+            future.complete(loaded);
+            return loaded.value();
+        } catch (RuntimeException e) {
+            loading.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Result<Void> storeSecret(String key, String value) {
+        try {
+            return delegate.storeSecret(key, value);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public Result<Void> deleteSecret(String key) {
+        try {
+            return delegate.deleteSecret(key);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    private Entry load(String key) {
+        var value = delegate.resolveSecret(key);
+        var validity = value != null ? timeToLive : negativeTimeToLive;
+        return new Entry(value, clock.instant().plus(validity));
+    }
+
+    private void invalidate(String key) {
+        entries.compute(key, (k, existing) -> {
+            loading.remove(k);
+            return null;
+        });
+    }
+
+    private Entry awaitLoading(CompletableFuture<Entry> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(@Nullable String value, Instant expiresAt) {
+    }
+}
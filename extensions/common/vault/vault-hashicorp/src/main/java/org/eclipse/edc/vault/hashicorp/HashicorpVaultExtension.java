@@ -30,6 +30,9 @@ import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultClient;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultSettings;
 import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultTokenRenewTask;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 @Extension(value = HashicorpVaultExtension.NAME)
@@ -43,6 +46,9 @@ public class HashicorpVaultExtension implements ServiceExtension {
     public static final long VAULT_TOKEN_RENEW_BUFFER_DEFAULT = 30;
     public static final long VAULT_TOKEN_TTL_DEFAULT = 300;
     public static final String VAULT_API_SECRET_PATH_DEFAULT = "/v1/secret";
+    public static final boolean VAULT_CACHE_ENABLED_DEFAULT = false;
+    public static final long VAULT_CACHE_TTL_DEFAULT = 60;
+    public static final long VAULT_CACHE_NEGATIVE_TTL_DEFAULT = 5;
 
     @Setting(value = "The URL of the Hashicorp Vault", required = true)
     public static final String VAULT_URL = "edc.vault.hashicorp.url";
@@ -71,16 +77,31 @@ public class HashicorpVaultExtension implements ServiceExtension {
     @Setting(value = "The URL path of the vault's /secret endpoint", defaultValue = VAULT_API_SECRET_PATH_DEFAULT)
     public static final String VAULT_API_SECRET_PATH = "edc.vault.hashicorp.api.secret.path";
 
+    @Setting(value = "Whether resolved secrets are cached in memory. Secrets stored or deleted through this runtime are invalidated immediately, changes made directly in the vault become visible after the ttl", defaultValue = "false", type = "boolean")
+    public static final String VAULT_CACHE_ENABLED = "edc.vault.hashicorp.cache.enabled";
+
+    @Setting(value = "The time-to-live (ttl) of a cached secret in seconds", defaultValue = "60", type = "long")
+    public static final String VAULT_CACHE_TTL = "edc.vault.hashicorp.cache.ttl";
+
+    @Setting(value = "The time-to-live (ttl) in seconds of a cached lookup that did not resolve a secret. Set to 0 to disable negative caching", defaultValue = "5", type = "long")
+    public static final String VAULT_CACHE_NEGATIVE_TTL = "edc.vault.hashicorp.cache.negative-ttl";
+
     @Inject
     private EdcHttpClient httpClient;
 
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private Clock clock;
+
     private HashicorpVaultClient client;
     private HashicorpVaultTokenRenewTask tokenRenewalTask;
     private Monitor monitor;
     private HashicorpVaultSettings settings;
+    private boolean cacheEnabled;
+    private Duration cacheTtl;
+    private Duration cacheNegativeTtl;
 
     @Override
     public String name() {
@@ -105,13 +126,17 @@ public class HashicorpVaultExtension implements ServiceExtension {
 
     @Provider
     public Vault hashicorpVault() {
-        return new HashicorpVault(hashicorpVaultClient(), monitor);
+        var vault = new HashicorpVault(hashicorpVaultClient(), monitor);
+        return cacheEnabled ? new CachingVault(vault, cacheTtl, cacheNegativeTtl, clock) : vault;
     }
 
     @Override
     public void initialize(ServiceExtensionContext context) {
         monitor = context.getMonitor().withPrefix(NAME);
         settings = getSettings(context);
+        cacheEnabled = context.getSetting(VAULT_CACHE_ENABLED, VAULT_CACHE_ENABLED_DEFAULT);
+        cacheTtl = Duration.ofSeconds(context.getSetting(VAULT_CACHE_TTL, VAULT_CACHE_TTL_DEFAULT));
+        cacheNegativeTtl = Duration.ofSeconds(context.getSetting(VAULT_CACHE_NEGATIVE_TTL, VAULT_CACHE_NEGATIVE_TTL_DEFAULT));
         tokenRenewalTask = new HashicorpVaultTokenRenewTask(
                 NAME,
                 executorInstrumentation,
@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.vault.hashicorp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultClient;
+import org.eclipse.edc.vault.hashicorp.client.HashicorpVaultSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.verify.VerificationTimes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
+import static org.eclipse.edc.util.io.Ports.getFreePort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockserver.integration.ClientAndServer.startClientAndServer;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.MediaType.APPLICATION_JSON;
+
+class CachingVaultTest {
+
+    private static final String KEY = "key";
+    private final Instant now = Instant.parse("2024-01-01T00:00:00Z");
+    private final Clock clock = mock();
+    private final Vault delegate = mock();
+    private final CachingVault vault = new CachingVault(delegate, Duration.ofMinutes(1), Duration.ofSeconds(5), clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    void resolveSecret_shouldCacheValue() {
+        when(delegate.resolveSecret(KEY)).thenReturn("secret");
+
+        assertThat(vault.resolveSecret(KEY)).isEqualTo("secret");
+        assertThat(vault.resolveSecret(KEY)).isEqualTo("secret");
+
+        verify(delegate, times(1)).resolveSecret(KEY);
+    }
+
+    @Test
+    void resolveSecret_shouldReload_whenTtlElapsed() {
+        when(delegate.resolveSecret(KEY)).thenReturn("secret", "rotated");
+
+        assertThat(vault.resolveSecret(KEY)).isEqualTo("secret");
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(1)));
+
+        assertThat(vault.resolveSecret(KEY)).isEqualTo("rotated");
+        verify(delegate, times(2)).resolveSecret(KEY);
+    }
+
+    @Test
+    void resolveSecret_shouldCacheMissingSecret_forNegativeTtl() {
+        when(delegate.resolveSecret(KEY)).thenReturn(null, "secret");
+
+        assertThat(vault.resolveSecret(KEY)).isNull();
+        assertThat(vault.resolveSecret(KEY)).isNull();
+        verify(delegate, times(1)).resolveSecret(KEY);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(5));
+        assertThat(vault.resolveSecret(KEY)).isEqualTo("secret");
+        verify(delegate, times(2)).resolveSecret(KEY);
+    }
+
+    @Test
+    void resolveSecret_shouldLoadOnce_whenCalledConcurrently() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        when(delegate.resolveSecret(KEY)).thenAnswer(i -> {
+            release.await();
+            return "secret";
+        });
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = IntStream.range(0, 4)
+                    .mapToObj(i -> executor.submit(() -> vault.resolveSecret(KEY)))
+                    .toList();
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(futures).allSatisfy(future -> assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("secret"));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).resolveSecret(KEY);
+    }
+
+    @Test
+    void storeSecret_shouldInvalidate() {
+        when(delegate.resolveSecret(KEY)).thenReturn("secret", "updated");
+        when(delegate.storeSecret(KEY, "updated")).thenReturn(Result.success());
+
+        assertThat(vault.resolveSecret(KEY)).isEqualTo("secret");
+        assertThat(vault.storeSecret(KEY, "updated").succeeded()).isTrue();
+
+        assertThat(vault.resolveSecret(KEY)).isEqualTo("updated");
+        verify(delegate, times(2)).resolveSecret(KEY);
+    }
+
+    @Test
+    void deleteSecret_shouldInvalidate() {
+        when(delegate.resolveSecret(KEY)).thenReturn("secret", (String) null);
+        when(delegate.deleteSecret(KEY)).thenReturn(Result.success());
+
+        assertThat(vault.resolveSecret(KEY)).isEqualTo("secret");
+        assertThat(vault.deleteSecret(KEY).succeeded()).isTrue();
+
+        assertThat(vault.resolveSecret(KEY)).isNull();
+        verify(delegate, times(2)).resolveSecret(KEY);
+    }
+
+    @Nested
+    class WithMockVaultServer {
+
+        private final int port = getFreePort();
+        private final ClientAndServer server = startClientAndServer(port);
+        private CachingVault cachingVault;
+
+        @BeforeEach
+        void setUp() {
+            var settings = HashicorpVaultSettings.Builder.newInstance()
+                    .url("http://localhost:" + port)
+                    .healthCheckPath("/v1/sys/health")
+                    .token("token")
+                    .ttl(300)
+                    .renewBuffer(30)
+                    .secretPath("/v1/secret")
+                    .build();
+            var mapper = new ObjectMapper().configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+            var client = new HashicorpVaultClient(testHttpClient(), mapper, mock(Monitor.class), settings);
+            cachingVault = new CachingVault(new HashicorpVault(client, mock(Monitor.class)), Duration.ofMinutes(1), Duration.ofSeconds(5), clock);
+        }
+
+        @AfterEach
+        void tearDown() {
+            server.stop();
+        }
+
+        @Test
+        void resolveSecret_shouldHitVaultOnce() {
+            var secretRequest = request().withMethod("GET").withPath("/v1/secret/data/" + KEY);
+            server.when(secretRequest)
+                    .respond(response().withBody("{\"data\":{\"data\":{\"content\":\"secret\"}}}", APPLICATION_JSON));
+
+            assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("secret");
+            assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("secret");
+
+            server.verify(secretRequest, VerificationTimes.exactly(1));
+        }
+
+        @Test
+        void resolveSecret_shouldCacheNotFound() {
+            var secretRequest = request().withMethod("GET").withPath("/v1/secret/data/" + KEY);
+            server.when(secretRequest).respond(response().withStatusCode(404));
+
+            assertThat(cachingVault.resolveSecret(KEY)).isNull();
+            assertThat(cachingVault.resolveSecret(KEY)).isNull();
+
+            server.verify(secretRequest, VerificationTimes.exactly(1));
+        }
+    }
+}
@@ -28,6 +28,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_CACHE_ENABLED;
+import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_CACHE_ENABLED_DEFAULT;
 import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_TOKEN;
 import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_TOKEN_SCHEDULED_RENEW_ENABLED;
 import static org.eclipse.edc.vault.hashicorp.HashicorpVaultExtension.VAULT_TOKEN_SCHEDULED_RENEW_ENABLED_DEFAULT;
@@ -67,6 +69,13 @@ class HashicorpVaultExtensionTest {
         assertThat(extension.hashicorpVault()).isInstanceOf(HashicorpVault.class);
     }
 
+    @Test
+    void hashicorpVault_whenCacheEnabled_shouldBeCaching(ServiceExtensionContext context) {
+        when(context.getSetting(VAULT_CACHE_ENABLED, VAULT_CACHE_ENABLED_DEFAULT)).thenReturn(true);
+        extension.initialize(context);
+        assertThat(extension.hashicorpVault()).isInstanceOf(CachingVault.class);
+    }
+
     @Test
     void start_withTokenRenewEnabled_shouldStartTokenRenewTask(ServiceExtensionContext context) {
         extension.initialize(context);
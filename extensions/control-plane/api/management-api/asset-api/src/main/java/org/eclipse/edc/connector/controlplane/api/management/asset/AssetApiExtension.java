@@ -20,6 +20,7 @@ import org.eclipse.edc.api.validation.DataAddressValidator;
 import org.eclipse.edc.connector.controlplane.api.management.asset.v3.AssetApiController;
 import org.eclipse.edc.connector.controlplane.api.management.asset.validation.AssetValidator;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -49,6 +50,9 @@ public class AssetApiExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validator;
 
+    @Inject
+    private JsonLd jsonLd;
+
     @Override
     public String name() {
         return NAME;
@@ -64,6 +68,6 @@ public class AssetApiExtension implements ServiceExtension {
         var managementTypeTransformerRegistry = transformerRegistry.forContext("management-api");
 
         webService.registerResource(ApiContext.MANAGEMENT, new AssetApiController(assetService,
-                managementTypeTransformerRegistry, monitor, validator));
+                managementTypeTransformerRegistry, monitor, validator, jsonLd));
     }
 }
@@ -28,6 +28,8 @@ import jakarta.json.JsonObject;
 import org.eclipse.edc.api.management.schema.ManagementApiSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 
+import java.io.InputStream;
+
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
@@ -100,6 +102,40 @@ public interface AssetApi {
             })
     void updateAssetV3(JsonObject asset);
 
+    @Operation(description = "Creates a batch of assets. Every asset is validated and created on its own, the result of each one is " +
+            "reported in the response body, in the same order as the request",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each asset creation",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray createAssetsV3(InputStream assets);
+
+    @Operation(description = "Creates or replaces a batch of assets. Every asset is validated and stored on its own, the result of each one is " +
+            "reported in the response body, in the same order as the request. " +
+            "DANGER ZONE: Note that updating assets can have unexpected results, especially for contract offers that have been sent out or are ongoing in contract negotiations.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = AssetInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each asset creation or replacement",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray upsertAssetsV3(InputStream assets);
+
+    @Operation(description = "Removes a batch of assets, given a JSON array of their IDs. Assets referenced by a contract agreement are not deleted. " +
+            "DANGER ZONE: Note that deleting assets can have unexpected results, especially for contract offers that have been sent out or ongoing or contract negotiations.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each asset deletion",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray removeAssetsV3(InputStream assetIds);
+
     @Schema(name = "AssetInput", example = AssetInputSchema.ASSET_INPUT_EXAMPLE)
     record AssetInputSchema(
             @Schema(name = CONTEXT, requiredMode = REQUIRED)
@@ -24,9 +24,12 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import org.eclipse.edc.api.management.bulk.BulkRequestProcessor;
+import org.eclipse.edc.api.management.query.FieldProjection;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -37,6 +40,8 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.io.InputStream;
+
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static java.util.Optional.of;
@@ -52,13 +57,15 @@ public class AssetApiController implements AssetApi {
     private final AssetService service;
     private final Monitor monitor;
     private final JsonObjectValidatorRegistry validator;
+    private final BulkRequestProcessor<Asset> bulkProcessor;
 
     public AssetApiController(AssetService service, TypeTransformerRegistry transformerRegistry,
-                              Monitor monitor, JsonObjectValidatorRegistry validator) {
+                              Monitor monitor, JsonObjectValidatorRegistry validator, JsonLd jsonLd) {
         this.transformerRegistry = transformerRegistry;
         this.service = service;
         this.monitor = monitor;
         this.validator = validator;
+        this.bulkProcessor = new BulkRequestProcessor<>(jsonLd, validator, transformerRegistry, EDC_ASSET_TYPE, Asset.class, Asset::getId);
     }
 
     @POST
@@ -99,6 +106,7 @@ public class AssetApiController implements AssetApi {
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
+                .map(new FieldProjection(querySpec))
                 .collect(toJsonArray());
     }
 
@@ -134,4 +142,25 @@ public class AssetApiController implements AssetApi {
                 .orElseThrow(exceptionMapper(Asset.class, assetResult.getId()));
     }
 
+    @POST
+    @Path("/bulk")
+    @Override
+    public JsonArray createAssetsV3(InputStream assets) {
+        return bulkProcessor.process(assets, service::createAll);
+    }
+
+    @PUT
+    @Path("/bulk")
+    @Override
+    public JsonArray upsertAssetsV3(InputStream assets) {
+        return bulkProcessor.process(assets, service::upsertAll);
+    }
+
+    @POST
+    @Path("/bulk/delete")
+    @Override
+    public JsonArray removeAssetsV3(InputStream assetIds) {
+        return bulkProcessor.processIds(assetIds, service::deleteAll);
+    }
+
 }
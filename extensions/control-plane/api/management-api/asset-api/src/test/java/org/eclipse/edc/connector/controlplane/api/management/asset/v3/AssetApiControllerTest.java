@@ -20,6 +20,7 @@ import jakarta.json.JsonObjectBuilder;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.services.spi.asset.AssetService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
@@ -37,7 +38,10 @@ import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
 import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_REASON;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_SUCCEEDED;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_CREATED_AT;
 import static org.eclipse.edc.api.model.IdResponse.ID_RESPONSE_TYPE;
 import static org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset.EDC_ASSET_TYPE;
@@ -72,6 +76,7 @@ class AssetApiControllerTest extends RestControllerTestBase {
     private final AssetService service = mock(AssetService.class);
     private final TypeTransformerRegistry transformerRegistry = mock(TypeTransformerRegistry.class);
     private final JsonObjectValidatorRegistry validator = mock(JsonObjectValidatorRegistry.class);
+    private final JsonLd jsonLd = mock(JsonLd.class);
 
     @BeforeEach
     void setup() {
@@ -403,9 +408,84 @@ class AssetApiControllerTest extends RestControllerTestBase {
         verifyNoInteractions(service, transformerRegistry);
     }
 
+    @Test
+    void createAssets_shouldReturnOneResultPerAsset() {
+        when(jsonLd.expand(any())).thenAnswer(a -> Result.success(a.getArgument(0)));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(Asset.class)))
+                .thenAnswer(a -> Result.success(createAssetBuilder().id(a.getArgument(0, JsonObject.class).getString(ID)).build()));
+        when(service.createAll(any())).thenAnswer(a -> List.of(
+                ServiceResult.success(createAssetBuilder().id("asset-1").build()),
+                ServiceResult.conflict("already exists")));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(createAssetJson().add(ID, "asset-1")).add(createAssetJson().add(ID, "asset-2")).build().toString())
+                .post("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(2))
+                .body("[0].'" + ID + "'", is("asset-1"))
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(true))
+                .body("[1].'" + ID + "'", is("asset-2"))
+                .body("[1].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(false))
+                .body("[1].'" + BULK_ITEM_RESULT_REASON + "'", is("CONFLICT"));
+
+        verify(service).createAll(argThat(assets -> assets.size() == 2));
+    }
+
+    @Test
+    void upsertAssets_shouldNotPassInvalidAssetsToService() {
+        when(jsonLd.expand(any())).thenAnswer(a -> Result.success(a.getArgument(0)));
+        when(validator.validate(any(), any())).thenReturn(ValidationResult.failure(violation("validation failure", "path")));
+        when(service.upsertAll(any())).thenReturn(List.of());
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(createAssetJson()).build().toString())
+                .put("/assets/bulk")
+                .then()
+                .statusCode(200)
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(false))
+                .body("[0].'" + BULK_ITEM_RESULT_REASON + "'", is("BAD_REQUEST"));
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void removeAssets_shouldDeleteById() {
+        when(service.deleteAll(List.of("asset-1", "asset-2"))).thenReturn(List.of(
+                ServiceResult.success(createAssetBuilder().id("asset-1").build()),
+                ServiceResult.notFound("not found")));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add("asset-1").add("asset-2").build().toString())
+                .post("/assets/bulk/delete")
+                .then()
+                .statusCode(200)
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(true))
+                .body("[1].'" + BULK_ITEM_RESULT_REASON + "'", is("NOT_FOUND"));
+
+        verify(service).deleteAll(List.of("asset-1", "asset-2"));
+    }
+
+    @Test
+    void createAssets_shouldReturnBadRequest_whenBodyIsNotAnArray() {
+        baseRequest()
+                .contentType(JSON)
+                .body(createAssetJson().build())
+                .post("/assets/bulk")
+                .then()
+                .statusCode(400);
+
+        verifyNoInteractions(service, jsonLd);
+    }
+
     @Override
     protected Object controller() {
-        return new AssetApiController(service, transformerRegistry, monitor, validator);
+        return new AssetApiController(service, transformerRegistry, monitor, validator, jsonLd);
     }
 
     private JsonObjectBuilder createAssetJson() {
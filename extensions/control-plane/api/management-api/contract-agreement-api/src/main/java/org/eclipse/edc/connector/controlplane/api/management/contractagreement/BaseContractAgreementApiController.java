@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.contractagreement;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.api.management.query.FieldProjection;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.contractagreement.ContractAgreementService;
@@ -65,6 +66,7 @@ public abstract class BaseContractAgreementApiController {
                 .peek(r -> r.onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
+                .map(new FieldProjection(querySpec))
                 .collect(toJsonArray());
     }
 
@@ -25,8 +25,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.api.management.schema.ManagementApiSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 
+import java.io.InputStream;
 import java.util.List;
 
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
@@ -100,6 +102,38 @@ public interface ContractDefinitionApiV3 {
     )
     void updateContractDefinitionV3(JsonObject updateObject);
 
+    @Operation(description = "Creates a batch of contract definitions. Every contract definition is validated and created on its own, the result of each one is " +
+            "reported in the response body, in the same order as the request",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContractDefinitionInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each contract definition creation",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray createContractDefinitionsV3(InputStream contractDefinitions);
+
+    @Operation(description = "Creates or replaces a batch of contract definitions. Every contract definition is validated and stored on its own, the result of each one is " +
+            "reported in the response body, in the same order as the request",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = ContractDefinitionInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each contract definition creation or replacement",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray upsertContractDefinitionsV3(InputStream contractDefinitions);
+
+    @Operation(description = "Removes a batch of contract definitions, given a JSON array of their IDs.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each contract definition deletion",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray deleteContractDefinitionsV3(InputStream contractDefinitionIds);
+
     @Schema(name = "ContractDefinitionInput", example = CONTRACT_DEFINITION_INPUT_EXAMPLE)
     record ContractDefinitionInputSchema(
             @Schema(name = CONTEXT, requiredMode = REQUIRED)
@@ -24,20 +24,33 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import org.eclipse.edc.api.management.bulk.BulkRequestProcessor;
 import org.eclipse.edc.connector.controlplane.api.management.contractdefinition.BaseContractDefinitionApiController;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.contractdefinition.ContractDefinitionService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.io.InputStream;
+
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition.CONTRACT_DEFINITION_TYPE;
 
 @Consumes(APPLICATION_JSON)
 @Produces(APPLICATION_JSON)
 @Path("/v3/contractdefinitions")
 public class ContractDefinitionApiV3Controller extends BaseContractDefinitionApiController implements ContractDefinitionApiV3 {
-    public ContractDefinitionApiV3Controller(TypeTransformerRegistry transformerRegistry, ContractDefinitionService service, Monitor monitor, JsonObjectValidatorRegistry validatorRegistry) {
+    private final ContractDefinitionService service;
+    private final BulkRequestProcessor<ContractDefinition> bulkProcessor;
+
+    public ContractDefinitionApiV3Controller(TypeTransformerRegistry transformerRegistry, ContractDefinitionService service, Monitor monitor,
+                                             JsonObjectValidatorRegistry validatorRegistry, JsonLd jsonLd) {
         super(transformerRegistry, service, monitor, validatorRegistry);
+        this.service = service;
+        this.bulkProcessor = new BulkRequestProcessor<>(jsonLd, validatorRegistry, transformerRegistry, CONTRACT_DEFINITION_TYPE,
+                ContractDefinition.class, ContractDefinition::getId);
     }
 
     @POST
@@ -72,4 +85,25 @@ public class ContractDefinitionApiV3Controller extends BaseContractDefinitionApi
     public void updateContractDefinitionV3(JsonObject updateObject) {
         updateContractDefinition(updateObject);
     }
+
+    @POST
+    @Path("/bulk")
+    @Override
+    public JsonArray createContractDefinitionsV3(InputStream contractDefinitions) {
+        return bulkProcessor.process(contractDefinitions, service::createAll);
+    }
+
+    @PUT
+    @Path("/bulk")
+    @Override
+    public JsonArray upsertContractDefinitionsV3(InputStream contractDefinitions) {
+        return bulkProcessor.process(contractDefinitions, service::upsertAll);
+    }
+
+    @POST
+    @Path("/bulk/delete")
+    @Override
+    public JsonArray deleteContractDefinitionsV3(InputStream contractDefinitionIds) {
+        return bulkProcessor.processIds(contractDefinitionIds, service::deleteAll);
+    }
 }
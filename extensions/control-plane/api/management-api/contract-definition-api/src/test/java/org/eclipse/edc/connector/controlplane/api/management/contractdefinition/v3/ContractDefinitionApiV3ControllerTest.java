@@ -15,11 +15,102 @@
 package org.eclipse.edc.connector.controlplane.api.management.contractdefinition.v3;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.controlplane.api.management.contractdefinition.BaseContractDefinitionApiControllerTest;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
 
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_REASON;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_SUCCEEDED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractDefinition.CONTRACT_DEFINITION_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class ContractDefinitionApiV3ControllerTest extends BaseContractDefinitionApiControllerTest {
+
+    private final JsonLd jsonLd = mock();
+
+    @Test
+    void createBulk_shouldReturnOneResultPerContractDefinition() {
+        when(jsonLd.expand(any())).thenAnswer(a -> Result.success(a.getArgument(0)));
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(ContractDefinition.class)))
+                .thenAnswer(a -> Result.success(contractDefinition(a.getArgument(0, JsonObject.class).getString(ID))));
+        when(service.createAll(any())).thenReturn(List.of(ServiceResult.success(contractDefinition("definition-1")), ServiceResult.conflict("already exists")));
+
+        var body = createArrayBuilder()
+                .add(createObjectBuilder().add(ID, "definition-1"))
+                .add(createObjectBuilder().add(ID, "definition-2"))
+                .build();
+
+        baseRequest()
+                .contentType(JSON)
+                .body(body.toString())
+                .post("/bulk")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(true))
+                .body("[1].'" + ID + "'", is("definition-2"))
+                .body("[1].'" + BULK_ITEM_RESULT_REASON + "'", is("CONFLICT"));
+
+        verify(validatorRegistry, times(2)).validate(eq(CONTRACT_DEFINITION_TYPE), any());
+        verify(service).createAll(argThat(definitions -> definitions.size() == 2));
+    }
+
+    @Test
+    void upsertBulk_shouldReportTransformationFailuresPerItem() {
+        when(jsonLd.expand(any())).thenAnswer(a -> Result.success(a.getArgument(0)));
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(ContractDefinition.class))).thenReturn(Result.failure("cannot transform"));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(createObjectBuilder().add(ID, "definition-1")).build().toString())
+                .put("/bulk")
+                .then()
+                .statusCode(200)
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(false))
+                .body("[0].'" + BULK_ITEM_RESULT_REASON + "'", is("BAD_REQUEST"));
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void deleteBulk_shouldDeleteById() {
+        when(service.deleteAll(List.of("definition-1"))).thenReturn(List.of(ServiceResult.success(contractDefinition("definition-1"))));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add("definition-1").build().toString())
+                .post("/bulk/delete")
+                .then()
+                .statusCode(200)
+                .body("[0].'" + ID + "'", is("definition-1"))
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(true));
+
+        verify(service).deleteAll(List.of("definition-1"));
+    }
+
     @Override
     protected RequestSpecification baseRequest() {
         return given()
@@ -30,6 +121,10 @@ class ContractDefinitionApiV3ControllerTest extends BaseContractDefinitionApiCon
 
     @Override
     protected Object controller() {
-        return new ContractDefinitionApiV3Controller(transformerRegistry, service, monitor, validatorRegistry);
+        return new ContractDefinitionApiV3Controller(transformerRegistry, service, monitor, validatorRegistry, jsonLd);
+    }
+
+    private ContractDefinition contractDefinition(String id) {
+        return ContractDefinition.Builder.newInstance().id(id).accessPolicyId("access").contractPolicyId("contract").build();
     }
-}
\ No newline at end of file
+}
@@ -16,6 +16,9 @@ package org.eclipse.edc.connector.controlplane.api.management.contractnegotiatio
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.api.management.query.FieldProjection;
+import org.eclipse.edc.api.management.query.QueryResponseHeaders;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.model.NegotiationState;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.command.TerminateNegotiationCommand;
@@ -26,13 +29,18 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonArrayStreamingOutput;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static org.eclipse.edc.connector.controlplane.contract.spi.types.command.TerminateNegotiationCommand.TERMINATE_NEGOTIATION_TYPE;
@@ -55,22 +63,66 @@ public class BaseContractNegotiationApiController {
     }
 
     public JsonArray queryNegotiations(JsonObject querySpecJson) {
-        QuerySpec querySpec;
-        if (querySpecJson == null) {
-            querySpec = QuerySpec.Builder.newInstance().build();
+        return queryNegotiations(querySpecJson, service::search);
+    }
+
+    public JsonArray queryArchivedNegotiations(JsonObject querySpecJson) {
+        return queryNegotiations(querySpecJson, service::searchArchived);
+    }
+
+    /**
+     * Queries the contract negotiations, optionally returning the total number of matches in the
+     * {@link QueryResponseHeaders#TOTAL_COUNT} header and streaming the results as they are read from the store.
+     */
+    public Response queryNegotiations(JsonObject querySpecJson, boolean count, boolean stream) {
+        var querySpec = toQuerySpec(querySpecJson);
+        var response = Response.ok();
+
+        if (count) {
+            response.header(QueryResponseHeaders.TOTAL_COUNT, service.count(querySpec).orElseThrow(exceptionMapper(ContractNegotiation.class, null)));
+        }
+
+        if (stream) {
+            response.entity(new JsonArrayStreamingOutput(sink -> forEachNegotiation(querySpec, sink)));
         } else {
-            validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson)
-                    .orElseThrow(ValidationFailureException::new);
+            response.entity(queryNegotiations(querySpec, service::search));
+        }
+
+        return response.build();
+    }
 
-            querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
-                    .orElseThrow(InvalidRequestException::new);
+    private void forEachNegotiation(QuerySpec querySpec, Consumer<JsonObject> sink) {
+        var projection = new FieldProjection(querySpec);
+        service.forEach(querySpec, negotiation -> {
+            var result = transformerRegistry.transform(negotiation, JsonObject.class);
+            logIfError(result);
+            result.onSuccess(json -> sink.accept(projection.apply(json)));
+        }).orElseThrow(exceptionMapper(ContractNegotiation.class, null));
+    }
+
+    private JsonArray queryNegotiations(JsonObject querySpecJson, Function<QuerySpec, ServiceResult<List<ContractNegotiation>>> search) {
+        return queryNegotiations(toQuerySpec(querySpecJson), search);
+    }
+
+    private QuerySpec toQuerySpec(JsonObject querySpecJson) {
+        if (querySpecJson == null) {
+            return QuerySpec.Builder.newInstance().build();
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(ContractNegotiation.class, null)).stream()
+        validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson)
+                .orElseThrow(ValidationFailureException::new);
+
+        return transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                .orElseThrow(InvalidRequestException::new);
+    }
+
+    private JsonArray queryNegotiations(QuerySpec querySpec, Function<QuerySpec, ServiceResult<List<ContractNegotiation>>> search) {
+        return search.apply(querySpec).orElseThrow(exceptionMapper(ContractNegotiation.class, null)).stream()
                 .map(it -> transformerRegistry.transform(it, JsonObject.class))
                 .peek(this::logIfError)
                 .filter(Result::succeeded)
                 .map(Result::getContent)
+                .map(new FieldProjection(querySpec))
                 .collect(toJsonArray());
     }
 
@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.controlplane.api.management.contractnegotiatio
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.links.Link;
 import io.swagger.v3.oas.annotations.links.LinkParameter;
@@ -27,6 +29,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.api.management.query.QueryResponseHeaders;
 import org.eclipse.edc.api.management.schema.ManagementApiSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.model.NegotiationState;
@@ -49,11 +53,28 @@ public interface ContractNegotiationApiV3 {
             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))),
             responses = {
                     @ApiResponse(responseCode = "200", description = "The contract negotiations that match the query",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.ContractNegotiationSchema.class))),
+                            headers = @Header(name = QueryResponseHeaders.TOTAL_COUNT, description = "Number of contract negotiations matching the query filter, returned only when requested",
+                                    schema = @Schema(type = "integer"))),
+                    @ApiResponse(responseCode = "400", description = "Request was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))) }
+    )
+    Response queryNegotiationsV3(JsonObject querySpecJson,
+                                 @Parameter(description = "Returns the total number of matching contract negotiations in the " + QueryResponseHeaders.TOTAL_COUNT + " header")
+                                 boolean count,
+                                 @Parameter(description = "Streams the contract negotiations as they are read instead of collecting them in memory first")
+                                 boolean stream);
+
+    @Operation(description = "Returns the archived contract negotiations according to a query. Contract negotiations get " +
+            "archived some time after they reached a final state, and are no longer returned by the /request endpoint",
+            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = ApiCoreSchema.QuerySpecSchema.class))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The archived contract negotiations that match the query",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.ContractNegotiationSchema.class)))),
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))) }
     )
-    JsonArray queryNegotiationsV3(JsonObject querySpecJson);
+    JsonArray queryArchivedNegotiationsV3(JsonObject querySpecJson);
 
     @Operation(description = "Gets a contract negotiation with the given ID",
             responses = {
@@ -22,6 +22,8 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.BaseContractNegotiationApiController;
 import org.eclipse.edc.connector.controlplane.services.spi.contractnegotiation.ContractNegotiationService;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -41,8 +43,15 @@ public class ContractNegotiationApiV3Controller extends BaseContractNegotiationA
     @POST
     @Path("/request")
     @Override
-    public JsonArray queryNegotiationsV3(JsonObject querySpecJson) {
-        return queryNegotiations(querySpecJson);
+    public Response queryNegotiationsV3(JsonObject querySpecJson, @QueryParam("count") boolean count, @QueryParam("stream") boolean stream) {
+        return queryNegotiations(querySpecJson, count, stream);
+    }
+
+    @POST
+    @Path("/archive/request")
+    @Override
+    public JsonArray queryArchivedNegotiationsV3(JsonObject querySpecJson) {
+        return queryArchivedNegotiations(querySpecJson);
     }
 
     @GET
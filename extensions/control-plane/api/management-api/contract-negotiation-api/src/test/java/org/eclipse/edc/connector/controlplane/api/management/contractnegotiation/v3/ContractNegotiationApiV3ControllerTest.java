@@ -15,19 +15,121 @@
 package org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.v3;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.controlplane.api.management.contractnegotiation.BaseContractNegotiationApiControllerTest;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.eclipse.edc.api.management.query.QueryResponseHeaders.TOTAL_COUNT;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ApiTest
 class ContractNegotiationApiV3ControllerTest extends BaseContractNegotiationApiControllerTest {
 
+    @Test
+    void queryArchived_shouldReturnArchivedNegotiations() {
+        var querySpec = QuerySpec.none();
+        var negotiation = ContractNegotiation.Builder.newInstance()
+                .id("cn1")
+                .counterPartyId("counterPartyId")
+                .counterPartyAddress("address")
+                .protocol("protocol")
+                .build();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.searchArchived(any())).thenReturn(ServiceResult.success(List.of(negotiation)));
+        when(transformerRegistry.transform(any(ContractNegotiation.class), eq(JsonObject.class)))
+                .thenReturn(Result.success(Json.createObjectBuilder().add("id", "cn1").build()));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(Json.createObjectBuilder().build())
+                .post("/archive/request")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(1))
+                .body("[0].id", is("cn1"));
+        verify(service).searchArchived(querySpec);
+        verify(service, never()).search(any());
+    }
+
+    @Test
+    void query_shouldReturnTotalCount_whenRequested() {
+        var querySpec = QuerySpec.none();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.search(any())).thenReturn(ServiceResult.success(List.of()));
+        when(service.count(any())).thenReturn(ServiceResult.success(42L));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(Json.createObjectBuilder().build())
+                .post("/request?count=true")
+                .then()
+                .statusCode(200)
+                .header(TOTAL_COUNT, "42")
+                .body("size()", is(0));
+        verify(service).count(querySpec);
+    }
+
+    @Test
+    void query_shouldStreamNegotiations_whenRequested() {
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+        when(service.forEach(any(), any())).thenAnswer(invocation -> {
+            Consumer<ContractNegotiation> consumer = invocation.getArgument(1);
+            consumer.accept(createNegotiation("cn1"));
+            consumer.accept(createNegotiation("cn2"));
+            return ServiceResult.success();
+        });
+        when(transformerRegistry.transform(any(ContractNegotiation.class), eq(JsonObject.class)))
+                .thenAnswer(invocation -> Result.success(Json.createObjectBuilder().add("id", invocation.<ContractNegotiation>getArgument(0).getId()).build()));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(Json.createObjectBuilder().build())
+                .post("/request?stream=true")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(2))
+                .body("[0].id", is("cn1"))
+                .body("[1].id", is("cn2"));
+        verify(service, never()).search(any());
+        verify(service, never()).count(any());
+    }
+
     @Override
     protected Object controller() {
         return new ContractNegotiationApiV3Controller(service, transformerRegistry, monitor, validatorRegistry);
     }
 
+    private ContractNegotiation createNegotiation(String id) {
+        return ContractNegotiation.Builder.newInstance()
+                .id(id)
+                .counterPartyId("counterPartyId")
+                .counterPartyAddress("address")
+                .protocol("protocol")
+                .build();
+    }
+
     protected RequestSpecification baseRequest() {
         return given()
                 .baseUri("http://localhost:" + port + "/v3/contractnegotiations")
@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.controlplane.api.management.policy;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.api.management.query.FieldProjection;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.policydefinition.PolicyDefinitionService;
@@ -65,6 +66,7 @@ public abstract class BasePolicyDefinitionApiController {
                 .map(policyDefinition -> transformerRegistry.transform(policyDefinition, JsonObject.class))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
+                .map(new FieldProjection(querySpec))
                 .collect(toJsonArray());
     }
 
@@ -28,6 +28,8 @@ import jakarta.json.JsonObject;
 import org.eclipse.edc.api.management.schema.ManagementApiSchema;
 import org.eclipse.edc.api.model.ApiCoreSchema;
 
+import java.io.InputStream;
+
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
 import static org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition.EDC_POLICY_DEFINITION_TYPE;
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
@@ -99,6 +101,38 @@ public interface PolicyDefinitionApiV3 {
     )
     void updatePolicyDefinitionV3(String id, JsonObject policyDefinition);
 
+    @Operation(description = "Creates a batch of policy definitions. Every policy definition is validated and created on its own, the result of each one is " +
+            "reported in the response body, in the same order as the request",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = PolicyDefinitionInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each policy definition creation",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray createPolicyDefinitionsV3(InputStream policyDefinitions);
+
+    @Operation(description = "Creates or replaces a batch of policy definitions. Every policy definition is validated and stored on its own, the result of each one is " +
+            "reported in the response body, in the same order as the request",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = PolicyDefinitionInputSchema.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each policy definition creation or replacement",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray upsertPolicyDefinitionsV3(InputStream policyDefinitions);
+
+    @Operation(description = "Removes a batch of policy definitions, given a JSON array of their IDs. Policy definitions referenced by a contract definition are not deleted.",
+            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = String.class)))),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The result of each policy definition deletion",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ManagementApiSchema.BulkItemResultSchema.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request body was not a JSON array",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            })
+    JsonArray deletePolicyDefinitionsV3(InputStream policyDefinitionIds);
+
     @Schema(name = "PolicyDefinitionInput", example = PolicyDefinitionInputSchema.POLICY_DEFINITION_INPUT_EXAMPLE)
     record PolicyDefinitionInputSchema(
             @Schema(name = CONTEXT, requiredMode = REQUIRED)
@@ -24,21 +24,34 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import org.eclipse.edc.api.management.bulk.BulkRequestProcessor;
 import org.eclipse.edc.connector.controlplane.api.management.policy.BasePolicyDefinitionApiController;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.controlplane.services.spi.policydefinition.PolicyDefinitionService;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.io.InputStream;
+
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.api.ApiWarnings.deprecationWarning;
+import static org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition.EDC_POLICY_DEFINITION_TYPE;
 
 @Consumes(APPLICATION_JSON)
 @Produces(APPLICATION_JSON)
 @Path("/v3/policydefinitions")
 public class PolicyDefinitionApiV3Controller extends BasePolicyDefinitionApiController implements PolicyDefinitionApiV3 {
-    public PolicyDefinitionApiV3Controller(Monitor monitor, TypeTransformerRegistry transformerRegistry, PolicyDefinitionService service, JsonObjectValidatorRegistry validatorRegistry) {
+    private final PolicyDefinitionService service;
+    private final BulkRequestProcessor<PolicyDefinition> bulkProcessor;
+
+    public PolicyDefinitionApiV3Controller(Monitor monitor, TypeTransformerRegistry transformerRegistry, PolicyDefinitionService service,
+                                           JsonObjectValidatorRegistry validatorRegistry, JsonLd jsonLd) {
         super(monitor, transformerRegistry, service, validatorRegistry);
+        this.service = service;
+        this.bulkProcessor = new BulkRequestProcessor<>(jsonLd, validatorRegistry, transformerRegistry, EDC_POLICY_DEFINITION_TYPE,
+                PolicyDefinition.class, PolicyDefinition::getId);
     }
 
     @POST
@@ -79,4 +92,25 @@ public class PolicyDefinitionApiV3Controller extends BasePolicyDefinitionApiCont
         monitor.warning(deprecationWarning("/v2", "/v3"));
         updatePolicyDefinition(id, input);
     }
+
+    @POST
+    @Path("bulk")
+    @Override
+    public JsonArray createPolicyDefinitionsV3(InputStream policyDefinitions) {
+        return bulkProcessor.process(policyDefinitions, service::createAll);
+    }
+
+    @PUT
+    @Path("bulk")
+    @Override
+    public JsonArray upsertPolicyDefinitionsV3(InputStream policyDefinitions) {
+        return bulkProcessor.process(policyDefinitions, service::upsertAll);
+    }
+
+    @POST
+    @Path("bulk/delete")
+    @Override
+    public JsonArray deletePolicyDefinitionsV3(InputStream policyDefinitionIds) {
+        return bulkProcessor.processIds(policyDefinitionIds, service::deleteAll);
+    }
 }
@@ -15,15 +15,106 @@
 package org.eclipse.edc.connector.controlplane.api.management.policy.v3;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.controlplane.api.management.policy.BasePolicyDefinitionApiControllerTest;
+import org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
 
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_REASON;
+import static org.eclipse.edc.api.management.bulk.BulkRequestProcessor.BULK_ITEM_RESULT_SUCCEEDED;
+import static org.eclipse.edc.connector.controlplane.policy.spi.PolicyDefinition.EDC_POLICY_DEFINITION_TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 public class PolicyDefinitionApiV3ControllerTest extends BasePolicyDefinitionApiControllerTest {
 
+    private final JsonLd jsonLd = mock();
+
+    @Test
+    void createBulk_shouldReturnOneResultPerPolicyDefinition() {
+        when(jsonLd.expand(any())).thenAnswer(a -> Result.success(a.getArgument(0)));
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(PolicyDefinition.class)))
+                .thenAnswer(a -> Result.success(policyDefinition(a.getArgument(0, JsonObject.class).getString(ID))));
+        when(service.createAll(any())).thenReturn(List.of(ServiceResult.success(policyDefinition("policy-1")), ServiceResult.conflict("already exists")));
+
+        var body = createArrayBuilder()
+                .add(createObjectBuilder().add(ID, "policy-1"))
+                .add(createObjectBuilder().add(ID, "policy-2"))
+                .build();
+
+        baseRequest()
+                .contentType(JSON)
+                .body(body.toString())
+                .post("/bulk")
+                .then()
+                .statusCode(200)
+                .body("size()", is(2))
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(true))
+                .body("[1].'" + ID + "'", is("policy-2"))
+                .body("[1].'" + BULK_ITEM_RESULT_REASON + "'", is("CONFLICT"));
+
+        verify(validatorRegistry, times(2)).validate(eq(EDC_POLICY_DEFINITION_TYPE), any());
+        verify(service).createAll(argThat(policies -> policies.size() == 2));
+    }
+
+    @Test
+    void upsertBulk_shouldCallService() {
+        when(jsonLd.expand(any())).thenAnswer(a -> Result.success(a.getArgument(0)));
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(PolicyDefinition.class))).thenReturn(Result.success(policyDefinition("policy-1")));
+        when(service.upsertAll(any())).thenReturn(List.of(ServiceResult.success(policyDefinition("policy-1"))));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add(createObjectBuilder().add(ID, "policy-1")).build().toString())
+                .put("/bulk")
+                .then()
+                .statusCode(200)
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(true));
+
+        verify(service).upsertAll(argThat(policies -> policies.size() == 1 && "policy-1".equals(policies.get(0).getId())));
+    }
+
+    @Test
+    void deleteBulk_shouldDeleteById() {
+        when(service.deleteAll(List.of("policy-1"))).thenReturn(List.of(ServiceResult.conflict("referenced")));
+
+        baseRequest()
+                .contentType(JSON)
+                .body(createArrayBuilder().add("policy-1").build().toString())
+                .post("/bulk/delete")
+                .then()
+                .statusCode(200)
+                .body("[0].'" + BULK_ITEM_RESULT_SUCCEEDED + "'", is(false))
+                .body("[0].'" + BULK_ITEM_RESULT_REASON + "'", is("CONFLICT"));
+
+        verifyNoInteractions(jsonLd);
+    }
+
     @Override
     protected Object controller() {
-        return new PolicyDefinitionApiV3Controller(monitor, transformerRegistry, service, validatorRegistry);
+        return new PolicyDefinitionApiV3Controller(monitor, transformerRegistry, service, validatorRegistry, jsonLd);
     }
 
     @Override
@@ -33,4 +124,7 @@ public class PolicyDefinitionApiV3ControllerTest extends BasePolicyDefinitionApi
                 .port(port);
     }
 
+    private PolicyDefinition policyDefinition(String id) {
+        return PolicyDefinition.Builder.newInstance().id(id).policy(Policy.Builder.newInstance().build()).build();
+    }
 }
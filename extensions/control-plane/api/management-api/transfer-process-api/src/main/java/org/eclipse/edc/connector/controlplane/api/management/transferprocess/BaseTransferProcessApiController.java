@@ -16,6 +16,9 @@ package org.eclipse.edc.connector.controlplane.api.management.transferprocess;
 
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.edc.api.management.query.FieldProjection;
+import org.eclipse.edc.api.management.query.QueryResponseHeaders;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.SuspendTransfer;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.model.TerminateTransfer;
@@ -30,13 +33,18 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
+import org.eclipse.edc.web.jersey.providers.jsonld.JsonArrayStreamingOutput;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.eclipse.edc.web.spi.exception.ValidationFailureException;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static jakarta.json.stream.JsonCollectors.toJsonArray;
 import static java.lang.String.format;
@@ -64,21 +72,64 @@ public abstract class BaseTransferProcessApiController {
     }
 
     public JsonArray queryTransferProcesses(JsonObject querySpecJson) {
-        QuerySpec querySpec;
-        if (querySpecJson == null) {
-            querySpec = QuerySpec.none();
+        return queryTransferProcesses(querySpecJson, service::search);
+    }
+
+    public JsonArray queryArchivedTransferProcesses(JsonObject querySpecJson) {
+        return queryTransferProcesses(querySpecJson, service::searchArchived);
+    }
+
+    /**
+     * Queries the transfer processes, optionally returning the total number of matches in the
+     * {@link QueryResponseHeaders#TOTAL_COUNT} header and streaming the results as they are read from the store.
+     */
+    public Response queryTransferProcesses(JsonObject querySpecJson, boolean count, boolean stream) {
+        var querySpec = toQuerySpec(querySpecJson);
+        var response = Response.ok();
+
+        if (count) {
+            response.header(QueryResponseHeaders.TOTAL_COUNT, service.count(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)));
+        }
+
+        if (stream) {
+            response.entity(new JsonArrayStreamingOutput(sink -> forEachTransferProcess(querySpec, sink)));
         } else {
-            validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson).orElseThrow(ValidationFailureException::new);
+            response.entity(queryTransferProcesses(querySpec, service::search));
+        }
+
+        return response.build();
+    }
 
-            querySpec = transformerRegistry.transform(querySpecJson, QuerySpec.class)
-                    .orElseThrow(InvalidRequestException::new);
+    private void forEachTransferProcess(QuerySpec querySpec, Consumer<JsonObject> sink) {
+        var projection = new FieldProjection(querySpec);
+        service.forEach(querySpec, transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
+                        .onFailure(f -> monitor.warning(f.getFailureDetail()))
+                        .onSuccess(json -> sink.accept(projection.apply(json))))
+                .orElseThrow(exceptionMapper(TransferProcess.class));
+    }
+
+    private JsonArray queryTransferProcesses(JsonObject querySpecJson, Function<QuerySpec, ServiceResult<List<TransferProcess>>> search) {
+        return queryTransferProcesses(toQuerySpec(querySpecJson), search);
+    }
+
+    private QuerySpec toQuerySpec(JsonObject querySpecJson) {
+        if (querySpecJson == null) {
+            return QuerySpec.none();
         }
 
-        return service.search(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
+        validatorRegistry.validate(EDC_QUERY_SPEC_TYPE, querySpecJson).orElseThrow(ValidationFailureException::new);
+
+        return transformerRegistry.transform(querySpecJson, QuerySpec.class)
+                .orElseThrow(InvalidRequestException::new);
+    }
+
+    private JsonArray queryTransferProcesses(QuerySpec querySpec, Function<QuerySpec, ServiceResult<List<TransferProcess>>> search) {
+        return search.apply(querySpec).orElseThrow(exceptionMapper(TransferProcess.class)).stream()
                 .map(transferProcess -> transformerRegistry.transform(transferProcess, JsonObject.class)
                         .onFailure(f -> monitor.warning(f.getFailureDetail())))
                 .filter(Result::succeeded)
                 .map(Result::getContent)
+                .map(new FieldProjection(querySpec))
                 .collect(toJsonArray());
     }
 
@@ -22,6 +22,8 @@ import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.BaseTransferProcessApiController;
 import org.eclipse.edc.connector.controlplane.services.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -42,8 +44,15 @@ public class TransferProcessApiV3Controller extends BaseTransferProcessApiContro
     @POST
     @Path("request")
     @Override
-    public JsonArray queryTransferProcessesV3(JsonObject querySpecJson) {
-        return queryTransferProcesses(querySpecJson);
+    public Response queryTransferProcessesV3(JsonObject querySpecJson, @QueryParam("count") boolean count, @QueryParam("stream") boolean stream) {
+        return queryTransferProcesses(querySpecJson, count, stream);
+    }
+
+    @POST
+    @Path("archive/request")
+    @Override
+    public JsonArray queryArchivedTransferProcessesV3(JsonObject querySpecJson) {
+        return queryArchivedTransferProcesses(querySpecJson);
     }
 
     @GET
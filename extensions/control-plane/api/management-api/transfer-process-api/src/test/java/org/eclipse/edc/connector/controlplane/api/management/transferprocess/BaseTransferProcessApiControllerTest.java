@@ -50,6 +50,7 @@ import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
 import static org.eclipse.edc.spi.query.QuerySpec.EDC_QUERY_SPEC_TYPE;
 import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -177,6 +178,29 @@ public abstract class BaseTransferProcessApiControllerTest extends RestControlle
             verify(transformerRegistry).transform(transferProcess, JsonObject.class);
         }
 
+        @Test
+        void shouldReturnOnlySelectedFields_whenQueryHasProjection() {
+            var querySpec = QuerySpec.Builder.newInstance().field("state").build();
+            var transferProcess = createTransferProcess().id("id").build();
+            var expandedResponseBody = Json.createObjectBuilder().add(ID, "id").add("state", "STARTED").add("createdAt", 1234).build();
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+            when(service.search(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
+            when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(expandedResponseBody));
+
+            baseRequest()
+                    .body(Json.createObjectBuilder().build())
+                    .contentType(JSON)
+                    .post("/request")
+                    .then()
+                    .statusCode(200)
+                    .contentType(JSON)
+                    .body("size()", is(1))
+                    .body("[0].'@id'", is("id"))
+                    .body("[0].state", is("STARTED"))
+                    .body("[0].createdAt", nullValue());
+        }
+
         @Test
         void shouldNotReturnError_whenEmptyBody() {
             var querySpec = QuerySpec.none();
@@ -15,11 +15,130 @@
 package org.eclipse.edc.connector.controlplane.api.management.transferprocess.v3;
 
 import io.restassured.specification.RequestSpecification;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
 import org.eclipse.edc.connector.controlplane.api.management.transferprocess.BaseTransferProcessApiControllerTest;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.eclipse.edc.api.management.query.QueryResponseHeaders.TOTAL_COUNT;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class TransferProcessApiV3ControllerTest extends BaseTransferProcessApiControllerTest {
+
+    @Test
+    void queryArchived_shouldReturnArchivedTransferProcesses() {
+        var querySpec = QuerySpec.none();
+        var transferProcess = TransferProcess.Builder.newInstance().id("id").build();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.searchArchived(any())).thenReturn(ServiceResult.success(List.of(transferProcess)));
+        when(transformerRegistry.transform(any(), eq(JsonObject.class))).thenReturn(Result.success(Json.createObjectBuilder().add("id", "id").build()));
+
+        baseRequest()
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/archive/request")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(1))
+                .body("[0].id", is("id"));
+        verify(service).searchArchived(querySpec);
+        verify(service, never()).search(any());
+    }
+
+    @Test
+    void query_shouldReturnTotalCount_whenRequested() {
+        var querySpec = QuerySpec.none();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.search(any())).thenReturn(ServiceResult.success(List.of()));
+        when(service.count(any())).thenReturn(ServiceResult.success(42L));
+
+        baseRequest()
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/request?count=true")
+                .then()
+                .statusCode(200)
+                .header(TOTAL_COUNT, "42")
+                .body("size()", is(0));
+        verify(service).count(querySpec);
+    }
+
+    @Test
+    void query_shouldNotCount_whenNotRequested() {
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+        when(service.search(any())).thenReturn(ServiceResult.success(List.of()));
+
+        baseRequest()
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/request")
+                .then()
+                .statusCode(200)
+                .header(TOTAL_COUNT, nullValue());
+        verify(service, never()).count(any());
+    }
+
+    @Test
+    void query_shouldStreamTransferProcesses_whenRequested() {
+        var querySpec = QuerySpec.none();
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(querySpec));
+        when(service.forEach(any(), any())).thenAnswer(invocation -> {
+            Consumer<TransferProcess> consumer = invocation.getArgument(1);
+            consumer.accept(TransferProcess.Builder.newInstance().id("id1").build());
+            consumer.accept(TransferProcess.Builder.newInstance().id("id2").build());
+            return ServiceResult.success();
+        });
+        when(transformerRegistry.transform(any(TransferProcess.class), eq(JsonObject.class)))
+                .thenAnswer(invocation -> Result.success(Json.createObjectBuilder().add("id", invocation.<TransferProcess>getArgument(0).getId()).build()));
+
+        baseRequest()
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/request?stream=true")
+                .then()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("size()", is(2))
+                .body("[0].id", is("id1"))
+                .body("[1].id", is("id2"));
+        verify(service, never()).search(any());
+    }
+
+    @Test
+    void query_shouldReturnBadRequest_whenStreamingAndServiceReturnsBadRequest() {
+        when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+        when(transformerRegistry.transform(any(), eq(QuerySpec.class))).thenReturn(Result.success(QuerySpec.none()));
+        when(service.forEach(any(), any())).thenReturn(ServiceResult.badRequest("invalid filter"));
+
+        baseRequest()
+                .body(Json.createObjectBuilder().build())
+                .contentType(JSON)
+                .post("/request?stream=true")
+                .then()
+                .statusCode(400);
+    }
+
     @Override
     protected Object controller() {
         return new TransferProcessApiV3Controller(monitor, service, transformerRegistry, validatorRegistry);
@@ -20,12 +20,18 @@ import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegi
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.outbox.OutboxRelay;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
 
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
@@ -33,6 +39,9 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    @Setting(value = "If true, non-transactional callbacks are written to the outbox in the same transaction of the event and delivered asynchronously", defaultValue = "false", type = "boolean")
+    public static final String CALLBACK_OUTBOX_ENABLED = "edc.callback.outbox.enabled";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +54,18 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    OutboxStore outboxStore;
+
+    @Inject
+    OutboxRelay outboxRelay;
+
+    @Inject
+    TypeManager typeManager;
+
+    @Inject
+    Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -56,9 +77,16 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
         var resolverRegistry = new CallbackProtocolResolverRegistryImpl();
         context.registerService(CallbackProtocolResolverRegistry.class, resolverRegistry);
 
-        // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
+        // Event listener for invoking transactional callbacks in sync, so they can still roll back the state transition
         router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
 
+        if (context.getSetting(CALLBACK_OUTBOX_ENABLED, false)) {
+            // Event listener that stores the non-transactional callbacks in the outbox within the event transaction
+            router.registerSync(Event.class, new OutboxCallbackEventDispatcher(outboxStore, callbackRegistry, resolverRegistry, typeManager, clock, monitor));
+            outboxRelay.register(new CallbackOutboxDeliveryHandler(dispatcherRegistry, typeManager));
+        } else {
+            // Event listener for invoking non-transactional callbacks async
+            router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        }
     }
 }
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.outbox.OutboxDeliveryHandler;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.eclipse.edc.connector.controlplane.callback.dispatcher.OutboxCallbackEventDispatcher.CALLBACK_CHANNEL;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+
+/**
+ * Delivers callback entries written by the {@link OutboxCallbackEventDispatcher}. Callbacks to the same endpoint are
+ * dispatched one after the other, preserving the order in which the events have been published.
+ */
+public class CallbackOutboxDeliveryHandler implements OutboxDeliveryHandler {
+
+    private final RemoteMessageDispatcherRegistry dispatcher;
+    private final TypeManager typeManager;
+
+    public CallbackOutboxDeliveryHandler(RemoteMessageDispatcherRegistry dispatcher, TypeManager typeManager) {
+        this.dispatcher = dispatcher;
+        this.typeManager = typeManager;
+    }
+
+    @Override
+    public String channel() {
+        return CALLBACK_CHANNEL;
+    }
+
+    @Override
+    public CompletableFuture<StatusResult<Void>> deliver(String destination, List<OutboxEntry> entries) {
+        CompletableFuture<StatusResult<Void>> result = completedFuture(StatusResult.success());
+        for (var entry : entries) {
+            result = result.thenCompose(previous -> previous.succeeded() ? dispatch(entry) : completedFuture(previous));
+        }
+        return result.exceptionally(throwable -> StatusResult.failure(ERROR_RETRY, throwable.getMessage()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<StatusResult<Void>> dispatch(OutboxEntry entry) {
+        CallbackEventRemoteMessage<Event> message;
+        try {
+            var node = typeManager.getMapper().readTree(entry.getPayload());
+            var callback = typeManager.getMapper().treeToValue(node.get("callback"), CallbackAddress.class);
+            var eventType = Class.forName(entry.getType()).asSubclass(Event.class);
+            Event event = typeManager.getMapper().treeToValue(node.get("event"), eventType);
+            EventEnvelope<Event> envelope = EventEnvelope.Builder.newInstance()
+                    .id(node.get("id").asText())
+                    .at(node.get("at").asLong())
+                    .payload(event)
+                    .build();
+
+            message = new CallbackEventRemoteMessage<>(callback, envelope, node.get("protocol").asText());
+        } catch (Exception e) {
+            return completedFuture(StatusResult.failure(FATAL_ERROR, format("Outbox entry %s is not a valid callback: %s", entry.getId(), e.getMessage())));
+        }
+        return dispatcher.dispatch(Object.class, message).thenApply(this::toVoidResult);
+    }
+
+    private StatusResult<Void> toVoidResult(StatusResult<Object> response) {
+        return response.mapEmpty();
+    }
+}
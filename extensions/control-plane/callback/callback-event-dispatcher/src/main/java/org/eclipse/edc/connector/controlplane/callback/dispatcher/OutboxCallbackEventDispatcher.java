@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Subscriber that, instead of invoking callbacks directly, writes them to the {@link OutboxStore}. It is meant to be
+ * registered as synchronous subscriber, so the outbox entry is written in the same transaction as the state change that
+ * published the event. Delivery is then taken care of by the {@link CallbackOutboxDeliveryHandler}.
+ * Only non-transactional callbacks are handled: transactional ones must be able to veto the state transition, so they
+ * keep being invoked synchronously by the {@link CallbackEventDispatcher}.
+ */
+public class OutboxCallbackEventDispatcher implements EventSubscriber {
+
+    public static final String CALLBACK_CHANNEL = "callback";
+
+    private final OutboxStore outboxStore;
+    private final CallbackRegistry callbackRegistry;
+    private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final TypeManager typeManager;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    public OutboxCallbackEventDispatcher(OutboxStore outboxStore, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolverRegistry,
+                                         TypeManager typeManager, Clock clock, Monitor monitor) {
+        this.outboxStore = outboxStore;
+        this.callbackRegistry = callbackRegistry;
+        this.resolverRegistry = resolverRegistry;
+        this.typeManager = typeManager;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> eventEnvelope) {
+        var eventName = eventEnvelope.getPayload().name();
+        var staticCallbacks = callbackRegistry.resolve(eventName).stream();
+        var dynamicCallbacks = eventEnvelope.getPayload().getCallbackAddresses().stream();
+
+        Stream.concat(staticCallbacks, dynamicCallbacks)
+                .filter(callback -> !callback.isTransactional())
+                .filter(callback -> callback.getEvents().stream().anyMatch(eventName::startsWith))
+                .forEach(callback -> enqueue(callback, eventEnvelope));
+    }
+
+    private <E extends Event> void enqueue(CallbackAddress callback, EventEnvelope<E> eventEnvelope) {
+        var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
+        if (protocol == null) {
+            monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+            return;
+        }
+
+        var payload = new LinkedHashMap<String, Object>();
+        payload.put("callback", callback);
+        payload.put("protocol", protocol);
+        payload.put("id", eventEnvelope.getId());
+        payload.put("at", eventEnvelope.getAt());
+        payload.put("event", eventEnvelope.getPayload());
+
+        var entry = OutboxEntry.Builder.newInstance()
+                .channel(CALLBACK_CHANNEL)
+                .destination(callback.getUri())
+                .type(eventEnvelope.getPayload().getClass().getName())
+                .payload(typeManager.writeValueAsString(payload))
+                .createdAt(clock.millis())
+                .build();
+
+        outboxStore.save(entry);
+    }
+}
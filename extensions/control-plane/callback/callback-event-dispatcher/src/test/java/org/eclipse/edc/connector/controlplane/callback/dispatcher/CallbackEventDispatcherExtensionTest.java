@@ -18,6 +18,8 @@ import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.event.outbox.OutboxRelay;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,15 +27,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatcher;
 
+import static org.eclipse.edc.connector.controlplane.callback.dispatcher.CallbackEventDispatcherExtension.CALLBACK_OUTBOX_ENABLED;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(DependencyInjectionExtension.class)
 public class CallbackEventDispatcherExtensionTest {
 
     EventRouter router = mock(EventRouter.class);
+    OutboxRelay outboxRelay = mock(OutboxRelay.class);
 
     private CallbackEventDispatcherExtension extension;
 
@@ -41,6 +49,7 @@ public class CallbackEventDispatcherExtensionTest {
     void setUp(ServiceExtensionContext context, ObjectFactory factory) {
         context.registerService(EventRouter.class, router);
         context.registerService(RemoteMessageDispatcherRegistry.class, mock(RemoteMessageDispatcherRegistry.class));
+        context.registerService(OutboxRelay.class, outboxRelay);
 
         extension = factory.constructInstance(CallbackEventDispatcherExtension.class);
     }
@@ -55,7 +64,19 @@ public class CallbackEventDispatcherExtensionTest {
 
     }
 
-    private ArgumentMatcher<CallbackEventDispatcher> callbackEventDispatcherMatcher(boolean transactional) {
-        return dispatcher -> dispatcher.isTransactional() == transactional;
+    @Test
+    void initialize_shouldRegisterOutboxListener_whenOutboxEnabled(ServiceExtensionContext context) {
+        doReturn(true).when(context).getSetting(CALLBACK_OUTBOX_ENABLED, false);
+
+        extension.initialize(context);
+
+        verify(router).registerSync(eq(Event.class), isA(OutboxCallbackEventDispatcher.class));
+        verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(true)));
+        verify(router, never()).register(any(), any());
+        verify(outboxRelay).register(isA(CallbackOutboxDeliveryHandler.class));
+    }
+
+    private ArgumentMatcher<EventSubscriber> callbackEventDispatcherMatcher(boolean transactional) {
+        return subscriber -> subscriber instanceof CallbackEventDispatcher dispatcher && dispatcher.isTransactional() == transactional;
     }
 }
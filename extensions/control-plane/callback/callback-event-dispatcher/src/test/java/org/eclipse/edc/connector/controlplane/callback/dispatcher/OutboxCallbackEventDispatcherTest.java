@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.controlplane.callback.dispatcher;
+
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackProtocolResolverRegistry;
+import org.eclipse.edc.connector.controlplane.services.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.controlplane.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.outbox.OutboxEntry;
+import org.eclipse.edc.spi.event.outbox.OutboxStore;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.callback.dispatcher.OutboxCallbackEventDispatcher.CALLBACK_CHANNEL;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OutboxCallbackEventDispatcherTest {
+
+    private final OutboxStore outboxStore = mock();
+    private final CallbackRegistry callbackRegistry = mock();
+    private final CallbackProtocolResolverRegistry resolverRegistry = mock();
+    private final RemoteMessageDispatcherRegistry registry = mock();
+    private final JacksonTypeManager typeManager = new JacksonTypeManager();
+    private final OutboxCallbackEventDispatcher dispatcher = new OutboxCallbackEventDispatcher(outboxStore, callbackRegistry,
+            resolverRegistry, typeManager, Clock.systemUTC(), mock(Monitor.class));
+    private final CallbackOutboxDeliveryHandler deliveryHandler = new CallbackOutboxDeliveryHandler(registry, typeManager);
+
+    @Test
+    void shouldStoreMatchingCallbacks_andDeliverThem() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback(false)))
+                .build();
+        var envelope = envelope(event);
+
+        dispatcher.on(envelope);
+
+        var entryCaptor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(outboxStore).save(entryCaptor.capture());
+        var entry = entryCaptor.getValue();
+        assertThat(entry.getChannel()).isEqualTo(CALLBACK_CHANNEL);
+        assertThat(entry.getDestination()).isEqualTo("local://test");
+
+        var result = deliveryHandler.deliver(entry.getDestination(), List.of(entry));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1)).matches(StatusResult::succeeded);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<CallbackEventRemoteMessage<TransferProcessCompleted>> messageCaptor = ArgumentCaptor.forClass(CallbackEventRemoteMessage.class);
+        verify(registry).dispatch(any(), messageCaptor.capture());
+        var message = messageCaptor.getValue();
+        assertThat(message.getProtocol()).isEqualTo("local");
+        assertThat(message.getEventEnvelope().getId()).isEqualTo(envelope.getId());
+        assertThat(message.getEventEnvelope().getPayload()).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void shouldStoreOnlyNotTransactionalCallbacks() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback(true), callback(false)))
+                .build();
+
+        dispatcher.on(envelope(event));
+
+        verify(outboxStore, times(1)).save(any());
+    }
+
+    @Test
+    void shouldNotStore_whenProtocolCannotBeResolved() {
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback(false)))
+                .build();
+
+        dispatcher.on(envelope(event));
+
+        verifyNoInteractions(outboxStore);
+    }
+
+    @Test
+    void deliver_shouldStopAtFirstFailure() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "error")));
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback(false), callback(false)))
+                .build();
+        dispatcher.on(envelope(event));
+        var entryCaptor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(outboxStore, times(2)).save(entryCaptor.capture());
+
+        var result = deliveryHandler.deliver("local://test", entryCaptor.getAllValues());
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1)).matches(StatusResult::failed);
+        verify(registry, times(1)).dispatch(any(), any());
+        verify(outboxStore, never()).delete(any());
+    }
+
+    @Test
+    void deliver_shouldFailFatally_whenPayloadIsMalformed() {
+        var entry = OutboxEntry.Builder.newInstance()
+                .id("id")
+                .channel(CALLBACK_CHANNEL)
+                .destination("local://test")
+                .type(TransferProcessCompleted.class.getName())
+                .payload("not a json")
+                .createdAt(0)
+                .build();
+
+        var result = deliveryHandler.deliver("local://test", List.of(entry));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1)).satisfies(r -> {
+            assertThat(r.fatalError()).isTrue();
+            assertThat(r.getFailureDetail()).contains("Outbox entry id");
+        });
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void deliver_shouldFailFatally_whenEventTypeDoesNotExist() {
+        var entry = OutboxEntry.Builder.newInstance()
+                .id("id")
+                .channel(CALLBACK_CHANNEL)
+                .destination("local://test")
+                .type("org.eclipse.edc.NotExistingEvent")
+                .payload("{}")
+                .createdAt(0)
+                .build();
+
+        var result = deliveryHandler.deliver("local://test", List.of(entry));
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1)).matches(StatusResult::fatalError);
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void deliver_shouldKeepDispatcherFailureStatus() {
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+        when(registry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(FATAL_ERROR, "error")));
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback(false)))
+                .build();
+        dispatcher.on(envelope(event));
+        var entryCaptor = ArgumentCaptor.forClass(OutboxEntry.class);
+        verify(outboxStore).save(entryCaptor.capture());
+
+        var result = deliveryHandler.deliver("local://test", entryCaptor.getAllValues());
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(1)).matches(StatusResult::fatalError);
+    }
+
+    private CallbackAddress callback(boolean transactional) {
+        return CallbackAddress.Builder.newInstance()
+                .uri("local://test")
+                .events(Set.of("transfer.process.completed"))
+                .transactional(transactional)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends TransferProcessCompleted> EventEnvelope<T> envelope(T event) {
+        return EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
+    }
+}
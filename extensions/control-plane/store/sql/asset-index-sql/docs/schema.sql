@@ -19,12 +19,27 @@ CREATE TABLE IF NOT EXISTS edc_asset
 (
     asset_id           VARCHAR NOT NULL,
     created_at         BIGINT  NOT NULL,
-    properties         JSON    DEFAULT '{}',
-    private_properties JSON    DEFAULT '{}',
-    data_address       JSON    DEFAULT '{}',
+    properties         JSONB   DEFAULT '{}',
+    private_properties JSONB   DEFAULT '{}',
+    data_address       JSONB   DEFAULT '{}',
     PRIMARY KEY (asset_id)
 );
 
 COMMENT ON COLUMN edc_asset.properties IS 'Asset properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.private_properties IS 'Asset private properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.data_address IS 'Asset DataAddress serialized as JSON';
+
+-- containment (@>) queries on the JSON columns, used for equality and "contains" criteria on string values
+CREATE INDEX IF NOT EXISTS asset_properties_index ON edc_asset USING GIN (properties jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS asset_private_properties_index ON edc_asset USING GIN (private_properties jsonb_path_ops);
+
+-- expression indexes for frequently queried properties, used by "in", "like" and sorting
+CREATE INDEX IF NOT EXISTS asset_name_index ON edc_asset ((properties ->> 'https://w3id.org/edc/v0.0.1/ns/name'));
+CREATE INDEX IF NOT EXISTS asset_content_type_index ON edc_asset ((properties ->> 'https://w3id.org/edc/v0.0.1/ns/contenttype'));
+CREATE INDEX IF NOT EXISTS asset_created_at_index ON edc_asset (created_at);
+
+-- existing tables with JSON columns can be migrated with:
+-- ALTER TABLE edc_asset
+--     ALTER COLUMN properties TYPE JSONB USING properties::jsonb,
+--     ALTER COLUMN private_properties TYPE JSONB USING private_properties::jsonb,
+--     ALTER COLUMN data_address TYPE JSONB USING data_address::jsonb;
@@ -34,12 +34,19 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
@@ -95,13 +102,7 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                     return StoreResult.alreadyExists(msg);
                 }
 
-                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(),
-                        assetId,
-                        asset.getCreatedAt(),
-                        toJson(asset.getProperties()),
-                        toJson(asset.getPrivateProperties()),
-                        toJson(asset.getDataAddress().getProperties())
-                );
+                queryExecutor.execute(connection, assetStatements.getInsertAssetTemplate(), insertArguments(asset));
 
                 return StoreResult.success();
             } catch (Exception e) {
@@ -133,11 +134,8 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
     @Override
     public long countAssets(List<Criterion> criteria) {
         try (var connection = getConnection()) {
-            var statement = assetStatements.createQuery(criteria);
-
-            var queryAsString = statement.getQueryAsString().replace("SELECT * ", "SELECT COUNT (*) ");
-
-            return queryExecutor.single(connection, true, r -> r.getLong(1), queryAsString, statement.getParameters());
+            var statement = assetStatements.createCountQuery(criteria);
+            return queryExecutor.single(connection, true, r -> r.getLong(1), statement.getQueryAsString(), statement.getParameters());
         } catch (SQLException e) {
             throw new EdcPersistenceException(e);
         }
@@ -150,12 +148,7 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
                 var assetId = asset.getId();
                 if (existsById(assetId, connection)) {
 
-                    queryExecutor.execute(connection, assetStatements.getUpdateAssetTemplate(),
-                            toJson(asset.getProperties()),
-                            toJson(asset.getPrivateProperties()),
-                            toJson(asset.getDataAddress().getProperties()),
-                            assetId
-                    );
+                    queryExecutor.execute(connection, assetStatements.getUpdateAssetTemplate(), updateArguments(asset));
 
                     return StoreResult.success(asset);
                 }
@@ -167,6 +160,80 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         });
     }
 
+    @Override
+    public List<StoreResult<Void>> createAll(List<Asset> assets) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existingIds = findExistingIds(connection, assets.stream().map(Asset::getId).toList());
+                var results = new ArrayList<StoreResult<Void>>(assets.size());
+                var inserts = new ArrayList<Object[]>();
+                for (var asset : assets) {
+                    if (existingIds.add(asset.getId())) {
+                        inserts.add(insertArguments(asset));
+                        results.add(StoreResult.success());
+                    } else {
+                        results.add(StoreResult.alreadyExists(format(ASSET_EXISTS_TEMPLATE, asset.getId())));
+                    }
+                }
+                queryExecutor.executeBatch(connection, assetStatements.getInsertAssetTemplate(), inserts);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<StoreResult<Boolean>> upsertAll(List<Asset> assets) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existingIds = findExistingIds(connection, assets.stream().map(Asset::getId).toList());
+                var results = new ArrayList<StoreResult<Boolean>>(assets.size());
+                var inserts = new ArrayList<Object[]>();
+                var updates = new ArrayList<Object[]>();
+                for (var asset : assets) {
+                    if (existingIds.add(asset.getId())) {
+                        inserts.add(insertArguments(asset));
+                        results.add(StoreResult.success(true));
+                    } else {
+                        updates.add(updateArguments(asset));
+                        results.add(StoreResult.success(false));
+                    }
+                }
+                // inserts first, so that an ID repeated in the same batch is updated with its latest version
+                queryExecutor.executeBatch(connection, assetStatements.getInsertAssetTemplate(), inserts);
+                queryExecutor.executeBatch(connection, assetStatements.getUpdateAssetTemplate(), updates);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<StoreResult<Asset>> deleteAll(List<String> assetIds) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existing = findAllById(connection, assetIds);
+                var results = new ArrayList<StoreResult<Asset>>(assetIds.size());
+                var deletes = new ArrayList<Object[]>();
+                for (var assetId : assetIds) {
+                    var asset = existing.remove(assetId);
+                    if (asset != null) {
+                        deletes.add(new Object[]{ assetId });
+                        results.add(StoreResult.success(asset));
+                    } else {
+                        results.add(StoreResult.notFound(format(ASSET_NOT_FOUND_TEMPLATE, assetId)));
+                    }
+                }
+                queryExecutor.executeBatch(connection, assetStatements.getDeleteAssetByIdTemplate(), deletes);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     @Override
     public DataAddress resolveForAsset(String assetId) {
         return Optional.ofNullable(findById(assetId)).map(Asset::getDataAddress).orElse(null);
@@ -183,6 +250,40 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
         }
     }
 
+    private Set<String> findExistingIds(Connection connection, List<String> assetIds) {
+        return new HashSet<>(findAllById(connection, assetIds).keySet());
+    }
+
+    private Map<String, Asset> findAllById(Connection connection, List<String> assetIds) {
+        if (assetIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "in", assetIds)).limit(assetIds.size()).build();
+        var statement = assetStatements.createQuery(querySpec);
+        try (var stream = queryExecutor.query(connection, false, this::mapAsset, statement.getQueryAsString(), statement.getParameters())) {
+            return stream.collect(toMap(Asset::getId, identity(), (a, b) -> a, HashMap::new));
+        }
+    }
+
+    private Object[] insertArguments(Asset asset) {
+        return new Object[]{
+                asset.getId(),
+                asset.getCreatedAt(),
+                toJson(asset.getProperties()),
+                toJson(asset.getPrivateProperties()),
+                toJson(asset.getDataAddress().getProperties())
+        };
+    }
+
+    private Object[] updateArguments(Asset asset) {
+        return new Object[]{
+                toJson(asset.getProperties()),
+                toJson(asset.getPrivateProperties()),
+                toJson(asset.getDataAddress().getProperties()),
+                asset.getId()
+        };
+    }
+
     private Asset mapAsset(ResultSet resultSet) throws SQLException {
         return Asset.Builder.newInstance()
                 .id(resultSet.getString(assetStatements.getAssetIdColumn()))
@@ -136,6 +136,13 @@ public interface AssetStatements extends SqlStatements {
      */
     String getSelectAssetTemplate();
 
+    /**
+     * SELECT COUNT clause for all assets.
+     */
+    default String getCountAssetsTemplate() {
+        return "SELECT COUNT(*) AS %s FROM %s AS a".formatted(getCountVariableName(), getAssetTable());
+    }
+
     /**
      * DELETE clause for assets.
      */
@@ -160,4 +167,11 @@ public interface AssetStatements extends SqlStatements {
      */
     SqlQueryStatement createQuery(List<Criterion> query);
 
+    /**
+     * Generates a SQL query that counts the assets matching the criteria.
+     *
+     * @return A {@link SqlQueryStatement} that contains the SQL and statement parameters
+     */
+    SqlQueryStatement createCountQuery(List<Criterion> query);
+
 }
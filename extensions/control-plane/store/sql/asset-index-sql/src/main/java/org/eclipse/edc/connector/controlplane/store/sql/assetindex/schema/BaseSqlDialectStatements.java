@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.eclipse.edc.sql.translation.TranslationMapping;
 
 import java.util.List;
 
@@ -80,7 +81,7 @@ public class BaseSqlDialectStatements implements AssetStatements {
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, new AssetMapping(this), operatorTranslator);
+        return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, createAssetMapping(), operatorTranslator);
     }
 
     @Override
@@ -92,4 +93,18 @@ public class BaseSqlDialectStatements implements AssetStatements {
                 .build());
     }
 
+    @Override
+    public SqlQueryStatement createCountQuery(List<Criterion> criteria) {
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(criteria)
+                .offset(0)
+                .limit(Integer.MAX_VALUE)
+                .build();
+        return new SqlQueryStatement(getCountAssetsTemplate(), querySpec, createAssetMapping(), operatorTranslator);
+    }
+
+    protected TranslationMapping createAssetMapping() {
+        return new AssetMapping(this);
+    }
+
 }
@@ -17,7 +17,9 @@ package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postg
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.sql.translation.FieldTranslator;
 import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.SqlOperator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 import org.eclipse.edc.sql.translation.WhereClause;
@@ -33,11 +35,22 @@ import static java.util.Objects.requireNonNullElse;
 public class AssetMapping extends TranslationMapping {
 
     public AssetMapping(AssetStatements statements) {
+        this(statements, JsonFieldTranslator::new);
+    }
+
+    /**
+     * Creates the mapping using the given factory to translate paths into the JSON columns, e.g. a
+     * {@link JsonbFieldTranslator} when the columns are of type {@code jsonb}.
+     *
+     * @param statements           the asset statements.
+     * @param jsonFieldTranslators creates the translator for a JSON column name.
+     */
+    public AssetMapping(AssetStatements statements, Function<String, ? extends FieldTranslator> jsonFieldTranslators) {
         add("id", statements.getAssetIdColumn());
         add("createdAt", statements.getCreatedAtColumn());
-        add("properties", new JsonFieldTranslator(statements.getPropertiesColumn()));
-        add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
-        add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn()));
+        add("properties", jsonFieldTranslators.apply(statements.getPropertiesColumn()));
+        add("privateProperties", jsonFieldTranslators.apply(statements.getPrivatePropertiesColumn()));
+        add("dataAddress", jsonFieldTranslators.apply(statements.getDataAddressColumn()));
     }
 
     /**
@@ -16,8 +16,15 @@ package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postg
 
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.BaseSqlDialectStatements;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.TranslationMapping;
 
+/**
+ * Postgres dialect of the {@link org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.AssetStatements}.
+ * The JSON columns are stored as {@code jsonb}, so that property criteria can be served by the GIN indexes defined in
+ * the schema.
+ */
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     public PostgresDialectStatements() {
@@ -26,6 +33,11 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     @Override
     public String getFormatAsJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
+    }
+
+    @Override
+    protected TranslationMapping createAssetMapping() {
+        return new AssetMapping(this, JsonbFieldTranslator::new);
     }
 }
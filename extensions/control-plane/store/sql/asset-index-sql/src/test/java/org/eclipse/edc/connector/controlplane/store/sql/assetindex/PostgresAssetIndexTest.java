@@ -16,22 +16,29 @@
 package org.eclipse.edc.connector.controlplane.store.sql.assetindex;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.asset.spi.testfixtures.AssetIndexTestBase;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.BaseSqlDialectStatements;
 import org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresAssetIndexTest extends AssetIndexTestBase {
@@ -62,4 +69,43 @@ class PostgresAssetIndexTest extends AssetIndexTestBase {
         return sqlAssetIndex;
     }
 
+    @Nested
+    class EqualsOnJsonProperties {
+
+        @Test
+        void shouldMatchStringProperty() {
+            var expected = createAssetBuilder("id1").property("text", "value").build();
+            sqlAssetIndex.create(expected);
+            sqlAssetIndex.create(createAssetBuilder("id2").property("text", "other").build());
+
+            var assets = sqlAssetIndex.queryAssets(filter("text", "value"));
+
+            assertThat(assets).extracting(Asset::getId).containsExactly("id1");
+        }
+
+        @Test
+        void shouldMatchNumericProperty() {
+            sqlAssetIndex.create(createAssetBuilder("id1").property("number", 42).build());
+            sqlAssetIndex.create(createAssetBuilder("id2").property("number", 43).build());
+
+            var assets = sqlAssetIndex.queryAssets(filter("number", "42"));
+
+            assertThat(assets).extracting(Asset::getId).containsExactly("id1");
+        }
+
+        @Test
+        void shouldMatchBooleanProperty() {
+            sqlAssetIndex.create(createAssetBuilder("id1").property("flag", true).build());
+            sqlAssetIndex.create(createAssetBuilder("id2").property("flag", false).build());
+
+            var assets = sqlAssetIndex.queryAssets(filter("flag", "true"));
+
+            assertThat(assets).extracting(Asset::getId).containsExactly("id1");
+        }
+
+        private QuerySpec filter(String property, String value) {
+            return QuerySpec.Builder.newInstance().filter(criterion(property, "=", value)).build();
+        }
+    }
+
 }
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.store.sql.assetindex.schema.postgres;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class PostgresDialectStatementsTest {
+
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+
+    @Test
+    void createQuery_shouldUseContainment_whenEqualsOnProperty() {
+        var statement = statements.createQuery(List.of(criterion("https://w3id.org/edc/v0.0.1/ns/name", "=", "test")));
+
+        assertThat(statement.getQueryAsString()).contains("WHERE properties @> ?::jsonb");
+        assertThat(statement.getParameters()).contains("{\"https://w3id.org/edc/v0.0.1/ns/name\":\"test\"}");
+    }
+
+    @Test
+    void createCountQuery_shouldSelectCount() {
+        var statement = statements.createCountQuery(List.of(criterion("id", "=", "asset-id")));
+
+        assertThat(statement.getQueryAsString()).startsWith("SELECT COUNT(*) AS COUNT FROM edc_asset AS a WHERE asset_id = ?");
+        assertThat(statement.getParameters()).startsWith("asset-id");
+    }
+
+    @Test
+    void insertTemplate_shouldCastToJsonb() {
+        assertThat(statements.getInsertAssetTemplate()).contains("::jsonb");
+    }
+}
@@ -37,12 +37,17 @@ import org.jetbrains.annotations.NotNull;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 
 public class SqlContractDefinitionStore extends AbstractSqlStore implements ContractDefinitionStore {
 
@@ -140,6 +145,80 @@ public class SqlContractDefinitionStore extends AbstractSqlStore implements Cont
 
     }
 
+    @Override
+    public List<StoreResult<Void>> saveAll(List<ContractDefinition> definitions) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existingIds = new HashSet<>(findAllById(connection, definitions.stream().map(ContractDefinition::getId).toList()).keySet());
+                var results = new ArrayList<StoreResult<Void>>(definitions.size());
+                var inserts = new ArrayList<Object[]>();
+                for (var definition : definitions) {
+                    if (existingIds.add(definition.getId())) {
+                        inserts.add(insertArguments(definition));
+                        results.add(StoreResult.success());
+                    } else {
+                        results.add(StoreResult.alreadyExists(format(CONTRACT_DEFINITION_EXISTS, definition.getId())));
+                    }
+                }
+                queryExecutor.executeBatch(connection, statements.getInsertTemplate(), inserts);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<StoreResult<Boolean>> upsertAll(List<ContractDefinition> definitions) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existingIds = new HashSet<>(findAllById(connection, definitions.stream().map(ContractDefinition::getId).toList()).keySet());
+                var results = new ArrayList<StoreResult<Boolean>>(definitions.size());
+                var inserts = new ArrayList<Object[]>();
+                var updates = new ArrayList<Object[]>();
+                for (var definition : definitions) {
+                    if (existingIds.add(definition.getId())) {
+                        inserts.add(insertArguments(definition));
+                        results.add(StoreResult.success(true));
+                    } else {
+                        updates.add(updateArguments(definition));
+                        results.add(StoreResult.success(false));
+                    }
+                }
+                // inserts first, so that an ID repeated in the same batch is updated with its latest version
+                queryExecutor.executeBatch(connection, statements.getInsertTemplate(), inserts);
+                queryExecutor.executeBatch(connection, statements.getUpdateTemplate(), updates);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<StoreResult<ContractDefinition>> deleteAll(List<String> ids) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existing = findAllById(connection, ids);
+                var results = new ArrayList<StoreResult<ContractDefinition>>(ids.size());
+                var deletes = new ArrayList<Object[]>();
+                for (var id : ids) {
+                    var definition = existing.remove(id);
+                    if (definition != null) {
+                        deletes.add(new Object[]{ id });
+                        results.add(StoreResult.success(definition));
+                    } else {
+                        results.add(StoreResult.notFound(format(CONTRACT_DEFINITION_NOT_FOUND, id)));
+                    }
+                }
+                queryExecutor.executeBatch(connection, statements.getDeleteByIdTemplate(), deletes);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     private ContractDefinition mapResultSet(ResultSet resultSet) throws Exception {
         return ContractDefinition.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
@@ -153,26 +232,47 @@ public class SqlContractDefinitionStore extends AbstractSqlStore implements Cont
 
     private void insertInternal(Connection connection, ContractDefinition definition) {
         transactionContext.execute(() -> {
-            queryExecutor.execute(connection, statements.getInsertTemplate(),
-                    definition.getId(),
-                    definition.getAccessPolicyId(),
-                    definition.getContractPolicyId(),
-                    toJson(definition.getAssetsSelector()),
-                    definition.getCreatedAt(),
-                    toJson(definition.getPrivateProperties()));
+            queryExecutor.execute(connection, statements.getInsertTemplate(), insertArguments(definition));
         });
     }
 
     private void updateInternal(Connection connection, ContractDefinition definition) {
         Objects.requireNonNull(definition);
-        queryExecutor.execute(connection, statements.getUpdateTemplate(),
+        queryExecutor.execute(connection, statements.getUpdateTemplate(), updateArguments(definition));
+    }
+
+    private Object[] insertArguments(ContractDefinition definition) {
+        return new Object[]{
+                definition.getId(),
+                definition.getAccessPolicyId(),
+                definition.getContractPolicyId(),
+                toJson(definition.getAssetsSelector()),
+                definition.getCreatedAt(),
+                toJson(definition.getPrivateProperties())
+        };
+    }
+
+    private Object[] updateArguments(ContractDefinition definition) {
+        return new Object[]{
                 definition.getId(),
                 definition.getAccessPolicyId(),
                 definition.getContractPolicyId(),
                 toJson(definition.getAssetsSelector()),
                 definition.getCreatedAt(),
                 toJson(definition.getPrivateProperties()),
-                definition.getId());
+                definition.getId()
+        };
+    }
+
+    private Map<String, ContractDefinition> findAllById(Connection connection, List<String> ids) {
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        var query = QuerySpec.Builder.newInstance().filter(new Criterion("id", "in", ids)).limit(ids.size()).build();
+        var queryStatement = statements.createQuery(query);
+        try (var stream = queryExecutor.query(connection, false, this::mapResultSet, queryStatement.getQueryAsString(), queryStatement.getParameters())) {
+            return stream.collect(toMap(ContractDefinition::getId, identity(), (a, b) -> a, HashMap::new));
+        }
     }
 
     private boolean existsById(Connection connection, String definitionId) {
@@ -67,7 +67,9 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
 
 COMMENT ON COLUMN edc_contract_negotiation.agreement_id IS 'ContractAgreement serialized as JSON';
 
-COMMENT ON COLUMN edc_contract_negotiation.contract_offers IS 'List<ContractOffer> serialized as JSON';
+COMMENT ON COLUMN edc_contract_negotiation.contract_offers IS 'Legacy: List<ContractOffer> serialized as JSON, moved to edc_contract_negotiation_offer on the next update';
+
+COMMENT ON COLUMN edc_contract_negotiation.protocol_messages IS 'ProtocolMessages serialized as JSON, the received message ids are stored in edc_contract_negotiation_received_message';
 
 COMMENT ON COLUMN edc_contract_negotiation.trace_context IS 'Map<String,String> serialized as JSON';
 
@@ -80,3 +82,44 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_negotiation_id_uindex
 
 CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
     ON edc_contract_agreement (agr_id);
+
+
+CREATE TABLE IF NOT EXISTS edc_contract_negotiation_offer
+(
+    negotiation_id VARCHAR NOT NULL
+        CONSTRAINT contract_negotiation_offer_negotiation_id_fk
+            REFERENCES edc_contract_negotiation
+            ON DELETE CASCADE,
+    seq            INTEGER NOT NULL,
+    offer          JSON    NOT NULL,
+    CONSTRAINT contract_negotiation_offer_pk
+        PRIMARY KEY (negotiation_id, seq)
+);
+
+COMMENT ON TABLE edc_contract_negotiation_offer IS 'Append-only list of the ContractOffers of a negotiation';
+
+
+CREATE TABLE IF NOT EXISTS edc_contract_negotiation_received_message
+(
+    negotiation_id VARCHAR NOT NULL
+        CONSTRAINT contract_negotiation_received_message_negotiation_id_fk
+            REFERENCES edc_contract_negotiation
+            ON DELETE CASCADE,
+    seq            INTEGER NOT NULL,
+    message_id     VARCHAR NOT NULL,
+    CONSTRAINT contract_negotiation_received_message_pk
+        PRIMARY KEY (negotiation_id, seq)
+);
+
+COMMENT ON TABLE edc_contract_negotiation_received_message IS 'Append-only list of the ids of the protocol messages received for a negotiation';
+
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_state_timestamp_index
+    ON edc_contract_negotiation (state, state_timestamp);
+
+CREATE TABLE IF NOT EXISTS edc_contract_negotiation_archive
+(
+    LIKE edc_contract_negotiation INCLUDING DEFAULTS INCLUDING INDEXES
+);
+
+COMMENT ON TABLE edc_contract_negotiation_archive IS 'Contract negotiations in a final state moved out of edc_contract_negotiation, with their contract offers and protocol messages inline';
@@ -20,9 +20,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractOffer;
 import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.entity.ProtocolMessages;
+import org.eclipse.edc.spi.persistence.ArchivingStore;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -40,6 +42,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
@@ -47,11 +50,16 @@ import java.util.stream.Stream;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.TERMINATED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * SQL-based implementation of the {@link ContractNegotiationStore}
  */
-public class SqlContractNegotiationStore extends AbstractSqlStore implements ContractNegotiationStore {
+public class SqlContractNegotiationStore extends AbstractSqlStore implements ContractNegotiationStore, ArchivingStore {
+
+    private static final List<Integer> ARCHIVABLE_STATES = List.of(FINALIZED.code(), TERMINATED.code());
 
     private final ContractNegotiationStatements statements;
     private final SqlLeaseContextBuilder leaseContext;
@@ -105,8 +113,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         var id = negotiation.getId();
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var existing = findInternal(connection, id);
-                if (existing == null) {
+                if (!exists(connection, id)) {
                     insert(connection, negotiation);
                 } else {
                     leaseContext.withConnection(connection).breakLease(id);
@@ -159,6 +166,83 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public long countNegotiations(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var statement = statements.createCountNegotiationsQuery(querySpec);
+                return queryExecutor.single(connection, true, r -> r.getLong(1), statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public @NotNull Stream<ContractNegotiation> queryArchivedNegotiations(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try {
+                var connection = getConnection();
+                var statement = statements.createArchivedNegotiationsQuery(querySpec);
+                return queryExecutor.query(connection, true, contractNegotiationMapper(), statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    /**
+     * Copies the negotiations to the archive table, with their contract offers and protocol messages history inline,
+     * and deletes them from the contract negotiation table. Agreements are not archived. Every negotiation is leased and
+     * read again before being moved, so that negotiations updated or leased by someone else since the candidates were
+     * queried are not archived from a stale copy.
+     */
+    @Override
+    public int archive(long stateTimestampBefore, int max) {
+        return transactionContext.execute(() -> {
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(List.of(criterion("state", "in", ARCHIVABLE_STATES), criterion("stateTimestamp", "<=", stateTimestampBefore)))
+                    .limit(max)
+                    .build();
+            var statement = statements.createNegotiationsQuery(querySpec)
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+
+            try (var connection = getConnection()) {
+                List<ContractNegotiation> candidates;
+                try (var stream = queryExecutor.query(connection, true, contractNegotiationMapper(), statement.getQueryAsString(), statement.getParameters())) {
+                    candidates = stream.toList();
+                }
+
+                var archived = 0;
+                for (var candidate : candidates) {
+                    // the generic dialect does not apply the query filter
+                    if (!isArchivable(candidate, stateTimestampBefore)) {
+                        continue;
+                    }
+                    var lease = leaseContext.withConnection(connection);
+                    try {
+                        lease.acquireLease(candidate.getId());
+                    } catch (IllegalStateException e) {
+                        continue;
+                    }
+                    var negotiation = findInternal(connection, candidate.getId());
+                    if (negotiation == null || !isArchivable(negotiation, stateTimestampBefore)) {
+                        lease.breakLease(candidate.getId());
+                        continue;
+                    }
+                    insert(connection, statements.getInsertArchivedNegotiationTemplate(), negotiation,
+                            negotiation.getContractOffers(), negotiation.getProtocolMessages());
+                    lease.breakLease(negotiation.getId());
+                    queryExecutor.execute(connection, statements.getDeleteArchivedNegotiationTemplate(), negotiation.getId());
+                    archived++;
+                }
+                return archived;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @NotNull Stream<ContractAgreement> queryAgreements(QuerySpec querySpec) {
         return transactionContext.execute(() -> {
@@ -181,7 +265,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
+                    var stream = withHistory(connection, queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters()))
             ) {
                 var negotiations = stream.collect(toList());
                 negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
@@ -211,6 +295,20 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public StoreResult<Void> renewLease(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                leaseContext.withConnection(connection).renewLease(id);
+                return StoreResult.success();
+            } catch (IllegalStateException e) {
+                return StoreResult.notFound(format("ContractNegotiation %s is not leased by this runtime", id));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public StoreResult<ContractNegotiation> findByCorrelationIdAndLease(String correlationId) {
         return transactionContext.execute(() -> {
@@ -234,13 +332,17 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    private boolean isArchivable(ContractNegotiation negotiation, long stateTimestampBefore) {
+        return ARCHIVABLE_STATES.contains(negotiation.getState()) && negotiation.getStateTimestamp() <= stateTimestampBefore;
+    }
+
     private QuerySpec correlationIdQuerySpec(String correlationId) {
         return QuerySpec.Builder.newInstance().filter(List.of(new Criterion("correlationId", "=", correlationId))).build();
     }
 
     private Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec, Connection connection) {
         var statement = statements.createNegotiationsQuery(querySpec);
-        return queryExecutor.query(connection, true, contractNegotiationMapper(), statement.getQueryAsString(), statement.getParameters());
+        return withHistory(connection, queryExecutor.query(connection, true, contractNegotiationMapper(), statement.getQueryAsString(), statement.getParameters()));
     }
 
     private ContractAgreement findContractAgreementInternal(Connection connection, String contractId) {
@@ -250,7 +352,10 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     private @Nullable ContractNegotiation findInternal(Connection connection, String id) {
         var sql = statements.getFindTemplate();
-        return queryExecutor.single(connection, false, contractNegotiationMapper(), sql, id);
+        var negotiation = queryExecutor.single(connection, false, contractNegotiationMapper(), sql, id);
+        try (var stream = withHistory(connection, Stream.ofNullable(negotiation))) {
+            return stream.findFirst().orElse(null);
+        }
     }
 
     private void update(Connection connection, String negotiationId, ContractNegotiation updatedValues) {
@@ -265,27 +370,32 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 updatedValues.getStateCount(),
                 updatedValues.getStateTimestamp(),
                 updatedValues.getErrorDetail(),
-                toJson(updatedValues.getContractOffers()),
+                null,
                 toJson(updatedValues.getCallbackAddresses()),
                 toJson(updatedValues.getTraceContext()),
                 ofNullable(updatedValues.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
                 updatedValues.getUpdatedAt(),
                 updatedValues.isPending(),
                 updatedValues.getCorrelationId(),
-                toJson(updatedValues.getProtocolMessages()),
+                toJson(lastSentOnly(updatedValues.getProtocolMessages())),
                 negotiationId);
+
+        appendHistory(connection, negotiationId, updatedValues);
     }
 
     private void insert(Connection connection, ContractNegotiation negotiation) {
-        String agrId = null;
         var agreement = negotiation.getContractAgreement();
         if (agreement != null) {
-            agrId = agreement.getId();
             upsertAgreement(agreement);
         }
 
-        var stmt = statements.getInsertNegotiationTemplate();
-        queryExecutor.execute(connection, stmt,
+        insert(connection, statements.getInsertNegotiationTemplate(), negotiation, null, lastSentOnly(negotiation.getProtocolMessages()));
+        appendHistory(connection, negotiation.getId(), negotiation);
+    }
+
+    private void insert(Connection connection, String template, ContractNegotiation negotiation,
+                        @Nullable List<ContractOffer> inlineOffers, ProtocolMessages protocolMessages) {
+        queryExecutor.execute(connection, template,
                 negotiation.getId(),
                 negotiation.getCorrelationId(),
                 negotiation.getCounterPartyId(),
@@ -296,14 +406,37 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.getStateCount(),
                 negotiation.getStateTimestamp(),
                 negotiation.getErrorDetail(),
-                agrId,
-                toJson(negotiation.getContractOffers()),
+                ofNullable(negotiation.getContractAgreement()).map(ContractAgreement::getId).orElse(null),
+                toJson(inlineOffers),
                 toJson(negotiation.getCallbackAddresses()),
                 toJson(negotiation.getTraceContext()),
                 negotiation.getCreatedAt(),
                 negotiation.getUpdatedAt(),
                 negotiation.isPending(),
-                toJson(negotiation.getProtocolMessages()));
+                toJson(protocolMessages));
+    }
+
+    /**
+     * Contract offers and received message ids only grow during the negotiation: they are stored in append-only child
+     * tables, so that only the new elements get written.
+     */
+    private void appendHistory(Connection connection, String negotiationId, ContractNegotiation negotiation) {
+        var offers = negotiation.getContractOffers().stream().map(this::toJson).toList();
+        statements.getContractOffersChildTable().append(queryExecutor, connection, negotiationId, offers);
+        var received = ofNullable(negotiation.getProtocolMessages()).map(ProtocolMessages::getReceived).orElse(List.of());
+        statements.getReceivedMessagesChildTable().append(queryExecutor, connection, negotiationId, received);
+    }
+
+    private ProtocolMessages lastSentOnly(ProtocolMessages protocolMessages) {
+        var inline = new ProtocolMessages();
+        if (protocolMessages != null) {
+            inline.setLastSent(protocolMessages.getLastSent());
+        }
+        return inline;
+    }
+
+    private boolean exists(Connection connection, String id) {
+        return queryExecutor.single(connection, false, rs -> true, statements.getExistsTemplate(), id) != null;
     }
 
     private void upsertAgreement(ContractAgreement contractAgreement) {
@@ -389,8 +522,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
-                .contractOffers(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
-                }))
+                .contractOffers(ofNullable(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<List<ContractOffer>>() {
+                })).map(ArrayList::new).orElseGet(ArrayList::new))
                 .callbackAddresses(fromJson(resultSet.getString(statements.getCallbackAddressesColumn()), new TypeReference<>() {
                 }))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
@@ -401,10 +534,34 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
-                .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
+                .protocolMessages(ofNullable(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class)).orElseGet(ProtocolMessages::new))
                 .build();
     }
 
+    /**
+     * Loads the contract offers and the received messages from the child tables, one batch of negotiations at a time.
+     * Negotiations stored before the child tables existed keep them in the inline columns until their next update.
+     */
+    private Stream<ContractNegotiation> withHistory(Connection connection, Stream<ContractNegotiation> negotiations) {
+        var withReceivedMessages = statements.getReceivedMessagesChildTable().loadAll(queryExecutor, connection, negotiations,
+                ContractNegotiation::getId, this::setReceivedMessages);
+        return statements.getContractOffersChildTable().loadAll(queryExecutor, connection, withReceivedMessages,
+                ContractNegotiation::getId, this::setContractOffers);
+    }
+
+    private void setContractOffers(ContractNegotiation negotiation, List<String> offers) {
+        if (!offers.isEmpty()) {
+            negotiation.getContractOffers().clear();
+            offers.stream().map(it -> fromJson(it, ContractOffer.class)).forEach(negotiation::addContractOffer);
+        }
+    }
+
+    private void setReceivedMessages(ContractNegotiation negotiation, List<String> received) {
+        if (!received.isEmpty()) {
+            negotiation.getProtocolMessages().setReceived(received);
+        }
+    }
+
     private ContractAgreement extractContractAgreement(ResultSet resultSet) throws SQLException {
         return resultSet.getString(statements.getContractAgreementIdFkColumn()) == null ? null : mapContractAgreement(resultSet);
     }
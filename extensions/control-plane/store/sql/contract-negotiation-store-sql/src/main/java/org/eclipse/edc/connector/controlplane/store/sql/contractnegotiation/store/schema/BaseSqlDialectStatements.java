@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema;
 
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.store.AppendOnlyChildTable;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
@@ -40,6 +41,11 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementTable(), getContractAgreementIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getExistsTemplate() {
+        return format("SELECT 1 FROM %s WHERE %s = ? LIMIT 1;", getContractNegotiationTable(), getIdColumn());
+    }
+
     @Override
     public String getFindContractAgreementTemplate() {
         return format("SELECT * FROM %s where %s=?;", getContractAgreementTable(), getContractAgreementIdColumn());
@@ -65,26 +71,17 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getInsertNegotiationTemplate() {
-        return executeStatement()
-                .column(getIdColumn())
-                .column(getCorrelationIdColumn())
-                .column(getCounterPartyIdColumn())
-                .column(getCounterPartyAddressColumn())
-                .column(getTypeColumn())
-                .column(getProtocolColumn())
-                .column(getStateColumn())
-                .column(getStateCountColumn())
-                .column(getStateTimestampColumn())
-                .column(getErrorDetailColumn())
-                .column(getContractAgreementIdFkColumn())
-                .jsonColumn(getContractOffersColumn())
-                .jsonColumn(getCallbackAddressesColumn())
-                .jsonColumn(getTraceContextColumn())
-                .column(getCreatedAtColumn())
-                .column(getUpdatedAtColumn())
-                .column(getPendingColumn())
-                .jsonColumn(getProtocolMessagesColumn())
-                .insertInto(getContractNegotiationTable());
+        return insertNegotiationInto(getContractNegotiationTable());
+    }
+
+    @Override
+    public String getInsertArchivedNegotiationTemplate() {
+        return insertNegotiationInto(getContractNegotiationArchiveTable());
+    }
+
+    @Override
+    public String getDeleteArchivedNegotiationTemplate() {
+        return executeStatement().delete(getContractNegotiationTable(), getIdColumn());
     }
 
     @Override
@@ -128,6 +125,28 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
     }
 
+    @Override
+    public String getCountNegotiationsTemplate() {
+        return format("SELECT COUNT(*) FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
+    }
+
+    @Override
+    public String getSelectArchivedNegotiationsTemplate() {
+        return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationArchiveTable(), getContractAgreementTable(), getContractNegotiationArchiveTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
+    }
+
+    @Override
+    public AppendOnlyChildTable getContractOffersChildTable() {
+        return new AppendOnlyChildTable(getContractOfferTable(), getNegotiationIdFkColumn(), getSequenceColumn(),
+                getContractOfferColumn(), getFormatAsJsonOperator());
+    }
+
+    @Override
+    public AppendOnlyChildTable getReceivedMessagesChildTable() {
+        return new AppendOnlyChildTable(getReceivedMessageTable(), getNegotiationIdFkColumn(), getSequenceColumn(),
+                getMessageIdColumn(), "");
+    }
+
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
         // for generic SQL, only the limit and offset fields are used!
@@ -135,6 +154,19 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return new SqlQueryStatement(sql, querySpec.getLimit(), querySpec.getOffset());
     }
 
+    @Override
+    public SqlQueryStatement createArchivedNegotiationsQuery(QuerySpec querySpec) {
+        // for generic SQL, only the limit and offset fields are used!
+        var sql = getSelectArchivedNegotiationsTemplate();
+        return new SqlQueryStatement(sql, querySpec.getLimit(), querySpec.getOffset());
+    }
+
+    @Override
+    public SqlQueryStatement createCountNegotiationsQuery(QuerySpec querySpec) {
+        // for generic SQL, the filter is not used!
+        return new SqlQueryStatement(getCountNegotiationsTemplate(), Integer.MAX_VALUE, 0);
+    }
+
     @Override
     public SqlQueryStatement createAgreementsQuery(QuerySpec querySpec) {
         // for generic SQL, only the limit and offset fields are used!
@@ -171,4 +203,27 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    private String insertNegotiationInto(String table) {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getCorrelationIdColumn())
+                .column(getCounterPartyIdColumn())
+                .column(getCounterPartyAddressColumn())
+                .column(getTypeColumn())
+                .column(getProtocolColumn())
+                .column(getStateColumn())
+                .column(getStateCountColumn())
+                .column(getStateTimestampColumn())
+                .column(getErrorDetailColumn())
+                .column(getContractAgreementIdFkColumn())
+                .jsonColumn(getContractOffersColumn())
+                .jsonColumn(getCallbackAddressesColumn())
+                .jsonColumn(getTraceContextColumn())
+                .column(getCreatedAtColumn())
+                .column(getUpdatedAtColumn())
+                .column(getPendingColumn())
+                .jsonColumn(getProtocolMessagesColumn())
+                .insertInto(table);
+    }
+
 }
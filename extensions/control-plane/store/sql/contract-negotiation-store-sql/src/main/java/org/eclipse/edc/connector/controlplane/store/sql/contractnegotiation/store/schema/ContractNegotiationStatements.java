@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.sto
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
+import org.eclipse.edc.sql.store.AppendOnlyChildTable;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 /**
@@ -26,6 +27,11 @@ import org.eclipse.edc.sql.translation.SqlQueryStatement;
 public interface ContractNegotiationStatements extends StatefulEntityStatements, LeaseStatements {
     String getFindTemplate();
 
+    /**
+     * Select statement that returns a row if a negotiation with the given id exists, without reading its columns.
+     */
+    String getExistsTemplate();
+
     String getFindContractAgreementTemplate();
 
     String getUpdateNegotiationTemplate();
@@ -42,6 +48,30 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
 
     String getSelectNegotiationsTemplate();
 
+    String getCountNegotiationsTemplate();
+
+    /**
+     * Insert statement for the archive table, that has the same columns of the contract negotiation table.
+     */
+    String getInsertArchivedNegotiationTemplate();
+
+    /**
+     * Deletes a negotiation that has been copied to the archive, regardless of its agreement.
+     */
+    String getDeleteArchivedNegotiationTemplate();
+
+    String getSelectArchivedNegotiationsTemplate();
+
+    /**
+     * Append-only child table that holds the contract offers of a negotiation.
+     */
+    AppendOnlyChildTable getContractOffersChildTable();
+
+    /**
+     * Append-only child table that holds the ids of the protocol messages received for a negotiation.
+     */
+    AppendOnlyChildTable getReceivedMessagesChildTable();
+
     default String getContractNegotiationTable() {
         return "edc_contract_negotiation";
     }
@@ -50,6 +80,18 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
         return "edc_contract_agreement";
     }
 
+    default String getContractNegotiationArchiveTable() {
+        return "edc_contract_negotiation_archive";
+    }
+
+    default String getContractOfferTable() {
+        return "edc_contract_negotiation_offer";
+    }
+
+    default String getReceivedMessageTable() {
+        return "edc_contract_negotiation_received_message";
+    }
+
     default String getIdColumn() {
         return "id";
     }
@@ -122,7 +164,30 @@ public interface ContractNegotiationStatements extends StatefulEntityStatements,
         return "protocol_messages";
     }
 
+    default String getNegotiationIdFkColumn() {
+        return "negotiation_id";
+    }
+
+    default String getSequenceColumn() {
+        return "seq";
+    }
+
+    default String getContractOfferColumn() {
+        return "offer";
+    }
+
+    default String getMessageIdColumn() {
+        return "message_id";
+    }
+
     SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec);
 
+    SqlQueryStatement createArchivedNegotiationsQuery(QuerySpec querySpec);
+
+    /**
+     * Query that counts the contract negotiations matching the filter of the {@link QuerySpec}.
+     */
+    SqlQueryStatement createCountNegotiationsQuery(QuerySpec querySpec);
+
     SqlQueryStatement createAgreementsQuery(QuerySpec querySpec);
 }
@@ -41,6 +41,18 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
         return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this), operatorTranslator);
     }
 
+    @Override
+    public SqlQueryStatement createArchivedNegotiationsQuery(QuerySpec querySpec) {
+        var selectStmt = getSelectArchivedNegotiationsTemplate();
+        return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this), operatorTranslator);
+    }
+
+    @Override
+    public SqlQueryStatement createCountNegotiationsQuery(QuerySpec querySpec) {
+        var countQuery = QuerySpec.Builder.newInstance().filter(querySpec.getFilterExpression()).limit(Integer.MAX_VALUE).build();
+        return new SqlQueryStatement(getCountNegotiationsTemplate(), countQuery, new ContractNegotiationMapping(this), operatorTranslator);
+    }
+
     @Override
     public SqlQueryStatement createAgreementsQuery(QuerySpec querySpec) {
         var selectStmt = getSelectFromAgreementsTemplate();
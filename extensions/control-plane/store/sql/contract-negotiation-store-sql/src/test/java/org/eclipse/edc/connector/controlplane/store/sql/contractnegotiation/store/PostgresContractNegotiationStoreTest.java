@@ -15,21 +15,42 @@
 package org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store;
 
 import org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.ContractNegotiationStoreTestBase;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractOffer;
 import org.eclipse.edc.connector.controlplane.store.sql.contractnegotiation.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.sql.SQLException;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createContractBuilder;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createNegotiationBuilder;
+import static org.eclipse.edc.connector.controlplane.contract.spi.testfixtures.negotiation.store.TestFunctions.createPolicy;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.FINALIZED;
+import static org.eclipse.edc.connector.controlplane.contract.spi.types.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
 
 /**
  * This test aims to verify those parts of the contract negotiation store, that are specific to Postgres, e.g. JSON
@@ -39,14 +60,13 @@ import java.time.Duration;
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestBase {
 
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private final JacksonTypeManager manager = new JacksonTypeManager();
     private SqlContractNegotiationStore store;
     private LeaseUtil leaseUtil;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
-        var statements = new PostgresDialectStatements();
-        var manager = new JacksonTypeManager();
-
         manager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
         store = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
                 extension.getTransactionContext(), manager.getMapper(), statements, CONNECTOR_NAME, clock, queryExecutor);
@@ -59,11 +79,97 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
         var dialect = new PostgresDialectStatements();
+        extension.runQuery("DROP TABLE " + dialect.getContractNegotiationArchiveTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + dialect.getContractOfferTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + dialect.getReceivedMessageTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + dialect.getContractNegotiationTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + dialect.getContractAgreementTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + dialect.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void save_shouldAppendOnlyNewOffersAndReceivedMessages(PostgresqlStoreSetupExtension extension) throws SQLException {
+        var negotiation = createNegotiationBuilder("negotiation-id").contractOffer(contractOffer("offer-1")).build();
+        negotiation.protocolMessageReceived("message-1");
+        store.save(negotiation);
+
+        negotiation.addContractOffer(contractOffer("offer-2"));
+        negotiation.protocolMessageReceived("message-2");
+        store.save(negotiation);
+        store.save(negotiation);
+
+        var dialect = new PostgresDialectStatements();
+        assertThat(countRows(extension, dialect.getContractOfferTable())).isEqualTo(2);
+        assertThat(countRows(extension, dialect.getReceivedMessageTable())).isEqualTo(2);
+        var found = store.findById("negotiation-id");
+        assertThat(found).isNotNull();
+        assertThat(found.getContractOffers()).extracting(ContractOffer::getId).containsExactly("offer-1", "offer-2");
+        assertThat(found.getProtocolMessages().getReceived()).containsExactly("message-1", "message-2");
+    }
+
+    @Test
+    void archive_shouldMoveOldNegotiationsInFinalState() {
+        var old = createNegotiationBuilder("old").state(FINALIZED.code()).stateTimestamp(1000L)
+                .contractAgreement(createContractBuilder("agreement-id").build()).contractOffer(contractOffer("offer-1")).build();
+        old.protocolMessageReceived("message-1");
+        store.save(old);
+        store.save(createNegotiationBuilder("recent").state(FINALIZED.code()).stateTimestamp(3000L).build());
+        store.save(createNegotiationBuilder("running").state(REQUESTED.code()).stateTimestamp(1000L).build());
+
+        var archived = store.archive(2000L, 10);
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(store.findById("old")).isNull();
+        assertThat(store.findContractAgreement("agreement-id")).isNotNull();
+        assertThat(store.queryNegotiations(QuerySpec.none())).extracting(ContractNegotiation::getId).containsExactlyInAnyOrder("recent", "running");
+        var query = QuerySpec.Builder.newInstance().filter(criterion("id", "=", "old")).build();
+        assertThat(store.queryArchivedNegotiations(query)).singleElement().satisfies(negotiation -> {
+            assertThat(negotiation.getContractAgreement()).isNotNull().extracting("id").isEqualTo("agreement-id");
+            assertThat(negotiation.getContractOffers()).extracting(ContractOffer::getId).containsExactly("offer-1");
+            assertThat(negotiation.getProtocolMessages().getReceived()).containsExactly("message-1");
+        });
+    }
+
+    @Test
+    void archive_shouldSkipLeasedNegotiations() {
+        store.save(createNegotiationBuilder("leased").state(FINALIZED.code()).stateTimestamp(1000L).build());
+        leaseEntity("leased", "someone-else", Duration.ofMinutes(1));
+
+        var archived = store.archive(2000L, 10);
+
+        assertThat(archived).isZero();
+        assertThat(store.findById("leased")).isNotNull();
+    }
+
+    @Test
+    void archive_shouldArchiveLatestVersion_whenNegotiationIsUpdatedAfterBeingQueried(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        var negotiation = createNegotiationBuilder("negotiation-id").state(FINALIZED.code()).stateTimestamp(1000L).build();
+        negotiation.protocolMessageReceived("message-1");
+        store.save(negotiation);
+        var interleavingQueryExecutor = spy(queryExecutor);
+        var saveConcurrently = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            List<?> rows;
+            try (var stream = (Stream<?>) invocation.callRealMethod()) {
+                rows = stream.toList();
+            }
+            if (saveConcurrently.getAndSet(false)) {
+                negotiation.protocolMessageReceived("message-2");
+                store.save(negotiation);
+            }
+            return rows.stream();
+        }).when(interleavingQueryExecutor).query(any(), anyBoolean(), any(), anyString(), any(Object[].class));
+        var archivingStore = new SqlContractNegotiationStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), manager.getMapper(), statements, "archiver", clock, interleavingQueryExecutor);
+
+        var archived = archivingStore.archive(2000L, 10);
+
+        assertThat(archived).isEqualTo(1);
+        var query = QuerySpec.Builder.newInstance().filter(criterion("id", "=", "negotiation-id")).build();
+        assertThat(store.queryArchivedNegotiations(query)).singleElement().satisfies(archivedNegotiation ->
+                assertThat(archivedNegotiation.getProtocolMessages().getReceived()).containsExactly("message-1", "message-2"));
+    }
+
     @Override
     protected SqlContractNegotiationStore getContractNegotiationStore() {
         return store;
@@ -79,4 +185,17 @@ class PostgresContractNegotiationStoreTest extends ContractNegotiationStoreTestB
         return leaseUtil.isLeased(negotiationId, owner);
     }
 
+    private ContractOffer contractOffer(String id) {
+        return ContractOffer.Builder.newInstance().id(id).assetId("asset-id").policy(createPolicy()).build();
+    }
+
+    private int countRows(PostgresqlStoreSetupExtension extension, String table) throws SQLException {
+        try (var connection = extension.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
 }
@@ -35,14 +35,20 @@ import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 
 public class SqlPolicyDefinitionStore extends AbstractSqlStore implements PolicyDefinitionStore {
 
@@ -137,24 +143,84 @@ public class SqlPolicyDefinitionStore extends AbstractSqlStore implements Policy
         });
     }
 
+    @Override
+    public List<StoreResult<Void>> createAll(List<PolicyDefinition> policies) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existingIds = new HashSet<>(findAllById(connection, policies.stream().map(PolicyDefinition::getId).toList()).keySet());
+                var results = new ArrayList<StoreResult<Void>>(policies.size());
+                var inserts = new ArrayList<Object[]>();
+                for (var policy : policies) {
+                    if (existingIds.add(policy.getId())) {
+                        inserts.add(insertArguments(policy));
+                        results.add(StoreResult.success());
+                    } else {
+                        results.add(StoreResult.alreadyExists(format(POLICY_ALREADY_EXISTS, policy.getId())));
+                    }
+                }
+                queryExecutor.executeBatch(connection, statements.getInsertTemplate(), inserts);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<StoreResult<Boolean>> upsertAll(List<PolicyDefinition> policies) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existingIds = new HashSet<>(findAllById(connection, policies.stream().map(PolicyDefinition::getId).toList()).keySet());
+                var results = new ArrayList<StoreResult<Boolean>>(policies.size());
+                var inserts = new ArrayList<Object[]>();
+                var updates = new ArrayList<Object[]>();
+                for (var policy : policies) {
+                    if (existingIds.add(policy.getId())) {
+                        inserts.add(insertArguments(policy));
+                        results.add(StoreResult.success(true));
+                    } else {
+                        updates.add(updateArguments(policy));
+                        results.add(StoreResult.success(false));
+                    }
+                }
+                // inserts first, so that an ID repeated in the same batch is updated with its latest version
+                queryExecutor.executeBatch(connection, statements.getInsertTemplate(), inserts);
+                queryExecutor.executeBatch(connection, statements.getUpdateTemplate(), updates);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public List<StoreResult<PolicyDefinition>> deleteAll(List<String> policyIds) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var existing = findAllById(connection, policyIds);
+                var results = new ArrayList<StoreResult<PolicyDefinition>>(policyIds.size());
+                var deletes = new ArrayList<Object[]>();
+                for (var policyId : policyIds) {
+                    var policy = existing.remove(policyId);
+                    if (policy != null) {
+                        deletes.add(new Object[]{ policyId });
+                        results.add(StoreResult.success(policy));
+                    } else {
+                        results.add(StoreResult.notFound(format(POLICY_NOT_FOUND, policyId)));
+                    }
+                }
+                queryExecutor.executeBatch(connection, statements.getDeleteTemplate(), deletes);
+                return results;
+            } catch (Exception e) {
+                throw new EdcPersistenceException(e.getMessage(), e);
+            }
+        });
+    }
+
     private void insert(PolicyDefinition def) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var policy = def.getPolicy();
-                var id = def.getId();
-                queryExecutor.execute(connection, statements.getInsertTemplate(),
-                        id,
-                        toJson(policy.getPermissions(), permissionListType),
-                        toJson(policy.getProhibitions(), prohibitionListType),
-                        toJson(policy.getObligations(), dutyListType),
-                        toJson(policy.getExtensibleProperties()),
-                        policy.getInheritsFrom(),
-                        policy.getAssigner(),
-                        policy.getAssignee(),
-                        policy.getTarget(),
-                        toJson(policy.getType(), policyType),
-                        def.getCreatedAt(),
-                        toJson(def.getPrivateProperties()));
+                queryExecutor.execute(connection, statements.getInsertTemplate(), insertArguments(def));
             } catch (Exception e) {
                 throw new EdcPersistenceException(e.getMessage(), e);
             }
@@ -164,26 +230,59 @@ public class SqlPolicyDefinitionStore extends AbstractSqlStore implements Policy
     private void updateInternal(PolicyDefinition def) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var policy = def.getPolicy();
-                var id = def.getId();
-                queryExecutor.execute(connection, statements.getUpdateTemplate(),
-                        toJson(policy.getPermissions(), permissionListType),
-                        toJson(policy.getProhibitions(), prohibitionListType),
-                        toJson(policy.getObligations(), dutyListType),
-                        toJson(policy.getExtensibleProperties()),
-                        policy.getInheritsFrom(),
-                        policy.getAssigner(),
-                        policy.getAssignee(),
-                        policy.getTarget(),
-                        toJson(policy.getType(), policyType),
-                        toJson(def.getPrivateProperties()),
-                        id);
+                queryExecutor.execute(connection, statements.getUpdateTemplate(), updateArguments(def));
             } catch (Exception e) {
                 throw new EdcPersistenceException(e.getMessage(), e);
             }
         });
     }
 
+    private Map<String, PolicyDefinition> findAllById(Connection connection, List<String> policyIds) {
+        if (policyIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        var query = QuerySpec.Builder.newInstance().filter(new Criterion("id", "in", policyIds)).limit(policyIds.size()).build();
+        var queryStatement = statements.createQuery(query);
+        try (var stream = queryExecutor.query(connection, false, this::mapResultSet, queryStatement.getQueryAsString(), queryStatement.getParameters())) {
+            return stream.collect(toMap(PolicyDefinition::getId, identity(), (a, b) -> a, HashMap::new));
+        }
+    }
+
+    private Object[] insertArguments(PolicyDefinition def) {
+        var policy = def.getPolicy();
+        return new Object[]{
+                def.getId(),
+                toJson(policy.getPermissions(), permissionListType),
+                toJson(policy.getProhibitions(), prohibitionListType),
+                toJson(policy.getObligations(), dutyListType),
+                toJson(policy.getExtensibleProperties()),
+                policy.getInheritsFrom(),
+                policy.getAssigner(),
+                policy.getAssignee(),
+                policy.getTarget(),
+                toJson(policy.getType(), policyType),
+                def.getCreatedAt(),
+                toJson(def.getPrivateProperties())
+        };
+    }
+
+    private Object[] updateArguments(PolicyDefinition def) {
+        var policy = def.getPolicy();
+        return new Object[]{
+                toJson(policy.getPermissions(), permissionListType),
+                toJson(policy.getProhibitions(), prohibitionListType),
+                toJson(policy.getObligations(), dutyListType),
+                toJson(policy.getExtensibleProperties()),
+                policy.getInheritsFrom(),
+                policy.getAssigner(),
+                policy.getAssignee(),
+                policy.getTarget(),
+                toJson(policy.getType(), policyType),
+                toJson(def.getPrivateProperties()),
+                def.getId()
+        };
+    }
+
     private PolicyDefinition mapResultSet(ResultSet resultSet) throws SQLException {
         var policy = Policy.Builder.newInstance()
                 .permissions(fromJson(resultSet.getString(statements.getPermissionsColumn()), permissionListType))
@@ -59,9 +59,37 @@ COMMENT ON COLUMN edc_transfer_process.content_data_address IS 'DataAddress seri
 
 COMMENT ON COLUMN edc_transfer_process.deprovisioned_resources IS 'List of deprovisioned resources, serialized as JSON';
 
+COMMENT ON COLUMN edc_transfer_process.protocol_messages IS 'ProtocolMessages serialized as JSON, the received message ids are stored in edc_transfer_process_received_message';
+
 
 CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_id_uindex
     ON edc_transfer_process (transferprocess_id);
 
 CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
+
+
+CREATE TABLE IF NOT EXISTS edc_transfer_process_received_message
+(
+    transfer_process_id VARCHAR NOT NULL
+        CONSTRAINT transfer_process_received_message_transfer_process_id_fk
+            REFERENCES edc_transfer_process
+            ON DELETE CASCADE,
+    seq                 INTEGER NOT NULL,
+    message_id          VARCHAR NOT NULL,
+    CONSTRAINT transfer_process_received_message_pk
+        PRIMARY KEY (transfer_process_id, seq)
+);
+
+COMMENT ON TABLE edc_transfer_process_received_message IS 'Append-only list of the ids of the protocol messages received for a transfer process';
+
+
+CREATE INDEX IF NOT EXISTS transfer_process_state_timestamp_index
+    ON edc_transfer_process (state, state_time_stamp);
+
+CREATE TABLE IF NOT EXISTS edc_transfer_process_archive
+(
+    LIKE edc_transfer_process INCLUDING DEFAULTS INCLUDING INDEXES
+);
+
+COMMENT ON TABLE edc_transfer_process_archive IS 'Transfer processes in a final state moved out of edc_transfer_process, with their protocol messages inline';
@@ -23,6 +23,7 @@ import org.eclipse.edc.connector.controlplane.transfer.spi.types.ProvisionedReso
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.ResourceManifest;
 import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.entity.ProtocolMessages;
+import org.eclipse.edc.spi.persistence.ArchivingStore;
 import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -31,6 +32,7 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.SqlLeaseContextBuilder;
 import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
@@ -47,13 +49,18 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.DEPROVISIONED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.TERMINATED;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * Implementation of the {@link TransferProcessStore} based on SQL.
  */
-public class SqlTransferProcessStore extends AbstractSqlStore implements TransferProcessStore {
+public class SqlTransferProcessStore extends AbstractSqlStore implements TransferProcessStore, ArchivingStore {
+    private static final List<Integer> ARCHIVABLE_STATES = List.of(COMPLETED.code(), TERMINATED.code(), DEPROVISIONED.code());
     private final TransferProcessStoreStatements statements;
     private final String leaseHolderName;
     private final SqlLeaseContextBuilder leaseContext;
@@ -80,7 +87,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
+                    var stream = query(connection, statement, querySpec)
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
                 transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
@@ -110,6 +117,20 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public StoreResult<Void> renewLease(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                leaseContext.withConnection(connection).renewLease(id);
+                return StoreResult.success();
+            } catch (IllegalStateException e) {
+                return StoreResult.notFound(format("TransferProcess %s is not leased by this runtime", id));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public StoreResult<TransferProcess> findByCorrelationIdAndLease(String correlationId) {
         return transactionContext.execute(() -> {
@@ -139,8 +160,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         Objects.requireNonNull(entity.getId(), "TransferProcesses must have an ID!");
         transactionContext.execute(() -> {
             try (var conn = getConnection()) {
-                var existing = findByIdInternal(conn, entity.getId());
-                if (existing != null) {
+                if (exists(conn, entity.getId())) {
                     leaseContext.by(leaseHolderName).withConnection(conn).breakLease(entity.getId());
                     update(conn, entity);
                 } else {
@@ -207,6 +227,81 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public long count(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                var statement = statements.createCountQuery(querySpec);
+                return queryExecutor.single(conn, true, r -> r.getLong(1), statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public Stream<TransferProcess> findAllArchived(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                var statement = statements.createArchiveQuery(querySpec);
+                var withProtocolMessages = querySpec.isFieldSelected("protocolMessages");
+                return queryExecutor.query(conn, true, resultSet -> mapTransferProcess(resultSet, withProtocolMessages), statement.getQueryAsString(), statement.getParameters());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    /**
+     * Copies the transfer processes to the archive table, with their whole protocol messages history inline, and
+     * deletes them from the transfer process table. Every process is leased and read again before being moved, so that
+     * processes updated or leased by someone else since the candidates were queried are not archived from a stale copy.
+     */
+    @Override
+    public int archive(long stateTimestampBefore, int max) {
+        return transactionContext.execute(() -> {
+            var querySpec = QuerySpec.Builder.newInstance()
+                    .filter(List.of(criterion("state", "in", ARCHIVABLE_STATES), criterion("stateTimestamp", "<=", stateTimestampBefore)))
+                    .limit(max)
+                    .build();
+            var statement = statements.createQuery(querySpec)
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+
+            try (var connection = getConnection()) {
+                List<String> candidates;
+                try (var stream = queryExecutor.query(connection, true, resultSet -> resultSet.getString(statements.getIdColumn()), statement.getQueryAsString(), statement.getParameters())) {
+                    candidates = stream.toList();
+                }
+
+                var archived = 0;
+                for (var id : candidates) {
+                    var lease = leaseContext.by(leaseHolderName).withConnection(connection);
+                    try {
+                        lease.acquireLease(id);
+                    } catch (IllegalStateException e) {
+                        continue;
+                    }
+                    var process = findByIdInternal(connection, id);
+                    if (process == null || !isArchivable(process, stateTimestampBefore)) {
+                        lease.breakLease(id);
+                        continue;
+                    }
+                    insert(connection, statements.getInsertArchiveStatement(), process, process.getProtocolMessages());
+                    lease.breakLease(process.getId());
+                    queryExecutor.execute(connection, statements.getDeleteTransferProcessTemplate(), process.getId());
+                    archived++;
+                }
+                return archived;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private boolean isArchivable(TransferProcess process, long stateTimestampBefore) {
+        return ARCHIVABLE_STATES.contains(process.getState()) && process.getStateTimestamp() <= stateTimestampBefore;
+    }
+
     private QuerySpec correlationIdQuerySpec(String correlationId) {
         var criterion = criterion("correlationId", "=", correlationId);
         return QuerySpec.Builder.newInstance().filter(criterion).build();
@@ -220,8 +315,24 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     }
 
     private Stream<TransferProcess> executeQuery(Connection connection, QuerySpec querySpec) {
-        var statement = statements.createQuery(querySpec);
-        return queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters());
+        return query(connection, statements.createQuery(querySpec), querySpec);
+    }
+
+    /**
+     * Runs the query and loads the received protocol messages of the resulting processes, one batch of processes at a
+     * time.
+     */
+    private Stream<TransferProcess> query(Connection connection, SqlQueryStatement statement, QuerySpec querySpec) {
+        var withProtocolMessages = querySpec.isFieldSelected("protocolMessages");
+        var processes = queryExecutor.query(connection, true, resultSet -> mapTransferProcess(resultSet, withProtocolMessages), statement.getQueryAsString(), statement.getParameters());
+        if (!withProtocolMessages) {
+            return processes;
+        }
+        return statements.getReceivedMessagesChildTable().loadAll(queryExecutor, connection, processes, TransferProcess::getId, this::setReceivedMessages);
+    }
+
+    private boolean exists(Connection connection, String id) {
+        return queryExecutor.single(connection, false, rs -> true, statements.getExistsTemplate(), id) != null;
     }
 
     private void update(Connection conn, TransferProcess process) {
@@ -240,7 +351,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(process.getCallbackAddresses()),
                 process.isPending(),
                 process.getTransferType(),
-                toJson(process.getProtocolMessages()),
+                toJson(lastSentOnly(process.getProtocolMessages())),
                 process.getDataPlaneId(),
                 process.getCorrelationId(),
                 process.getCounterPartyAddress(),
@@ -249,6 +360,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getContractId(),
                 toJson(process.getDataDestination()),
                 process.getId());
+        appendReceivedMessages(conn, process);
     }
 
     /**
@@ -268,8 +380,12 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
     }
 
     private void insert(Connection conn, TransferProcess process) {
-        var insertTpStatement = statements.getInsertStatement();
-        queryExecutor.execute(conn, insertTpStatement, process.getId(),
+        insert(conn, statements.getInsertStatement(), process, lastSentOnly(process.getProtocolMessages()));
+        appendReceivedMessages(conn, process);
+    }
+
+    private void insert(Connection conn, String template, TransferProcess process, ProtocolMessages protocolMessages) {
+        queryExecutor.execute(conn, template, process.getId(),
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
@@ -286,7 +402,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(process.getCallbackAddresses()),
                 process.isPending(),
                 process.getTransferType(),
-                toJson(process.getProtocolMessages()),
+                toJson(protocolMessages),
                 process.getDataPlaneId(),
                 process.getCorrelationId(),
                 process.getCounterPartyAddress(),
@@ -296,9 +412,23 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 toJson(process.getDataDestination()));
     }
 
-    private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
+    private void appendReceivedMessages(Connection connection, TransferProcess process) {
+        var received = ofNullable(process.getProtocolMessages()).map(ProtocolMessages::getReceived).orElse(List.of());
+        statements.getReceivedMessagesChildTable().append(queryExecutor, connection, process.getId(), received);
+    }
+
+    private ProtocolMessages lastSentOnly(ProtocolMessages protocolMessages) {
+        var inline = new ProtocolMessages();
+        if (protocolMessages != null) {
+            inline.setLastSent(protocolMessages.getLastSent());
+        }
+        return inline;
+    }
+
+    private TransferProcess mapTransferProcess(ResultSet resultSet, boolean withProtocolMessages) throws SQLException {
+        var id = resultSet.getString(statements.getIdColumn());
         return TransferProcess.Builder.newInstance()
-                .id(resultSet.getString(statements.getIdColumn()))
+                .id(id)
                 .type(TransferProcess.Type.valueOf(resultSet.getString(statements.getTypeColumn())))
                 .createdAt(resultSet.getLong(statements.getCreatedAtColumn()))
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
@@ -323,9 +453,19 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .privateProperties(fromJson(resultSet.getString(statements.getPrivatePropertiesColumn()), getTypeRef()))
                 .pending(resultSet.getBoolean(statements.getPendingColumn()))
                 .transferType(resultSet.getString(statements.getTransferTypeColumn()))
-                .protocolMessages(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class))
+                .protocolMessages(withProtocolMessages ? ofNullable(fromJson(resultSet.getString(statements.getProtocolMessagesColumn()), ProtocolMessages.class)).orElseGet(ProtocolMessages::new) : new ProtocolMessages())
                 .dataPlaneId(resultSet.getString(statements.getDataPlaneIdColumn()))
                 .build();
     }
 
+    /**
+     * Sets the received messages loaded from the child table. Processes stored before the child table existed keep them
+     * in the inline column until their next update.
+     */
+    private void setReceivedMessages(TransferProcess process, List<String> received) {
+        if (!received.isEmpty()) {
+            process.getProtocolMessages().setReceived(received);
+        }
+    }
+
 }
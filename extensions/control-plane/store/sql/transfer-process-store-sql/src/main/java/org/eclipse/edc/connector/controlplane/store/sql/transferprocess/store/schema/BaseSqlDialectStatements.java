@@ -17,10 +17,15 @@ package org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.s
 
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.TransferProcessMapping;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.store.AppendOnlyChildTable;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.Map;
+import java.util.stream.Stream;
+
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Postgres-specific variants and implementations of the statements required for the TransferProcessStore
@@ -63,21 +68,32 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
 
     @Override
     public String getInsertStatement() {
+        return insertInto(getTransferProcessTableName());
+    }
+
+    @Override
+    public String getInsertArchiveStatement() {
+        return insertInto(getArchiveTableName());
+    }
+
+    @Override
+    public String getDeleteTransferProcessTemplate() {
+        return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getUpdateTransferProcessTemplate() {
         return executeStatement()
-                .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
-                .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .jsonColumn(getResourceManifestColumn())
                 .jsonColumn(getProvisionedResourceSetColumn())
                 .jsonColumn(getContentDataAddressColumn())
-                .column(getTypeColumn())
                 .jsonColumn(getDeprovisionedResourcesColumn())
-                .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
                 .column(getTransferTypeColumn())
@@ -89,27 +105,94 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getAssetIdColumn())
                 .column(getContractIdColumn())
                 .jsonColumn(getDataDestinationColumn())
-                .insertInto(getTransferProcessTableName());
+                .update(getTransferProcessTableName(), getIdColumn());
     }
 
     @Override
-    public String getDeleteTransferProcessTemplate() {
-        return executeStatement().delete(getTransferProcessTableName(), getIdColumn());
+    public String getSelectTemplate() {
+        return "SELECT * FROM %s".formatted(getTransferProcessTableName());
     }
 
     @Override
-    public String getUpdateTransferProcessTemplate() {
+    public String getExistsTemplate() {
+        return format("SELECT 1 FROM %s WHERE %s = ? LIMIT 1;", getTransferProcessTableName(), getIdColumn());
+    }
+
+    @Override
+    public AppendOnlyChildTable getReceivedMessagesChildTable() {
+        return new AppendOnlyChildTable(getReceivedMessageTable(), getTransferProcessIdFkColumn(), getSequenceColumn(),
+                getMessageIdColumn(), "");
+    }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        var select = querySpec.getFields().isEmpty() ? getSelectTemplate() : selectProjection(getTransferProcessTableName(), querySpec);
+        return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), operatorTranslator);
+    }
+
+    @Override
+    public SqlQueryStatement createArchiveQuery(QuerySpec querySpec) {
+        return new SqlQueryStatement(selectProjection(getArchiveTableName(), querySpec), querySpec, new TransferProcessMapping(this), operatorTranslator);
+    }
+
+    @Override
+    public SqlQueryStatement createCountQuery(QuerySpec querySpec) {
+        var countQuery = QuerySpec.Builder.newInstance().filter(querySpec.getFilterExpression()).limit(Integer.MAX_VALUE).build();
+        return new SqlQueryStatement("SELECT COUNT(*) FROM %s".formatted(getTransferProcessTableName()), countQuery, new TransferProcessMapping(this), operatorTranslator);
+    }
+
+    /**
+     * Columns that hold JSON documents, keyed by the {@link org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess}
+     * field they are mapped to. These columns are selected as {@code NULL} when a query projects fields that do not
+     * include them, so they never leave the database.
+     */
+    protected Map<String, String> getProjectableColumns() {
+        return Map.of(
+                "traceContext", getTraceContextColumn(),
+                "resourceManifest", getResourceManifestColumn(),
+                "provisionedResourceSet", getProvisionedResourceSetColumn(),
+                "contentDataAddress", getContentDataAddressColumn(),
+                "dataDestination", getDataDestinationColumn(),
+                "deprovisionedResources", getDeprovisionedResourcesColumn(),
+                "callbackAddresses", getCallbackAddressesColumn(),
+                "privateProperties", getPrivatePropertiesColumn(),
+                "protocolMessages", getProtocolMessagesColumn()
+        );
+    }
+
+    private String selectProjection(String table, QuerySpec querySpec) {
+        if (querySpec.getFields().isEmpty()) {
+            return "SELECT * FROM %s".formatted(table);
+        }
+
+        var columns = Stream.of(getIdColumn(), getTypeColumn(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
+                getCreatedAtColumn(), getUpdatedAtColumn(), getErrorDetailColumn(), getCorrelationIdColumn(), getAssetIdColumn(),
+                getProtocolColumn(), getCounterPartyAddressColumn(), getContractIdColumn(), getPendingColumn(), getTransferTypeColumn(),
+                getDataPlaneIdColumn());
+
+        var projectable = getProjectableColumns().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> querySpec.isFieldSelected(entry.getKey()) ? entry.getValue() : "NULL AS " + entry.getValue());
+
+        return "SELECT %s FROM %s".formatted(Stream.concat(columns, projectable).collect(joining(", ")), table);
+    }
+
+    private String insertInto(String table) {
         return executeStatement()
+                .column(getIdColumn())
                 .column(getStateColumn())
                 .column(getStateCountColumn())
                 .column(getStateTimestampColumn())
+                .column(getCreatedAtColumn())
                 .column(getUpdatedAtColumn())
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .jsonColumn(getResourceManifestColumn())
                 .jsonColumn(getProvisionedResourceSetColumn())
                 .jsonColumn(getContentDataAddressColumn())
+                .column(getTypeColumn())
                 .jsonColumn(getDeprovisionedResourcesColumn())
+                .jsonColumn(getPrivatePropertiesColumn())
                 .jsonColumn(getCallbackAddressesColumn())
                 .column(getPendingColumn())
                 .column(getTransferTypeColumn())
@@ -121,17 +204,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getAssetIdColumn())
                 .column(getContractIdColumn())
                 .jsonColumn(getDataDestinationColumn())
-                .update(getTransferProcessTableName(), getIdColumn());
-    }
-
-    @Override
-    public String getSelectTemplate() {
-        return "SELECT * FROM %s".formatted(getTransferProcessTableName());
-    }
-
-    @Override
-    public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        return new SqlQueryStatement(getSelectTemplate(), querySpec, new TransferProcessMapping(this), operatorTranslator);
+                .insertInto(table);
     }
 
 }
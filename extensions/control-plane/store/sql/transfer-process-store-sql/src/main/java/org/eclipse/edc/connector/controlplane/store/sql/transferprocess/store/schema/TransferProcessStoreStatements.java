@@ -19,6 +19,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.lease.LeaseStatements;
 import org.eclipse.edc.sql.lease.StatefulEntityStatements;
+import org.eclipse.edc.sql.store.AppendOnlyChildTable;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 /**
@@ -35,10 +36,33 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
 
     String getSelectTemplate();
 
+    /**
+     * Select statement that returns a row if a transfer process with the given id exists, without reading its columns.
+     */
+    String getExistsTemplate();
+
+    /**
+     * Insert statement for the archive table, that has the same columns of the transfer process table.
+     */
+    String getInsertArchiveStatement();
+
+    /**
+     * Append-only child table that holds the ids of the protocol messages received for a transfer process.
+     */
+    AppendOnlyChildTable getReceivedMessagesChildTable();
+
     default String getTransferProcessTableName() {
         return "edc_transfer_process";
     }
 
+    default String getArchiveTableName() {
+        return "edc_transfer_process_archive";
+    }
+
+    default String getReceivedMessageTable() {
+        return "edc_transfer_process_received_message";
+    }
+
     default String getIdColumn() {
         return "transferprocess_id";
     }
@@ -111,5 +135,24 @@ public interface TransferProcessStoreStatements extends StatefulEntityStatements
         return "protocol_messages";
     }
 
+    default String getTransferProcessIdFkColumn() {
+        return "transfer_process_id";
+    }
+
+    default String getSequenceColumn() {
+        return "seq";
+    }
+
+    default String getMessageIdColumn() {
+        return "message_id";
+    }
+
     SqlQueryStatement createQuery(QuerySpec querySpec);
+
+    SqlQueryStatement createArchiveQuery(QuerySpec querySpec);
+
+    /**
+     * Query that counts the transfer processes matching the filter of the {@link QuerySpec}.
+     */
+    SqlQueryStatement createCountQuery(QuerySpec querySpec);
 }
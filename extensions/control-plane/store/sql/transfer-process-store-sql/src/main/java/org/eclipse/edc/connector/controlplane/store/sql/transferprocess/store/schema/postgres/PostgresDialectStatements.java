@@ -19,6 +19,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
+import org.jetbrains.annotations.Nullable;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
@@ -43,17 +44,38 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
-        // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
+        var select = selectFromJsonArray(getSelectTemplate(), querySpec);
+        if (select == null) {
+            return super.createQuery(querySpec);
+        }
+        return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), operatorTranslator);
+    }
+
+    @Override
+    public SqlQueryStatement createCountQuery(QuerySpec querySpec) {
+        // a transfer process is joined once per matching element of the array, so ids need to be counted only once
+        var countTemplate = format("SELECT COUNT(DISTINCT %s) FROM %s", getIdColumn(), getTransferProcessTableName());
+        var select = selectFromJsonArray(countTemplate, querySpec);
+        if (select == null) {
+            return super.createCountQuery(querySpec);
+        }
+        var countQuery = QuerySpec.Builder.newInstance().filter(querySpec.getFilterExpression()).limit(Integer.MAX_VALUE).build();
+        return new SqlQueryStatement(select, countQuery, new TransferProcessMapping(this), operatorTranslator);
+    }
+
+    /**
+     * If any criterion targets a JSON array field, the FROM clause needs to be extended with the elements of that array.
+     *
+     * @return the extended select statement, null if no criterion targets a JSON array field.
+     */
+    private @Nullable String selectFromJsonArray(String select, QuerySpec querySpec) {
         if (querySpec.containsAnyLeftOperand("resourceManifest.definitions")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), operatorTranslator);
+            return getSelectFromJsonArrayTemplate(select, format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
         } else if (querySpec.containsAnyLeftOperand("provisionedResourceSet.resources")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getProvisionedResourceSetColumn(), "resources"), RESOURCES_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), operatorTranslator);
+            return getSelectFromJsonArrayTemplate(select, format("%s -> '%s'", getProvisionedResourceSetColumn(), "resources"), RESOURCES_ALIAS);
         } else if (querySpec.containsAnyLeftOperand("deprovisionedResources")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), operatorTranslator);
+            return getSelectFromJsonArrayTemplate(select, format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
         }
-        return super.createQuery(querySpec);
+        return null;
     }
 }
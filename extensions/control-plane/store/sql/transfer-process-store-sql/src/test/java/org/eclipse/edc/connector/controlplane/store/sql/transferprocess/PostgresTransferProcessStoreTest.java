@@ -18,32 +18,52 @@ import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.Sq
 import org.eclipse.edc.connector.controlplane.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions;
 import org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.json.JacksonTypeManager;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.QueryExecutor;
 import org.eclipse.edc.sql.lease.testfixtures.LeaseUtil;
 import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.sql.SQLException;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.util.stream.IntStream.range;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.testfixtures.store.TestFunctions.createTransferProcessBuilder;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.COMPLETED;
+import static org.eclipse.edc.connector.controlplane.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
 
 @ComponentTest
 @ExtendWith(PostgresqlStoreSetupExtension.class)
 class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private final JacksonTypeManager typeManager = new JacksonTypeManager();
     private LeaseUtil leaseUtil;
     private SqlTransferProcessStore store;
 
     @BeforeEach
     void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
-        var typeManager = new JacksonTypeManager();
         typeManager.registerTypes(TestFunctions.TestResourceDef.class, TestFunctions.TestProvisionedResource.class);
         typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
 
@@ -58,10 +78,146 @@ class PostgresTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     @AfterEach
     void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getArchiveTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getReceivedMessageTable() + " CASCADE");
         extension.runQuery("DROP TABLE " + statements.getTransferProcessTableName() + " CASCADE");
         extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
     }
 
+    @Test
+    void save_shouldAppendOnlyNewReceivedMessages(PostgresqlStoreSetupExtension extension) throws SQLException {
+        var transferProcess = createTransferProcess("process-id");
+        transferProcess.protocolMessageReceived("message-1");
+        store.save(transferProcess);
+
+        transferProcess.protocolMessageReceived("message-2");
+        store.save(transferProcess);
+        store.save(transferProcess);
+
+        try (var connection = extension.getConnection();
+             var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + statements.getReceivedMessageTable())) {
+            resultSet.next();
+            assertThat(resultSet.getInt(1)).isEqualTo(2);
+        }
+        var found = store.findById("process-id");
+        assertThat(found).isNotNull();
+        assertThat(found.getProtocolMessages().getReceived()).containsExactly("message-1", "message-2");
+    }
+
+    @Test
+    void save_shouldNotDeleteReceivedMessages_whenSavingStaleCopy() {
+        var stale = createTransferProcess("process-id");
+        stale.protocolMessageReceived("message-1");
+        store.save(stale);
+        var current = store.findById("process-id");
+        current.protocolMessageReceived("message-2");
+        store.save(current);
+
+        store.save(createTransferProcess("process-id"));
+
+        var found = store.findById("process-id");
+        assertThat(found).isNotNull();
+        assertThat(found.getProtocolMessages().getReceived()).containsExactly("message-1", "message-2");
+    }
+
+    @Test
+    void findAll_shouldLoadReceivedMessagesOfEveryProcess() {
+        range(0, 150).mapToObj(i -> createTransferProcess("process-" + i)).forEach(process -> {
+            process.protocolMessageReceived(process.getId() + "-message");
+            store.save(process);
+        });
+
+        var result = store.findAll(QuerySpec.Builder.newInstance().limit(150).build());
+
+        assertThat(result).hasSize(150).allSatisfy(process ->
+                assertThat(process.getProtocolMessages().getReceived()).containsExactly(process.getId() + "-message"));
+    }
+
+    @Test
+    void findAll_shouldNotLoadFieldsOutsideOfTheProjection() {
+        var transferProcess = createTransferProcessBuilder("process-id").state(STARTED.code()).build();
+        transferProcess.protocolMessageReceived("message-1");
+        store.save(transferProcess);
+        var query = QuerySpec.Builder.newInstance().fields(List.of("state", "callbackAddresses")).build();
+
+        var result = store.findAll(query);
+
+        assertThat(result).singleElement().satisfies(process -> {
+            assertThat(process.getState()).isEqualTo(STARTED.code());
+            assertThat(process.getCallbackAddresses()).hasSize(1);
+            assertThat(process.getContentDataAddress()).isNull();
+            assertThat(process.getResourceManifest()).isNull();
+            assertThat(process.getProtocolMessages().getReceived()).isEmpty();
+        });
+    }
+
+    @Test
+    void archive_shouldMoveOldProcessesInFinalState() {
+        var old = createTransferProcessBuilder("old").state(COMPLETED.code()).stateTimestamp(1000L).build();
+        old.protocolMessageReceived("message-1");
+        store.save(old);
+        store.save(createTransferProcessBuilder("recent").state(COMPLETED.code()).stateTimestamp(3000L).build());
+        store.save(createTransferProcessBuilder("running").state(STARTED.code()).stateTimestamp(1000L).build());
+
+        var archived = store.archive(2000L, 10);
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(store.findById("old")).isNull();
+        assertThat(store.findAll(QuerySpec.none())).extracting(TransferProcess::getId).containsExactlyInAnyOrder("recent", "running");
+        var query = QuerySpec.Builder.newInstance().filter(criterion("id", "=", "old")).build();
+        assertThat(store.findAllArchived(query)).singleElement().satisfies(process -> {
+            assertThat(process.getState()).isEqualTo(COMPLETED.code());
+            assertThat(process.getProtocolMessages().getReceived()).containsExactly("message-1");
+        });
+    }
+
+    @Test
+    void archive_shouldSkipLeasedProcesses() {
+        store.save(createTransferProcessBuilder("leased").state(COMPLETED.code()).stateTimestamp(1000L).build());
+        leaseEntity("leased", "someone-else", Duration.ofMinutes(1));
+
+        var archived = store.archive(2000L, 10);
+
+        assertThat(archived).isZero();
+        assertThat(store.findById("leased")).isNotNull();
+    }
+
+    @Test
+    void archive_shouldNotArchive_whenProcessIsUpdatedAfterBeingQueried(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        store.save(createTransferProcessBuilder("process-id").state(COMPLETED.code()).stateTimestamp(1000L).build());
+        var interleavingQueryExecutor = spy(queryExecutor);
+        var saveConcurrently = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            List<?> rows;
+            try (var stream = (Stream<?>) invocation.callRealMethod()) {
+                rows = stream.toList();
+            }
+            if (saveConcurrently.getAndSet(false)) {
+                store.save(createTransferProcessBuilder("process-id").state(STARTED.code()).stateTimestamp(1500L).build());
+            }
+            return rows.stream();
+        }).when(interleavingQueryExecutor).query(any(), anyBoolean(), any(), anyString(), any(Object[].class));
+        var archivingStore = new SqlTransferProcessStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), typeManager.getMapper(), statements, "archiver", clock, interleavingQueryExecutor);
+
+        var archived = archivingStore.archive(2000L, 10);
+
+        assertThat(archived).isZero();
+        assertThat(store.findById("process-id")).isNotNull().extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+        assertThat(isLeasedBy("process-id", "archiver")).isFalse();
+    }
+
+    @Test
+    void archive_shouldArchiveAtMostMaxProcesses() {
+        store.save(createTransferProcessBuilder("1").state(COMPLETED.code()).stateTimestamp(1000L).build());
+        store.save(createTransferProcessBuilder("2").state(COMPLETED.code()).stateTimestamp(1000L).build());
+
+        assertThat(store.archive(2000L, 1)).isEqualTo(1);
+        assertThat(store.archive(2000L, 1)).isEqualTo(1);
+        assertThat(store.archive(2000L, 1)).isZero();
+    }
+
     @Override
     protected SqlTransferProcessStore getTransferProcessStore() {
         return store;
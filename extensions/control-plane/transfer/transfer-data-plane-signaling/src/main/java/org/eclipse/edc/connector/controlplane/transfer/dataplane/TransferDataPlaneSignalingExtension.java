@@ -28,6 +28,8 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.web.spi.configuration.context.ControlApiUrl;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.eclipse.edc.connector.controlplane.transfer.dataplane.TransferDataPlaneSignalingExtension.NAME;
@@ -42,6 +44,12 @@ public class TransferDataPlaneSignalingExtension implements ServiceExtension {
     @Setting(value = "Defines strategy for Data Plane instance selection in case Data Plane is not embedded in current runtime", defaultValue = DEFAULT_DATAPLANE_SELECTOR_STRATEGY)
     private static final String DPF_SELECTOR_STRATEGY = "edc.dataplane.client.selector.strategy";
 
+    private static final long DEFAULT_TRANSFER_TYPES_CACHE_TTL_MILLIS = 1000L;
+
+    @Setting(value = "How long the data plane instances fetched to compute the transfer types of catalog assets are reused, in milliseconds. 0 disables the cache",
+            type = "long", defaultValue = DEFAULT_TRANSFER_TYPES_CACHE_TTL_MILLIS + "")
+    private static final String TRANSFER_TYPES_CACHE_TTL = "edc.dataplane.client.selector.transfer-types.cache.ttl-millis";
+
     @Inject
     private DataFlowManager dataFlowManager;
 
@@ -60,11 +68,15 @@ public class TransferDataPlaneSignalingExtension implements ServiceExtension {
     @Inject
     private FlowTypeExtractor flowTypeExtractor;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var selectionStrategy = context.getSetting(DPF_SELECTOR_STRATEGY, DEFAULT_DATAPLANE_SELECTOR_STRATEGY);
+        var transferTypesTtl = Duration.ofMillis(context.getSetting(TRANSFER_TYPES_CACHE_TTL, DEFAULT_TRANSFER_TYPES_CACHE_TTL_MILLIS));
         var controller = new DataPlaneSignalingFlowController(callbackUrl, selectorService, getPropertiesProvider(),
-                clientFactory, selectionStrategy, flowTypeExtractor);
+                clientFactory, selectionStrategy, flowTypeExtractor, clock, transferTypesTtl);
         dataFlowManager.register(controller);
     }
 
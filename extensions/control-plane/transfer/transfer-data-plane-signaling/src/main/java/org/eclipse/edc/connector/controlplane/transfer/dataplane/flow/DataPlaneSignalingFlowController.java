@@ -30,11 +30,18 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.web.spi.configuration.context.ControlApiUrl;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
@@ -42,29 +49,48 @@ import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
  * Implementation of {@link DataFlowController} that is compliant with the data plane signaling.
  * <p>
  * It handles all the transfer process where the transferType met the criteria defined in the format mapping of the
- * signaling spec
+ * signaling spec.
+ * <p>
+ * The transfer types offered for an asset are derived from a snapshot of the registered data plane instances, which is
+ * refreshed at most once per {@code transferTypesTtl} and memoized per source type: resolving a catalog of many assets
+ * over a few source types only costs a single selector read.
  *
  * @see <a href="https://github.com/eclipse-edc/Connector/blob/main/docs/developer/data-plane-signaling/data-plane-signaling.md">Data plane signaling</a>
  * @see <a href="https://github.com/eclipse-edc/Connector/blob/main/docs/developer/data-plane-signaling/data-plane-signaling-mapping.md">Data plane signaling transfer type mapping</a>
  */
 public class DataPlaneSignalingFlowController implements DataFlowController {
 
+    public static final Duration DEFAULT_TRANSFER_TYPES_TTL = Duration.ofSeconds(1);
+
     private final ControlApiUrl callbackUrl;
     private final DataPlaneSelectorService selectorClient;
     private final DataPlaneClientFactory clientFactory;
     private final DataFlowPropertiesProvider propertiesProvider;
     private final String selectionStrategy;
     private final FlowTypeExtractor flowTypeExtractor;
+    private final Clock clock;
+    private final Duration transferTypesTtl;
+    private volatile InstancesSnapshot snapshot;
 
     public DataPlaneSignalingFlowController(ControlApiUrl callbackUrl, DataPlaneSelectorService selectorClient,
                                             DataFlowPropertiesProvider propertiesProvider, DataPlaneClientFactory clientFactory,
                                             String selectionStrategy, FlowTypeExtractor flowTypeExtractor) {
+        this(callbackUrl, selectorClient, propertiesProvider, clientFactory, selectionStrategy, flowTypeExtractor,
+                Clock.systemUTC(), DEFAULT_TRANSFER_TYPES_TTL);
+    }
+
+    public DataPlaneSignalingFlowController(ControlApiUrl callbackUrl, DataPlaneSelectorService selectorClient,
+                                            DataFlowPropertiesProvider propertiesProvider, DataPlaneClientFactory clientFactory,
+                                            String selectionStrategy, FlowTypeExtractor flowTypeExtractor,
+                                            Clock clock, Duration transferTypesTtl) {
         this.callbackUrl = callbackUrl;
         this.selectorClient = selectorClient;
         this.propertiesProvider = propertiesProvider;
         this.clientFactory = clientFactory;
         this.selectionStrategy = selectionStrategy;
         this.flowTypeExtractor = flowTypeExtractor;
+        this.clock = clock;
+        this.transferTypesTtl = transferTypesTtl;
     }
 
     @Override
@@ -136,16 +162,12 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
 
     @Override
     public Set<String> transferTypesFor(Asset asset) {
-        var result = selectorClient.getAll();
-        if (result.failed()) {
+        var instances = currentSnapshot();
+        if (instances == null) {
             return emptySet();
         }
 
-        return result.getContent().stream()
-                .filter(it -> it.getAllowedSourceTypes().contains(asset.getDataAddress().getType()))
-                .map(DataPlaneInstance::getAllowedTransferTypes)
-                .flatMap(Collection::stream)
-                .collect(toSet());
+        return instances.transferTypesFor(asset.getDataAddress().getType());
     }
 
     private StatusResult<DataPlaneClient> getClientForDataplane(String id) {
@@ -155,4 +177,45 @@ public class DataPlaneSignalingFlowController implements DataFlowController {
                 .orElse(f -> StatusResult.failure(FATAL_ERROR, "No data-plane found with id %s. %s".formatted(id, f.getFailureDetail())));
     }
 
+    /**
+     * Returns the current snapshot of the data plane instances, fetching a new one from the selector if the previous
+     * one expired. Failures are not cached, so the next call will try again.
+     */
+    private InstancesSnapshot currentSnapshot() {
+        var now = clock.millis();
+        var current = snapshot;
+        if (current != null && now < current.expiresAt()) {
+            return current;
+        }
+
+        var result = selectorClient.getAll();
+        if (result.failed()) {
+            return null;
+        }
+
+        var refreshed = new InstancesSnapshot(result.getContent(), now + transferTypesTtl.toMillis(), new ConcurrentHashMap<>());
+        if (!transferTypesTtl.isZero() && !transferTypesTtl.isNegative()) {
+            snapshot = refreshed;
+        }
+        return refreshed;
+    }
+
+    private record InstancesSnapshot(List<DataPlaneInstance> instances, long expiresAt, Map<String, Set<String>> transferTypesBySourceType) {
+
+        Set<String> transferTypesFor(String sourceType) {
+            if (sourceType == null) {
+                return collect(null);
+            }
+            return transferTypesBySourceType.computeIfAbsent(sourceType, this::collect);
+        }
+
+        private Set<String> collect(String sourceType) {
+            return instances.stream()
+                    .filter(it -> it.getAllowedSourceTypes().contains(sourceType))
+                    .map(DataPlaneInstance::getAllowedTransferTypes)
+                    .flatMap(Collection::stream)
+                    .collect(collectingAndThen(toSet(), Collections::unmodifiableSet));
+        }
+    }
+
 }
@@ -37,6 +37,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -47,6 +51,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -322,6 +327,77 @@ public class DataPlaneSignalingFlowControllerTest {
 
             assertThat(transferTypes).isEmpty();
         }
+
+        @Test
+        void shouldFetchDataPlaneInstancesOnce_whenCalledWithinTtl() {
+            when(selectorService.getAll()).thenReturn(ServiceResult.success(List.of(
+                    dataPlaneInstanceBuilder().allowedTransferType("Custom-PUSH").allowedSourceType("TargetSrc").allowedDestType("TargetDest").build(),
+                    dataPlaneInstanceBuilder().allowedTransferType("Other-PULL").allowedSourceType("AnotherSrc").allowedDestType("AnotherDest").build()
+            )));
+            var clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+            var controller = flowController(clock, Duration.ofSeconds(1));
+
+            var first = controller.transferTypesFor(assetWithSourceType("TargetSrc"));
+            var second = controller.transferTypesFor(assetWithSourceType("TargetSrc"));
+            var other = controller.transferTypesFor(assetWithSourceType("AnotherSrc"));
+
+            assertThat(first).containsExactly("Custom-PUSH").isSameAs(second);
+            assertThat(other).containsExactly("Other-PULL");
+            verify(selectorService, times(1)).getAll();
+        }
+
+        @Test
+        void shouldFetchDataPlaneInstancesAgain_whenTtlExpired() {
+            when(selectorService.getAll())
+                    .thenReturn(ServiceResult.success(List.of(
+                            dataPlaneInstanceBuilder().allowedTransferType("Custom-PUSH").allowedSourceType("TargetSrc").allowedDestType("TargetDest").build())))
+                    .thenReturn(ServiceResult.success(List.of(
+                            dataPlaneInstanceBuilder().allowedTransferType("Custom-PULL").allowedSourceType("TargetSrc").allowedDestType("TargetDest").build())));
+            var now = Instant.now();
+            var clock = mock(Clock.class);
+            when(clock.millis()).thenReturn(now.toEpochMilli(), now.plusSeconds(2).toEpochMilli());
+            var controller = flowController(clock, Duration.ofSeconds(1));
+
+            var first = controller.transferTypesFor(assetWithSourceType("TargetSrc"));
+            var second = controller.transferTypesFor(assetWithSourceType("TargetSrc"));
+
+            assertThat(first).containsExactly("Custom-PUSH");
+            assertThat(second).containsExactly("Custom-PULL");
+            verify(selectorService, times(2)).getAll();
+        }
+
+        @Test
+        void shouldNotCacheFailures() {
+            when(selectorService.getAll())
+                    .thenReturn(ServiceResult.unexpected("error"))
+                    .thenReturn(ServiceResult.success(List.of(
+                            dataPlaneInstanceBuilder().allowedTransferType("Custom-PUSH").allowedSourceType("TargetSrc").allowedDestType("TargetDest").build())));
+            var controller = flowController(Clock.fixed(Instant.now(), ZoneOffset.UTC), Duration.ofSeconds(1));
+
+            assertThat(controller.transferTypesFor(assetWithSourceType("TargetSrc"))).isEmpty();
+            assertThat(controller.transferTypesFor(assetWithSourceType("TargetSrc"))).containsExactly("Custom-PUSH");
+        }
+
+        @Test
+        void shouldAlwaysFetchDataPlaneInstances_whenTtlIsZero() {
+            when(selectorService.getAll()).thenReturn(ServiceResult.success(List.of(
+                    dataPlaneInstanceBuilder().allowedTransferType("Custom-PUSH").allowedSourceType("TargetSrc").allowedDestType("TargetDest").build())));
+            var controller = flowController(Clock.fixed(Instant.now(), ZoneOffset.UTC), Duration.ZERO);
+
+            controller.transferTypesFor(assetWithSourceType("TargetSrc"));
+            controller.transferTypesFor(assetWithSourceType("TargetSrc"));
+
+            verify(selectorService, times(2)).getAll();
+        }
+
+        private DataPlaneSignalingFlowController flowController(Clock clock, Duration ttl) {
+            return new DataPlaneSignalingFlowController(() -> URI.create("http://localhost"), selectorService, propertiesProvider,
+                    dataPlaneClientFactory, "random", flowTypeExtractor, clock, ttl);
+        }
+
+        private Asset assetWithSourceType(String type) {
+            return Asset.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type(type).build()).build();
+        }
     }
 
     @NotNull
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -37,21 +38,27 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     private final EdcHttpClient httpClient;
     private final ExecutorService executorService;
     private final int partitionSize;
+    private final int maxInFlight;
     private final Monitor monitor;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final HttpRequestFactory requestFactory;
+    private final TransferProgressListenerFactory progressListenerFactory;
 
     public HttpDataSinkFactory(EdcHttpClient httpClient,
                                ExecutorService executorService,
                                int partitionSize,
+                               int maxInFlight,
                                Monitor monitor,
-                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               TransferProgressListenerFactory progressListenerFactory) {
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
+        this.maxInFlight = maxInFlight;
         this.monitor = monitor;
         this.requestParamsProvider = requestParamsProvider;
         this.requestFactory = requestFactory;
+        this.progressListenerFactory = progressListenerFactory;
     }
 
     @Override
@@ -80,6 +87,8 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .params(requestParamsProvider.provideSinkParams(request))
                 .requestId(request.getId())
                 .partitionSize(partitionSize)
+                .maxInFlight(maxInFlight)
+                .progressListener(progressListenerFactory.create(request))
                 .httpClient(httpClient)
                 .executorService(executorService)
                 .monitor(monitor)
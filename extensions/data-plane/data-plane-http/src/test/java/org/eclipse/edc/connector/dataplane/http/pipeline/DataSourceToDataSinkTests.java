@@ -24,9 +24,14 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.MultipleBinaryPartsDataSource;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListener;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -42,7 +47,10 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.http.client.testfixtures.HttpTestUtils.testHttpClient;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -100,6 +108,52 @@ class DataSourceToDataSinkTests {
         verify(interceptor, times(2)).intercept(isA(Interceptor.Chain.class));
     }
 
+    /**
+     * Verifies the progress listener created by the sink factory for the data flow gets notified about the transfer.
+     */
+    @Test
+    void verifyProgressIsReported() throws Exception {
+        var interceptor = mock(Interceptor.class);
+        when(interceptor.intercept(isA(Interceptor.Chain.class)))
+                .thenAnswer(invocation -> createResponse(200, getRequest(invocation), "{\"key\":\"value\"}"));
+
+        var dataSource = HttpDataSource.Builder.newInstance()
+                .params(HttpRequestParams.Builder.newInstance()
+                        .baseUrl(NULL_ENDPOINT)
+                        .method(HttpMethod.GET.name())
+                        .build())
+                .name("test.json")
+                .requestId("1")
+                .httpClient(testHttpClient(interceptor))
+                .monitor(monitor)
+                .requestFactory(requestFactory)
+                .build();
+
+        var paramsProvider = mock(HttpRequestParamsProvider.class);
+        when(paramsProvider.provideSinkParams(any())).thenReturn(HttpRequestParams.Builder.newInstance()
+                .baseUrl(NULL_ENDPOINT)
+                .method(HttpMethod.POST.name())
+                .contentType(CONTENT_TYPE)
+                .nonChunkedTransfer(true)
+                .build());
+        var progressListener = mock(TransferProgressListener.class);
+        var listenerFactory = mock(TransferProgressListenerFactory.class);
+        when(listenerFactory.create(any())).thenReturn(progressListener);
+        var sinkFactory = new HttpDataSinkFactory(testHttpClient(interceptor), executor, 5, 10, monitor, paramsProvider, requestFactory, listenerFactory);
+        var startMessage = DataFlowStartMessage.Builder.newInstance()
+                .processId("processId")
+                .sourceDataAddress(DataAddress.Builder.newInstance().type("HttpData").build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("HttpData").build())
+                .build();
+
+        var dataSink = sinkFactory.createSink(startMessage);
+
+        assertThat(dataSink.transfer(dataSource)).succeedsWithin(500, TimeUnit.MILLISECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        verify(listenerFactory).create(startMessage);
+        verify(progressListener).onProgress(eq(1L), longThat(bytes -> bytes > 0));
+    }
+
     /**
      * Verifies an exception thrown by the source endpoint is handled correctly.
      */
@@ -236,12 +290,16 @@ class DataSourceToDataSinkTests {
     }
 
     private Response createResponse(int code, Request request) {
+        return createResponse(code, request, "");
+    }
+
+    private Response createResponse(int code, Request request, String body) {
         return new Response.Builder()
                 .protocol(Protocol.HTTP_1_1)
                 .request(request)
                 .code(code)
                 .message("")
-                .body(ResponseBody.create("", MediaType.parse("application/json")))
+                .body(ResponseBody.create(body, MediaType.parse("application/json")))
                 .build();
     }
 
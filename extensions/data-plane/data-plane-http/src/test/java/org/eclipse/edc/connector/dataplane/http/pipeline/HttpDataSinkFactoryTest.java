@@ -24,6 +24,8 @@ import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.http.testfixtures.TestFunctions;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListener;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -57,12 +59,14 @@ class HttpDataSinkFactoryTest {
     private final ExecutorService executorService = Executors.newSingleThreadExecutor();
     private final HttpRequestParamsProvider provider = mock();
     private final HttpRequestFactory requestFactory = mock();
+    private final TransferProgressListener progressListener = mock();
+    private final TransferProgressListenerFactory progressListenerFactory = message -> progressListener;
 
     private HttpDataSinkFactory factory;
 
     @BeforeEach
     void setUp() {
-        factory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory);
+        factory = new HttpDataSinkFactory(httpClient, executorService, 5, 10, monitor, provider, requestFactory, progressListenerFactory);
     }
 
     @Deprecated(since = "0.6.2")
@@ -113,6 +117,7 @@ class HttpDataSinkFactoryTest {
                 .requestId(request.getId())
                 .executorService(executorService)
                 .requestFactory(requestFactory)
+                .progressListener(progressListener)
                 .build();
 
         // validate the generated data sink field by field using reflection
@@ -11,6 +11,7 @@ dependencies {
     implementation(project(":core:data-plane:data-plane-util"))
     implementation(project(":extensions:common:validator:validator-data-address-kafka"))
     implementation(libs.kafkaClients)
+    implementation(libs.micrometer)
 
     testImplementation(project(":core:common:junit"))
     testImplementation(libs.mockserver.netty)
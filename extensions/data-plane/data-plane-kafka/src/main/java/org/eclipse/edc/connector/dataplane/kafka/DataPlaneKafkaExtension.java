@@ -14,9 +14,11 @@
 
 package org.eclipse.edc.connector.dataplane.kafka;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.edc.connector.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSourceFactory;
+import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaSinkMetrics;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -27,15 +29,26 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
 
+import static java.lang.String.format;
+
 @Extension(value = DataPlaneKafkaExtension.NAME)
 public class DataPlaneKafkaExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Kafka";
 
-    private static final int DEFAULT_PARTITION_SIZE = 5;
+    private static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+
+    @Setting(value = "The maximum number of records sent by a kafka data sink and not yet acknowledged by the broker", type = "int", defaultValue = DEFAULT_MAX_IN_FLIGHT + "", min = 1)
+    static final String EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT = "edc.dataplane.kafka.sink.max-in-flight";
 
-    @Setting(value = "The partitionSize used by the kafka data sink", type = "int", defaultValue = DEFAULT_PARTITION_SIZE + "", min = 1)
-    private static final String EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE = "edc.dataplane.kafka.sink.partition.size";
+    /**
+     * Deprecated: the sink does not split the parts in partitions anymore, the value is used as max in-flight window.
+     *
+     * @deprecated please use {@link #EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT}.
+     */
+    @Deprecated(since = "0.7.1")
+    @Setting(value = "Deprecated, please use " + EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT + ". When set and the new setting is not, it is used as max in-flight window", type = "int", min = 1)
+    static final String EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE = "edc.dataplane.kafka.sink.partition.size";
 
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
@@ -46,6 +59,9 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    @Inject(required = false)
+    private MeterRegistry meterRegistry;
+
     @Override
     public String name() {
         return NAME;
@@ -56,9 +72,20 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
         var monitor = context.getMonitor();
         var propertiesFactory = new KafkaPropertiesFactory();
 
-        var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE, DEFAULT_PARTITION_SIZE);
+        var sinkMaxInFlight = sinkMaxInFlight(context);
+        var sinkMetrics = new KafkaSinkMetrics(meterRegistry);
 
         pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, sinkPartitionSize));
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, sinkMaxInFlight, sinkMetrics));
+    }
+
+    private int sinkMaxInFlight(ServiceExtensionContext context) {
+        var config = context.getConfig();
+        if (!config.hasKey(EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT) && config.hasKey(EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE)) {
+            context.getMonitor().warning(format("Setting '%s' is deprecated and will be removed, its value is used as '%s', please use the latter instead",
+                    EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE, EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT));
+            return config.getInteger(EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE);
+        }
+        return context.getSetting(EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT);
     }
 }
@@ -16,58 +16,139 @@ package org.eclipse.edc.connector.dataplane.kafka.pipeline;
 
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
-import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
+import org.eclipse.edc.spi.monitor.Monitor;
 
-import java.io.Closeable;
 import java.io.IOException;
-import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
+
+/**
+ * Publishes every part of the source as a record on the destination topic.
+ * <p>
+ * Parts are consumed sequentially from the source stream, the number of records that are sent but not acknowledged yet
+ * by the broker is bounded by {@code maxInFlight}: when the window is full, reading from the source is paused until the
+ * broker acknowledges some of the records. The first failed send fails the whole transfer, the transfer completes only
+ * after all the records have been acknowledged.
+ */
+class KafkaDataSink implements DataSink {
 
-class KafkaDataSink extends ParallelSink implements Closeable {
+    private static final int DEFAULT_MAX_REQUEST_SIZE = 1024 * 1024;
 
+    private String requestId;
     private String topic;
     private Producer<String, byte[]> producer;
+    private ExecutorService executorService;
+    private Monitor monitor;
+    private int maxInFlight = 1000;
+    private int maxRecordSize = DEFAULT_MAX_REQUEST_SIZE;
+    private KafkaSinkMetrics metrics = KafkaSinkMetrics.noop();
 
     private KafkaDataSink() {
     }
 
     @Override
-    public void close() {
-        if (producer != null) {
-            producer.close();
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        try {
+            return supplyAsync(() -> publish(source), executorService);
+        } catch (Exception e) {
+            close();
+            var errorMessage = format("Error processing data transfer request - Request ID: %s", requestId);
+            monitor.severe(errorMessage, e);
+            return completedFuture(StreamResult.error(errorMessage));
         }
     }
 
-    @Override
-    protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
+    private StreamResult<Object> publish(DataSource source) {
+        var inFlight = new Semaphore(maxInFlight);
+        var sendFailure = new AtomicReference<Exception>();
+        try (var binding = metrics.bind(producer, topic)) {
+            var streamResult = source.openPartStream();
+            if (streamResult.failed()) {
+                return failure(streamResult.getFailure());
+            }
+
+            try (var parts = streamResult.getContent()) {
+                var iterator = parts.iterator();
+                while (iterator.hasNext() && sendFailure.get() == null) {
+                    var part = iterator.next();
+                    var value = read(part);
+                    if (value == null) {
+                        return StreamResult.error(format("Part %s exceeds the maximum record size of %d bytes", part.name(), maxRecordSize));
+                    }
+
+                    inFlight.acquire();
+                    binding.sending();
+                    producer.send(new ProducerRecord<>(topic, null, value), (metadata, exception) -> {
+                        inFlight.release();
+                        if (exception != null) {
+                            sendFailure.compareAndSet(null, exception);
+                            binding.failed();
+                        } else {
+                            binding.sent(value.length);
+                        }
+                    });
+                }
+            }
+
+            producer.flush();
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return StreamResult.error(format("Transfer %s to topic %s has been interrupted", requestId, topic));
+        } catch (Exception e) {
+            monitor.severe(format("Error publishing to topic %s - Request ID: %s", topic, requestId), e);
+            return StreamResult.error(format("Error publishing to topic %s: %s", topic, e.getMessage()));
+        } finally {
+            close();
+        }
+
+        var exception = sendFailure.get();
+        if (exception != null) {
+            monitor.warning(format("Failed to publish record to topic %s - Request ID: %s", topic, requestId), exception);
+            return StreamResult.error(format("Failed to publish record to topic %s: %s", topic, exception.getMessage()));
+        }
+
+        return StreamResult.success();
     }
 
-    private StreamResult<Object> publishPart(DataSource.Part part) {
+    /**
+     * Read the part content, at most {@link #maxRecordSize} bytes are buffered.
+     *
+     * @return the part content, null if it exceeds the maximum record size.
+     */
+    private byte[] read(DataSource.Part part) throws IOException {
+        if (part.size() > maxRecordSize) {
+            return null;
+        }
         try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
-                }
-            });
-            return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+            var bytes = is.readNBytes(maxRecordSize + 1);
+            return bytes.length > maxRecordSize ? null : bytes;
         }
     }
 
-    public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
+    private void close() {
+        if (producer != null) {
+            producer.close();
+        }
+    }
+
+    public static class Builder {
 
+        private final KafkaDataSink sink;
         private Properties producerProperties;
 
         public static Builder newInstance() {
@@ -75,7 +156,12 @@ class KafkaDataSink extends ParallelSink implements Closeable {
         }
 
         private Builder() {
-            super(new KafkaDataSink());
+            sink = new KafkaDataSink();
+        }
+
+        public Builder requestId(String requestId) {
+            sink.requestId = requestId;
+            return this;
         }
 
         public Builder topic(String topic) {
@@ -88,13 +174,46 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
-        @Override
-        protected void validate() {
+        public Builder producer(Producer<String, byte[]> producer) {
+            sink.producer = producer;
+            return this;
+        }
+
+        public Builder executorService(ExecutorService executorService) {
+            sink.executorService = executorService;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            sink.monitor = monitor;
+            return this;
+        }
+
+        public Builder maxInFlight(int maxInFlight) {
+            sink.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder metrics(KafkaSinkMetrics metrics) {
+            sink.metrics = metrics;
+            return this;
+        }
+
+        public KafkaDataSink build() {
+            Objects.requireNonNull(sink.requestId, "requestId");
+            Objects.requireNonNull(sink.executorService, "executorService");
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            if (sink.producer == null) {
+                Objects.requireNonNull(producerProperties, "producerProperties");
+                var maxRequestSize = producerProperties.get(ProducerConfig.MAX_REQUEST_SIZE_CONFIG);
+                if (maxRequestSize != null) {
+                    sink.maxRecordSize = Integer.parseInt(maxRequestSize.toString());
+                }
+                sink.producer = new KafkaProducer<>(producerProperties);
+            }
+            return sink;
         }
     }
 }
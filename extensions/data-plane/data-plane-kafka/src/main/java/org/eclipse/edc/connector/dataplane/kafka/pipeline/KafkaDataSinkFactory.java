@@ -38,14 +38,16 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final KafkaPropertiesFactory propertiesFactory;
     private final Validator<DataAddress> validation;
-    private final int partitionSize;
+    private final int maxInFlight;
+    private final KafkaSinkMetrics metrics;
 
-    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize) {
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int maxInFlight, KafkaSinkMetrics metrics) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
         this.validation = new KafkaDataAddressValidator();
-        this.partitionSize = partitionSize;
+        this.maxInFlight = maxInFlight;
+        this.metrics = metrics;
     }
 
     @Override
@@ -80,7 +82,8 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .requestId(request.getId())
                 .topic(destination.getStringProperty(TOPIC))
                 .producerProperties(producerProps)
-                .partitionSize(partitionSize)
+                .maxInFlight(maxInFlight)
+                .metrics(metrics)
                 .executorService(executorService)
                 .build();
     }
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.kafka.KafkaClientMetrics;
+import org.apache.kafka.clients.producer.Producer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects metrics of the {@link KafkaDataSink}: published records and bytes, failed sends and records waiting for the
+ * broker acknowledgement, all tagged by topic. The producer client metrics are bound as well for the duration of the
+ * transfer. If no {@link MeterRegistry} is available, nothing is collected.
+ */
+public class KafkaSinkMetrics {
+
+    private static final String RECORDS = "edc.dataplane.kafka.sink.records";
+    private static final String BYTES = "edc.dataplane.kafka.sink.bytes";
+    private static final String ERRORS = "edc.dataplane.kafka.sink.errors";
+    private static final String IN_FLIGHT = "edc.dataplane.kafka.sink.in-flight";
+    private static final String TOPIC_TAG = "topic";
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public KafkaSinkMetrics(@Nullable MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public static KafkaSinkMetrics noop() {
+        return new KafkaSinkMetrics(null);
+    }
+
+    Binding bind(Producer<?, ?> producer, String topic) {
+        if (registry == null) {
+            return new Binding() {
+            };
+        }
+
+        var tags = Tags.of(TOPIC_TAG, topic);
+        var clientMetrics = new KafkaClientMetrics(producer, tags);
+        clientMetrics.bindTo(registry);
+        var records = registry.counter(RECORDS, tags);
+        var bytes = registry.counter(BYTES, tags);
+        var errors = registry.counter(ERRORS, tags);
+        var pending = inFlight.computeIfAbsent(topic, t -> registry.gauge(IN_FLIGHT, tags, new AtomicInteger()));
+
+        return new Binding() {
+            @Override
+            public void sending() {
+                pending.incrementAndGet();
+            }
+
+            @Override
+            public void sent(int size) {
+                pending.decrementAndGet();
+                records.increment();
+                bytes.increment(size);
+            }
+
+            @Override
+            public void failed() {
+                pending.decrementAndGet();
+                errors.increment();
+            }
+
+            @Override
+            public void close() {
+                clientMetrics.close();
+            }
+        };
+    }
+
+    /**
+     * Metrics of a single transfer.
+     */
+    interface Binding extends AutoCloseable {
+
+        default void sending() {
+        }
+
+        default void sent(int size) {
+        }
+
+        default void failed() {
+        }
+
+        @Override
+        default void close() {
+        }
+    }
+}
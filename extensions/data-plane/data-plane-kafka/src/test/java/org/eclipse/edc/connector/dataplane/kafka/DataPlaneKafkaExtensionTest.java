@@ -14,17 +14,27 @@
 
 package org.eclipse.edc.connector.dataplane.kafka;
 
+import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.kafka.pipeline.KafkaDataSourceFactory;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Map;
+
+import static org.eclipse.edc.connector.dataplane.kafka.DataPlaneKafkaExtension.EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT;
+import static org.eclipse.edc.connector.dataplane.kafka.DataPlaneKafkaExtension.EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 class DataPlaneKafkaExtensionTest {
@@ -43,4 +53,29 @@ class DataPlaneKafkaExtensionTest {
         verify(pipelineService).registerFactory(any(KafkaDataSourceFactory.class));
     }
 
+    @Test
+    void shouldWarn_whenDeprecatedPartitionSizeIsConfigured(DataPlaneKafkaExtension extension, ServiceExtensionContext context) {
+        var monitor = mock(Monitor.class);
+        when(context.getMonitor()).thenReturn(monitor);
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE, "5")));
+
+        extension.initialize(context);
+
+        verify(monitor).warning(contains(EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE));
+        verify(pipelineService).registerFactory(any(KafkaDataSinkFactory.class));
+    }
+
+    @Test
+    void shouldNotWarn_whenNewSettingIsConfigured(DataPlaneKafkaExtension extension, ServiceExtensionContext context) {
+        var monitor = mock(Monitor.class);
+        when(context.getMonitor()).thenReturn(monitor);
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(
+                EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE, "5",
+                EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT, "100")));
+
+        extension.initialize(context);
+
+        verify(monitor, never()).warning(any());
+    }
+
 }
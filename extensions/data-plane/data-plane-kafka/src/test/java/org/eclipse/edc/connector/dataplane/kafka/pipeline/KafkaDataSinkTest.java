@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    private static final String TOPIC = "test-topic";
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final Monitor monitor = mock();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldPublishAllPartsInOrder() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer, 10);
+
+        var result = sink.transfer(source(3));
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        assertThat(producer.history()).extracting(r -> new String(r.value())).containsExactly("part-0", "part-1", "part-2");
+        assertThat(producer.history()).allSatisfy(r -> assertThat(r.topic()).isEqualTo(TOPIC));
+        assertThat(producer.closed()).isTrue();
+    }
+
+    @Test
+    void transfer_shouldFail_whenBrokerDoesNotAcknowledge() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer, 1);
+
+        var result = sink.transfer(source(3));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+        producer.errorNext(new RuntimeException("broker error"));
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(r -> {
+            assertThat(r.failed()).isTrue();
+            assertThat(r.getFailureDetail()).contains("broker error");
+        });
+        assertThat(producer.history()).hasSizeLessThan(3);
+        assertThat(producer.closed()).isTrue();
+    }
+
+    @Test
+    void transfer_shouldNotExceedMaxInFlightRecords() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer, 2);
+
+        var result = sink.transfer(source(5));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(2));
+        assertThat(result).isNotDone();
+
+        producer.completeNext();
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(3));
+        await().untilAsserted(() -> {
+            producer.completeNext();
+            assertThat(result).isDone();
+        });
+        assertThat(result.join().succeeded()).isTrue();
+        assertThat(producer.history()).hasSize(5);
+    }
+
+    @Test
+    void transfer_shouldFail_whenPartCannotBeRead() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer, 10);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.error("cannot open"));
+
+        var result = sink.transfer(source);
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(r -> assertThat(r.failed()).isTrue());
+        assertThat(producer.history()).isEmpty();
+        assertThat(producer.closed()).isTrue();
+    }
+
+    private KafkaDataSink createSink(MockProducer<String, byte[]> producer, int maxInFlight) {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId("request-id")
+                .topic(TOPIC)
+                .producer(producer)
+                .executorService(executorService)
+                .monitor(monitor)
+                .maxInFlight(maxInFlight)
+                .build();
+    }
+
+    private DataSource source(int parts) {
+        var source = mock(DataSource.class);
+        var content = IntStream.range(0, parts)
+                .mapToObj(i -> (DataSource.Part) new InputStreamDataSource("part-" + i, new ByteArrayInputStream(("part-" + i).getBytes())))
+                .collect(toList());
+        when(source.openPartStream()).thenReturn(StreamResult.success(content.stream()));
+        return source;
+    }
+}
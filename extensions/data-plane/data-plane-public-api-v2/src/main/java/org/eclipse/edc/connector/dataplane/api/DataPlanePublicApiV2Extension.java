@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.spi.Endpoint;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
@@ -27,12 +28,14 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 import org.eclipse.edc.web.spi.WebServer;
 import org.eclipse.edc.web.spi.WebService;
 import org.eclipse.edc.web.spi.configuration.ApiContext;
 import org.eclipse.edc.web.spi.configuration.WebServiceConfigurer;
 import org.eclipse.edc.web.spi.configuration.WebServiceSettings;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 /**
@@ -54,6 +57,13 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
     private static final String PUBLIC_ENDPOINT = "edc.dataplane.api.public.baseurl";
 
     private static final int DEFAULT_THREAD_POOL = 10;
+
+    @Setting(value = "Size of the thread pool used to stream the public API responses, ignored when virtual threads are enabled", type = "int", defaultValue = DEFAULT_THREAD_POOL + "")
+    private static final String PUBLIC_API_THREADS = "edc.dataplane.api.public.threads";
+
+    @Setting(value = "Stream every public API response on its own virtual thread instead of a fixed thread pool. Requires Java 21 or later", type = "boolean", defaultValue = "false")
+    private static final String PUBLIC_API_VIRTUAL_THREADS = "edc.dataplane.api.public.virtual-threads";
+
     private static final WebServiceSettings PUBLIC_SETTINGS = WebServiceSettings.Builder.newInstance()
             .apiConfigKey(PUBLIC_CONFIG_KEY)
             .contextAlias(ApiContext.PUBLIC)
@@ -86,6 +96,9 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
     @Inject
     private Hostname hostname;
 
+    @Inject
+    private TransferProgressListenerFactory progressListenerFactory;
+
     @Override
     public String name() {
         return NAME;
@@ -96,7 +109,7 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
         var config = context.getConfig(PUBLIC_CONFIG_KEY);
         var configuration = webServiceConfigurer.configure(config, webServer, PUBLIC_SETTINGS);
         var executorService = executorInstrumentation.instrument(
-                Executors.newFixedThreadPool(DEFAULT_THREAD_POOL),
+                responseExecutorService(context),
                 "Data plane proxy transfers"
         );
 
@@ -108,7 +121,17 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
         var endpoint = Endpoint.url(publicEndpoint);
         generatorService.addGeneratorFunction("HttpData", dataAddress -> endpoint);
 
-        var publicApiController = new DataPlanePublicApiV2Controller(pipelineService, executorService, authorizationService);
+        var publicApiController = new DataPlanePublicApiV2Controller(pipelineService, executorService, progressListenerFactory, authorizationService);
         webService.registerResource(ApiContext.PUBLIC, publicApiController);
     }
+
+    private ExecutorService responseExecutorService(ServiceExtensionContext context) {
+        if (context.getSetting(PUBLIC_API_VIRTUAL_THREADS, false)) {
+            if (VirtualThreads.isSupported()) {
+                return VirtualThreads.newVirtualThreadPerTaskExecutor();
+            }
+            context.getMonitor().warning("Virtual threads are not supported by the Java runtime, falling back to a fixed thread pool for the public API");
+        }
+        return Executors.newFixedThreadPool(context.getSetting(PUBLIC_API_THREADS, DEFAULT_THREAD_POOL));
+    }
 }
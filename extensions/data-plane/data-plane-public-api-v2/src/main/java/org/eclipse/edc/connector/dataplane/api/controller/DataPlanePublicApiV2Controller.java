@@ -34,6 +34,8 @@ import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 
 import java.util.HashMap;
@@ -55,15 +57,18 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
     private final PipelineService pipelineService;
     private final DataFlowRequestSupplier requestSupplier;
     private final ExecutorService executorService;
+    private final TransferProgressListenerFactory progressListenerFactory;
     private final DataPlaneAuthorizationService authorizationService;
 
     public DataPlanePublicApiV2Controller(PipelineService pipelineService,
                                           ExecutorService executorService,
+                                          TransferProgressListenerFactory progressListenerFactory,
                                           DataPlaneAuthorizationService authorizationService) {
         this.pipelineService = pipelineService;
         this.authorizationService = authorizationService;
         this.requestSupplier = new DataFlowRequestSupplier();
         this.executorService = executorService;
+        this.progressListenerFactory = progressListenerFactory;
     }
 
     private static Response error(Response.Status status, String error) {
@@ -167,7 +172,8 @@ public class DataPlanePublicApiV2Controller implements DataPlanePublicApiV2 {
             return response.resume(resp);
         };
 
-        var sink = new AsyncStreamingDataSink(asyncResponseContext, executorService);
+        var sink = new AsyncStreamingDataSink(asyncResponseContext, executorService, ParallelSink.DEFAULT_MAX_IN_FLIGHT,
+                progressListenerFactory.create(dataFlowStartMessage));
 
         pipelineService.transfer(dataFlowStartMessage, sink)
                 .whenComplete((result, throwable) -> {
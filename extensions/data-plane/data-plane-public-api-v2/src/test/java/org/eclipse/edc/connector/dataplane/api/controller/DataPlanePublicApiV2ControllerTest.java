@@ -23,6 +23,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListener;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -48,10 +50,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,11 +65,14 @@ class DataPlanePublicApiV2ControllerTest extends RestControllerTestBase {
     private final PipelineService pipelineService = mock();
     private final DataAddressResolver dataAddressResolver = mock();
     private final DataPlaneAuthorizationService authorizationService = mock();
+    private final TransferProgressListener progressListener = mock();
+    private final TransferProgressListenerFactory progressListenerFactory = mock();
 
     @BeforeEach
     void setup() {
         when(authorizationService.authorize(anyString(), anyMap()))
                 .thenReturn(Result.success(testDestAddress()));
+        when(progressListenerFactory.create(any())).thenReturn(progressListener);
     }
 
     @Test
@@ -162,11 +169,13 @@ class DataPlanePublicApiV2ControllerTest extends RestControllerTestBase {
         assertThat(request.getDestinationDataAddress().getType()).isEqualTo(AsyncStreamingDataSink.TYPE);
         assertThat(request.getSourceDataAddress().getType()).isEqualTo("test");
         assertThat(request.getProperties()).containsEntry("method", "POST").containsEntry("pathSegments", "any").containsEntry("queryParams", "foo=bar");
+        verify(progressListenerFactory).create(request);
+        verify(progressListener, timeout(1000)).onProgress(eq(1L), anyLong());
     }
 
     @Override
     protected Object controller() {
-        return new DataPlanePublicApiV2Controller(pipelineService, Executors.newSingleThreadExecutor(), authorizationService);
+        return new DataPlanePublicApiV2Controller(pipelineService, Executors.newSingleThreadExecutor(), progressListenerFactory, authorizationService);
     }
 
     private RequestSpecification baseRequest() {
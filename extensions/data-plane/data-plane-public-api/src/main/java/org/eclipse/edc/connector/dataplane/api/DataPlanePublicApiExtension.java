@@ -18,6 +18,7 @@ package org.eclipse.edc.connector.dataplane.api;
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiController;
 import org.eclipse.edc.connector.dataplane.api.validation.ConsumerPullTransferDataAddressResolver;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.http.spi.EdcHttpClient;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -83,6 +84,9 @@ public class DataPlanePublicApiExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private TransferProgressListenerFactory progressListenerFactory;
+
     @Override
     public String name() {
         return NAME;
@@ -99,7 +103,7 @@ public class DataPlanePublicApiExtension implements ServiceExtension {
                 "Data plane proxy transfers"
         );
         var monitor = context.getMonitor().withPrefix("DataPlane Public API");
-        var publicApiController = new DataPlanePublicApiController(pipelineService, dataAddressResolver, executorService, monitor);
+        var publicApiController = new DataPlanePublicApiController(pipelineService, dataAddressResolver, executorService, progressListenerFactory, monitor);
         webService.registerResource(ApiContext.PUBLIC, publicApiController);
 
         monitor.warning("This public API controller is scheduled for removal. Please consider upgrading your deployment " +
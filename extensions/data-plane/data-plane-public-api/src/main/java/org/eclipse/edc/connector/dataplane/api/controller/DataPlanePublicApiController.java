@@ -34,6 +34,8 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.spi.monitor.Monitor;
 
 import java.util.List;
@@ -55,15 +57,17 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
     private final DataAddressResolver dataAddressResolver;
     private final DataFlowRequestSupplier requestSupplier;
     private final ExecutorService executorService;
+    private final TransferProgressListenerFactory progressListenerFactory;
     private final Monitor monitor;
 
     public DataPlanePublicApiController(PipelineService pipelineService, DataAddressResolver dataAddressResolver,
-                                        ExecutorService executorService, Monitor monitor) {
+                                        ExecutorService executorService, TransferProgressListenerFactory progressListenerFactory, Monitor monitor) {
         this.pipelineService = pipelineService;
         this.dataAddressResolver = dataAddressResolver;
         this.monitor = monitor;
         this.requestSupplier = new DataFlowRequestSupplier();
         this.executorService = executorService;
+        this.progressListenerFactory = progressListenerFactory;
     }
 
     private static Response error(Response.Status status, String error) {
@@ -150,7 +154,8 @@ public class DataPlanePublicApiController implements DataPlanePublicApi {
             return response.resume(resp);
         };
 
-        var sink = new AsyncStreamingDataSink(asyncResponseContext, executorService);
+        var sink = new AsyncStreamingDataSink(asyncResponseContext, executorService, ParallelSink.DEFAULT_MAX_IN_FLIGHT,
+                progressListenerFactory.create(dataFlowRequest));
 
         pipelineService.transfer(dataFlowRequest, sink)
                 .whenComplete((result, throwable) -> {
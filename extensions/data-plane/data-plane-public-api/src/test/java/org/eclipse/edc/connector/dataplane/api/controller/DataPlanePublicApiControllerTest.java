@@ -22,6 +22,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.resolver.DataAddressResolver;
 import org.eclipse.edc.connector.dataplane.util.sink.AsyncStreamingDataSink;
+import org.eclipse.edc.connector.dataplane.util.sink.TransferProgressListenerFactory;
 import org.eclipse.edc.junit.annotations.ApiTest;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -55,6 +56,7 @@ class DataPlanePublicApiControllerTest extends RestControllerTestBase {
 
     private final PipelineService pipelineService = mock();
     private final DataAddressResolver dataAddressResolver = mock();
+    private final TransferProgressListenerFactory progressListenerFactory = TransferProgressListenerFactory.NOOP;
 
     @Test
     void should_returnBadRequest_if_missingAuthorizationHeader() {
@@ -154,7 +156,7 @@ class DataPlanePublicApiControllerTest extends RestControllerTestBase {
 
     @Override
     protected Object controller() {
-        return new DataPlanePublicApiController(pipelineService, dataAddressResolver, Executors.newSingleThreadExecutor(), mock());
+        return new DataPlanePublicApiController(pipelineService, dataAddressResolver, Executors.newSingleThreadExecutor(), progressListenerFactory, mock());
     }
 
     private RequestSpecification baseRequest() {
@@ -41,6 +41,8 @@ import static java.util.stream.Collectors.toSet;
 import static org.eclipse.edc.connector.dataplane.registration.DataplaneSelfRegistrationExtension.NAME;
 import static org.eclipse.edc.spi.types.domain.transfer.FlowType.PULL;
 import static org.eclipse.edc.spi.types.domain.transfer.FlowType.PUSH;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.PLAIN_JSON;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.SUPPORTED_MEDIA_TYPES;
 
 @Extension(NAME)
 public class DataplaneSelfRegistrationExtension implements ServiceExtension {
@@ -84,6 +86,7 @@ public class DataplaneSelfRegistrationExtension implements ServiceExtension {
                 .allowedSourceTypes(pipelineService.supportedSourceTypes())
                 .allowedDestTypes(pipelineService.supportedSinkTypes())
                 .allowedTransferType(transferTypes.collect(toSet()))
+                .property(SUPPORTED_MEDIA_TYPES, PLAIN_JSON)
                 .build();
 
 
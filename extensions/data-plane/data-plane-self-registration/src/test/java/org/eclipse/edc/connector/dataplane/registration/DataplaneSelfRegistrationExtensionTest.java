@@ -37,6 +37,8 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.PLAIN_JSON;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.SUPPORTED_MEDIA_TYPES;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -85,6 +87,7 @@ class DataplaneSelfRegistrationExtensionTest {
         assertThat(dataPlaneInstance.getAllowedDestTypes()).containsExactlyInAnyOrder("sinkType", "anotherSinkType");
         assertThat(dataPlaneInstance.getAllowedTransferTypes())
                 .containsExactlyInAnyOrder("pullDestType-PULL", "anotherPullDestType-PULL", "sinkType-PUSH", "anotherSinkType-PUSH");
+        assertThat(dataPlaneInstance.getProperties()).containsEntry(SUPPORTED_MEDIA_TYPES, PLAIN_JSON);
 
         verify(healthCheckService).addStartupStatusProvider(any());
         verify(healthCheckService).addLivenessProvider(any());
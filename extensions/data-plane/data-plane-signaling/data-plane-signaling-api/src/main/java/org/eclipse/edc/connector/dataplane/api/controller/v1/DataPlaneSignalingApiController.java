@@ -26,6 +26,7 @@ import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
@@ -34,6 +35,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 
 import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.PLAIN_JSON;
 
 @Consumes({ MediaType.APPLICATION_JSON })
 @Produces({ MediaType.APPLICATION_JSON })
@@ -57,19 +59,26 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
                 .onFailure(f -> monitor.warning("Error transforming %s: %s".formatted(DataFlowStartMessage.class, f.getFailureDetail())))
                 .orElseThrow(InvalidRequestException::new);
 
-        dataPlaneManager.validate(startMsg)
-                .onFailure(f -> monitor.warning("Failed to validate request: %s".formatted(f.getFailureDetail())))
-                .orElseThrow(f -> f.getMessages().isEmpty() ?
-                        new InvalidRequestException("Failed to validate request: %s".formatted(startMsg.getId())) :
-                        new InvalidRequestException(f.getMessages()));
-
-        var response = dataPlaneManager.start(startMsg)
-                .orElseThrow(f -> new InvalidRequestException(f.getFailureDetail()));
+        var response = startDataFlow(startMsg);
 
         return typeTransformerRegistry.transform(response, JsonObject.class)
                 .orElseThrow(f -> new EdcException(f.getFailureDetail()));
     }
 
+    /**
+     * Plain JSON variant of {@link #start(JsonObject)}: the message is bound directly, without JSON-LD expansion and
+     * transformation, and so is the response.
+     */
+    @POST
+    @Consumes(PLAIN_JSON)
+    @Produces(PLAIN_JSON)
+    public DataFlowResponseMessage startPlain(DataFlowStartMessage dataFlowStartMessage) {
+        if (dataFlowStartMessage == null) {
+            throw new InvalidRequestException("Missing DataFlowStartMessage");
+        }
+        return startDataFlow(dataFlowStartMessage);
+    }
+
     @GET
     @Path("/{id}/state")
     @Override
@@ -106,10 +115,36 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
         dataPlaneManager.suspend(id).orElseThrow(InvalidRequestException::new);
     }
 
+    @POST
+    @Path("/{id}/terminate")
+    @Consumes(PLAIN_JSON)
+    public void terminatePlain(@PathParam("id") String dataFlowId, DataFlowTerminateMessage terminationMessage) {
+        var reason = terminationMessage != null ? terminationMessage.getReason() : null;
+        dataPlaneManager.terminate(dataFlowId, reason).orElseThrow(InvalidRequestException::new);
+    }
+
+    @POST
+    @Path("/{id}/suspend")
+    @Consumes(PLAIN_JSON)
+    public void suspendPlain(@PathParam("id") String id, DataFlowSuspendMessage suspendMessage) {
+        dataPlaneManager.suspend(id).orElseThrow(InvalidRequestException::new);
+    }
+
     @Override
     @Path("/check")
     @GET
     public void checkAvailability() {
 
     }
+
+    private DataFlowResponseMessage startDataFlow(DataFlowStartMessage startMsg) {
+        dataPlaneManager.validate(startMsg)
+                .onFailure(f -> monitor.warning("Failed to validate request: %s".formatted(f.getFailureDetail())))
+                .orElseThrow(f -> f.getMessages().isEmpty() ?
+                        new InvalidRequestException("Failed to validate request: %s".formatted(startMsg.getId())) :
+                        new InvalidRequestException(f.getMessages()));
+
+        return dataPlaneManager.start(startMsg)
+                .orElseThrow(f -> new InvalidRequestException(f.getFailureDetail()));
+    }
 }
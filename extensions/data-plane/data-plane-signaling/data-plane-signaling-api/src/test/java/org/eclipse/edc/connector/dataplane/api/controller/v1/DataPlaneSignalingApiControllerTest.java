@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.api.controller.v1;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
 import jakarta.json.Json;
@@ -45,11 +46,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
 import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.PLAIN_JSON;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -262,6 +266,47 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
 
     }
 
+    @Nested
+    class PlainJson {
+
+        @Test
+        void start_shouldBindMessageWithoutTransformation() throws JsonProcessingException {
+            var flowStartMessage = createFlowStartMessage();
+            var flowResponse = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("test-edr").build()).build();
+            when(dataplaneManager.validate(any())).thenReturn(success(true));
+            when(dataplaneManager.start(any())).thenReturn(success(flowResponse));
+
+            var result = baseRequest()
+                    .contentType(PLAIN_JSON)
+                    .accept(PLAIN_JSON)
+                    .body(objectMapper.writeValueAsString(flowStartMessage))
+                    .post("/v1/dataflows")
+                    .then()
+                    .statusCode(200)
+                    .extract().body().asString();
+
+            assertThat(objectMapper.readValue(result, DataFlowResponseMessage.class).getDataAddress().getType()).isEqualTo("test-edr");
+            verify(dataplaneManager).start(argThat(message -> message.getProcessId().equals(flowStartMessage.getProcessId())));
+            verifyNoInteractions(transformerRegistry);
+        }
+
+        @Test
+        void terminate_shouldReturn204() {
+            var flowId = "test-id";
+            when(dataplaneManager.terminate(eq(flowId), any())).thenReturn(StatusResult.success());
+
+            baseRequest()
+                    .contentType(PLAIN_JSON)
+                    .body("{\"reason\": \"test-reason\"}")
+                    .post("/v1/dataflows/%s/terminate".formatted(flowId))
+                    .then()
+                    .statusCode(204);
+
+            verify(dataplaneManager).terminate(flowId, "test-reason");
+            verifyNoInteractions(transformerRegistry);
+        }
+    }
+
     @Nested
     class CheckAvailability {
         @Test
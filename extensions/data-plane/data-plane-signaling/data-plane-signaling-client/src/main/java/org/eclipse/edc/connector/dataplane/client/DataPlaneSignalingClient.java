@@ -35,21 +35,32 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowResponseMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowSuspendMessage;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowTerminateMessage;
+import org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.PLAIN_JSON;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.SUPPORTED_MEDIA_TYPES;
 
 /**
  * Implementation of a {@link DataPlaneClient} that uses a remote {@link DataPlaneManager} accessible from a REST API using
  * the data plane signaling protocol.
+ * <p>
+ * When plain JSON is enabled and the data plane instance advertises {@link SignalingMediaTypes#PLAIN_JSON}, messages are
+ * sent as plain JSON, skipping JSON-LD compaction and transformation. If the data plane answers with
+ * {@code 415 Unsupported Media Type} the message is sent again as JSON-LD.
  */
 public class DataPlaneSignalingClient implements DataPlaneClient {
     public static final MediaType TYPE_JSON = MediaType.parse("application/json");
+    public static final MediaType TYPE_PLAIN_JSON = MediaType.parse(PLAIN_JSON);
+    private static final int UNSUPPORTED_MEDIA_TYPE = 415;
     private final EdcHttpClient httpClient;
     private final DataPlaneInstance dataPlane;
     private final ControlClientAuthenticationProvider authenticationProvider;
@@ -57,40 +68,51 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
     private final JsonLd jsonLd;
 
     private final ObjectMapper mapper;
+    private final boolean plainJson;
 
     public DataPlaneSignalingClient(EdcHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd,
                                     ObjectMapper mapper, DataPlaneInstance dataPlane,
                                     ControlClientAuthenticationProvider authenticationProvider) {
+        this(httpClient, transformerRegistry, jsonLd, mapper, dataPlane, authenticationProvider, false);
+    }
+
+    public DataPlaneSignalingClient(EdcHttpClient httpClient, TypeTransformerRegistry transformerRegistry, JsonLd jsonLd,
+                                    ObjectMapper mapper, DataPlaneInstance dataPlane,
+                                    ControlClientAuthenticationProvider authenticationProvider, boolean plainJsonEnabled) {
         this.httpClient = httpClient;
         this.transformerRegistry = transformerRegistry;
         this.jsonLd = jsonLd;
         this.mapper = mapper;
         this.dataPlane = dataPlane;
         this.authenticationProvider = authenticationProvider;
+        this.plainJson = plainJsonEnabled && supportsPlainJson(dataPlane);
     }
 
     @WithSpan
     @Override
     public StatusResult<DataFlowResponseMessage> start(DataFlowStartMessage message) {
         var url = dataPlane.getUrl().toString();
-        return createRequestBuilder(message, url)
+        Supplier<StatusResult<DataFlowResponseMessage>> jsonLdStart = () -> createRequestBuilder(message, url)
                 .compose(builder -> send(builder, message.getProcessId(), this::handleStartResponse));
+        if (plainJson) {
+            return createPlainRequestBuilder(message, url)
+                    .compose(builder -> send(builder, message.getProcessId(), this::handlePlainStartResponse, jsonLdStart));
+        }
+        return jsonLdStart.get();
     }
 
     @Override
     public StatusResult<Void> suspend(String transferProcessId) {
         var url = "%s/%s/suspend".formatted(dataPlane.getUrl(), transferProcessId);
         var message = DataFlowSuspendMessage.Builder.newInstance().build();
-        return createRequestBuilder(message, url)
-                .compose(builder -> send(builder, transferProcessId, r -> StatusResult.success()));
+        return post(message, url, transferProcessId);
     }
 
     @Override
     public StatusResult<Void> terminate(String transferProcessId) {
         var url = "%s/%s/terminate".formatted(dataPlane.getUrl(), transferProcessId);
         var message = DataFlowTerminateMessage.Builder.newInstance().build();
-        return createRequestBuilder(message, url)
-                .compose(builder -> send(builder, transferProcessId, r -> StatusResult.success()));
+        return post(message, url, transferProcessId);
     }
 
     @Override
@@ -99,17 +121,33 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
         return send(requestBuilder, null, it -> StatusResult.success());
     }
 
+    private StatusResult<Void> post(Object message, String url, String transferProcessId) {
+        Supplier<StatusResult<Void>> jsonLdPost = () -> createRequestBuilder(message, url)
+                .compose(builder -> send(builder, transferProcessId, r -> StatusResult.success()));
+        if (plainJson) {
+            return createPlainRequestBuilder(message, url)
+                    .compose(builder -> send(builder, transferProcessId, r -> StatusResult.success(), jsonLdPost));
+        }
+        return jsonLdPost.get();
+    }
+
     private <T> StatusResult<T> send(Request.Builder requestBuilder, String processId, Function<Response, StatusResult<T>> handleStartResponse) {
+        return send(requestBuilder, processId, handleStartResponse, null);
+    }
+
+    private <T> StatusResult<T> send(Request.Builder requestBuilder, String processId, Function<Response, StatusResult<T>> handleStartResponse,
+                                     Supplier<StatusResult<T>> onUnsupportedMediaType) {
         authenticationProvider.authenticationHeaders().forEach(requestBuilder::header);
         try (var response = httpClient.execute(requestBuilder.build())) {
             if (response.isSuccessful()) {
                 return handleStartResponse.apply(response);
-            } else {
+            } else if (response.code() != UNSUPPORTED_MEDIA_TYPE || onUnsupportedMediaType == null) {
                 return StatusResult.failure(FATAL_ERROR, format("Transfer request failed with status code %s for request %s", response.code(), processId));
             }
         } catch (IOException e) {
             return StatusResult.failure(FATAL_ERROR, e.getMessage());
         }
+        return onUnsupportedMediaType.get();
     }
 
     private StatusResult<Request.Builder> createRequestBuilder(Object message, String url) {
@@ -127,6 +165,30 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
                 });
     }
 
+    private StatusResult<Request.Builder> createPlainRequestBuilder(Object message, String url) {
+        return serializeMessage(message)
+                .map(rawBody -> RequestBody.create(rawBody, TYPE_PLAIN_JSON))
+                .map(body -> new Request.Builder().post(body).url(url).header("Accept", PLAIN_JSON))
+                .flatMap(it -> {
+                    if (it.succeeded()) {
+                        return StatusResult.success(it.getContent());
+                    } else {
+                        return StatusResult.failure(FATAL_ERROR, it.getFailureDetail());
+                    }
+                });
+    }
+
+    private StatusResult<DataFlowResponseMessage> handlePlainStartResponse(Response response) {
+        try (var body = response.body()) {
+            if (body == null) {
+                return StatusResult.failure(FATAL_ERROR, "Body missing");
+            }
+            return StatusResult.success(mapper.readValue(body.string(), DataFlowResponseMessage.class));
+        } catch (IOException e) {
+            return StatusResult.failure(FATAL_ERROR, e.getMessage());
+        }
+    }
+
     private StatusResult<DataFlowResponseMessage> handleStartResponse(Response response) {
         try (var body = response.body()) {
             return Optional.ofNullable(body)
@@ -159,4 +221,12 @@ public class DataPlaneSignalingClient implements DataPlaneClient {
         }
     }
 
+    private static boolean supportsPlainJson(DataPlaneInstance dataPlane) {
+        var mediaTypes = dataPlane.getProperties().get(SUPPORTED_MEDIA_TYPES);
+        if (mediaTypes instanceof Collection<?> collection) {
+            return collection.contains(PLAIN_JSON);
+        }
+        return PLAIN_JSON.equals(mediaTypes);
+    }
+
 }
@@ -23,6 +23,7 @@ import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -39,6 +40,12 @@ import static org.eclipse.edc.spi.constants.CoreConstants.JSON_LD;
 public class DataPlaneSignalingClientExtension implements ServiceExtension {
     public static final String NAME = "Data Plane Signaling Client";
 
+    private static final boolean DEFAULT_PLAIN_JSON_ENABLED = false;
+
+    @Setting(value = "Send signaling messages as plain JSON instead of JSON-LD to the data planes that advertise support for it",
+            type = "boolean", defaultValue = DEFAULT_PLAIN_JSON_ENABLED + "")
+    private static final String PLAIN_JSON_ENABLED = "edc.dataplane.client.signaling.plain-json.enabled";
+
     @Inject(required = false)
     private EdcHttpClient httpClient;
     @Inject
@@ -70,8 +77,9 @@ public class DataPlaneSignalingClientExtension implements ServiceExtension {
         context.getMonitor().debug(() -> "Using remote Data Plane client.");
         Objects.requireNonNull(httpClient, "To use remote Data Plane client, an EdcHttpClient instance must be registered");
         var signalingApiTypeTransformerRegistry = transformerRegistry.forContext("signaling-api");
+        var plainJsonEnabled = context.getSetting(PLAIN_JSON_ENABLED, DEFAULT_PLAIN_JSON_ENABLED);
         return instance -> new DataPlaneSignalingClient(httpClient, signalingApiTypeTransformerRegistry, jsonLd, mapper,
-                instance, authenticationProvider);
+                instance, authenticationProvider, plainJsonEnabled);
     }
 }
 
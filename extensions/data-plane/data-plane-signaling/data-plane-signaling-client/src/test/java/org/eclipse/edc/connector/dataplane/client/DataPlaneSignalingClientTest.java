@@ -65,6 +65,8 @@ import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VOCAB;
 import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.PLAIN_JSON;
+import static org.eclipse.edc.spi.types.domain.transfer.SignalingMediaTypes.SUPPORTED_MEDIA_TYPES;
 import static org.eclipse.edc.util.io.Ports.getFreePort;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -388,4 +390,81 @@ class DataPlaneSignalingClientTest {
             assertThat(result).isFailed();
         }
     }
+
+    @Nested
+    class PlainJson {
+
+        private final DataPlaneInstance plainJsonInstance = DataPlaneInstance.Builder.newInstance().url(DATA_PLANE_API_URI)
+                .property(SUPPORTED_MEDIA_TYPES, PLAIN_JSON).build();
+
+        @Test
+        void start_shouldSendPlainJson_whenEnabledAndSupportedByDataPlane() throws JsonProcessingException {
+            var client = new DataPlaneSignalingClient(testHttpClient(), TRANSFORMER_REGISTRY, JSON_LD, MAPPER, plainJsonInstance,
+                    authenticationProvider, true);
+            var flowResponse = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("type").build()).build();
+            var httpRequest = request().withMethod("POST").withPath(DATA_PLANE_PATH).withHeader("Accept", PLAIN_JSON);
+            dataPlane.when(httpRequest, once()).respond(response().withBody(MAPPER.writeValueAsString(flowResponse)).withStatusCode(200));
+
+            var result = client.start(createStartMessage());
+
+            dataPlane.verify(httpRequest, VerificationTimes.once());
+            assertThat(result).isSucceeded().extracting(DataFlowResponseMessage::getDataAddress)
+                    .extracting(DataAddress::getType).isEqualTo("type");
+        }
+
+        @Test
+        void start_shouldFallbackToJsonLd_whenDataPlaneDoesNotSupportPlainJson() throws JsonProcessingException {
+            var client = new DataPlaneSignalingClient(testHttpClient(), TRANSFORMER_REGISTRY, JSON_LD, MAPPER, plainJsonInstance,
+                    authenticationProvider, true);
+            var flowResponse = DataFlowResponseMessage.Builder.newInstance().dataAddress(DataAddress.Builder.newInstance().type("type").build()).build();
+            var jsonLdResponse = TRANSFORMER_REGISTRY.transform(flowResponse, JsonObject.class)
+                    .compose(JSON_LD::compact)
+                    .orElseThrow((e) -> new EdcException(e.getFailureDetail()));
+            var plainJsonRequest = request().withMethod("POST").withPath(DATA_PLANE_PATH).withHeader("Accept", PLAIN_JSON);
+            dataPlane.when(plainJsonRequest, once()).respond(response().withStatusCode(415));
+            dataPlane.when(request().withMethod("POST").withPath(DATA_PLANE_PATH), once())
+                    .respond(response().withBody(MAPPER.writeValueAsString(jsonLdResponse)).withStatusCode(200));
+
+            var result = client.start(createStartMessage());
+
+            dataPlane.verify(request().withPath(DATA_PLANE_PATH), VerificationTimes.exactly(2));
+            assertThat(result).isSucceeded().extracting(DataFlowResponseMessage::getDataAddress).isNotNull();
+        }
+
+        @Test
+        void terminate_shouldSendPlainJson_whenEnabledAndSupportedByDataPlane() {
+            var client = new DataPlaneSignalingClient(testHttpClient(), TRANSFORMER_REGISTRY, JSON_LD, MAPPER, plainJsonInstance,
+                    authenticationProvider, true);
+            var httpRequest = request().withMethod("POST").withPath(DATA_PLANE_PATH + "/processId/terminate").withHeader("Accept", PLAIN_JSON);
+            dataPlane.when(httpRequest, once()).respond(response().withStatusCode(NO_CONTENT_204.code()));
+
+            var result = client.terminate("processId");
+
+            assertThat(result).isSucceeded();
+            dataPlane.verify(httpRequest, VerificationTimes.once());
+        }
+
+        @Test
+        void shouldUseJsonLd_whenDataPlaneDoesNotAdvertisePlainJson() {
+            var client = new DataPlaneSignalingClient(testHttpClient(), TRANSFORMER_REGISTRY, JSON_LD, MAPPER, instance,
+                    authenticationProvider, true);
+            dataPlane.when(request().withMethod("POST").withPath(DATA_PLANE_PATH + "/processId/suspend"), once())
+                    .respond(response().withStatusCode(NO_CONTENT_204.code()));
+
+            var result = client.suspend("processId");
+
+            assertThat(result).isSucceeded();
+            dataPlane.verify(request().withHeader("Accept", PLAIN_JSON), VerificationTimes.never());
+        }
+
+        private DataFlowStartMessage createStartMessage() {
+            return DataFlowStartMessage.Builder.newInstance()
+                    .id("123")
+                    .processId("456")
+                    .flowType(FlowType.PULL)
+                    .sourceDataAddress(DataAddress.Builder.newInstance().type("test").build())
+                    .destinationDataAddress(DataAddress.Builder.newInstance().type("test").build())
+                    .build();
+        }
+    }
 }
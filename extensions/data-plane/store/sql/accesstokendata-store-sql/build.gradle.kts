@@ -23,6 +23,7 @@ dependencies {
 
     implementation(project(":spi:common:transaction-datasource-spi"))
     implementation(project(":extensions:common:sql:sql-core"))
+    implementation(project(":core:common:lib:util-lib"))
 
     testImplementation(project(":core:common:junit"))
     testImplementation(testFixtures(project(":spi:data-plane:data-plane-spi")))
@@ -19,9 +19,16 @@ CREATE TABLE IF NOT EXISTS edc_accesstokendata
     id           VARCHAR NOT NULL PRIMARY KEY,
     claim_token  JSON    NOT NULL,
     data_address JSON    NOT NULL,
-    additional_properties JSON DEFAULT '{}'
+    additional_properties JSON DEFAULT '{}',
+    process_id   VARCHAR
 );
 
+CREATE INDEX IF NOT EXISTS accesstokendata_process_id_index ON edc_accesstokendata (process_id);
+
 COMMENT ON COLUMN edc_accesstokendata.claim_token IS 'ClaimToken serialized as JSON map';
 COMMENT ON COLUMN edc_accesstokendata.data_address IS 'DataAddress serialized as JSON map';
 COMMENT ON COLUMN edc_accesstokendata.additional_properties IS 'Optional Additional properties serialized as JSON map';
+COMMENT ON COLUMN edc_accesstokendata.process_id IS 'ID of the transfer process, copied from the process_id additional property';
+
+-- existing rows created before the process_id column was added need to be backfilled once:
+-- UPDATE edc_accesstokendata SET process_id = additional_properties ->> 'process_id' WHERE process_id IS NULL;
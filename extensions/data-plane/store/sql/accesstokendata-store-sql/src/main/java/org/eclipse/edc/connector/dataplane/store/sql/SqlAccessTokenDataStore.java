@@ -36,6 +36,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
@@ -133,7 +134,8 @@ public class SqlAccessTokenDataStore extends AbstractSqlStore implements AccessT
                 dataFlow.id(),
                 toJson(dataFlow.claimToken()),
                 toJson(dataFlow.dataAddress()),
-                toJson(dataFlow.additionalProperties())
+                toJson(dataFlow.additionalProperties()),
+                processId(dataFlow)
         );
     }
 
@@ -145,10 +147,18 @@ public class SqlAccessTokenDataStore extends AbstractSqlStore implements AccessT
                 toJson(data.claimToken()),
                 toJson(data.dataAddress()),
                 toJson(data.additionalProperties()),
+                processId(data),
                 data.id()
         );
     }
 
+    private @Nullable String processId(AccessTokenData data) {
+        return Optional.ofNullable(data.additionalProperties())
+                .map(properties -> properties.get(AccessTokenData.PROCESS_ID))
+                .map(Object::toString)
+                .orElse(null);
+    }
+
 
     private AccessTokenData mapAccessTokenData(ResultSet resultSet) throws SQLException {
         var claimToken = fromJson(resultSet.getString(statements.getClaimTokenColumn()), ClaimToken.class);
@@ -43,6 +43,10 @@ public interface AccessTokenDataStatements extends SqlStatements {
         return "additional_properties";
     }
 
+    default String getProcessIdColumn() {
+        return "process_id";
+    }
+
     String getInsertTemplate();
 
     String getSelectTemplate();
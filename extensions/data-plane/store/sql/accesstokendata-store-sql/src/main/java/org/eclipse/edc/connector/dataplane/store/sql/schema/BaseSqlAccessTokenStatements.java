@@ -34,6 +34,7 @@ public class BaseSqlAccessTokenStatements implements AccessTokenDataStatements {
                 .jsonColumn(getClaimTokenColumn())
                 .jsonColumn(getDataAddressColumn())
                 .jsonColumn(getAdditionalPropertiesColumn())
+                .column(getProcessIdColumn())
                 .insertInto(getTableName());
     }
 
@@ -55,6 +56,7 @@ public class BaseSqlAccessTokenStatements implements AccessTokenDataStatements {
                 .jsonColumn(getClaimTokenColumn())
                 .jsonColumn(getDataAddressColumn())
                 .jsonColumn(getAdditionalPropertiesColumn())
+                .column(getProcessIdColumn())
                 .update(getTableName(), getIdColumn());
     }
 
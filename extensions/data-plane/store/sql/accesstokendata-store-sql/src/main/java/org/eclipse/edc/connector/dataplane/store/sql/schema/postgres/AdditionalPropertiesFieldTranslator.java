@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.store.sql.schema.postgres;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.PlainColumnFieldTranslator;
+import org.eclipse.edc.sql.translation.SqlOperator;
+import org.eclipse.edc.sql.translation.WhereClause;
+import org.eclipse.edc.util.reflection.PathItem;
+
+import java.util.List;
+
+/**
+ * Translates paths into the additional properties JSON column, except for the {@link AccessTokenData#PROCESS_ID} property,
+ * which is mapped onto its own indexed column.
+ */
+public class AdditionalPropertiesFieldTranslator extends JsonFieldTranslator {
+
+    private final PlainColumnFieldTranslator processIdTranslator;
+
+    public AdditionalPropertiesFieldTranslator(String columnName, String processIdColumnName) {
+        super(columnName);
+        this.processIdTranslator = new PlainColumnFieldTranslator(processIdColumnName);
+    }
+
+    @Override
+    public String getLeftOperand(List<PathItem> path, Class<?> type) {
+        if (isProcessId(path)) {
+            return processIdTranslator.getLeftOperand(path, type);
+        }
+        return super.getLeftOperand(path, type);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        if (isProcessId(path)) {
+            return processIdTranslator.toWhereClause(path, criterion, operator);
+        }
+        return super.toWhereClause(path, criterion, operator);
+    }
+
+    private boolean isProcessId(List<PathItem> path) {
+        return path.size() == 1 && AccessTokenData.PROCESS_ID.equals(path.get(0).toString());
+    }
+}
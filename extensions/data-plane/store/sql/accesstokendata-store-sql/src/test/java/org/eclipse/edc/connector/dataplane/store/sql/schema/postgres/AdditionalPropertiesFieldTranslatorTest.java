@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.store.sql.schema.postgres;
+
+import org.eclipse.edc.sql.translation.SqlOperator;
+import org.eclipse.edc.util.reflection.PathItem;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class AdditionalPropertiesFieldTranslatorTest {
+
+    private final AdditionalPropertiesFieldTranslator translator = new AdditionalPropertiesFieldTranslator("additional_properties", "process_id");
+
+    @Test
+    void shouldUseProcessIdColumn_whenPathIsProcessId() {
+        var path = PathItem.parse("process_id");
+
+        var result = translator.toWhereClause(path, criterion("additionalProperties.process_id", "=", "value"), new SqlOperator("=", Object.class));
+
+        assertThat(result.sql()).isEqualTo("process_id = ?");
+        assertThat(result.parameters()).containsExactly("value");
+    }
+
+    @Test
+    void shouldUseJsonColumn_whenPathIsOtherProperty() {
+        var path = PathItem.parse("participant_id");
+
+        var result = translator.toWhereClause(path, criterion("additionalProperties.participant_id", "=", "value"), new SqlOperator("=", Object.class));
+
+        assertThat(result.sql()).isEqualTo("additional_properties ->> 'participant_id' = ?");
+        assertThat(result.parameters()).containsExactly("value");
+    }
+}
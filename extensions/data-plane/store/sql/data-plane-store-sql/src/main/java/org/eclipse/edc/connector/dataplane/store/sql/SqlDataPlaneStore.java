@@ -117,6 +117,20 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         });
     }
 
+    @Override
+    public StoreResult<Void> renewLease(String id) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                leaseContext.withConnection(connection).renewLease(id);
+                return StoreResult.success();
+            } catch (IllegalStateException e) {
+                return StoreResult.notFound(format("DataFlow %s is not leased by this runtime", id));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public void save(DataFlow entity) {
         transactionContext.execute(() -> {
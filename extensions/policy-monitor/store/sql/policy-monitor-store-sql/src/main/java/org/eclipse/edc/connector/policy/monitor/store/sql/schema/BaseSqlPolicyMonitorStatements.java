@@ -40,6 +40,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
+                .column(getNextEvaluationColumn())
                 .insertInto(getPolicyMonitorTable());
     }
 
@@ -53,6 +54,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
+                .column(getNextEvaluationColumn())
                 .update(getPolicyMonitorTable(), getIdColumn());
     }
 
@@ -25,6 +25,7 @@ public class PolicyMonitorMapping extends StatefulEntityMapping {
     public PolicyMonitorMapping(PolicyMonitorStatements statements) {
         super(statements);
         add("contractId", statements.getContractIdColumn());
+        add("nextEvaluation", statements.getNextEvaluationColumn());
     }
 
 }
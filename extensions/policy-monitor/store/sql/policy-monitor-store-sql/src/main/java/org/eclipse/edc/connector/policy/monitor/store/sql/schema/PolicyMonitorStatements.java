@@ -33,6 +33,10 @@ public interface PolicyMonitorStatements extends StatefulEntityStatements, Lease
         return "contract_id";
     }
 
+    default String getNextEvaluationColumn() {
+        return "next_evaluation";
+    }
+
     String getInsertTemplate();
 
     String getUpdateTemplate();
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.eclipse.edc.spi.response.StatusResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Delivers {@link OutboxEntry}s of a specific channel to their destination.
+ */
+public interface OutboxDeliveryHandler {
+
+    /**
+     * The channel handled by this handler, see {@link OutboxEntry#getChannel()}.
+     *
+     * @return the channel.
+     */
+    String channel();
+
+    /**
+     * Deliver a batch of entries, all of them with the same destination, ordered by creation time.
+     * The batch is considered either delivered or failed as a whole. A failure with
+     * {@link org.eclipse.edc.spi.response.ResponseStatus#FATAL_ERROR} means that the batch can never be delivered, so
+     * it won't be retried.
+     *
+     * @param destination the destination.
+     * @param entries the entries.
+     * @return a future that completes with the delivery outcome.
+     */
+    CompletableFuture<StatusResult<Void>> deliver(String destination, List<OutboxEntry> entries);
+
+}
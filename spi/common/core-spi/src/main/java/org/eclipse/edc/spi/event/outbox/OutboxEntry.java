@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A message that has been persisted to the outbox and that is waiting to be delivered by the {@link OutboxRelay}.
+ * <p>
+ * The entry is written in the same transaction as the state change that originated it, the delivery happens
+ * asynchronously grouping entries of the same {@link #getChannel()} and {@link #getDestination()} in batches.
+ */
+public class OutboxEntry {
+
+    private String id;
+    private String channel;
+    private String destination;
+    private String type;
+    private String payload;
+    private long createdAt;
+    private long nextAttemptAt;
+    private int attempts;
+    private String errorDetail;
+
+    private OutboxEntry() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The channel identifies the {@link OutboxDeliveryHandler} that will deliver the entry.
+     *
+     * @return the channel.
+     */
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * The endpoint the entry will be delivered to, entries with the same destination can be delivered in batch.
+     *
+     * @return the destination.
+     */
+    public String getDestination() {
+        return destination;
+    }
+
+    /**
+     * Type of the payload, it can be used by the {@link OutboxDeliveryHandler} to deserialize it.
+     *
+     * @return the payload type.
+     */
+    public String getType() {
+        return type;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Epoch millis after which the entry can be picked up for delivery.
+     *
+     * @return the next attempt timestamp.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getErrorDetail() {
+        return errorDetail;
+    }
+
+    /**
+     * Register a failed delivery attempt, rescheduling the entry at the given time.
+     *
+     * @param nextAttemptAt the next attempt timestamp.
+     * @param errorDetail the failure detail.
+     */
+    public void failed(long nextAttemptAt, String errorDetail) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.errorDetail = errorDetail;
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .channel(channel)
+                .destination(destination)
+                .type(type)
+                .payload(payload)
+                .createdAt(createdAt)
+                .nextAttemptAt(nextAttemptAt)
+                .attempts(attempts)
+                .errorDetail(errorDetail);
+    }
+
+    public static class Builder {
+
+        private final OutboxEntry entry;
+
+        private Builder(OutboxEntry entry) {
+            this.entry = entry;
+        }
+
+        public static Builder newInstance() {
+            return new Builder(new OutboxEntry());
+        }
+
+        public Builder id(String id) {
+            entry.id = id;
+            return this;
+        }
+
+        public Builder channel(String channel) {
+            entry.channel = channel;
+            return this;
+        }
+
+        public Builder destination(String destination) {
+            entry.destination = destination;
+            return this;
+        }
+
+        public Builder type(String type) {
+            entry.type = type;
+            return this;
+        }
+
+        public Builder payload(String payload) {
+            entry.payload = payload;
+            return this;
+        }
+
+        public Builder createdAt(long createdAt) {
+            entry.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            entry.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            entry.attempts = attempts;
+            return this;
+        }
+
+        public Builder errorDetail(String errorDetail) {
+            entry.errorDetail = errorDetail;
+            return this;
+        }
+
+        public OutboxEntry build() {
+            if (entry.id == null) {
+                entry.id = UUID.randomUUID().toString();
+            }
+            Objects.requireNonNull(entry.channel, "channel");
+            Objects.requireNonNull(entry.destination, "destination");
+            Objects.requireNonNull(entry.payload, "payload");
+            if (entry.nextAttemptAt == 0) {
+                entry.nextAttemptAt = entry.createdAt;
+            }
+            return entry;
+        }
+    }
+}
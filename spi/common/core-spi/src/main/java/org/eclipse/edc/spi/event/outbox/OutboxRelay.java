@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Background process that picks up entries from the {@link OutboxStore} and delivers them through the
+ * {@link OutboxDeliveryHandler} registered for their channel, retrying with back-off on failure.
+ */
+@ExtensionPoint
+public interface OutboxRelay {
+
+    /**
+     * Register a delivery handler. The relay will be started only if at least one handler gets registered.
+     *
+     * @param handler the handler.
+     */
+    void register(OutboxDeliveryHandler handler);
+
+}
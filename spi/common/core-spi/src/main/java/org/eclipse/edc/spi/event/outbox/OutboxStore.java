@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.event.outbox;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Persists {@link OutboxEntry}s until they get delivered.
+ * <p>
+ * {@link #save(OutboxEntry)} is supposed to be called inside the transaction that changes the state of the entity
+ * that originated the message, so that a message is stored if and only if the state change is committed.
+ */
+@ExtensionPoint
+public interface OutboxStore {
+
+    /**
+     * Store a new entry.
+     *
+     * @param entry the entry.
+     */
+    void save(OutboxEntry entry);
+
+    /**
+     * Returns at most {@code max} entries that are due for delivery (next attempt timestamp in the past), ordered
+     * from the oldest to the newest.
+     * The returned entries get claimed for the passed duration, during which they won't be returned again, so
+     * concurrent relays on different replicas won't deliver the same entry twice.
+     *
+     * @param max the maximum number of entries.
+     * @param claimDuration the duration of the claim.
+     * @return a list of entries.
+     */
+    List<OutboxEntry> claimDue(int max, Duration claimDuration);
+
+    /**
+     * Extend the claim on entries that are still being delivered, so that they won't be picked up by another relay
+     * when the delivery takes longer than the original claim. Passing {@link Duration#ZERO} releases the claim,
+     * making the entries immediately due again without counting an attempt.
+     *
+     * @param ids the entry ids.
+     * @param claimDuration the new duration of the claim, starting from now.
+     */
+    void extendClaim(List<String> ids, Duration claimDuration);
+
+    /**
+     * Update an entry, used to reschedule it after a failed delivery.
+     *
+     * @param entry the entry.
+     */
+    void update(OutboxEntry entry);
+
+    /**
+     * Delete the entries, used after they have been delivered or when they have been discarded.
+     *
+     * @param ids the entry ids.
+     */
+    void delete(List<String> ids);
+
+}
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.persistence;
+
+/**
+ * Store that can move the entities that reached a final state into an archive, so that they are no longer scanned by
+ * the state machine and by the default queries.
+ */
+public interface ArchivingStore {
+
+    /**
+     * Moves to the archive the not leased entities in a final state whose last state transition happened before the
+     * passed timestamp.
+     *
+     * @param stateTimestampBefore the epoch millis before which the last state transition must have happened.
+     * @param max the maximum number of entities archived by a single call.
+     * @return the number of archived entities.
+     */
+    int archive(long stateTimestampBefore, int max);
+
+}
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.persistence;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Collects the {@link ArchivingStore}s that will be periodically asked to archive their old entities in a final state.
+ * Archival will run only if it is enabled and at least one store gets registered.
+ */
+@ExtensionPoint
+public interface ArchivingStoreRegistry {
+
+    /**
+     * Register an archiving store.
+     *
+     * @param entityType the type of the stored entities, used for logging.
+     * @param store the store.
+     */
+    void register(String entityType, ArchivingStore store);
+
+}
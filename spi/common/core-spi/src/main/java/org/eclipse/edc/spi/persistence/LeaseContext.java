@@ -34,4 +34,12 @@ public interface LeaseContext {
      * @throws RuntimeException or subclass if the lease could not be acquired, e.g. because another holder holds it.
      */
     void acquireLease(String entityId);
+
+    /**
+     * Extends the exclusive Lock currently held on an entity, starting from now
+     *
+     * @param entityId The database ID of the entity
+     * @throws RuntimeException or subclass if the lease could not be renewed, e.g. because it is not held by the current holder.
+     */
+    void renewLease(String entityId);
 }
@@ -81,6 +81,18 @@ public interface StateEntityStore<T> {
      */
     StoreResult<T> findByIdAndLease(String id);
 
+    /**
+     * Renews the lease held by the current runtime on the entity, so that it does not expire while a long-running
+     * operation on it is still pending. The default implementation does nothing, which means that the lease will expire
+     * after the configured timeout.
+     *
+     * @param id the entity id.
+     * @return success if the lease has been renewed, failure if the entity is not leased by the current runtime.
+     */
+    default StoreResult<Void> renewLease(String id) {
+        return StoreResult.success();
+    }
+
     /**
      * Persists the entity. This follows UPSERT semantics, so if the object didn't exit before, it's created.
      *
@@ -35,12 +35,14 @@ public class QuerySpec {
     public static final String EDC_QUERY_SPEC_FILTER_EXPRESSION = EDC_NAMESPACE + "filterExpression";
     public static final String EDC_QUERY_SPEC_SORT_ORDER = EDC_NAMESPACE + "sortOrder";
     public static final String EDC_QUERY_SPEC_SORT_FIELD = EDC_NAMESPACE + "sortField";
+    public static final String EDC_QUERY_SPEC_FIELDS = EDC_NAMESPACE + "fields";
 
     private int offset = 0;
     private int limit = 50;
     private final List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private final List<String> fields = new ArrayList<>();
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -78,6 +80,23 @@ public class QuerySpec {
         return sortOrder;
     }
 
+    /**
+     * The fields that should be returned for every result, an empty list means that entities are returned in full.
+     * Nested fields are expressed with a dot notation, in which case the whole top-level field gets returned. Stores
+     * may leave the fields that were not selected empty, so entities obtained with a projection must never be
+     * persisted back.
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Checks whether the given top-level field has to be returned, that's always true if no projection is set.
+     */
+    public boolean isFieldSelected(String field) {
+        return fields.isEmpty() || fields.stream().anyMatch(it -> it.equals(field) || it.startsWith(field + "."));
+    }
+
     /**
      * Checks whether any {@link Criterion} contains the given left-hand operand
      */
@@ -91,12 +110,13 @@ public class QuerySpec {
                 .limit(limit)
                 .filter(filterExpression)
                 .sortOrder(sortOrder)
-                .sortField(sortField);
+                .sortField(sortField)
+                .fields(fields);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, fields);
     }
 
     @Override
@@ -108,7 +128,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(fields, querySpec.fields);
     }
 
     @Override
@@ -119,6 +139,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", fields=" + fields +
                 '}';
     }
 
@@ -176,6 +197,18 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder field(String field) {
+            querySpec.fields.add(field);
+            return this;
+        }
+
+        public Builder fields(List<String> fields) {
+            if (fields != null) {
+                querySpec.fields.addAll(fields);
+            }
+            return this;
+        }
+
         public QuerySpec build() {
             if (querySpec.offset < 0) {
                 throw new IllegalArgumentException("offset");
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.types.domain.transfer;
+
+import static org.eclipse.edc.spi.constants.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Wire formats that can be used on the data plane signaling API in place of JSON-LD.
+ * <p>
+ * {@link #PLAIN_JSON} carries the data flow messages serialized as plain JSON with their Java schema, which skips the
+ * JSON-LD compaction/expansion and the transformation on both sides. A data plane advertises the media types it accepts
+ * through the {@link #SUPPORTED_MEDIA_TYPES} property of its instance, JSON-LD is always supported.
+ */
+public interface SignalingMediaTypes {
+
+    String PLAIN_JSON = "application/vnd.edc.signaling+json";
+
+    String SUPPORTED_MEDIA_TYPES = EDC_NAMESPACE + "signalingMediaTypes";
+}
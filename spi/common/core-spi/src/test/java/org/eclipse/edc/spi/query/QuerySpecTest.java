@@ -41,6 +41,7 @@ class QuerySpecTest {
         assertion.extracting(QuerySpec::getOffset).isEqualTo(0);
         assertion.extracting(QuerySpec::getSortOrder).isEqualTo(SortOrder.ASC);
         assertion.extracting(QuerySpec::getSortField).isNull();
+        assertion.extracting(QuerySpec::getFields).asList().isEmpty();
     }
 
     @Test
@@ -74,4 +75,31 @@ class QuerySpecTest {
         assertThat(range.getTo()).isEqualTo(57);
     }
 
+    @Test
+    void isFieldSelected_shouldSelectEverything_whenNoFieldsSet() {
+        var spec = QuerySpec.Builder.newInstance().build();
+
+        assertThat(spec.isFieldSelected("any")).isTrue();
+    }
+
+    @Test
+    void isFieldSelected_shouldSelectTopLevelOfNestedFields() {
+        var spec = QuerySpec.Builder.newInstance()
+                .field("state")
+                .field("dataDestination.type")
+                .build();
+
+        assertThat(spec.isFieldSelected("state")).isTrue();
+        assertThat(spec.isFieldSelected("dataDestination")).isTrue();
+        assertThat(spec.isFieldSelected("data")).isFalse();
+        assertThat(spec.isFieldSelected("callbackAddresses")).isFalse();
+    }
+
+    @Test
+    void toBuilder_shouldKeepFields() {
+        var spec = QuerySpec.Builder.newInstance().fields(List.of("id", "state")).build();
+
+        assertThat(spec.toBuilder().build()).isEqualTo(spec);
+    }
+
 }
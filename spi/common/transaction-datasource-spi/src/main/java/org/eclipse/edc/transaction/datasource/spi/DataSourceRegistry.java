@@ -29,6 +29,12 @@ public interface DataSourceRegistry {
      */
     String DEFAULT_DATASOURCE = "default";
 
+    /**
+     * Suffix of the name under which a read replica of a data source is registered, e.g. {@code default-replica} for the default data source. Registries that support
+     * read-only transactions may route them to the replica.
+     */
+    String READ_REPLICA_SUFFIX = "-replica";
+
     /**
      * Registers a datasource.
      */
@@ -39,6 +39,30 @@ public interface TransactionContext {
      */
     <T> T execute(ResultTransactionBlock<T> block);
 
+    /**
+     * Executes code that only reads data within a read-only transaction. Implementations may use this hint to mark the underlying resources as read-only, skip commit work or
+     * route to a read replica. If a transaction is already active, the block joins it and inherits its mode.
+     * <p>
+     * The same applies the other way around: {@link #execute(TransactionBlock)} nested in a read-only transaction joins it
+     * and stays read-only, so it can be used by stores to read, but any write done within it is rejected by the
+     * underlying resource. Code that writes, or that needs to read its own or other recent writes (a read replica may
+     * lag behind the primary), must therefore not be called from within a read-only block.
+     * <p>
+     * The default implementation executes the block in a regular transaction.
+     */
+    default void executeReadOnly(TransactionBlock block) {
+        execute(block);
+    }
+
+    /**
+     * Executes code that only reads data within a read-only transaction producing a result.
+     *
+     * @see #executeReadOnly(TransactionBlock)
+     */
+    default <T> T executeReadOnly(ResultTransactionBlock<T> block) {
+        return execute(block);
+    }
+
     /**
      * Registers a synchronization that will be called before a transaction commits or is rolled back.
      */
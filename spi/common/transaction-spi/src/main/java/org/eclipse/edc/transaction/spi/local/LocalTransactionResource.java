@@ -24,6 +24,13 @@ public interface LocalTransactionResource {
      */
     void start();
 
+    /**
+     * Signals a read-only transaction has started. Resources that do not distinguish read-only transactions treat it as a regular one.
+     */
+    default void startReadOnly() {
+        start();
+    }
+
     /**
      * Signals a transaction has committed.
      */
@@ -95,4 +95,46 @@ public interface AssetIndex extends DataAddressResolver {
      */
     StoreResult<Asset> updateAsset(Asset asset);
 
+    /**
+     * Stores many assets at once. Assets whose ID already exists are skipped, the others are stored.
+     * Implementations should persist the assets in as few round trips as possible.
+     *
+     * @param assets the assets to store.
+     * @return one result per asset, in the order of the input: {@link StoreResult#success()} if the asset was stored, {@link StoreResult#alreadyExists(String)} otherwise.
+     */
+    default List<StoreResult<Void>> createAll(List<Asset> assets) {
+        return assets.stream().map(this::create).toList();
+    }
+
+    /**
+     * Creates or replaces many assets at once.
+     *
+     * @param assets the assets to create or replace.
+     * @return one result per asset, in the order of the input. The content is {@code true} if the asset was created, {@code false} if an existing one was replaced.
+     */
+    default List<StoreResult<Boolean>> upsertAll(List<Asset> assets) {
+        return assets.stream().map(this::upsert).toList();
+    }
+
+    /**
+     * Deletes many assets at once.
+     *
+     * @param assetIds the IDs of the assets to delete.
+     * @return one result per ID, in the order of the input: {@link StoreResult#success(Object)} with the deleted asset, {@link StoreResult#notFound(String)} otherwise.
+     */
+    default List<StoreResult<Asset>> deleteAll(List<String> assetIds) {
+        return assetIds.stream().map(this::deleteById).toList();
+    }
+
+    private StoreResult<Boolean> upsert(Asset asset) {
+        if (updateAsset(asset).succeeded()) {
+            return StoreResult.success(false);
+        }
+        var created = create(asset);
+        if (created.failed()) {
+            return created.mapFailure();
+        }
+        return StoreResult.success(true);
+    }
+
 }
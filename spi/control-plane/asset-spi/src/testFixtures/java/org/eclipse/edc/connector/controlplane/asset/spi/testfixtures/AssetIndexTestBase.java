@@ -145,6 +145,62 @@ public abstract class AssetIndexTestBase {
         }
     }
 
+    @Nested
+    class Bulk {
+        @Test
+        void createAll_shouldStoreNewAssets_andReportExistingOnes() {
+            var existing = getAsset("existing");
+            getAssetIndex().create(existing);
+
+            var results = getAssetIndex().createAll(List.of(getAsset("new1"), existing, getAsset("new2")));
+
+            assertThat(results).hasSize(3);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(results.get(2).succeeded()).isTrue();
+            assertThat(getAssetIndex().findById("new1")).isNotNull();
+            assertThat(getAssetIndex().findById("new2")).isNotNull();
+        }
+
+        @Test
+        void createAll_shouldReportDuplicatesInTheSameBatch() {
+            var results = getAssetIndex().createAll(List.of(getAsset("id1"), getAsset("id1")));
+
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none())).hasSize(1);
+        }
+
+        @Test
+        void upsertAll_shouldCreateOrReplace() {
+            getAssetIndex().create(createAsset("old-name", "existing"));
+
+            var results = getAssetIndex().upsertAll(List.of(createAsset("new-name", "existing"), getAsset("new")));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(0).getContent()).isFalse();
+            assertThat(results.get(1).succeeded()).isTrue();
+            assertThat(results.get(1).getContent()).isTrue();
+            assertThat(getAssetIndex().findById("existing").getName()).isEqualTo("new-name");
+            assertThat(getAssetIndex().findById("new")).isNotNull();
+        }
+
+        @Test
+        void deleteAll_shouldDeleteExistingAssets_andReportMissingOnes() {
+            var asset = getAsset("id1");
+            getAssetIndex().create(asset);
+
+            var results = getAssetIndex().deleteAll(List.of("id1", "missing"));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(0).getContent()).usingRecursiveComparison().isEqualTo(asset);
+            assertThat(results.get(1).reason()).isEqualTo(NOT_FOUND);
+            assertThat(getAssetIndex().queryAssets(QuerySpec.none())).isEmpty();
+        }
+    }
+
     @Nested
     class DeleteById {
 
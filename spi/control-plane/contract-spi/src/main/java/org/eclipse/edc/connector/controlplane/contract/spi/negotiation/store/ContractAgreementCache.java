@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.controlplane.contract.spi.negotiation.store;
+
+import org.eclipse.edc.connector.controlplane.contract.spi.types.agreement.ContractAgreement;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Read-through cache of {@link ContractAgreement}s in front of the {@link ContractNegotiationStore}. Agreements never
+ * change once they have been signed, so implementations do not need to invalidate cached entries.
+ */
+@ExtensionPoint
+public interface ContractAgreementCache {
+
+    /**
+     * Returns the contract agreement for the contract id or null, loading it from the store if it is not cached.
+     */
+    @Nullable
+    ContractAgreement findContractAgreement(String contractId);
+}
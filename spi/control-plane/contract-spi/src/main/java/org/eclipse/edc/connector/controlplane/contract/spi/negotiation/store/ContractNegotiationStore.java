@@ -66,6 +66,34 @@ public interface ContractNegotiationStore extends StateEntityStore<ContractNegot
     @NotNull
     Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec);
 
+    /**
+     * Returns the number of contract negotiations that match the filter of the given {@link QuerySpec}, offset, limit
+     * and sorting are ignored. The default implementation counts the results of {@link #queryNegotiations(QuerySpec)},
+     * stores should override it with a dedicated count query.
+     *
+     * @param querySpec The query spec, only the filter expression is used.
+     * @return the number of matching negotiations.
+     */
+    default long countNegotiations(QuerySpec querySpec) {
+        var countQuery = QuerySpec.Builder.newInstance().filter(querySpec.getFilterExpression()).limit(Integer.MAX_VALUE).build();
+        try (var stream = queryNegotiations(countQuery)) {
+            return stream.count();
+        }
+    }
+
+    /**
+     * Finds the archived contract negotiations that are covered by a specific {@link QuerySpec}. Archived negotiations
+     * are not returned by {@link #queryNegotiations(QuerySpec)}. The default implementation does not archive, so it
+     * returns an empty Stream.
+     *
+     * @param querySpec The query spec, e.g. paging, filtering, etc.
+     * @return a stream of ContractNegotiation, cannot be null.
+     */
+    @NotNull
+    default Stream<ContractNegotiation> queryArchivedNegotiations(QuerySpec querySpec) {
+        return Stream.empty();
+    }
+
 
     /**
      * Finds all contract agreement that are covered by a specific {@link QuerySpec}. If no
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -78,4 +79,46 @@ public interface ContractDefinitionStore {
      */
     StoreResult<ContractDefinition> deleteById(String id);
 
+    /**
+     * Stores many contract definitions at once. Definitions whose ID already exists are skipped, the others are stored.
+     * Implementations should persist the definitions in as few round trips as possible.
+     *
+     * @param definitions the {@link ContractDefinition}s to store.
+     * @return one result per definition, in the order of the input: {@link StoreResult#success()} if it was stored, {@link StoreResult#alreadyExists(String)} otherwise.
+     */
+    default List<StoreResult<Void>> saveAll(List<ContractDefinition> definitions) {
+        return definitions.stream().map(this::save).toList();
+    }
+
+    /**
+     * Creates or replaces many contract definitions at once.
+     *
+     * @param definitions the {@link ContractDefinition}s to create or replace.
+     * @return one result per definition, in the order of the input. The content is {@code true} if the definition was created, {@code false} if an existing one was replaced.
+     */
+    default List<StoreResult<Boolean>> upsertAll(List<ContractDefinition> definitions) {
+        return definitions.stream().map(this::upsert).toList();
+    }
+
+    /**
+     * Deletes many contract definitions at once.
+     *
+     * @param ids the IDs of the definitions to delete.
+     * @return one result per ID, in the order of the input: {@link StoreResult#success(Object)} with the deleted definition, {@link StoreResult#notFound(String)} otherwise.
+     */
+    default List<StoreResult<ContractDefinition>> deleteAll(List<String> ids) {
+        return ids.stream().map(this::deleteById).toList();
+    }
+
+    private StoreResult<Boolean> upsert(ContractDefinition definition) {
+        if (update(definition).succeeded()) {
+            return StoreResult.success(false);
+        }
+        var saved = save(definition);
+        if (saved.failed()) {
+            return saved.mapFailure();
+        }
+        return StoreResult.success(true);
+    }
+
 }
@@ -612,6 +612,30 @@ public abstract class ContractNegotiationStoreTestBase {
         }
     }
 
+    @Nested
+    class CountNegotiations {
+
+        @Test
+        void shouldCountAllMatchingNegotiations_ignoringPaging() {
+            range(0, 10).forEach(i -> getContractNegotiationStore().save(createNegotiationBuilder("test-neg-" + i)
+                    .type(i < 3 ? ContractNegotiation.Type.PROVIDER : ContractNegotiation.Type.CONSUMER)
+                    .build()));
+            var querySpec = QuerySpec.Builder.newInstance().filter(criterion("type", "=", "CONSUMER")).offset(5).limit(1).sortField("id").build();
+
+            var count = getContractNegotiationStore().countNegotiations(querySpec);
+
+            assertThat(count).isEqualTo(7);
+        }
+
+        @Test
+        void shouldReturnZero_whenNothingMatches() {
+            getContractNegotiationStore().save(createNegotiation("test-neg"));
+            var querySpec = QuerySpec.Builder.newInstance().filter(criterion("id", "=", "not-exist")).build();
+
+            assertThat(getContractNegotiationStore().countNegotiations(querySpec)).isZero();
+        }
+    }
+
     @Nested
     class QueryAgreements {
         @Test
@@ -834,6 +858,33 @@ public abstract class ContractNegotiationStoreTestBase {
         }
     }
 
+    @Nested
+    class RenewLease {
+        @Test
+        void shouldSucceed_whenEntityIsLeasedBySelf() {
+            var id = UUID.randomUUID().toString();
+            getContractNegotiationStore().save(createNegotiation(id));
+            getContractNegotiationStore().findByIdAndLease(id);
+
+            var result = getContractNegotiationStore().renewLease(id);
+
+            assertThat(result).isSucceeded();
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isTrue();
+        }
+
+        @Test
+        void shouldFail_whenEntityIsLeasedByOther() {
+            var id = UUID.randomUUID().toString();
+            getContractNegotiationStore().save(createNegotiation(id));
+            leaseEntity(id, "other owner");
+
+            var result = getContractNegotiationStore().renewLease(id);
+
+            assertThat(result).isFailed();
+            assertThat(isLeasedBy(id, "other owner")).isTrue();
+        }
+    }
+
     @Deprecated(since = "0.4.1")
     @Nested
     class FindByCorrelationIdAndLease {
@@ -146,6 +146,50 @@ public abstract class ContractDefinitionStoreTestBase {
         }
     }
 
+    @Nested
+    class Bulk {
+        @Test
+        void saveAll_shouldStoreNewDefinitions_andReportExistingOnes() {
+            getContractDefinitionStore().save(createContractDefinition("existing", "policy", "contract"));
+
+            var results = getContractDefinitionStore().saveAll(List.of(
+                    createContractDefinition("new", "policy", "contract"),
+                    createContractDefinition("existing", "policy", "contract")));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(getContractDefinitionStore().findById("new")).isNotNull();
+        }
+
+        @Test
+        void upsertAll_shouldCreateOrReplace() {
+            getContractDefinitionStore().save(createContractDefinition("existing", "policy", "contract"));
+
+            var results = getContractDefinitionStore().upsertAll(List.of(
+                    createContractDefinition("existing", "updatedAccess", "updatedContract"),
+                    createContractDefinition("new", "policy", "contract")));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).getContent()).isFalse();
+            assertThat(results.get(1).getContent()).isTrue();
+            assertThat(getContractDefinitionStore().findById("existing").getAccessPolicyId()).isEqualTo("updatedAccess");
+            assertThat(getContractDefinitionStore().findById("new")).isNotNull();
+        }
+
+        @Test
+        void deleteAll_shouldDeleteExistingDefinitions_andReportMissingOnes() {
+            getContractDefinitionStore().save(createContractDefinition("id", "policy", "contract"));
+
+            var results = getContractDefinitionStore().deleteAll(List.of("id", "missing"));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(NOT_FOUND);
+            assertThat(getContractDefinitionStore().findById("id")).isNull();
+        }
+    }
+
     @Nested
     class Update {
         @Test
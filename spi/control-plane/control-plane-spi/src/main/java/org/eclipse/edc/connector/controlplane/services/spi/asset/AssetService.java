@@ -76,4 +76,29 @@ public interface AssetService {
      */
     ServiceResult<Asset> update(Asset asset);
 
+    /**
+     * Creates a batch of assets. Each entry is validated and stored on its own: a failure on one
+     * of them does not prevent the others from being created.
+     *
+     * @param items the assets to be created
+     * @return one result per asset, in the same order as the input
+     */
+    List<ServiceResult<Asset>> createAll(List<Asset> items);
+
+    /**
+     * Creates or replaces a batch of assets, depending on whether an entry with the same id already exists.
+     *
+     * @param items the assets to be created or replaced
+     * @return one result per asset, in the same order as the input
+     */
+    List<ServiceResult<Asset>> upsertAll(List<Asset> items);
+
+    /**
+     * Deletes a batch of assets.
+     *
+     * @param ids the ids of the assets to be deleted
+     * @return one result per id, in the same order as the input
+     */
+    List<ServiceResult<Asset>> deleteAll(List<String> ids);
+
 }
@@ -82,4 +82,30 @@ public interface ContractDefinitionService {
      * @return successful result if the contract definition is deleted correctly, failure otherwise
      */
     ServiceResult<ContractDefinition> delete(String contractDefinitionId);
+
+    /**
+     * Creates a batch of contract definitions. Each entry is validated and stored on its own: a failure on one
+     * of them does not prevent the others from being created.
+     *
+     * @param items the contract definitions to be created
+     * @return one result per contract definition, in the same order as the input
+     */
+    List<ServiceResult<ContractDefinition>> createAll(List<ContractDefinition> items);
+
+    /**
+     * Creates or replaces a batch of contract definitions, depending on whether an entry with the same id already exists.
+     *
+     * @param items the contract definitions to be created or replaced
+     * @return one result per contract definition, in the same order as the input
+     */
+    List<ServiceResult<ContractDefinition>> upsertAll(List<ContractDefinition> items);
+
+    /**
+     * Deletes a batch of contract definitions.
+     *
+     * @param ids the ids of the contract definitions to be deleted
+     * @return one result per id, in the same order as the input
+     */
+    List<ServiceResult<ContractDefinition>> deleteAll(List<String> ids);
+
 }
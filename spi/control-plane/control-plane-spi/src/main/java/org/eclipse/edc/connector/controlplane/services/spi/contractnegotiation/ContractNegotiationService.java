@@ -23,6 +23,7 @@ import org.eclipse.edc.spi.result.ServiceResult;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public interface ContractNegotiationService {
@@ -43,6 +44,36 @@ public interface ContractNegotiationService {
      */
     ServiceResult<List<ContractNegotiation>> search(QuerySpec query);
 
+    /**
+     * Search archived contract negotiations, that are not returned by {@link #search(QuerySpec)}.
+     *
+     * @param query request
+     * @return the collection of archived contract negotiations that match the query
+     */
+    ServiceResult<List<ContractNegotiation>> searchArchived(QuerySpec query);
+
+    /**
+     * Count contract negotiations that match the filter of the query, offset and limit are ignored.
+     *
+     * @param query request
+     * @return the number of contract negotiations that match the query
+     */
+    default ServiceResult<Long> count(QuerySpec query) {
+        return search(query.toBuilder().offset(0).limit(Integer.MAX_VALUE).build()).map(it -> (long) it.size());
+    }
+
+    /**
+     * Search contract negotiations and pass them to the consumer one by one, as they are read from the storage, so
+     * that they never need to be held in memory all at once. The consumer runs within the read transaction.
+     *
+     * @param query    request
+     * @param consumer receives every contract negotiation that matches the query
+     * @return failure if the query is not valid
+     */
+    default ServiceResult<Void> forEach(QuerySpec query, Consumer<ContractNegotiation> consumer) {
+        return search(query).onSuccess(it -> it.forEach(consumer)).mapEmpty();
+    }
+
     /**
      * Query contract negotiations
      *
@@ -85,4 +85,30 @@ public interface PolicyDefinitionService {
      * @return successful if updated, a failure otherwise.
      */
     ServiceResult<PolicyDefinition> update(PolicyDefinition policy);
+
+    /**
+     * Creates a batch of policy definitions. Each entry is validated and stored on its own: a failure on one
+     * of them does not prevent the others from being created.
+     *
+     * @param items the policy definitions to be created
+     * @return one result per policy definition, in the same order as the input
+     */
+    List<ServiceResult<PolicyDefinition>> createAll(List<PolicyDefinition> items);
+
+    /**
+     * Creates or replaces a batch of policy definitions, depending on whether an entry with the same id already exists.
+     *
+     * @param items the policy definitions to be created or replaced
+     * @return one result per policy definition, in the same order as the input
+     */
+    List<ServiceResult<PolicyDefinition>> upsertAll(List<PolicyDefinition> items);
+
+    /**
+     * Deletes a batch of policy definitions.
+     *
+     * @param ids the ids of the policy definitions to be deleted
+     * @return one result per id, in the same order as the input
+     */
+    List<ServiceResult<PolicyDefinition>> deleteAll(List<String> ids);
+
 }
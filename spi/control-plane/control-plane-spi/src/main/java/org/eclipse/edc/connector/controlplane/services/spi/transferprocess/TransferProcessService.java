@@ -29,6 +29,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -53,6 +54,36 @@ public interface TransferProcessService {
      */
     ServiceResult<List<TransferProcess>> search(QuerySpec query);
 
+    /**
+     * Search archived transferProcess, that are not returned by {@link #search(QuerySpec)}.
+     *
+     * @param query request
+     * @return the collection of archived transferProcesses that match the query
+     */
+    ServiceResult<List<TransferProcess>> searchArchived(QuerySpec query);
+
+    /**
+     * Count transferProcess that match the filter of the query, offset and limit are ignored.
+     *
+     * @param query request
+     * @return the number of transferProcesses that match the query
+     */
+    default ServiceResult<Long> count(QuerySpec query) {
+        return search(query.toBuilder().offset(0).limit(Integer.MAX_VALUE).build()).map(it -> (long) it.size());
+    }
+
+    /**
+     * Search transferProcess and pass them to the consumer one by one, as they are read from the storage, so that they
+     * never need to be held in memory all at once. The consumer runs within the read transaction.
+     *
+     * @param query    request
+     * @param consumer receives every transferProcess that matches the query
+     * @return failure if the query is not valid
+     */
+    default ServiceResult<Void> forEach(QuerySpec query, Consumer<TransferProcess> consumer) {
+        return search(query).onSuccess(it -> it.forEach(consumer)).mapEmpty();
+    }
+
     /**
      * Query transferProcess.
      *
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.persistence.EdcPersistenceException;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -77,10 +78,55 @@ public interface PolicyDefinitionStore {
      */
     StoreResult<PolicyDefinition> delete(String policyId);
 
+    /**
+     * Persists many policies at once. Policies whose ID already exists are skipped, the others are stored.
+     * Implementations should persist the policies in as few round trips as possible.
+     *
+     * @param policies to be saved.
+     * @return one result per policy, in the order of the input: {@link StoreResult#success()} if it could be stored, {@link StoreResult#alreadyExists(String)} otherwise.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    default List<StoreResult<Void>> createAll(List<PolicyDefinition> policies) {
+        return policies.stream().map(policy -> create(policy).<Void, StoreResult<Void>>mapEmpty()).toList();
+    }
+
+    /**
+     * Creates or replaces many policies at once.
+     *
+     * @param policies to be created or replaced.
+     * @return one result per policy, in the order of the input. The content is {@code true} if the policy was created, {@code false} if an existing one was replaced.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    default List<StoreResult<Boolean>> upsertAll(List<PolicyDefinition> policies) {
+        return policies.stream().map(this::upsert).toList();
+    }
+
+    /**
+     * Deletes many policies at once.
+     *
+     * @param policyIds ids of the policies to be removed.
+     * @return one result per id, in the order of the input: {@link StoreResult#success(Object)} with the deleted policy, {@link StoreResult#notFound(String)} otherwise.
+     * @throws EdcPersistenceException if something goes wrong.
+     */
+    default List<StoreResult<PolicyDefinition>> deleteAll(List<String> policyIds) {
+        return policyIds.stream().map(this::delete).toList();
+    }
+
     /**
      * If the store implementation supports caching, this method triggers a cache-reload.
      */
     default void reload() {
 
     }
+
+    private StoreResult<Boolean> upsert(PolicyDefinition policy) {
+        if (update(policy).succeeded()) {
+            return StoreResult.success(false);
+        }
+        var created = create(policy);
+        if (created.failed()) {
+            return created.mapFailure();
+        }
+        return StoreResult.success(true);
+    }
 }
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -107,6 +108,51 @@ public abstract class PolicyDefinitionStoreTestBase {
         }
     }
 
+    @Nested
+    class Bulk {
+        @Test
+        void createAll_shouldStoreNewPolicies_andReportExistingOnes() {
+            var existing = TestFunctions.createPolicy(getRandomId());
+            getPolicyDefinitionStore().create(existing);
+            var newPolicy = TestFunctions.createPolicy(getRandomId());
+
+            var results = getPolicyDefinitionStore().createAll(List.of(newPolicy, existing));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(ALREADY_EXISTS);
+            assertThat(getPolicyDefinitionStore().findById(newPolicy.getId())).isNotNull();
+        }
+
+        @Test
+        void upsertAll_shouldCreateOrReplace() {
+            var id = getRandomId();
+            getPolicyDefinitionStore().create(TestFunctions.createPolicy(id, "target"));
+            var newPolicy = TestFunctions.createPolicy(getRandomId());
+
+            var results = getPolicyDefinitionStore().upsertAll(List.of(TestFunctions.createPolicy(id, "target2"), newPolicy));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).getContent()).isFalse();
+            assertThat(results.get(1).getContent()).isTrue();
+            assertThat(getPolicyDefinitionStore().findById(id).getPolicy().getTarget()).isEqualTo("target2");
+            assertThat(getPolicyDefinitionStore().findById(newPolicy.getId())).isNotNull();
+        }
+
+        @Test
+        void deleteAll_shouldDeleteExistingPolicies_andReportMissingOnes() {
+            var policy = TestFunctions.createPolicy(getRandomId());
+            getPolicyDefinitionStore().create(policy);
+
+            var results = getPolicyDefinitionStore().deleteAll(List.of(policy.getId(), "nonexistent"));
+
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).succeeded()).isTrue();
+            assertThat(results.get(1).reason()).isEqualTo(NOT_FOUND);
+            assertThat(getPolicyDefinitionStore().findById(policy.getId())).isNull();
+        }
+    }
+
     @Nested
     class Update {
         @Test
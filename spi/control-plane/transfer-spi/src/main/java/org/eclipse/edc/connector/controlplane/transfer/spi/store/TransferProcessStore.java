@@ -48,6 +48,27 @@ public interface TransferProcessStore extends StateEntityStore<TransferProcess>
      */
     Stream<TransferProcess> findAll(QuerySpec querySpec);
 
+    /**
+     * Returns the number of transfer processes that match the filter of the given {@link QuerySpec}, offset, limit and
+     * sorting are ignored. The default implementation counts the results of {@link #findAll(QuerySpec)}, stores
+     * should override it with a dedicated count query.
+     */
+    default long count(QuerySpec querySpec) {
+        var countQuery = QuerySpec.Builder.newInstance().filter(querySpec.getFilterExpression()).limit(Integer.MAX_VALUE).build();
+        try (var stream = findAll(countQuery)) {
+            return stream.count();
+        }
+    }
+
+    /**
+     * Returns the archived transfer processes that are covered by a given {@link QuerySpec}. Archived processes are
+     * not returned by {@link #findAll(QuerySpec)}. The default implementation does not archive, so it returns an
+     * empty Stream.
+     */
+    default Stream<TransferProcess> findAllArchived(QuerySpec querySpec) {
+        return Stream.empty();
+    }
+
     /**
      * Find the entity by the passed correlation id and lease it.
      * If the entity is already leased, will return a failure.
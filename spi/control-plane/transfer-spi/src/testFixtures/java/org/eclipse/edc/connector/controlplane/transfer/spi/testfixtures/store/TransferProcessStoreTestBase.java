@@ -929,6 +929,56 @@ public abstract class TransferProcessStoreTestBase {
         }
     }
 
+    @Nested
+    class Count {
+        @Test
+        void shouldCountAllMatchingEntities_ignoringPaging() {
+            range(0, 10).forEach(i -> getTransferProcessStore().save(TestFunctions.createTransferProcessBuilder("test-tp-" + i)
+                    .state(i % 2 == 0 ? STARTED.code() : COMPLETED.code())
+                    .build()));
+            var query = QuerySpec.Builder.newInstance().filter(hasState(STARTED.code())).offset(2).limit(1).sortField("id").build();
+
+            var count = getTransferProcessStore().count(query);
+
+            assertThat(count).isEqualTo(5);
+        }
+
+        @Test
+        void shouldCountEveryEntityOnce_whenFilteringByDeprovisionedResources() {
+            var process1 = TestFunctions.createTransferProcessBuilder("test-pid1")
+                    .deprovisionedResources(List.of(
+                            DeprovisionedResource.Builder.newInstance().provisionedResourceId("test-rid1").inProcess(false).build(),
+                            DeprovisionedResource.Builder.newInstance().provisionedResourceId("test-rid2").inProcess(false).build()))
+                    .build();
+            var process2 = TestFunctions.createTransferProcessBuilder("test-pid2")
+                    .deprovisionedResources(List.of(
+                            DeprovisionedResource.Builder.newInstance().provisionedResourceId("test-rid3").inProcess(false).build()))
+                    .build();
+            var process3 = TestFunctions.createTransferProcessBuilder("test-pid3")
+                    .deprovisionedResources(List.of(
+                            DeprovisionedResource.Builder.newInstance().provisionedResourceId("test-rid4").inProcess(true).build()))
+                    .build();
+            getTransferProcessStore().save(process1);
+            getTransferProcessStore().save(process2);
+            getTransferProcessStore().save(process3);
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(Criterion.criterion("deprovisionedResources.inProcess", "=", false))
+                    .build();
+
+            var count = getTransferProcessStore().count(query);
+
+            assertThat(count).isEqualTo(2);
+        }
+
+        @Test
+        void shouldReturnZero_whenNothingMatches() {
+            getTransferProcessStore().save(TestFunctions.createTransferProcess("test-tp"));
+            var query = QuerySpec.Builder.newInstance().filter(Criterion.criterion("id", "=", "not-exist")).build();
+
+            assertThat(getTransferProcessStore().count(query)).isZero();
+        }
+    }
+
     @Nested
     class FindByIdAndLease {
         @Test
@@ -961,6 +1011,33 @@ public abstract class TransferProcessStoreTestBase {
         }
     }
 
+    @Nested
+    class RenewLease {
+        @Test
+        void shouldSucceed_whenEntityIsLeasedBySelf() {
+            var id = UUID.randomUUID().toString();
+            getTransferProcessStore().save(TestFunctions.createTransferProcess(id));
+            getTransferProcessStore().findByIdAndLease(id);
+
+            var result = getTransferProcessStore().renewLease(id);
+
+            assertThat(result).isSucceeded();
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isTrue();
+        }
+
+        @Test
+        void shouldFail_whenEntityIsLeasedByOther() {
+            var id = UUID.randomUUID().toString();
+            getTransferProcessStore().save(TestFunctions.createTransferProcess(id));
+            leaseEntity(id, "other owner");
+
+            var result = getTransferProcessStore().renewLease(id);
+
+            assertThat(result).isFailed();
+            assertThat(isLeasedBy(id, "other owner")).isTrue();
+        }
+    }
+
     @Nested
     class FindByCorrelationIdAndLease {
         @Test
@@ -32,6 +32,11 @@ import java.util.Map;
 public record AccessTokenData(String id, ClaimToken claimToken, DataAddress dataAddress,
                               Map<String, Object> additionalProperties) {
 
+    /**
+     * Key of the additional property that carries the ID of the transfer process the token was issued for.
+     */
+    public static final String PROCESS_ID = "process_id";
+
     public AccessTokenData(String id, ClaimToken claimToken, DataAddress dataAddress) {
         this(id, claimToken, dataAddress, Map.of());
     }
@@ -19,16 +19,31 @@ import org.jetbrains.annotations.NotNull;
 import java.util.concurrent.ExecutorService;
 
 /**
- * Holder class for a shared {@link ExecutorService} across data transfer implementations.
+ * Holder class for a shared {@link ExecutorService} across data transfer implementations, together with the maximum
+ * number of tasks a single data flow should run concurrently on it, so that a single flow cannot starve the others.
+ * The limit must be lower than the size of the executor to have any effect, by default it is half of the default pool
+ * size.
  */
 public class DataTransferExecutorServiceContainer {
+    public static final int DEFAULT_MAX_FLOW_CONCURRENCY = 5;
+
     private final ExecutorService executorService;
+    private final int maxFlowConcurrency;
 
     public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService) {
+        this(executorService, DEFAULT_MAX_FLOW_CONCURRENCY);
+    }
+
+    public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService, int maxFlowConcurrency) {
         this.executorService = executorService;
+        this.maxFlowConcurrency = maxFlowConcurrency;
     }
 
     public @NotNull ExecutorService getExecutorService() {
         return executorService;
     }
+
+    public int getMaxFlowConcurrency() {
+        return maxFlowConcurrency;
+    }
 }
@@ -117,6 +117,31 @@ public abstract class AccessTokenDataTestBase {
                 .containsExactly(atd);
     }
 
+    @Test
+    void query_byProcessId() {
+        var atd = new AccessTokenData("test-id", ClaimToken.Builder.newInstance().build(), dataAddress(), Map.of(AccessTokenData.PROCESS_ID, "process-id"));
+        getStore().store(atd);
+        getStore().store(new AccessTokenData("another-id", ClaimToken.Builder.newInstance().build(), dataAddress(), Map.of(AccessTokenData.PROCESS_ID, "another-process-id")));
+
+        assertThat(getStore().query(QuerySpec.Builder.newInstance().filter(new Criterion("additionalProperties.process_id", "=", "process-id")).build()))
+                .hasSize(1)
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(atd);
+    }
+
+    @Test
+    void query_byProcessId_afterUpdate() {
+        var atd = new AccessTokenData("test-id", ClaimToken.Builder.newInstance().build(), dataAddress(), Map.of(AccessTokenData.PROCESS_ID, "process-id"));
+        getStore().store(atd);
+        var updated = new AccessTokenData("test-id", atd.claimToken(), atd.dataAddress(), Map.of(AccessTokenData.PROCESS_ID, "updated-process-id"));
+        getStore().update(updated);
+
+        assertThat(getStore().query(QuerySpec.Builder.newInstance().filter(new Criterion("additionalProperties.process_id", "=", "process-id")).build()))
+                .isEmpty();
+        assertThat(getStore().query(QuerySpec.Builder.newInstance().filter(new Criterion("additionalProperties.process_id", "=", "updated-process-id")).build()))
+                .hasSize(1);
+    }
+
     @Test
     void query_byMultipleCriteria() {
         var ct = ClaimToken.Builder.newInstance().claim("foo", "bar").build();
@@ -219,4 +219,31 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_LEASED);
         }
     }
+
+    @Nested
+    class RenewLease {
+        @Test
+        void shouldSucceed_whenEntityIsLeasedBySelf() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(id, RECEIVED));
+            getStore().findByIdAndLease(id);
+
+            var result = getStore().renewLease(id);
+
+            assertThat(result).isSucceeded();
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isTrue();
+        }
+
+        @Test
+        void shouldFail_whenEntityIsLeasedByOther() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(id, RECEIVED));
+            leaseEntity(id, "other owner");
+
+            var result = getStore().renewLease(id);
+
+            assertThat(result).isFailed();
+            assertThat(isLeasedBy(id, "other owner")).isTrue();
+        }
+    }
 }
@@ -26,10 +26,11 @@ import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntrySta
 public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
 
     private String contractId;
+    private long nextEvaluation;
 
     @Override
     public PolicyMonitorEntry copy() {
-        var builder = Builder.newInstance().contractId(contractId);
+        var builder = Builder.newInstance().contractId(contractId).nextEvaluation(nextEvaluation);
         return copy(builder);
     }
 
@@ -42,6 +43,23 @@ public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
         return contractId;
     }
 
+    /**
+     * Epoch millis before which the entry does not need to be evaluated again, 0 means as soon as possible.
+     */
+    public long getNextEvaluation() {
+        return nextEvaluation;
+    }
+
+    /**
+     * Postpone the next evaluation of the policy to the passed timestamp.
+     *
+     * @param nextEvaluation the next evaluation timestamp, in epoch millis.
+     */
+    public void scheduleNextEvaluation(long nextEvaluation) {
+        this.nextEvaluation = nextEvaluation;
+        setModified();
+    }
+
     public void transitionToStarted() {
         transitionTo(STARTED.code());
     }
@@ -70,6 +88,11 @@ public class PolicyMonitorEntry extends StatefulEntity<PolicyMonitorEntry> {
             return this;
         }
 
+        public Builder nextEvaluation(long nextEvaluation) {
+            entity.nextEvaluation = nextEvaluation;
+            return this;
+        }
+
         @Override
         public Builder self() {
             return this;
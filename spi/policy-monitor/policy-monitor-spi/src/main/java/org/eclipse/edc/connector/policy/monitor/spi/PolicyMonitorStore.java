@@ -15,6 +15,19 @@
 package org.eclipse.edc.connector.policy.monitor.spi;
 
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
+
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.LESS_THAN_OR_EQUAL;
 
 public interface PolicyMonitorStore extends StateEntityStore<PolicyMonitorEntry> {
+
+    /**
+     * Returns a {@link Criterion} that filters the entries whose next evaluation is due.
+     *
+     * @param now the current time, in epoch millis.
+     * @return a criterion.
+     */
+    static Criterion isEvaluationDue(long now) {
+        return new Criterion("nextEvaluation", LESS_THAN_OR_EQUAL, now);
+    }
 }
@@ -32,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.COMPLETED;
 import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorEntryStates.STARTED;
+import static org.eclipse.edc.connector.policy.monitor.spi.PolicyMonitorStore.isEvaluationDue;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 import static org.eclipse.edc.spi.result.StoreFailure.Reason.ALREADY_LEASED;
@@ -144,6 +145,21 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(leased).isEmpty();
         }
 
+        @Test
+        void shouldReturnOnlyEntriesWhoseEvaluationIsDue() {
+            var due = createPolicyMonitorEntry("due", STARTED);
+            due.scheduleNextEvaluation(1000L);
+            getStore().save(due);
+            var notDue = createPolicyMonitorEntry("not-due", STARTED);
+            notDue.scheduleNextEvaluation(3000L);
+            getStore().save(notDue);
+
+            var leased = getStore().nextNotLeased(5, hasState(STARTED.code()), isEvaluationDue(2000L));
+
+            assertThat(leased).hasSize(1).first().extracting(PolicyMonitorEntry::getId).isEqualTo("due");
+            assertThat(leased.get(0).getNextEvaluation()).isEqualTo(1000L);
+        }
+
         @Test
         void shouldLeaseAgainAfterTimePassed() {
             var entry = createPolicyMonitorEntry(UUID.randomUUID().toString(), STARTED);